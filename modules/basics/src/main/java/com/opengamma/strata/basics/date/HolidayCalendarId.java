@@ -101,7 +101,7 @@ public final class HolidayCalendarId
         return HolidayCalendarIds.NO_HOLIDAYS;
       }
       String normalizedName = JOINER_WIGGLE.join(ids);
-      return create(name, ids, normalizedName, HolidayCalendar::linkedWith);
+      return create(name, ids, normalizedName, HolidayCalendar::linkedWith, ImmutableHolidayCalendar::linked);
     } else if (name.indexOf('+') >= 0) {
       List<HolidayCalendarId> ids = SPLITTER_PLUS.splitToList(name).stream()
           .filter(n -> !n.equals(HolidayCalendarIds.NO_HOLIDAYS.getName()))
@@ -110,7 +110,7 @@ public final class HolidayCalendarId
           .sorted(comparing(HolidayCalendarId::getName))
           .collect(toList());
       String normalizedName = JOINER_PLUS.join(ids);
-      return create(name, ids, normalizedName, HolidayCalendar::combinedWith);
+      return create(name, ids, normalizedName, HolidayCalendar::combinedWith, ImmutableHolidayCalendar::combined);
     } else {
       return CACHE.computeIfAbsent(name, n -> new HolidayCalendarId(name));
     }
@@ -121,28 +121,106 @@ public final class HolidayCalendarId
       String name,
       List<HolidayCalendarId> ids,
       String normalizedName,
-      BinaryOperator<HolidayCalendar> fn) {
+      BinaryOperator<HolidayCalendar> fn,
+      BinaryOperator<ImmutableHolidayCalendar> immutableFn) {
 
-    BiFunction<HolidayCalendarId, ReferenceData, HolidayCalendar> resolver = (id, refData) -> {
+    BiFunction<HolidayCalendarId, ReferenceData, HolidayCalendar> resolver = new ComplexResolver(ids, fn, immutableFn);
+    // cache under the normalized and non-normalized names
+    HolidayCalendarId id = CACHE.computeIfAbsent(normalizedName, n -> new HolidayCalendarId(normalizedName, resolver));
+    CACHE.putIfAbsent(name, id);
+    return id;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Resolver for a complex identifier, combining or linking the calendars of the individual identifiers.
+   * <p>
+   * Where all the underlying calendars are instances of {@link ImmutableHolidayCalendar}, they are
+   * merged into a single {@code ImmutableHolidayCalendar} with one lookup table, rather than
+   * a chain of calendars that each query the underlying calendars.
+   * Merging is relatively slow, thus the result is cached, and reused for as long as
+   * the reference data returns the same underlying calendars.
+   */
+  private static final class ComplexResolver implements BiFunction<HolidayCalendarId, ReferenceData, HolidayCalendar> {
+    // the individual identifiers
+    private final List<HolidayCalendarId> ids;
+    // the function to combine or link two calendars
+    private final BinaryOperator<HolidayCalendar> fn;
+    // the function to combine or link two immutable calendars
+    private final BinaryOperator<ImmutableHolidayCalendar> immutableFn;
+    // the last merged calendar, at index zero, followed by the underlying calendars it was merged from
+    private volatile HolidayCalendar[] merged = new HolidayCalendar[0];
+
+    private ComplexResolver(
+        List<HolidayCalendarId> ids,
+        BinaryOperator<HolidayCalendar> fn,
+        BinaryOperator<ImmutableHolidayCalendar> immutableFn) {
+
+      this.ids = ids;
+      this.fn = fn;
+      this.immutableFn = immutableFn;
+    }
+
+    @Override
+    public HolidayCalendar apply(HolidayCalendarId id, ReferenceData refData) {
       HolidayCalendar cal = refData.queryValueOrNull(id);
       if (cal != null) {
         return cal;
       }
-      cal = HolidayCalendars.NO_HOLIDAYS;
-      for (HolidayCalendarId splitId : ids) {
+      HolidayCalendar[] splitCals = new HolidayCalendar[ids.size()];
+      boolean allImmutable = true;
+      for (int i = 0; i < splitCals.length; i++) {
+        HolidayCalendarId splitId = ids.get(i);
         HolidayCalendar splitCal = refData.queryValueOrNull(splitId);
         if (splitCal == null) {
           throw new ReferenceDataNotFoundException(Messages.format(
               "Reference data not found for '{}' of type 'HolidayCalendarId' when finding '{}'", splitId, id));
         }
-        cal = fn.apply(cal, splitCal);
+        splitCals[i] = splitCal;
+        allImmutable &= splitCal instanceof ImmutableHolidayCalendar;
+      }
+      if (splitCals.length == 0) {
+        return HolidayCalendars.NO_HOLIDAYS;
       }
+      if (!allImmutable) {
+        cal = splitCals[0];
+        for (int i = 1; i < splitCals.length; i++) {
+          cal = fn.apply(cal, splitCals[i]);
+        }
+        return cal;
+      }
+      return mergeImmutable(splitCals);
+    }
+
+    // merges the immutable calendars, reusing the last result if the calendars are the same
+    private HolidayCalendar mergeImmutable(HolidayCalendar[] splitCals) {
+      HolidayCalendar[] last = merged;
+      if (isSame(last, splitCals)) {
+        return last[0];
+      }
+      ImmutableHolidayCalendar cal = (ImmutableHolidayCalendar) splitCals[0];
+      for (int i = 1; i < splitCals.length; i++) {
+        cal = immutableFn.apply(cal, (ImmutableHolidayCalendar) splitCals[i]);
+      }
+      HolidayCalendar[] updated = new HolidayCalendar[splitCals.length + 1];
+      updated[0] = cal;
+      System.arraycopy(splitCals, 0, updated, 1, splitCals.length);
+      merged = updated;
       return cal;
-    };
-    // cache under the normalized and non-normalized names
-    HolidayCalendarId id = CACHE.computeIfAbsent(normalizedName, n -> new HolidayCalendarId(normalizedName, resolver));
-    CACHE.putIfAbsent(name, id);
-    return id;
+    }
+
+    // checks if the last merge was from the same underlying calendar instances
+    private static boolean isSame(HolidayCalendar[] last, HolidayCalendar[] splitCals) {
+      if (last.length != splitCals.length + 1) {
+        return false;
+      }
+      for (int i = 0; i < splitCals.length; i++) {
+        if (last[i + 1] != splitCals[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
   }
 
   //-------------------------------------------------------------------------
@@ -13,11 +13,11 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.util.Arrays;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.function.IntBinaryOperator;
 import java.util.stream.Stream;
 
 import org.joda.beans.Bean;
@@ -218,23 +218,81 @@ public final class ImmutableHolidayCalendar
     }
 
     // merge calendars using bitwise operations
-    // figure out which has the lower start year and use that as the base
-    boolean cal1Lower = cal1.startYear <= cal2.startYear;
-    int[] lookup1 = cal1Lower ? cal1.lookup : cal2.lookup;
-    int[] lookup2 = cal1Lower ? cal2.lookup : cal1.lookup;
-    int newStartYear = cal1Lower ? cal1.startYear : cal2.startYear;
-    int otherStartYear = cal1Lower ? cal2.startYear : cal1.startYear;
-    // copy base array and map data from the other on top
-    int newSize = Math.max(lookup1.length, lookup2.length + (otherStartYear - newStartYear) * 12);
-    int offset = (otherStartYear - newStartYear) * 12;
-    int[] newLookup = Arrays.copyOf(lookup1, newSize);
-    for (int i = 0; i < lookup2.length; i++) {
-      newLookup[i + offset] &= lookup2[i]; // use & because 1 = business day (not holiday)
-    }
-    int newWeekends = cal1.weekends | cal2.weekends; // use | because 1 = weekend day
+    // use & because 1 = business day (not holiday), and | because 1 = weekend day
+    int newWeekends = cal1.weekends | cal2.weekends;
+    return merged(newId, newWeekends, cal1, cal2, (month1, month2) -> month1 & month2);
+  }
+
+  /**
+   * Obtains a linked holiday calendar instance.
+   * <p>
+   * This links the two input calendars, such that a date is a holiday if it is a holiday in both calendars.
+   * The result is equivalent to {@link HolidayCalendar#linkedWith(HolidayCalendar)}, but uses
+   * a single lookup table rather than querying each underlying calendar.
+   * It is intended for up-front occasional use rather than continuous use, as it can be relatively slow.
+   * 
+   * @param cal1  the first calendar
+   * @param cal2  the second calendar
+   * @return the linked calendar
+   */
+  public static ImmutableHolidayCalendar linked(ImmutableHolidayCalendar cal1, ImmutableHolidayCalendar cal2) {
+    if (cal1 == cal2) {
+      return ArgChecker.notNull(cal1, "cal1");
+    }
+    HolidayCalendarId newId = cal1.id.linkedWith(cal2.id);
+    // use | because 1 = business day (not holiday), and & because 1 = weekend day
+    int newWeekends = cal1.weekends & cal2.weekends;
+    return merged(newId, newWeekends, cal1, cal2, (month1, month2) -> month1 | month2);
+  }
+
+  // merges the lookup tables of two calendars month by month
+  // the range of the result covers both calendars, with each calendar using its weekends outside its own range
+  private static ImmutableHolidayCalendar merged(
+      HolidayCalendarId newId,
+      int newWeekends,
+      ImmutableHolidayCalendar cal1,
+      ImmutableHolidayCalendar cal2,
+      IntBinaryOperator monthOperator) {
+
+    if (cal1.lookup.length == 0 && cal2.lookup.length == 0) {
+      return new ImmutableHolidayCalendar(newId, newWeekends, 0, new int[0], false);
+    }
+    int newStartYear = Math.min(cal1.lookupStartYear(), cal2.lookupStartYear());
+    int newEndYear = Math.max(cal1.lookupEndYear(), cal2.lookupEndYear());
+    int[] newLookup = new int[(newEndYear - newStartYear) * 12];
+    LocalDate firstOfMonth = LocalDate.of(newStartYear, 1, 1);
+    for (int i = 0; i < newLookup.length; i++) {
+      newLookup[i] = monthOperator.applyAsInt(cal1.monthLookup(firstOfMonth), cal2.monthLookup(firstOfMonth));
+      firstOfMonth = firstOfMonth.plusMonths(1);
+    }
     return new ImmutableHolidayCalendar(newId, newWeekends, newStartYear, newLookup, false);
   }
 
+  // the first year of the lookup table, MAX_VALUE if there is no lookup table
+  private int lookupStartYear() {
+    return lookup.length == 0 ? Integer.MAX_VALUE : startYear;
+  }
+
+  // the year after the end of the lookup table, MIN_VALUE if there is no lookup table
+  private int lookupEndYear() {
+    return lookup.length == 0 ? Integer.MIN_VALUE : startYear + lookup.length / 12;
+  }
+
+  // gets the lookup data for a month, using the weekends if the month is outside the lookup table
+  private int monthLookup(LocalDate firstOfMonth) {
+    int index = (firstOfMonth.getYear() - startYear) * 12 + firstOfMonth.getMonthValue() - 1;
+    if (index >= 0 && index < lookup.length) {
+      return lookup[index];
+    }
+    int monthData = (1 << firstOfMonth.lengthOfMonth()) - 1;
+    for (DayOfWeek weekendDow : getWeekendDays()) {
+      int daysDiff = weekendDow.getValue() - firstOfMonth.getDayOfWeek().getValue();
+      int offset = (daysDiff < 0 ? daysDiff + 7 : daysDiff);
+      monthData &= ~(0b10000001000000100000010000001 << offset); // CSIGNORE
+    }
+    return monthData;
+  }
+
   // creates an instance calculating the supported range
   static ImmutableHolidayCalendar of(
       HolidayCalendarId id,
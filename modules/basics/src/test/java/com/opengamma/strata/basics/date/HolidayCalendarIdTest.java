@@ -8,6 +8,9 @@ package com.opengamma.strata.basics.date;
 import static com.opengamma.strata.basics.date.HolidayCalendarIds.NO_HOLIDAYS;
 import static com.opengamma.strata.collect.TestHelper.assertSerialization;
 import static com.opengamma.strata.collect.TestHelper.coverPrivateConstructor;
+import static java.time.DayOfWeek.FRIDAY;
+import static java.time.DayOfWeek.SATURDAY;
+import static java.time.DayOfWeek.SUNDAY;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -16,6 +19,7 @@ import java.time.LocalDate;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.ImmutableReferenceData;
 import com.opengamma.strata.basics.ReferenceData;
@@ -129,6 +133,47 @@ public class HolidayCalendarIdTest {
     assertThat(refData.getValue(combined)).isEqualTo(combinedCal);
   }
 
+  @Test
+  public void test_resolve_combined_immutable() {
+    HolidayCalendarId gb = HolidayCalendarId.of("GB");
+    HolidayCalendar gbCal = ImmutableHolidayCalendar.of(
+        gb, ImmutableList.of(LocalDate.of(2014, 12, 25), LocalDate.of(2014, 12, 26)), SATURDAY, SUNDAY);
+    HolidayCalendarId eu = HolidayCalendarId.of("EU");
+    HolidayCalendar euCal = ImmutableHolidayCalendar.of(
+        eu, ImmutableList.of(LocalDate.of(2014, 12, 25), LocalDate.of(2015, 1, 1)), SATURDAY, SUNDAY);
+    HolidayCalendarId combined = gb.combinedWith(eu);
+    ReferenceData refData = ImmutableReferenceData.of(ImmutableMap.of(gb, gbCal, eu, euCal));
+    HolidayCalendar test = combined.resolve(refData);
+    assertThat(test).isInstanceOf(ImmutableHolidayCalendar.class);
+    assertThat(test.getId()).isEqualTo(combined);
+    assertThat(combined.resolve(refData)).isSameAs(test);
+    HolidayCalendar expected = euCal.combinedWith(gbCal);
+    for (LocalDate date = LocalDate.of(2013, 1, 1); date.getYear() < 2017; date = date.plusDays(1)) {
+      assertThat(test.isHoliday(date)).isEqualTo(expected.isHoliday(date));
+    }
+  }
+
+  @Test
+  public void test_resolve_linked_immutable() {
+    HolidayCalendarId gb = HolidayCalendarId.of("GB");
+    HolidayCalendar gbCal = ImmutableHolidayCalendar.of(
+        gb, ImmutableList.of(LocalDate.of(2014, 12, 25), LocalDate.of(2014, 12, 26)), SATURDAY, SUNDAY);
+    HolidayCalendarId eu = HolidayCalendarId.of("EU");
+    HolidayCalendar euCal = ImmutableHolidayCalendar.of(
+        eu, ImmutableList.of(LocalDate.of(2014, 12, 25), LocalDate.of(2015, 1, 1)), FRIDAY, SATURDAY);
+    HolidayCalendarId linked = gb.linkedWith(eu);
+    ReferenceData refData = ImmutableReferenceData.of(ImmutableMap.of(gb, gbCal, eu, euCal));
+    HolidayCalendar test = linked.resolve(refData);
+    assertThat(test).isInstanceOf(ImmutableHolidayCalendar.class);
+    assertThat(test.getId()).isEqualTo(linked);
+    assertThat(test.isHoliday(LocalDate.of(2014, 12, 25))).isTrue();
+    assertThat(test.isHoliday(LocalDate.of(2015, 1, 1))).isFalse();
+    HolidayCalendar expected = euCal.linkedWith(gbCal);
+    for (LocalDate date = LocalDate.of(2013, 1, 1); date.getYear() < 2017; date = date.plusDays(1)) {
+      assertThat(test.isHoliday(date)).isEqualTo(expected.isHoliday(date));
+    }
+  }
+
   @Test
   public void testImmutableReferenceDataWithMergedHolidays() {
     HolidayCalendar hc = HolidayCalendars.FRI_SAT.combinedWith(HolidayCalendars.SAT_SUN);
@@ -395,6 +395,37 @@ public class ImmutableHolidayCalendarTest {
     assertThat(test.getWeekendDays()).containsExactly(FRIDAY, SATURDAY, SUNDAY);
   }
 
+  @Test
+  public void test_linked() {
+    Iterable<LocalDate> holidays1 = Arrays.asList(MON_2014_07_14, WED_2014_07_16, TUE_2015_03_31);
+    ImmutableHolidayCalendar base1 = ImmutableHolidayCalendar.of(TEST_ID, holidays1, SATURDAY, SUNDAY);
+    Iterable<LocalDate> holidays2 = Arrays.asList(WED_2014_07_16, FRI_2014_07_18, TUE_2018_07_17);
+    ImmutableHolidayCalendar base2 = ImmutableHolidayCalendar.of(TEST_ID2, holidays2, FRIDAY, SATURDAY);
+
+    ImmutableHolidayCalendar test = ImmutableHolidayCalendar.linked(base1, base2);
+    assertThat(test.getId()).isEqualTo(base1.getId().linkedWith(base2.getId()));
+    assertThat(test.getName()).isEqualTo("Test1~Test2");
+    assertThat(test.getWeekendDays()).containsExactly(SATURDAY);
+    assertThat(test.isHoliday(MON_2014_07_14)).isFalse();
+    assertThat(test.isHoliday(WED_2014_07_16)).isTrue();
+    assertThat(test.isHoliday(FRI_2014_07_18)).isFalse();
+    assertThat(test.isHoliday(SAT_2014_07_19)).isTrue();
+    assertThat(test.isHoliday(SUN_2014_07_20)).isFalse();
+    HolidayCalendar expected = base1.linkedWith(base2);
+    for (LocalDate date = LocalDate.of(2013, 1, 1); date.getYear() < 2020; date = date.plusDays(1)) {
+      assertThat(test.isHoliday(date)).as(date.toString()).isEqualTo(expected.isHoliday(date));
+    }
+  }
+
+  @Test
+  public void test_linked_same() {
+    ImmutableHolidayCalendar base =
+        ImmutableHolidayCalendar.of(TEST_ID, ImmutableList.of(MON_2014_07_14), SATURDAY, SUNDAY);
+
+    ImmutableHolidayCalendar test = ImmutableHolidayCalendar.linked(base, base);
+    assertThat(test).isSameAs(base);
+  }
+
   @Test
   public void test_combined_same() {
     ImmutableHolidayCalendar base =
@@ -404,6 +435,19 @@ public class ImmutableHolidayCalendarTest {
     assertThat(test).isSameAs(base);
   }
 
+  @Test
+  public void test_combined_otherEndsLater() {
+    Iterable<LocalDate> holidays1 = Arrays.asList(MON_2014_07_14);
+    ImmutableHolidayCalendar base1 = ImmutableHolidayCalendar.of(TEST_ID, holidays1, SATURDAY, SUNDAY);
+    Iterable<LocalDate> holidays2 = Arrays.asList(WED_2014_07_16, TUE_2018_07_17);
+    ImmutableHolidayCalendar base2 = ImmutableHolidayCalendar.of(TEST_ID2, holidays2, FRIDAY, SATURDAY);
+    HolidayCalendar test = ImmutableHolidayCalendar.combined(base1, base2);
+    HolidayCalendar expected = base1.combinedWith(base2);
+    for (LocalDate date = LocalDate.of(2013, 1, 1); date.getYear() < 2020; date = date.plusDays(1)) {
+      assertThat(test.isHoliday(date)).as(date.toString()).isEqualTo(expected.isHoliday(date));
+    }
+  }
+
   @Test
   public void test_combined_differentStartYear1() {
     Iterable<LocalDate> holidays1 = Arrays.asList(WED_2015_04_01);
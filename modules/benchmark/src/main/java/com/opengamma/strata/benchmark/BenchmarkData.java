@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.basics.index.IborIndices;
+import com.opengamma.strata.collect.io.ResourceLocator;
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.examples.marketdata.ExampleMarketData;
+import com.opengamma.strata.examples.marketdata.ExampleMarketDataBuilder;
+import com.opengamma.strata.loader.csv.QuotesCsvLoader;
+import com.opengamma.strata.loader.csv.RatesCalibrationCsvLoader;
+import com.opengamma.strata.market.curve.CurveGroupName;
+import com.opengamma.strata.market.curve.RatesCurveGroupDefinition;
+import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.fra.Fra;
+import com.opengamma.strata.product.fra.FraTrade;
+import com.opengamma.strata.product.swap.SwapTrade;
+import com.opengamma.strata.product.swap.type.FixedIborSwapConventions;
+
+/**
+ * Fixtures used by the benchmarks, built from the example market data.
+ */
+final class BenchmarkData {
+
+  /**
+   * The reference data.
+   */
+  static final ReferenceData REF_DATA = ReferenceData.standard();
+  /**
+   * The valuation date of the example market data.
+   */
+  static final LocalDate VALUATION_DATE = LocalDate.of(2014, 1, 22);
+  /**
+   * The valuation date of the example calibration data.
+   */
+  static final LocalDate CALIBRATION_DATE = LocalDate.of(2015, 7, 21);
+  /**
+   * The name of the example calibration curve group.
+   */
+  static final CurveGroupName CALIBRATION_GROUP_NAME = CurveGroupName.of("USD-DSCON-LIBOR3M");
+
+  /**
+   * The location of the example calibration data.
+   */
+  private static final String CALIBRATION_ROOT = "example-calibration/";
+  /**
+   * The swap tenors, cycled through when creating trades.
+   */
+  private static final List<Tenor> TENORS = IntStream.rangeClosed(1, 30)
+      .mapToObj(Tenor::ofYears)
+      .collect(toImmutableList());
+
+  /**
+   * Restricted constructor.
+   */
+  private BenchmarkData() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the example market data builder.
+   * 
+   * @return the market data builder
+   */
+  static ExampleMarketDataBuilder marketDataBuilder() {
+    return ExampleMarketData.builder();
+  }
+
+  /**
+   * Gets the example market data at the valuation date.
+   * 
+   * @return the market data
+   */
+  static MarketData marketData() {
+    return marketDataBuilder().buildSnapshot(VALUATION_DATE);
+  }
+
+  /**
+   * Gets the rates lookup of the example market data at the valuation date.
+   * 
+   * @return the rates lookup
+   */
+  static RatesMarketDataLookup ratesLookup() {
+    return marketDataBuilder().ratesLookup(VALUATION_DATE);
+  }
+
+  /**
+   * Gets the rates provider of the example market data at the valuation date.
+   * 
+   * @return the rates provider
+   */
+  static ImmutableRatesProvider ratesProvider() {
+    return ratesLookup().ratesProvider(marketData()).toImmutableRatesProvider();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates USD fixed versus Libor 3M swap trades with a range of tenors and rates.
+   * 
+   * @param count  the number of trades
+   * @return the trades
+   */
+  static List<SwapTrade> swapTrades(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M.createTrade(
+            VALUATION_DATE,
+            TENORS.get(i % TENORS.size()),
+            i % 2 == 0 ? BuySell.BUY : BuySell.SELL,
+            1_000_000d * (1 + i % 10),
+            0.01d + 0.0001d * (i % 50),
+            REF_DATA))
+        .collect(toImmutableList());
+  }
+
+  /**
+   * Creates USD Libor 3M FRA trades with a range of start dates and rates.
+   * 
+   * @param count  the number of trades
+   * @return the trades
+   */
+  static List<FraTrade> fraTrades(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> Fra.builder()
+            .buySell(i % 2 == 0 ? BuySell.BUY : BuySell.SELL)
+            .notional(1_000_000d * (1 + i % 10))
+            .startDate(VALUATION_DATE.plus(Period.ofMonths(1 + i % 60)))
+            .endDate(VALUATION_DATE.plus(Period.ofMonths(4 + i % 60)))
+            .index(IborIndices.USD_LIBOR_3M)
+            .fixedRate(0.005d + 0.0001d * (i % 50))
+            .build())
+        .map(fra -> FraTrade.builder().product(fra).build())
+        .collect(toImmutableList());
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Loads the example calibration curve group definition.
+   * 
+   * @return the curve group definition
+   */
+  static RatesCurveGroupDefinition calibrationDefinition() {
+    return RatesCalibrationCsvLoader.load(
+        ResourceLocator.ofClasspath(CALIBRATION_ROOT + "curves/groups.csv"),
+        ResourceLocator.ofClasspath(CALIBRATION_ROOT + "curves/settings.csv"),
+        ResourceLocator.ofClasspath(CALIBRATION_ROOT + "curves/calibrations.csv"))
+        .get(CALIBRATION_GROUP_NAME)
+        .filtered(CALIBRATION_DATE, REF_DATA);
+  }
+
+  /**
+   * Loads the example calibration market quotes.
+   * 
+   * @return the market data
+   */
+  static ImmutableMarketData calibrationMarketData() {
+    return ImmutableMarketData.of(
+        CALIBRATION_DATE,
+        QuotesCsvLoader.load(CALIBRATION_DATE, ResourceLocator.ofClasspath(CALIBRATION_ROOT + "quotes/quotes.csv")));
+  }
+
+}
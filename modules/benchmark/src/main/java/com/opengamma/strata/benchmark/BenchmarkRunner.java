@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks.
+ * <p>
+ * The arguments are the standard JMH command line arguments.
+ * Unless otherwise specified, the GC profiler is enabled to report allocation rates,
+ * and the results are written in JSON format to {@code jmh-result.json}.
+ * This allows the results of two releases to be compared.
+ */
+public final class BenchmarkRunner {
+
+  /**
+   * The default result file.
+   */
+  private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+  /**
+   * Restricted constructor.
+   */
+  private BenchmarkRunner() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Runs the benchmarks.
+   * 
+   * @param args  the JMH command line arguments
+   * @throws Exception if an error occurs
+   */
+  public static void main(String[] args) throws Exception {
+    CommandLineOptions cmdOptions = new CommandLineOptions(args);
+    ChainedOptionsBuilder options = new OptionsBuilder().parent(cmdOptions);
+    if (!cmdOptions.getResultFormat().hasValue()) {
+      options.resultFormat(ResultFormatType.JSON);
+    }
+    if (!cmdOptions.getResult().hasValue()) {
+      options.result(DEFAULT_RESULT_FILE);
+    }
+    if (cmdOptions.getProfilers().isEmpty()) {
+      options.addProfiler(GCProfiler.class);
+    }
+    new Runner(options.build()).run();
+  }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.opengamma.strata.basics.date.HolidayCalendar;
+import com.opengamma.strata.basics.index.IborIndexObservation;
+import com.opengamma.strata.basics.index.IborIndices;
+import com.opengamma.strata.pricer.impl.option.BlackFormulaRepository;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+
+/**
+ * Benchmarks {@link BlackFormulaRepository}.
+ * <p>
+ * The options are caplets on the example USD Libor 3M forward rate, with a range of strikes and expiries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlackFormulaBenchmark {
+
+  /**
+   * The number of options.
+   */
+  private static final int COUNT = 100;
+  /**
+   * The volatility.
+   */
+  private static final double VOLATILITY = 0.35d;
+
+  private double[] forwards;
+  private double[] strikes;
+  private double[] expiries;
+  private double[] prices;
+
+  @Setup
+  public void setup() {
+    ImmutableRatesProvider provider = BenchmarkData.ratesProvider();
+    HolidayCalendar fixingCalendar = BenchmarkData.REF_DATA.getValue(IborIndices.USD_LIBOR_3M.getFixingCalendar());
+    forwards = new double[COUNT];
+    strikes = new double[COUNT];
+    expiries = new double[COUNT];
+    prices = new double[COUNT];
+    for (int i = 0; i < COUNT; i++) {
+      LocalDate fixingDate = fixingCalendar.nextOrSame(BenchmarkData.VALUATION_DATE.plusMonths(3 * (i + 1)));
+      IborIndexObservation obs = IborIndexObservation.of(IborIndices.USD_LIBOR_3M, fixingDate, BenchmarkData.REF_DATA);
+      forwards[i] = provider.iborIndexRates(IborIndices.USD_LIBOR_3M).rate(obs);
+      strikes[i] = forwards[i] * (0.5d + 0.01d * i);
+      expiries[i] = 0.25d * (i + 1);
+      prices[i] = BlackFormulaRepository.price(forwards[i], strikes[i], expiries[i], VOLATILITY, true);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  @Benchmark
+  public void price(Blackhole bh) {
+    for (int i = 0; i < COUNT; i++) {
+      bh.consume(BlackFormulaRepository.price(forwards[i], strikes[i], expiries[i], VOLATILITY, true));
+    }
+  }
+
+  @Benchmark
+  public void priceAdjoint(Blackhole bh) {
+    for (int i = 0; i < COUNT; i++) {
+      bh.consume(BlackFormulaRepository.priceAdjoint(forwards[i], strikes[i], expiries[i], VOLATILITY, true));
+    }
+  }
+
+  @Benchmark
+  public void vega(Blackhole bh) {
+    for (int i = 0; i < COUNT; i++) {
+      bh.consume(BlackFormulaRepository.vega(forwards[i], strikes[i], expiries[i], VOLATILITY));
+    }
+  }
+
+  @Benchmark
+  public void impliedVolatility(Blackhole bh) {
+    for (int i = 0; i < COUNT; i++) {
+      bh.consume(BlackFormulaRepository.impliedVolatility(prices[i], forwards[i], strikes[i], expiries[i], true));
+    }
+  }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.opengamma.strata.calc.CalculationRules;
+import com.opengamma.strata.calc.CalculationRunner;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.calc.runner.CalculationFunctions;
+import com.opengamma.strata.calc.runner.CalculationTaskRunner;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.measure.Measures;
+import com.opengamma.strata.measure.StandardComponents;
+import com.opengamma.strata.product.Trade;
+
+/**
+ * Benchmarks the calculation engine, using {@link CalculationRunner}.
+ * <p>
+ * A portfolio of swaps and FRAs is priced using the example market data,
+ * calculating the present value, par rate and PV01.
+ * The trades are optionally calculated in batches, see {@link CalculationTaskRunner#of(ExecutorService, int)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CalculationRunnerBenchmark {
+
+  private static final List<Column> COLUMNS = ImmutableList.of(
+      Column.of(Measures.PRESENT_VALUE),
+      Column.of(Measures.PAR_RATE),
+      Column.of(Measures.PV01_CALIBRATED_SUM),
+      Column.of(Measures.PV01_CALIBRATED_BUCKETED));
+
+  /**
+   * The number of trades of each type.
+   */
+  @Param({"100"})
+  public int count;
+  /**
+   * Whether the calculations are run on multiple threads.
+   */
+  @Param({"true", "false"})
+  public boolean multiThreaded;
+  /**
+   * The maximum number of trades calculated together by a batch function, one to disable batching.
+   */
+  @Param({"1", "64"})
+  public int batchSize;
+
+  private List<Trade> trades;
+  private MarketData marketData;
+  private CalculationRules rules;
+  private CalculationRunner runner;
+
+  @Setup
+  public void setup() {
+    trades = ImmutableList.<Trade>builder()
+        .addAll(BenchmarkData.swapTrades(count))
+        .addAll(BenchmarkData.fraTrades(count))
+        .build();
+    marketData = BenchmarkData.marketData();
+    CalculationFunctions functions = StandardComponents.calculationFunctions();
+    rules = CalculationRules.of(functions, BenchmarkData.ratesLookup());
+    ExecutorService executor = multiThreaded ?
+        Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors()) :
+        MoreExecutors.newDirectExecutorService();
+    runner = CalculationRunner.of(CalculationTaskRunner.of(executor, batchSize));
+  }
+
+  @TearDown
+  public void tearDown() {
+    runner.close();
+  }
+
+  //-------------------------------------------------------------------------
+  @Benchmark
+  public Results calculate() {
+    return runner.calculate(rules, trades, COLUMNS, marketData, BenchmarkData.REF_DATA);
+  }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.market.curve.RatesCurveGroupDefinition;
+import com.opengamma.strata.pricer.curve.RatesCurveCalibrator;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+
+/**
+ * Benchmarks {@link RatesCurveCalibrator}.
+ * <p>
+ * The curves are the example USD discounting and Libor 3M curves, calibrated together
+ * to around forty market quotes, including the Jacobian and market quote sensitivities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CalibrationBenchmark {
+
+  private static final RatesCurveCalibrator CALIBRATOR = RatesCurveCalibrator.standard();
+
+  private RatesCurveGroupDefinition definition;
+  private ImmutableMarketData marketData;
+  private ImmutableRatesProvider calibrated;
+
+  @Setup
+  public void setup() {
+    definition = BenchmarkData.calibrationDefinition();
+    marketData = BenchmarkData.calibrationMarketData();
+    calibrated = CALIBRATOR.calibrate(definition, marketData, BenchmarkData.REF_DATA);
+  }
+
+  //-------------------------------------------------------------------------
+  @Benchmark
+  public ImmutableRatesProvider calibrate() {
+    return CALIBRATOR.calibrate(definition, marketData, BenchmarkData.REF_DATA);
+  }
+
+  @Benchmark
+  public ImmutableRatesProvider recalibrateUnchanged() {
+    return CALIBRATOR.recalibrate(definition, marketData, BenchmarkData.REF_DATA, calibrated, ImmutableSet.of());
+  }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.CharSource;
+import com.opengamma.strata.collect.io.ResourceLocator;
+import com.opengamma.strata.collect.result.ValueWithFailures;
+import com.opengamma.strata.loader.csv.QuotesCsvLoader;
+import com.opengamma.strata.loader.csv.TradeCsvLoader;
+import com.opengamma.strata.loader.csv.TradeCsvWriter;
+import com.opengamma.strata.market.observable.QuoteId;
+import com.opengamma.strata.product.Trade;
+
+/**
+ * Benchmarks CSV loading of trades and quotes.
+ * <p>
+ * The trade file contains swaps and FRAs written by {@link TradeCsvWriter}.
+ * The quotes file is the example market data quotes file.
+ * Both files are held in memory, thus the benchmark measures parsing rather than I/O.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CsvLoadingBenchmark {
+
+  private static final TradeCsvLoader TRADE_LOADER = TradeCsvLoader.standard();
+
+  /**
+   * The number of trades of each type.
+   */
+  @Param({"1000"})
+  public int count;
+
+  private CharSource tradeFile;
+  private CharSource quotesFile;
+
+  @Setup
+  public void setup() throws Exception {
+    List<Trade> trades = ImmutableList.<Trade>builder()
+        .addAll(BenchmarkData.swapTrades(count))
+        .addAll(BenchmarkData.fraTrades(count))
+        .build();
+    StringBuilder buf = new StringBuilder();
+    TradeCsvWriter.standard().write(trades, buf);
+    tradeFile = CharSource.wrap(buf.toString());
+    String quotes = ResourceLocator.ofClasspath("example-marketdata/quotes/quotes.csv").getCharSource().read();
+    quotesFile = CharSource.wrap(quotes);
+  }
+
+  //-------------------------------------------------------------------------
+  @Benchmark
+  public ValueWithFailures<List<Trade>> loadTrades() {
+    return TRADE_LOADER.parse(ImmutableList.of(tradeFile));
+  }
+
+  @Benchmark
+  public ImmutableMap<LocalDate, ImmutableMap<QuoteId, Double>> loadQuotes() {
+    return QuotesCsvLoader.parse(date -> true, ImmutableList.of(quotesFile));
+  }
+
+}
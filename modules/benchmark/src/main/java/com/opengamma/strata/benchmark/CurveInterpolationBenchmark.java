@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+
+/**
+ * Benchmarks curve interpolation.
+ * <p>
+ * The curve is the example USD discount curve, using the interpolator specified by the parameter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurveInterpolationBenchmark {
+
+  /**
+   * The number of points at which the curve is evaluated.
+   */
+  private static final int POINT_COUNT = 100;
+
+  /**
+   * The name of the interpolator.
+   */
+  @Param({"Linear", "DoubleQuadratic", "NaturalSpline", "NaturalSplineNonnegativityCubic"})
+  public String interpolator;
+
+  private InterpolatedNodalCurve curve;
+  private double[] xValues;
+
+  @Setup
+  public void setup() {
+    ImmutableRatesProvider provider = BenchmarkData.ratesProvider();
+    InterpolatedNodalCurve baseCurve = (InterpolatedNodalCurve) provider.getDiscountCurves().get(Currency.USD);
+    curve = baseCurve.toBuilder()
+        .interpolator(CurveInterpolator.of(interpolator))
+        .build();
+    double lastX = curve.getXValues().get(curve.getParameterCount() - 1);
+    xValues = new double[POINT_COUNT];
+    for (int i = 0; i < POINT_COUNT; i++) {
+      xValues[i] = lastX * i / POINT_COUNT;
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  @Benchmark
+  public void yValue(Blackhole bh) {
+    for (double x : xValues) {
+      bh.consume(curve.yValue(x));
+    }
+  }
+
+  @Benchmark
+  public void firstDerivative(Blackhole bh) {
+    for (double x : xValues) {
+      bh.consume(curve.firstDerivative(x));
+    }
+  }
+
+  @Benchmark
+  public void yValueParameterSensitivity(Blackhole bh) {
+    for (double x : xValues) {
+      bh.consume(curve.yValueParameterSensitivity(x));
+    }
+  }
+
+  @Benchmark
+  public InterpolatedNodalCurve bind() {
+    // changing the parameters binds the interpolator to the new values
+    return curve.withParameter(0, curve.getParameter(0) + 1e-4);
+  }
+
+}
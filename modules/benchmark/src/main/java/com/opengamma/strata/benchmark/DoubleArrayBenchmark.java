@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * Benchmarks the common operations of {@link DoubleArray}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DoubleArrayBenchmark {
+
+  /**
+   * The size of the arrays, from a typical curve to a typical scenario set.
+   */
+  @Param({"20", "1000"})
+  public int size;
+
+  private DoubleArray array1;
+  private DoubleArray array2;
+
+  @Setup
+  public void setup() {
+    array1 = DoubleArray.of(size, i -> 1d + 0.01d * i);
+    array2 = DoubleArray.of(size, i -> 2d - 0.001d * i);
+  }
+
+  //-------------------------------------------------------------------------
+  @Benchmark
+  public DoubleArray plus() {
+    return array1.plus(array2);
+  }
+
+  @Benchmark
+  public DoubleArray multipliedBy() {
+    return array1.multipliedBy(array2);
+  }
+
+  @Benchmark
+  public DoubleArray multipliedByScalar() {
+    return array1.multipliedBy(1.5d);
+  }
+
+  @Benchmark
+  public DoubleArray combine() {
+    return array1.combine(array2, (a, b) -> a * b + a);
+  }
+
+  @Benchmark
+  public DoubleArray map() {
+    return array1.map(Math::exp);
+  }
+
+  @Benchmark
+  public DoubleArray concat() {
+    return array1.concat(array2);
+  }
+
+  @Benchmark
+  public double sum() {
+    return array1.sum();
+  }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.math.impl.differentiation.AadDouble;
+import com.opengamma.strata.pricer.fra.DiscountingFraProductPricer;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.sensitivity.AadRatesProvider;
+import com.opengamma.strata.pricer.sensitivity.RatesFiniteDifferenceSensitivityCalculator;
+import com.opengamma.strata.product.fra.ResolvedFra;
+
+/**
+ * Benchmarks the curve parameter sensitivity of a portfolio of FRAs.
+ * <p>
+ * This compares the analytic sensitivities of the pricer, reverse mode AAD using {@link AadRatesProvider},
+ * and finite difference using {@link RatesFiniteDifferenceSensitivityCalculator}.
+ * The AAD formula records discount factors and forward rates in terms of interpolated curve values,
+ * thus the reverse sweep does not use the point sensitivities of the pricer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SensitivityBenchmark {
+
+  private static final DiscountingFraProductPricer PRICER = DiscountingFraProductPricer.DEFAULT;
+  private static final RatesFiniteDifferenceSensitivityCalculator FD_CALC =
+      RatesFiniteDifferenceSensitivityCalculator.DEFAULT;
+
+  /**
+   * The number of FRAs.
+   */
+  @Param({"10", "100"})
+  public int count;
+
+  private ImmutableRatesProvider provider;
+  private List<ResolvedFra> fras;
+
+  @Setup
+  public void setup() {
+    provider = BenchmarkData.ratesProvider();
+    fras = BenchmarkData.fraTrades(count).stream()
+        .map(trade -> trade.getProduct().resolve(BenchmarkData.REF_DATA))
+        .collect(toImmutableList());
+  }
+
+  //-------------------------------------------------------------------------
+  @Benchmark
+  public CurrencyParameterSensitivities analytic() {
+    PointSensitivities pointSens = PointSensitivities.empty();
+    for (ResolvedFra fra : fras) {
+      pointSens = pointSens.combinedWith(PRICER.presentValueSensitivity(fra, provider));
+    }
+    return provider.parameterSensitivity(pointSens);
+  }
+
+  @Benchmark
+  public CurrencyParameterSensitivities aad() {
+    AadRatesProvider aadProvider = AadRatesProvider.of(provider);
+    AadDouble pv = AadDouble.constant(0d);
+    for (ResolvedFra fra : fras) {
+      pv = pv.plus(presentValue(fra, aadProvider));
+    }
+    return aadProvider.parameterSensitivity(pv, Currency.USD);
+  }
+
+  @Benchmark
+  public CurrencyParameterSensitivities finiteDifference() {
+    return FD_CALC.sensitivity(provider, this::presentValue);
+  }
+
+  //-------------------------------------------------------------------------
+  // the present value of the portfolio
+  private CurrencyAmount presentValue(ImmutableRatesProvider bumpedProvider) {
+    CurrencyAmount pv = CurrencyAmount.zero(Currency.USD);
+    for (ResolvedFra fra : fras) {
+      pv = pv.plus(PRICER.presentValue(fra, bumpedProvider));
+    }
+    return pv;
+  }
+
+  // the present value of a FRA with ISDA discounting
+  private static AadDouble presentValue(ResolvedFra fra, AadRatesProvider provider) {
+    AadDouble rate = provider.rate(fra.getFloatingRate(), fra.getStartDate(), fra.getEndDate());
+    AadDouble df = provider.discountFactor(fra.getCurrency(), fra.getPaymentDate());
+    double yearFraction = fra.getYearFraction();
+    return rate.minus(fra.getFixedRate())
+        .dividedBy(rate.multipliedBy(yearFraction).plus(1d))
+        .multipliedBy(df)
+        .multipliedBy(fra.getNotional() * yearFraction);
+  }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.swap.DiscountingSwapProductPricer;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+
+/**
+ * Benchmarks {@link DiscountingSwapProductPricer}.
+ * <p>
+ * The swaps are USD fixed versus Libor 3M swaps with tenors up to 30 years,
+ * priced using the example market data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SwapPricerBenchmark {
+
+  private static final DiscountingSwapProductPricer PRICER = DiscountingSwapProductPricer.DEFAULT;
+
+  /**
+   * The number of swaps.
+   */
+  @Param({"100"})
+  public int count;
+
+  private ImmutableRatesProvider provider;
+  private List<ResolvedSwap> swaps;
+
+  @Setup
+  public void setup() {
+    provider = BenchmarkData.ratesProvider();
+    swaps = BenchmarkData.swapTrades(count).stream()
+        .map(trade -> trade.getProduct().resolve(BenchmarkData.REF_DATA))
+        .collect(toImmutableList());
+  }
+
+  //-------------------------------------------------------------------------
+  @Benchmark
+  public void presentValue(Blackhole bh) {
+    for (ResolvedSwap swap : swaps) {
+      bh.consume(PRICER.presentValue(swap, provider));
+    }
+  }
+
+  @Benchmark
+  public void parRate(Blackhole bh) {
+    for (ResolvedSwap swap : swaps) {
+      bh.consume(PRICER.parRate(swap, provider));
+    }
+  }
+
+  @Benchmark
+  public void presentValueSensitivity(Blackhole bh) {
+    for (ResolvedSwap swap : swaps) {
+      PointSensitivities pointSens = PRICER.presentValueSensitivity(swap, provider).build();
+      CurrencyParameterSensitivities paramSens = provider.parameterSensitivity(pointSens);
+      bh.consume(paramSens);
+    }
+  }
+
+}
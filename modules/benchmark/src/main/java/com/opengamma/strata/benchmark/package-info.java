@@ -0,0 +1,10 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+
+/**
+ * JMH benchmarks of performance critical code.
+ */
+package com.opengamma.strata.benchmark;
@@ -12,6 +12,7 @@ import com.opengamma.strata.basics.CalculationTarget;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.calc.runner.CalculationListener;
 import com.opengamma.strata.calc.runner.CalculationTaskRunner;
+import com.opengamma.strata.calc.runner.CalculationTasks;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 
@@ -66,6 +67,20 @@ public interface CalculationRunner extends AutoCloseable {
     return DefaultCalculationRunner.of(executor);
   }
 
+  /**
+   * Creates a calculation runner capable of performing calculations, specifying the underlying task runner.
+   * <p>
+   * This allows an alternative task runner to be used, such as one obtained from
+   * {@link CalculationTaskRunner#ofWorkStealing()}.
+   * Closing the calculation runner closes the task runner.
+   * 
+   * @param taskRunner  the underlying task runner
+   * @return the calculation runner
+   */
+  public static CalculationRunner of(CalculationTaskRunner taskRunner) {
+    return new DefaultCalculationRunner(taskRunner);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Performs calculations for a single set of market data.
@@ -158,6 +173,44 @@ public interface CalculationRunner extends AutoCloseable {
       ReferenceData refData,
       CalculationListener listener);
 
+  /**
+   * Performs calculations for multiple scenarios, each with a different set of market data,
+   * streaming the results to a listener with back-pressure.
+   * <p>
+   * This is similar to {@code calculateMultiScenarioAsync}, except that the number of pending
+   * calculation tasks is limited. A task is pending from when it is submitted until its results have been
+   * passed to the listener. When the limit is reached, no more tasks are submitted until the listener has
+   * caught up. This allows large grids of results to be written to disk or aggregated as they are calculated,
+   * without holding the whole grid in memory.
+   * <p>
+   * This method blocks until all the results have been passed to the listener.
+   * <p>
+   * The default implementation uses {@link CalculationTaskRunner#calculateMultiScenarioStreaming}
+   * on the {@linkplain #getTaskRunner() underlying task runner}.
+   * 
+   * @param calculationRules  the rules defining how the calculation is performed
+   * @param targets  the targets for which values of the measures will be calculated
+   * @param columns  the configuration for the columns that will be calculated,
+   *   including the measure and any column-specific overrides
+   * @param marketData  the market data to be used in the calculations
+   * @param refData  the reference data to be used in the calculations
+   * @param listener  listener that is invoked when individual results are calculated
+   * @param maxPendingTasks  the maximum number of tasks that have been submitted but whose results
+   *   have not yet been passed to the listener
+   */
+  public default void calculateMultiScenarioStreaming(
+      CalculationRules calculationRules,
+      List<? extends CalculationTarget> targets,
+      List<Column> columns,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      CalculationListener listener,
+      int maxPendingTasks) {
+
+    CalculationTasks tasks = CalculationTasks.of(calculationRules, targets, columns, refData);
+    getTaskRunner().calculateMultiScenarioStreaming(tasks, marketData, refData, listener, maxPendingTasks);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Gets the underlying task runner.
@@ -210,7 +210,7 @@ final class BuiltScenarioMarketDataBuilder {
   }
 
   //-------------------------------------------------------------------------
-  private static void checkBoxType(MarketDataId<?> id, MarketDataBox<?> box) {
+  static void checkBoxType(MarketDataId<?> id, MarketDataBox<?> box) {
     if (!id.getMarketDataType().isAssignableFrom(box.getMarketDataType())) {
       throw new IllegalArgumentException(
           Messages.format(
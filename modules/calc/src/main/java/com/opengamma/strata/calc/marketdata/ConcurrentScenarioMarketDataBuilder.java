@@ -0,0 +1,294 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.marketdata;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+import static com.opengamma.strata.collect.Guavate.toImmutableSet;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.basics.currency.FxRate;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.result.Failure;
+import com.opengamma.strata.collect.result.FailureException;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.FxRateId;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.data.MarketDataNotFoundException;
+import com.opengamma.strata.data.NamedMarketDataId;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * A thread-safe builder for building up {@link BuiltScenarioMarketData} instances.
+ * <p>
+ * This is used when market data is built concurrently. Data can be added from multiple threads,
+ * and the data added so far can be read using a live view without copying it.
+ * The view is passed to market data functions whose inputs have already been added.
+ */
+final class ConcurrentScenarioMarketDataBuilder {
+
+  /** The valuation date associated with the market data. */
+  private final MarketDataBox<LocalDate> valuationDate;
+
+  /** The single value market data items, keyed by ID. */
+  private final Map<MarketDataId<?>, MarketDataBox<?>> values = new ConcurrentHashMap<>();
+
+  /** Time series of observable market data values, keyed by ID. */
+  private final Map<ObservableId, LocalDateDoubleTimeSeries> timeSeries = new ConcurrentHashMap<>();
+
+  /** Details of failures when building single market data values. */
+  private final Map<MarketDataId<?>, Failure> valueFailures = new ConcurrentHashMap<>();
+
+  /** Details of failures when building time series of market data values. */
+  private final Map<MarketDataId<?>, Failure> timeSeriesFailures = new ConcurrentHashMap<>();
+
+  /**
+   * Creates an empty builder.
+   *
+   * @param valuationDate  the valuation date associated with the market data
+   */
+  ConcurrentScenarioMarketDataBuilder(MarketDataBox<LocalDate> valuationDate) {
+    ArgChecker.notNull(valuationDate, "valuationDate");
+    if (valuationDate.getScenarioCount() == 0) {
+      throw new IllegalArgumentException("Valuation date must not be empty");
+    }
+    this.valuationDate = valuationDate;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Adds a result for a single item of market data, replacing any existing value with the same ID.
+   *
+   * @param id  the ID of the market data
+   * @param result  a result containing the market data value or details of why it could not be provided
+   * @return this builder
+   */
+  ConcurrentScenarioMarketDataBuilder addResult(MarketDataId<?> id, Result<MarketDataBox<?>> result) {
+    ArgChecker.notNull(id, "id");
+    ArgChecker.notNull(result, "result");
+
+    if (result.isSuccess()) {
+      MarketDataBox<?> box = result.getValue();
+      BuiltScenarioMarketDataBuilder.checkBoxType(id, box);
+      values.put(id, box);
+      valueFailures.remove(id);
+    } else {
+      valueFailures.put(id, result.getFailure());
+      values.remove(id);
+    }
+    return this;
+  }
+
+  /**
+   * Adds a time series of observable market data values, replacing any existing time series with the same ID.
+   *
+   * @param id  the ID of the values
+   * @param timeSeries  a time series of observable market data values
+   * @return this builder
+   */
+  ConcurrentScenarioMarketDataBuilder addTimeSeries(ObservableId id, LocalDateDoubleTimeSeries timeSeries) {
+    ArgChecker.notNull(id, "id");
+    ArgChecker.notNull(timeSeries, "timeSeries");
+    this.timeSeries.put(id, timeSeries);
+    return this;
+  }
+
+  /**
+   * Adds a time series of observable market data values, replacing any existing time series with the same ID.
+   *
+   * @param id  the ID of the values
+   * @param result  a time series of observable market data values
+   * @return this builder
+   */
+  ConcurrentScenarioMarketDataBuilder addTimeSeriesResult(ObservableId id, Result<LocalDateDoubleTimeSeries> result) {
+    ArgChecker.notNull(id, "id");
+    ArgChecker.notNull(result, "result");
+
+    if (result.isSuccess()) {
+      timeSeries.put(id, result.getValue());
+      timeSeriesFailures.remove(id);
+    } else {
+      timeSeriesFailures.put(id, result.getFailure());
+      timeSeries.remove(id);
+    }
+    return this;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns the number of scenarios of the data added so far.
+   *
+   * @return the number of scenarios
+   * @throws IllegalArgumentException if the values have different numbers of scenarios
+   */
+  int scenarioCount() {
+    return scenarioCount(scenarioCount(0, valuationDate), values.values());
+  }
+
+  /**
+   * Returns a live view of the data in this builder.
+   * <p>
+   * The view sees data added after it is created. The scenario count of the view is fixed when it is
+   * created, combining the specified base count with the scenario counts of the specified inputs.
+   * This ensures the scenario count seen by a market data function depends only on its inputs and
+   * not on the order in which unrelated data happens to be built.
+   *
+   * @param baseScenarioCount  the scenario count of the data that was available before any data was built
+   * @param inputIds  the IDs of the inputs of the market data that will be built using the view
+   * @return a view of the data in this builder
+   */
+  ScenarioMarketData view(int baseScenarioCount, Collection<? extends MarketDataId<?>> inputIds) {
+    int scenarioCount = scenarioCount(
+        baseScenarioCount,
+        inputIds.stream().map(values::get).filter(box -> box != null).collect(toImmutableList()));
+    return new View(scenarioCount);
+  }
+
+  /**
+   * Builds a set of market data from the data in this builder.
+   * <p>
+   * This must not be called while data is still being added.
+   *
+   * @return a set of market data from the data in this builder
+   */
+  BuiltScenarioMarketData build() {
+    BuiltScenarioMarketDataBuilder builder = new BuiltScenarioMarketDataBuilder(
+        valuationDate,
+        scenarioCount(),
+        values,
+        timeSeries,
+        valueFailures,
+        timeSeriesFailures);
+    return builder.build();
+  }
+
+  //-------------------------------------------------------------------------
+  // combines the scenario count with the scenario counts of the boxes
+  private static int scenarioCount(int scenarioCount, Collection<? extends MarketDataBox<?>> boxes) {
+    int count = scenarioCount;
+    for (MarketDataBox<?> box : boxes) {
+      count = scenarioCount(count, box);
+    }
+    return count;
+  }
+
+  // combines the scenario count with the scenario count of the box
+  // a box with a single value can be used with any number of scenarios
+  private static int scenarioCount(int scenarioCount, MarketDataBox<?> box) {
+    if (box.isSingleValue()) {
+      return scenarioCount == 0 ? 1 : scenarioCount;
+    }
+    int boxScenarioCount = box.getScenarioCount();
+    if (scenarioCount == 0 || scenarioCount == 1) {
+      return boxScenarioCount;
+    }
+    if (boxScenarioCount != scenarioCount) {
+      throw new IllegalArgumentException(Messages.format(
+          "All values must have the same number of scenarios, expecting {} but received {}",
+          scenarioCount,
+          boxScenarioCount));
+    }
+    return scenarioCount;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * A live view of the data in the builder.
+   * <p>
+   * Errors are reported in the same way as {@link BuiltScenarioMarketData}.
+   */
+  private final class View implements ScenarioMarketData {
+
+    /** The number of scenarios. */
+    private final int scenarioCount;
+
+    private View(int scenarioCount) {
+      this.scenarioCount = scenarioCount;
+    }
+
+    @Override
+    public MarketDataBox<LocalDate> getValuationDate() {
+      return valuationDate;
+    }
+
+    @Override
+    public int getScenarioCount() {
+      return scenarioCount;
+    }
+
+    @Override
+    public boolean containsValue(MarketDataId<?> id) {
+      return values.containsKey(id);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> MarketDataBox<T> getValue(MarketDataId<T> id) {
+      // a special case for FX rates containing the same currency twice
+      if (id instanceof FxRateId && ((FxRateId) id).getPair().isIdentity()) {
+        FxRateId fxRateId = (FxRateId) id;
+        FxRate identityRate = FxRate.of(fxRateId.getPair(), 1);
+        return MarketDataBox.ofSingleValue((T) identityRate);
+      }
+      // find the data and check it against the failures
+      Optional<MarketDataBox<T>> opt = findValue(id);
+      if (!opt.isPresent()) {
+        Failure failure = valueFailures.get(id);
+        if (failure != null) {
+          throw new FailureException(failure);
+        }
+        throw new MarketDataNotFoundException(Messages.format(
+            "Market data not found for identifier '{}' of type '{}'", id, id.getClass().getSimpleName()));
+      }
+      return opt.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Optional<MarketDataBox<T>> findValue(MarketDataId<T> id) {
+      // type checked when the value was added
+      return Optional.ofNullable((MarketDataBox<T>) values.get(id));
+    }
+
+    @Override
+    public Set<MarketDataId<?>> getIds() {
+      return ImmutableSet.copyOf(values.keySet());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Set<MarketDataId<T>> findIds(MarketDataName<T> name) {
+      return values.keySet().stream()
+          .filter(id -> id instanceof NamedMarketDataId)
+          .filter(id -> ((NamedMarketDataId<?>) id).getMarketDataName().equals(name))
+          .map(id -> (MarketDataId<T>) id)
+          .collect(toImmutableSet());
+    }
+
+    @Override
+    public Set<ObservableId> getTimeSeriesIds() {
+      return ImmutableSet.copyOf(timeSeries.keySet());
+    }
+
+    @Override
+    public LocalDateDoubleTimeSeries getTimeSeries(ObservableId id) {
+      LocalDateDoubleTimeSeries found = timeSeries.get(id);
+      return found == null ? LocalDateDoubleTimeSeries.empty() : found;
+    }
+  }
+
+}
@@ -9,16 +9,24 @@ import static com.opengamma.strata.collect.Guavate.not;
 import static com.opengamma.strata.collect.Guavate.toImmutableMap;
 import static com.opengamma.strata.collect.Guavate.toImmutableSet;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.collect.MapStream;
 import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.MarketDataId;
@@ -30,6 +38,11 @@ import com.opengamma.strata.data.scenario.ScenarioMarketData;
  * The default market data factory.
  * <p>
  * This uses two providers, one for observable data and one for time-series.
+ * <p>
+ * By default, market data is built level by level, starting with the leaves of the dependency tree.
+ * If an executor is specified, the dependency tree is instead treated as a graph of tasks.
+ * Each item of market data is built on the executor as soon as its own inputs are available,
+ * so that independent items, such as unrelated curve groups and surfaces, are built concurrently.
  */
 final class DefaultMarketDataFactory implements MarketDataFactory {
 
@@ -42,6 +55,9 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
   /** Market data functions, keyed by the type of the market data ID they can handle. */
   private final Map<Class<? extends MarketDataId<?>>, MarketDataFunction<?, ?>> functions;
 
+  /** The executor used to build market data concurrently, null if market data is built level by level. */
+  private final Executor executor;
+
   //-------------------------------------------------------------------------
   /**
    * Creates an instance of the factory based on providers of market data and time-series.
@@ -52,10 +68,31 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
    * @param timeSeriesProvider  the provider time-series
    * @param functions  the functions that create the market data
    */
+  DefaultMarketDataFactory(
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      List<MarketDataFunction<?, ?>> functions) {
+
+    this(observableDataProvider, timeSeriesProvider, null, functions);
+  }
+
+  /**
+   * Creates an instance of the factory that builds market data concurrently.
+   * <p>
+   * The market data functions are used to build the market data.
+   * Each function is invoked on the executor as soon as the market data it depends on has been built.
+   * If the executor is null, market data is built level by level in the calling thread.
+   *
+   * @param observableDataProvider  the provider observable market data
+   * @param timeSeriesProvider  the provider time-series
+   * @param executor  the executor used to build market data, may be null
+   * @param functions  the functions that create the market data
+   */
   @SuppressWarnings("unchecked")
   DefaultMarketDataFactory(
       ObservableDataProvider observableDataProvider,
       TimeSeriesProvider timeSeriesProvider,
+      Executor executor,
       List<MarketDataFunction<?, ?>> functions) {
 
     this.observableDataProvider = observableDataProvider;
@@ -67,6 +104,7 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
 
     functions.stream().forEach(builder -> builderMap.put(builder.getMarketDataIdType(), builder));
     this.functions = ImmutableMap.copyOf(builderMap);
+    this.executor = executor;
   }
 
   //-------------------------------------------------------------------------
@@ -102,6 +140,9 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
       ReferenceData refData,
       ScenarioDefinition scenarioDefinition) {
 
+    if (executor != null) {
+      return createMultiScenarioConcurrently(requirements, marketDataConfig, suppliedData, refData, scenarioDefinition);
+    }
     BuiltScenarioMarketDataBuilder dataBuilder = BuiltScenarioMarketData.builder(suppliedData.getValuationDate());
     BuiltScenarioMarketData builtData = dataBuilder.build();
 
@@ -201,6 +242,87 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
     return builtData;
   }
 
+  //-------------------------------------------------------------------------
+  // builds the market data as a graph of tasks, starting each build as soon as its inputs are available
+  private BuiltScenarioMarketData createMultiScenarioConcurrently(
+      MarketDataRequirements requirements,
+      MarketDataConfig marketDataConfig,
+      ScenarioMarketData suppliedData,
+      ReferenceData refData,
+      ScenarioDefinition scenarioDefinition) {
+
+    ConcurrentScenarioMarketDataBuilder dataBuilder =
+        new ConcurrentScenarioMarketDataBuilder(suppliedData.getValuationDate());
+    MarketDataNode root = MarketDataNode.buildDependencyTree(requirements, suppliedData, marketDataConfig, functions);
+
+    // The same market data can appear many times in the tree, for example a curve group used by several curves
+    Map<Pair<MarketDataId<?>, MarketDataNode.DataType>, MarketDataNode> nodes = new LinkedHashMap<>();
+    collectNodes(root, nodes);
+
+    // Time series, observable data and supplied data have no dependencies --------------------------
+
+    Set<ObservableId> observableIds = new LinkedHashSet<>();
+    for (MarketDataNode node : nodes.values()) {
+      MarketDataId<?> id = node.getId();
+      if (node.getDataType() == MarketDataNode.DataType.TIME_SERIES) {
+        ObservableId observableId = (ObservableId) id;
+        LocalDateDoubleTimeSeries suppliedTimeSeries = suppliedData.getTimeSeries(observableId);
+        if (suppliedTimeSeries.isEmpty()) {
+          dataBuilder.addTimeSeriesResult(observableId, timeSeriesProvider.provideTimeSeries(observableId));
+        } else {
+          dataBuilder.addTimeSeries(observableId, suppliedTimeSeries);
+        }
+      } else if (suppliedData.containsValue(id)) {
+        dataBuilder.addResult(id, perturbedValue(id, suppliedData.getValue(id), refData, scenarioDefinition));
+      } else if (id instanceof ObservableId) {
+        observableIds.add((ObservableId) id);
+      }
+    }
+    // Observable data is built in bulk so it can be efficiently requested from data provider in one operation
+    if (!observableIds.isEmpty()) {
+      Map<ObservableId, Result<Double>> observableResults = observableDataProvider.provideObservableData(observableIds);
+      MapStream.of(observableResults)
+          .mapValues((id, res) -> perturbedObservableResult(id, res, refData, scenarioDefinition))
+          .forEach(dataBuilder::addResult);
+    }
+
+    // Non-observable data ---------------------------------------------------------------------------
+
+    ConcurrentBuild build = new ConcurrentBuild(marketDataConfig, suppliedData, refData, scenarioDefinition, dataBuilder);
+    for (MarketDataNode node : nodes.values()) {
+      if (isBuilt(node, suppliedData)) {
+        build.task(node);
+      }
+    }
+    // wait for all tasks, so that nothing is still being built if one fails
+    try {
+      CompletableFuture.allOf(build.tasks.values().toArray(new CompletableFuture<?>[0])).join();
+    } catch (CompletionException ex) {
+      Throwables.throwIfUnchecked(ex.getCause());
+      throw ex;
+    }
+    return dataBuilder.build();
+  }
+
+  // collects the nodes in the tree below the specified node, ignoring duplicates
+  private static void collectNodes(
+      MarketDataNode node,
+      Map<Pair<MarketDataId<?>, MarketDataNode.DataType>, MarketDataNode> nodes) {
+
+    for (MarketDataNode child : node.getDependencies()) {
+      if (nodes.putIfAbsent(Pair.of(child.getId(), child.getDataType()), child) == null) {
+        collectNodes(child, nodes);
+      }
+    }
+  }
+
+  // checks if the node represents non-observable data that must be built by a market data function
+  private static boolean isBuilt(MarketDataNode node, ScenarioMarketData suppliedData) {
+    return node.getDataType() == MarketDataNode.DataType.SINGLE_VALUE &&
+        !(node.getId() instanceof ObservableId) &&
+        !suppliedData.containsValue(node.getId());
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Builds items of non-observable market data using a market data function.
@@ -215,7 +337,7 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
   private Result<MarketDataBox<?>> buildNonObservableData(
       MarketDataId id,
       MarketDataConfig marketDataConfig,
-      BuiltScenarioMarketData suppliedData,
+      ScenarioMarketData suppliedData,
       ReferenceData refData) {
 
     // The raw types in this method are an unfortunate necessity. The type parameters on MarketDataBuilder
@@ -265,11 +387,7 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
       ScenarioDefinition scenarioDefinition,
       BuiltScenarioMarketDataBuilder builder) {
 
-    if (valueResult.isFailure()) {
-      builder.addResult(id, valueResult);
-    } else {
-      addValue(id, valueResult.getValue(), refData, scenarioDefinition, builder);
-    }
+    builder.addResult(id, perturbedResult(id, valueResult, refData, scenarioDefinition));
   }
 
   /**
@@ -292,11 +410,7 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
       ScenarioDefinition scenarioDefinition,
       BuiltScenarioMarketDataBuilder builder) {
 
-    if (valueResult.isFailure()) {
-      builder.addResult(id, Result.failure(valueResult));
-    } else {
-      addValue(id, MarketDataBox.ofSingleValue(valueResult.getValue()), refData, scenarioDefinition, builder);
-    }
+    builder.addResult(id, perturbedObservableResult(id, valueResult, refData, scenarioDefinition));
   }
 
   /**
@@ -310,7 +424,6 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
    * @param scenarioDefinition  definition of a set of scenarios
    * @param builder  the market data is added to this builder
    */
-  @SuppressWarnings("unchecked")
   private void addValue(
       MarketDataId<?> id,
       MarketDataBox<?> value,
@@ -318,6 +431,43 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
       ScenarioDefinition scenarioDefinition,
       BuiltScenarioMarketDataBuilder builder) {
 
+    builder.addResult(id, perturbedValue(id, value, refData, scenarioDefinition));
+  }
+
+  // applies the scenario definition to the result, if it is a success
+  private Result<MarketDataBox<?>> perturbedResult(
+      MarketDataId<?> id,
+      Result<MarketDataBox<?>> valueResult,
+      ReferenceData refData,
+      ScenarioDefinition scenarioDefinition) {
+
+    if (valueResult.isFailure()) {
+      return valueResult;
+    }
+    return perturbedValue(id, valueResult.getValue(), refData, scenarioDefinition);
+  }
+
+  // applies the scenario definition to the observable result, if it is a success
+  private Result<MarketDataBox<?>> perturbedObservableResult(
+      ObservableId id,
+      Result<Double> valueResult,
+      ReferenceData refData,
+      ScenarioDefinition scenarioDefinition) {
+
+    if (valueResult.isFailure()) {
+      return Result.failure(valueResult);
+    }
+    return perturbedValue(id, MarketDataBox.ofSingleValue(valueResult.getValue()), refData, scenarioDefinition);
+  }
+
+  // applies the first matching perturbation mapping in the scenario definition to the value
+  @SuppressWarnings("unchecked")
+  private Result<MarketDataBox<?>> perturbedValue(
+      MarketDataId<?> id,
+      MarketDataBox<?> value,
+      ReferenceData refData,
+      ScenarioDefinition scenarioDefinition) {
+
     Optional<PerturbationMapping<?>> optionalMapping = scenarioDefinition.getMappings().stream()
         .filter(m -> m.matches(id, value, refData))
         .findFirst();
@@ -328,10 +478,77 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
       PerturbationMapping<Object> mapping = (PerturbationMapping<Object>) optionalMapping.get();
       MarketDataBox<Object> objectValue = ((MarketDataBox<Object>) value);
       // Result.of() catches any exceptions thrown by the mapping and wraps them in a failure
-      Result<MarketDataBox<?>> result = Result.of(() -> mapping.applyPerturbation(objectValue, refData));
-      builder.addResult(id, result);
-    } else {
-      builder.addBox(id, value);
+      return Result.of(() -> mapping.applyPerturbation(objectValue, refData));
+    }
+    return Result.success(value);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The state of a single concurrent build of market data.
+   * <p>
+   * Each item of non-observable market data is built by a task, run on the executor once the tasks
+   * building its inputs have completed. The tasks are created in the calling thread.
+   */
+  private final class ConcurrentBuild {
+
+    /** The configuration specifying how the market data should be built. */
+    private final MarketDataConfig marketDataConfig;
+    /** The market data supplied by the user. */
+    private final ScenarioMarketData suppliedData;
+    /** The reference data. */
+    private final ReferenceData refData;
+    /** The definition of the scenarios. */
+    private final ScenarioDefinition scenarioDefinition;
+    /** The builder to which the market data is added. */
+    private final ConcurrentScenarioMarketDataBuilder dataBuilder;
+    /** The scenario count of the data available before anything is built. */
+    private final int baseScenarioCount;
+    /** The tasks building the market data, keyed by ID. */
+    private final Map<MarketDataId<?>, CompletableFuture<Void>> tasks = new HashMap<>();
+
+    private ConcurrentBuild(
+        MarketDataConfig marketDataConfig,
+        ScenarioMarketData suppliedData,
+        ReferenceData refData,
+        ScenarioDefinition scenarioDefinition,
+        ConcurrentScenarioMarketDataBuilder dataBuilder) {
+
+      this.marketDataConfig = marketDataConfig;
+      this.suppliedData = suppliedData;
+      this.refData = refData;
+      this.scenarioDefinition = scenarioDefinition;
+      this.dataBuilder = dataBuilder;
+      // the scenario count seen by each function is based on this and the data the function depends on
+      this.baseScenarioCount = dataBuilder.scenarioCount();
+    }
+
+    // returns the task that builds the data of the node, creating it and the tasks of its inputs if necessary
+    private CompletableFuture<Void> task(MarketDataNode node) {
+      MarketDataId<?> id = node.getId();
+      CompletableFuture<Void> existing = tasks.get(id);
+      if (existing != null) {
+        return existing;
+      }
+      List<MarketDataId<?>> inputIds = new ArrayList<>();
+      List<CompletableFuture<Void>> inputTasks = new ArrayList<>();
+      for (MarketDataNode child : node.getDependencies()) {
+        inputIds.add(child.getId());
+        if (isBuilt(child, suppliedData)) {
+          inputTasks.add(task(child));
+        }
+      }
+      CompletableFuture<Void> task = CompletableFuture.allOf(inputTasks.toArray(new CompletableFuture<?>[0]))
+          .thenRunAsync(() -> build(id, inputIds), executor);
+      tasks.put(id, task);
+      return task;
+    }
+
+    // builds the market data, invoked once its inputs are available
+    private void build(MarketDataId<?> id, List<MarketDataId<?>> inputIds) {
+      ScenarioMarketData marketData = dataBuilder.view(baseScenarioCount, inputIds);
+      Result<MarketDataBox<?>> result = buildNonObservableData(id, marketDataConfig, marketData, refData);
+      dataBuilder.addResult(id, perturbedResult(id, result, refData, scenarioDefinition));
     }
   }
 
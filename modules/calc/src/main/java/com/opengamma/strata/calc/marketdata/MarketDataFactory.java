@@ -6,10 +6,12 @@
 package com.opengamma.strata.calc.marketdata;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.calc.runner.CalculationTasks;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 
@@ -74,6 +76,30 @@ public interface MarketDataFactory {
     return new DefaultMarketDataFactory(observableDataProvider, timeSeriesProvider, functions);
   }
 
+  /**
+   * Obtains an instance of the factory that builds market data concurrently.
+   * <p>
+   * The market data functions are used to build the market data.
+   * Each item of market data is built on the executor as soon as the market data it depends on
+   * is available, allowing independent items, such as unrelated curve groups, to be built concurrently.
+   * The functions must not block waiting for other tasks submitted to the same bounded executor.
+   *
+   * @param observableDataProvider  the provider of observable market data
+   * @param timeSeriesProvider  the provider of time-series
+   * @param executor  the executor used to build the market data
+   * @param functions  the functions that create the market data
+   * @return the market data factory
+   */
+  public static MarketDataFactory of(
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      Executor executor,
+      List<MarketDataFunction<?, ?>> functions) {
+
+    ArgChecker.notNull(executor, "executor");
+    return new DefaultMarketDataFactory(observableDataProvider, timeSeriesProvider, executor, functions);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Builds a set of market data.
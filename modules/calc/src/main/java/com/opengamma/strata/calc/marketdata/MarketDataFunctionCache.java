@@ -0,0 +1,572 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.marketdata;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableSortedMap;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.function.BiPredicate;
+import java.util.logging.Logger;
+
+import org.joda.beans.Bean;
+import org.joda.beans.ser.JodaBeanSer;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.Version;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * A cache of market data built by market data functions, reused between runs.
+ * <p>
+ * Building some market data, such as calibrating curve groups, credit curves or volatility surfaces,
+ * is expensive. When market data is built repeatedly from identical inputs, such as when reports are
+ * rerun or what-if calculations leave the curves unchanged, this cache allows the built data to be reused.
+ * <p>
+ * The cache is opt-in, and applies to the functions wrapped using {@link #cached(MarketDataFunction)}
+ * or {@link #cached(MarketDataFunction, String)}. The wrapped functions are then passed to
+ * {@link MarketDataFactory} in place of the originals.
+ * Only expensive functions should be wrapped, as computing the key requires the inputs to be serialized.
+ * <p>
+ * Entries are keyed by a SHA-256 hash of the content of the inputs to the function. This consists of
+ * the cache format version, the Strata version, the configuration of the function, the market data ID,
+ * the {@link MarketDataConfig}, the {@link ReferenceData}, the valuation date, the number of scenarios
+ * and the market data values and time-series required by the function.
+ * Joda-Beans are hashed using their binary serialized form, and other objects using Java serialization.
+ * The market data configuration is hashed entry by entry, sorted by type and name, as the order
+ * of its maps depends on how it was populated.
+ * If any input cannot be serialized, the function is invoked directly.
+ * <p>
+ * The configuration of the function is the serialized form of the function instance, thus the function
+ * must be a Joda-Bean or serializable. Functions that are neither, such as those holding a calibrator,
+ * must be wrapped with an explicit key that identifies their configuration.
+ * <p>
+ * Entries are held in memory, bounded by a maximum size with the least recently used entries discarded.
+ * If a directory is specified, entries are also written to disk using Joda-Beans binary serialization,
+ * allowing them to be found by later runs in other processes.
+ * Entries that cannot be serialized are only held in memory.
+ * <p>
+ * Only successfully built market data is cached. This class is thread-safe.
+ */
+public final class MarketDataFunctionCache {
+
+  /**
+   * The logger.
+   */
+  private static final Logger log = Logger.getLogger(MarketDataFunctionCache.class.getName());
+  /**
+   * The suffix of the files on disk.
+   */
+  private static final String FILE_SUFFIX = ".bin";
+  /**
+   * The version of the key and on-disk format, changed when either changes to invalidate existing entries.
+   */
+  private static final int FORMAT_VERSION = 1;
+
+  /**
+   * The in-memory cache, keyed by the hash of the inputs.
+   */
+  private final Cache<HashCode, MarketDataBox<?>> cache;
+  /**
+   * The hashes of the market data configuration, keyed by the identity of the configuration.
+   */
+  private final Cache<MarketDataConfig, HashCode> configHashes = CacheBuilder.newBuilder().weakKeys().build();
+  /**
+   * The hashes of the reference data, keyed by the identity of the reference data.
+   */
+  private final Cache<ReferenceData, HashCode> refDataHashes = CacheBuilder.newBuilder().weakKeys().build();
+  /**
+   * The directory holding the on-disk entries, null if there is no on-disk tier.
+   */
+  private final Path directory;
+  /**
+   * The number of times market data was found in memory.
+   */
+  private final LongAdder hitCount = new LongAdder();
+  /**
+   * The number of times market data was found on disk.
+   */
+  private final LongAdder diskHitCount = new LongAdder();
+  /**
+   * The number of times market data had to be built.
+   */
+  private final LongAdder missCount = new LongAdder();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance that holds entries in memory.
+   *
+   * @param maximumSize  the maximum number of entries held in memory
+   * @return the cache
+   */
+  public static MarketDataFunctionCache of(long maximumSize) {
+    ArgChecker.notNegativeOrZero(maximumSize, "maximumSize");
+    return new MarketDataFunctionCache(maximumSize, null);
+  }
+
+  /**
+   * Obtains an instance that holds entries in memory and on disk.
+   * <p>
+   * The directory is created if it does not exist.
+   *
+   * @param maximumSize  the maximum number of entries held in memory
+   * @param directory  the directory holding the on-disk entries
+   * @return the cache
+   * @throws UncheckedIOException if the directory cannot be created
+   */
+  public static MarketDataFunctionCache of(long maximumSize, Path directory) {
+    ArgChecker.notNegativeOrZero(maximumSize, "maximumSize");
+    ArgChecker.notNull(directory, "directory");
+    try {
+      Files.createDirectories(directory);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    return new MarketDataFunctionCache(maximumSize, directory);
+  }
+
+  // restricted constructor
+  private MarketDataFunctionCache(long maximumSize, Path directory) {
+    this.cache = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+    this.directory = directory;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a market data function that uses this cache.
+   * <p>
+   * The returned function finds the built market data in the cache if available.
+   * Otherwise, it delegates to the specified function and adds the result to the cache.
+   * <p>
+   * The configuration of the function is identified by its serialized form, thus functions with
+   * different configuration do not share entries. The function must be a Joda-Bean or serializable.
+   *
+   * @param <T>  the type of the market data built by the function
+   * @param <I>  the type of the market data ID handled by the function
+   * @param function  the function to wrap
+   * @return the function that uses this cache
+   * @throws IllegalArgumentException if the function cannot be serialized
+   */
+  public <T, I extends MarketDataId<? extends T>> MarketDataFunction<T, I> cached(MarketDataFunction<T, I> function) {
+    ArgChecker.notNull(function, "function");
+    Hasher hasher = Hashing.sha256().newHasher();
+    hasher.putUnencodedChars(function.getClass().getName());
+    if (!put(hasher, function)) {
+      throw new IllegalArgumentException(Messages.format(
+          "Market data function '{}' cannot be serialized, a key identifying its configuration must be specified",
+          function.getClass().getName()));
+    }
+    return new CachingFunction<>(function, hasher.hash());
+  }
+
+  /**
+   * Returns a market data function that uses this cache, identifying the configuration of the function by a key.
+   * <p>
+   * The returned function finds the built market data in the cache if available.
+   * Otherwise, it delegates to the specified function and adds the result to the cache.
+   * <p>
+   * The key identifies the configuration of the function, such as the calibrator used to build curves.
+   * It must be changed whenever the function is configured differently, as functions of the same type
+   * with the same key share entries, including those written to disk by earlier runs.
+   *
+   * @param <T>  the type of the market data built by the function
+   * @param <I>  the type of the market data ID handled by the function
+   * @param function  the function to wrap
+   * @param functionKey  the key identifying the configuration of the function
+   * @return the function that uses this cache
+   */
+  public <T, I extends MarketDataId<? extends T>> MarketDataFunction<T, I> cached(
+      MarketDataFunction<T, I> function,
+      String functionKey) {
+
+    ArgChecker.notNull(function, "function");
+    ArgChecker.notNull(functionKey, "functionKey");
+    Hasher hasher = Hashing.sha256().newHasher();
+    hasher.putUnencodedChars(function.getClass().getName());
+    putString(hasher, functionKey);
+    return new CachingFunction<>(function, hasher.hash());
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of entries held in memory.
+   *
+   * @return the approximate number of entries
+   */
+  public long getEntryCount() {
+    return cache.size();
+  }
+
+  /**
+   * Gets the number of times market data was found in memory.
+   *
+   * @return the hit count
+   */
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * Gets the number of times market data was found on disk but not in memory.
+   *
+   * @return the disk hit count
+   */
+  public long getDiskHitCount() {
+    return diskHitCount.sum();
+  }
+
+  /**
+   * Gets the number of times market data had to be built because it was not in the cache.
+   *
+   * @return the miss count
+   */
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * Discards all entries, deleting those held on disk.
+   *
+   * @throws UncheckedIOException if the entries on disk cannot be deleted
+   */
+  public void clear() {
+    cache.invalidateAll();
+    if (directory == null) {
+      return;
+    }
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + FILE_SUFFIX)) {
+      for (Path file : files) {
+        Files.deleteIfExists(file);
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // finds the built data, or builds it and adds it to the cache
+  @SuppressWarnings("unchecked")
+  private <T, I extends MarketDataId<? extends T>> MarketDataBox<T> build(
+      MarketDataFunction<T, I> function,
+      HashCode functionHash,
+      I id,
+      MarketDataConfig marketDataConfig,
+      ScenarioMarketData marketData,
+      ReferenceData refData) {
+
+    Optional<HashCode> key = key(function, functionHash, id, marketDataConfig, marketData, refData);
+    if (!key.isPresent()) {
+      return function.build(id, marketDataConfig, marketData, refData);
+    }
+    Optional<MarketDataBox<?>> cached = find(key.get(), id);
+    if (cached.isPresent()) {
+      return (MarketDataBox<T>) cached.get();
+    }
+    missCount.increment();
+    MarketDataBox<T> built = function.build(id, marketDataConfig, marketData, refData);
+    cache.put(key.get(), built);
+    write(key.get(), built);
+    return built;
+  }
+
+  // finds the data in memory or on disk, checking it is of the expected type
+  private Optional<MarketDataBox<?>> find(HashCode key, MarketDataId<?> id) {
+    MarketDataBox<?> box = cache.getIfPresent(key);
+    if (box != null) {
+      hitCount.increment();
+    } else {
+      box = read(key).orElse(null);
+      if (box == null) {
+        return Optional.empty();
+      }
+      diskHitCount.increment();
+      cache.put(key, box);
+    }
+    if (!id.getMarketDataType().isAssignableFrom(box.getMarketDataType())) {
+      // only possible if the hash collides
+      return Optional.empty();
+    }
+    return Optional.of(box);
+  }
+
+  //-------------------------------------------------------------------------
+  // reads an entry from disk
+  private Optional<MarketDataBox<?>> read(HashCode key) {
+    if (directory == null) {
+      return Optional.empty();
+    }
+    Path file = directory.resolve(key + FILE_SUFFIX);
+    if (!Files.isRegularFile(file)) {
+      return Optional.empty();
+    }
+    try {
+      byte[] bytes = Files.readAllBytes(file);
+      return Optional.of(JodaBeanSer.COMPACT.binReader().read(bytes, MarketDataBox.class));
+    } catch (IOException | RuntimeException ex) {
+      log.log(Level.WARNING, Messages.format("Unable to read cached market data from {}", file), ex);
+      return Optional.empty();
+    }
+  }
+
+  // writes an entry to disk, writing to a temporary file first so a partial file is never read
+  private void write(HashCode key, MarketDataBox<?> box) {
+    if (directory == null || !(box instanceof Bean)) {
+      return;
+    }
+    Path file = directory.resolve(key + FILE_SUFFIX);
+    try {
+      byte[] bytes = JodaBeanSer.COMPACT.binWriter().write((Bean) box);
+      Path temp = Files.createTempFile(directory, key.toString(), ".tmp");
+      Files.write(temp, bytes);
+      try {
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException ex) {
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (IOException | RuntimeException ex) {
+      log.log(Level.WARNING, Messages.format("Unable to write cached market data to {}", file), ex);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // computes the key, empty if an input cannot be serialized or is not available
+  private Optional<HashCode> key(
+      MarketDataFunction<?, ?> function,
+      HashCode functionHash,
+      MarketDataId<?> id,
+      MarketDataConfig marketDataConfig,
+      ScenarioMarketData marketData,
+      ReferenceData refData) {
+
+    MarketDataRequirements requirements;
+    try {
+      requirements = requirements(function, id, marketDataConfig);
+    } catch (RuntimeException ex) {
+      // the failure will be reported when the function builds the data
+      return Optional.empty();
+    }
+    Optional<HashCode> configHash = hash(configHashes, marketDataConfig, MarketDataFunctionCache::putConfig);
+    Optional<HashCode> refDataHash = hash(refDataHashes, refData, MarketDataFunctionCache::put);
+    if (!configHash.isPresent() || !refDataHash.isPresent()) {
+      return Optional.empty();
+    }
+    Hasher hasher = Hashing.sha256().newHasher();
+    hasher.putInt(FORMAT_VERSION);
+    hasher.putUnencodedChars(Version.getVersionString());
+    hasher.putBytes(functionHash.asBytes());
+    hasher.putBytes(configHash.get().asBytes());
+    hasher.putBytes(refDataHash.get().asBytes());
+    hasher.putInt(marketData.getScenarioCount());
+    boolean serialized = put(hasher, id) && put(hasher, marketData.getValuationDate());
+    for (MarketDataId<?> inputId : requirements.getNonObservables()) {
+      serialized = serialized && putValue(hasher, inputId, marketData);
+    }
+    for (MarketDataId<?> inputId : requirements.getObservables()) {
+      serialized = serialized && putValue(hasher, inputId, marketData);
+    }
+    for (ObservableId inputId : requirements.getTimeSeries()) {
+      LocalDateDoubleTimeSeries timeSeries = marketData.getTimeSeries(inputId);
+      serialized = serialized && put(hasher, inputId) && put(hasher, timeSeries);
+    }
+    return serialized ? Optional.of(hasher.hash()) : Optional.empty();
+  }
+
+  // obtains the requirements of the function
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static MarketDataRequirements requirements(
+      MarketDataFunction<?, ?> function,
+      MarketDataId<?> id,
+      MarketDataConfig marketDataConfig) {
+
+    return ((MarketDataFunction) function).requirements(id, marketDataConfig);
+  }
+
+  // hashes the configuration or reference data, which is typically the same instance for every call
+  private static <K> Optional<HashCode> hash(
+      Cache<K, HashCode> hashes,
+      K obj,
+      BiPredicate<Hasher, ? super K> putter) {
+
+    try {
+      return Optional.of(hashes.get(obj, () -> {
+        Hasher hasher = Hashing.sha256().newHasher();
+        if (!putter.test(hasher, obj)) {
+          throw new IllegalArgumentException("Unable to serialize " + obj.getClass().getName());
+        }
+        return hasher.hash();
+      }));
+    } catch (ExecutionException | RuntimeException ex) {
+      return Optional.empty();
+    }
+  }
+
+  // adds the configuration to the hash, false if it cannot be serialized
+  // the maps are copied from hash maps keyed by class, whose order varies between runs, so the entries are sorted
+  private static boolean putConfig(Hasher hasher, MarketDataConfig marketDataConfig) {
+    Map<Class<?>, SingleTypeMarketDataConfig> configs = MarketDataConfig.meta().configs().get(marketDataConfig);
+    Map<Class<?>, Object> defaultConfigs = MarketDataConfig.meta().defaultConfigs().get(marketDataConfig);
+    boolean serialized = true;
+    hasher.putInt(configs.size());
+    for (SingleTypeMarketDataConfig typeConfigs : sortedByClassName(configs).values()) {
+      ImmutableSortedMap<String, Object> configObjects = ImmutableSortedMap.copyOf(typeConfigs.getConfigObjects());
+      putString(hasher, typeConfigs.getConfigType().getName());
+      hasher.putInt(configObjects.size());
+      for (Entry<String, Object> entry : configObjects.entrySet()) {
+        putString(hasher, entry.getKey());
+        serialized = serialized && put(hasher, entry.getValue());
+      }
+    }
+    hasher.putInt(defaultConfigs.size());
+    for (Entry<String, Object> entry : sortedByClassName(defaultConfigs).entrySet()) {
+      putString(hasher, entry.getKey());
+      serialized = serialized && put(hasher, entry.getValue());
+    }
+    return serialized;
+  }
+
+  // copies the map, keyed and sorted by class name
+  private static <V> ImmutableSortedMap<String, V> sortedByClassName(Map<Class<?>, V> map) {
+    return map.entrySet().stream()
+        .collect(toImmutableSortedMap(entry -> entry.getKey().getName(), entry -> entry.getValue()));
+  }
+
+  // adds the string to the hash, prefixed by its length so that adjacent strings cannot run together
+  private static void putString(Hasher hasher, String str) {
+    hasher.putInt(str.length());
+    hasher.putUnencodedChars(str);
+  }
+
+  // adds the ID and value to the hash, false if the value is not available or cannot be serialized
+  private static boolean putValue(Hasher hasher, MarketDataId<?> id, ScenarioMarketData marketData) {
+    Optional<? extends MarketDataBox<?>> box = marketData.findValue(id);
+    return box.isPresent() && put(hasher, id) && put(hasher, box.get());
+  }
+
+  // adds the serialized form of the object to the hash, false if it cannot be serialized
+  private static boolean put(Hasher hasher, Object obj) {
+    try {
+      byte[] bytes;
+      if (obj instanceof Bean) {
+        bytes = beanSerialized((Bean) obj);
+      } else if (obj instanceof Serializable) {
+        bytes = javaSerializedHash(obj);
+      } else {
+        return false;
+      }
+      hasher.putInt(bytes.length);
+      hasher.putBytes(bytes);
+      return true;
+    } catch (IOException | RuntimeException ex) {
+      return false;
+    }
+  }
+
+  // the Joda-Beans serialized form of the bean, falling back to Java serialization if it holds other objects
+  private static byte[] beanSerialized(Bean bean) throws IOException {
+    try {
+      return JodaBeanSer.COMPACT.binWriter().write(bean);
+    } catch (RuntimeException ex) {
+      if (bean instanceof Serializable) {
+        return javaSerializedHash(bean);
+      }
+      throw ex;
+    }
+  }
+
+  // hashes the Java serialized form of the object, avoiding holding the serialized form in memory
+  private static byte[] javaSerializedHash(Object obj) throws IOException {
+    Hasher hasher = Hashing.sha256().newHasher();
+    try (OutputStream out = Funnels.asOutputStream(hasher);
+        ObjectOutputStream oos = new ObjectOutputStream(out)) {
+      oos.writeObject(obj);
+    }
+    return hasher.hash().asBytes();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return Messages.format(
+        "MarketDataFunctionCache[entries={}, hits={}, diskHits={}, misses={}]",
+        cache.size(),
+        hitCount.sum(),
+        diskHitCount.sum(),
+        missCount.sum());
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * A market data function that finds the built data in the cache.
+   *
+   * @param <T>  the type of the market data built by the function
+   * @param <I>  the type of the market data ID handled by the function
+   */
+  private final class CachingFunction<T, I extends MarketDataId<? extends T>> implements MarketDataFunction<T, I> {
+
+    /** The underlying function. */
+    private final MarketDataFunction<T, I> underlying;
+    /** The hash of the configuration of the underlying function. */
+    private final HashCode functionHash;
+
+    private CachingFunction(MarketDataFunction<T, I> underlying, HashCode functionHash) {
+      this.underlying = underlying;
+      this.functionHash = functionHash;
+    }
+
+    @Override
+    public MarketDataRequirements requirements(I id, MarketDataConfig marketDataConfig) {
+      return underlying.requirements(id, marketDataConfig);
+    }
+
+    @Override
+    public MarketDataBox<T> build(
+        I id,
+        MarketDataConfig marketDataConfig,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      return MarketDataFunctionCache.this.build(underlying, functionHash, id, marketDataConfig, marketData, refData);
+    }
+
+    @Override
+    public Class<I> getMarketDataIdType() {
+      return underlying.getMarketDataIdType();
+    }
+
+    @Override
+    public String toString() {
+      return "Cached[" + underlying + "]";
+    }
+  }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * A calculation function that can calculate values for a batch of targets at once.
+ * <p>
+ * By default, each target is calculated separately by {@link #calculate}, with the function resolving
+ * the target, looking up market data and invoking the pricer for every target.
+ * Where many targets share the same market data, such as a book of vanilla swaps, this per-target
+ * overhead can be a significant part of the total cost. A function implementing this interface
+ * can instead calculate a batch of targets of the same type, sharing market data lookups and
+ * pricing the batch together.
+ * <p>
+ * Batching is opt-in. It is only used by a {@link CalculationTaskRunner} that has been configured
+ * with a batch size, such as {@link CalculationTaskRunner#of(java.util.concurrent.ExecutorService, int)}.
+ * The tasks in a batch always share the same function, parameters and measures.
+ * <p>
+ * The results of {@link #calculateBatch} must be the same as those of calling {@link #calculate}
+ * for each target separately.
+ *
+ * @param <T>  the type of target handled by this function
+ */
+public interface BatchCalculationFunction<T extends CalculationTarget>
+    extends CalculationFunction<T> {
+
+  /**
+   * Calculates values of multiple measures for a batch of targets.
+   * <p>
+   * The result is a list containing a map of results for each target, in the same order as the targets.
+   * The map for each target is as would be returned by {@link #calculate}.
+   * <p>
+   * A failure relating to a single target should be returned as a failure result for that target.
+   * If this method throws an exception, each target in the batch is calculated separately using
+   * {@link #calculate}, thus the failure is isolated to the targets it affects.
+   *
+   * @param targets  the targets for which values are calculated
+   * @param measures  the set of measures to calculate
+   * @param parameters  the parameters that affect how the calculation is performed
+   * @param marketData  the multi-scenario market data
+   * @param refData  the reference data
+   * @return the read-only map of calculated values for each target, in the order of the targets
+   * @throws RuntimeException if the batch cannot be calculated
+   */
+  public abstract List<Map<Measure, Result<?>>> calculateBatch(
+      List<? extends T> targets,
+      Set<Measure> measures,
+      CalculationParameters parameters,
+      ScenarioMarketData marketData,
+      ReferenceData refData);
+
+}
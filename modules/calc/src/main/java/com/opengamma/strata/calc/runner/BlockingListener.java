@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * Listener that decorates another listener, allowing a thread to wait until the calculations are complete.
+ * <p>
+ * This is used by the streaming methods, which block until all results have been delivered.
+ */
+final class BlockingListener implements CalculationListener {
+
+  /** The underlying listener. */
+  private final CalculationListener delegate;
+  /** The latch released when the calculations are complete. */
+  private final CountDownLatch complete = new CountDownLatch(1);
+
+  /**
+   * Creates an instance wrapping the specified listener.
+   *
+   * @param delegate  the underlying listener
+   */
+  BlockingListener(CalculationListener delegate) {
+    this.delegate = ArgChecker.notNull(delegate, "delegate");
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public void deliveryMetricsAvailable(ResultDeliveryMetrics metrics) {
+    delegate.deliveryMetricsAvailable(metrics);
+  }
+
+  @Override
+  public void calculationsStarted(List<CalculationTarget> targets, List<Column> columns) {
+    delegate.calculationsStarted(targets, columns);
+  }
+
+  @Override
+  public void resultReceived(CalculationTarget target, CalculationResult result) {
+    delegate.resultReceived(target, result);
+  }
+
+  @Override
+  public void calculationsComplete() {
+    try {
+      delegate.calculationsComplete();
+    } finally {
+      complete.countDown();
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Blocks until the calculations are complete.
+   * <p>
+   * If the thread is interrupted while this method is blocked, then a runtime exception
+   * is thrown, but with the interrupt flag set.
+   */
+  void await() {
+    try {
+      complete.await();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(ex);
+    }
+  }
+
+}
@@ -24,6 +24,19 @@ import com.opengamma.strata.calc.Column;
  */
 public interface CalculationListener {
 
+  /**
+   * Invoked with the metrics describing the delivery of results to this listener;
+   * guaranteed to be invoked before {@link #calculationsStarted(List, List)}.
+   * <p>
+   * The metrics are live, and may be retained and queried from any thread while the calculations run.
+   * This allows a listener to detect when it is slower than the calculations producing its results.
+   *
+   * @param metrics  the result delivery metrics
+   */
+  public default void deliveryMetricsAvailable(ResultDeliveryMetrics metrics) {
+    // Default implementation does nothing
+  }
+
   /**
    * Invoked when the calculations start; guaranteed to be invoked
    * before {@link #resultReceived(CalculationTarget, CalculationResult)} and
@@ -10,6 +10,7 @@ import static com.opengamma.strata.collect.Guavate.toImmutableMap;
 import static com.opengamma.strata.collect.Guavate.toImmutableSet;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +37,7 @@ import com.opengamma.strata.basics.currency.FxRate;
 import com.opengamma.strata.calc.Measure;
 import com.opengamma.strata.calc.marketdata.MarketDataRequirements;
 import com.opengamma.strata.calc.marketdata.MarketDataRequirementsBuilder;
+import com.opengamma.strata.collect.Messages;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.FxRateId;
@@ -203,15 +205,55 @@ public final class CalculationTask implements ImmutableBean {
    * @param refData  the reference data
    * @return results of the calculation, one for every scenario in the market data
    */
-  @SuppressWarnings("unchecked")
   public CalculationResults execute(ScenarioMarketData marketData, ReferenceData refData) {
     // calculate the results
     Map<Measure, Result<?>> results = calculate(marketData, refData);
+    return createResults(results, fxProvider(marketData), refData);
+  }
 
-    // get a suitable FX provider
-    ScenarioFxRateProvider fxProvider = parameters.findParameter(FxRateLookup.class)
-        .map(lookup -> LookupScenarioFxRateProvider.of(marketData, lookup))
-        .orElse(ScenarioFxRateProvider.of(marketData));
+  /**
+   * Executes a batch of tasks, performing calculations for the targets using multiple sets of market data.
+   * <p>
+   * The tasks must all have the same function, parameters and measures.
+   * If the function is a {@link BatchCalculationFunction}, it is invoked once for all the targets.
+   * If the batch calculation fails, each task is executed separately to isolate the failure.
+   *
+   * @param tasks  the tasks to execute
+   * @param marketData  the market data used in the calculation
+   * @param refData  the reference data
+   * @return results of the calculation for each task, in the order of the tasks
+   */
+  static List<CalculationResults> executeBatch(
+      List<CalculationTask> tasks,
+      ScenarioMarketData marketData,
+      ReferenceData refData) {
+
+    CalculationTask first = tasks.get(0);
+    if (tasks.size() == 1 || !(first.function instanceof BatchCalculationFunction)) {
+      return tasks.stream().map(task -> task.execute(marketData, refData)).collect(toImmutableList());
+    }
+    List<Map<Measure, Result<?>>> batchResults;
+    try {
+      batchResults = first.calculateBatch(tasks, marketData, refData);
+    } catch (RuntimeException ex) {
+      return tasks.stream().map(task -> task.execute(marketData, refData)).collect(toImmutableList());
+    }
+
+    // convert the results, using a normal loop for better stack traces
+    ScenarioFxRateProvider fxProvider = first.fxProvider(marketData);
+    ImmutableList.Builder<CalculationResults> builder = ImmutableList.builder();
+    for (int i = 0; i < tasks.size(); i++) {
+      CalculationTask task = tasks.get(i);
+      builder.add(task.createResults(task.checkMeasures(batchResults.get(i)), fxProvider, refData));
+    }
+    return builder.build();
+  }
+
+  // creates the results of the cells, converting currencies where necessary
+  private CalculationResults createResults(
+      Map<Measure, Result<?>> results,
+      ScenarioFxRateProvider fxProvider,
+      ReferenceData refData) {
 
     // convert the results, using a normal loop for better stack traces
     ImmutableList.Builder<CalculationResult> resultBuilder = ImmutableList.builder();
@@ -223,27 +265,62 @@ public final class CalculationTask implements ImmutableBean {
     return CalculationResults.of(target, resultBuilder.build());
   }
 
+  // get a suitable FX provider
+  private ScenarioFxRateProvider fxProvider(ScenarioMarketData marketData) {
+    return parameters.findParameter(FxRateLookup.class)
+        .map(lookup -> LookupScenarioFxRateProvider.of(marketData, lookup))
+        .orElse(ScenarioFxRateProvider.of(marketData));
+  }
+
   // calculates the result
   private Map<Measure, Result<?>> calculate(ScenarioMarketData marketData, ReferenceData refData) {
     try {
-      Set<Measure> requestedMeasures = getMeasures();
-      Set<Measure> supportedMeasures = function.supportedMeasures();
-      Set<Measure> measures = Sets.intersection(requestedMeasures, supportedMeasures);
+      Set<Measure> measures = Sets.intersection(getMeasures(), function.supportedMeasures());
       Map<Measure, Result<?>> map = ImmutableMap.of();
       if (!measures.isEmpty()) {
         map = function.calculate(target, measures, parameters, marketData, refData);
       }
-      // check if result does not contain all requested measures
-      if (!map.keySet().containsAll(requestedMeasures)) {
-        return handleMissing(requestedMeasures, supportedMeasures, map);
-      }
-      return map;
+      return checkMeasures(map);
 
     } catch (RuntimeException ex) {
       return handleFailure(ex);
     }
   }
 
+  // calculates the results of a batch of tasks with the same function, parameters and measures as this task
+  @SuppressWarnings("unchecked")
+  private List<Map<Measure, Result<?>>> calculateBatch(
+      List<CalculationTask> tasks,
+      ScenarioMarketData marketData,
+      ReferenceData refData) {
+
+    Set<Measure> measures = Sets.intersection(getMeasures(), function.supportedMeasures());
+    if (measures.isEmpty()) {
+      return Collections.nCopies(tasks.size(), ImmutableMap.of());
+    }
+    List<CalculationTarget> targets = tasks.stream().map(CalculationTask::getTarget).collect(toImmutableList());
+    BatchCalculationFunction<CalculationTarget> batchFunction = (BatchCalculationFunction<CalculationTarget>) function;
+    List<Map<Measure, Result<?>>> results =
+        batchFunction.calculateBatch(targets, measures, parameters, marketData, refData);
+    if (results.size() != targets.size()) {
+      throw new IllegalStateException(Messages.format(
+          "Function '{}' returned {} results for a batch of {} targets",
+          function.getClass().getSimpleName(),
+          results.size(),
+          targets.size()));
+    }
+    return results;
+  }
+
+  // check if result does not contain all requested measures
+  private Map<Measure, Result<?>> checkMeasures(Map<Measure, Result<?>> map) {
+    Set<Measure> requestedMeasures = getMeasures();
+    if (!map.keySet().containsAll(requestedMeasures)) {
+      return handleMissing(requestedMeasures, function.supportedMeasures(), map);
+    }
+    return map;
+  }
+
   // populate the result with failures
   private Map<Measure, Result<?>> handleMissing(
       Set<Measure> requestedMeasures,
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * A model of the relative cost of calculation tasks, learned from previous runs.
+ * <p>
+ * The cost of a task is estimated from the type of its {@link CalculationFunction},
+ * the number of cells it calculates and the number of scenarios.
+ * Each time a task completes, the elapsed time is recorded and blended into an
+ * exponentially weighted average of the cost per cell per scenario for that function type.
+ * <p>
+ * The estimates are used by the work-stealing task runner to submit the most expensive
+ * tasks first, so that a handful of expensive tasks do not determine the total run time.
+ * An instance can be shared between runners and reused across runs to retain what has been learned.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class CalculationTaskCostModel {
+
+  /**
+   * The default weight given to the latest observation.
+   */
+  private static final double DEFAULT_SMOOTHING = 0.2d;
+
+  /**
+   * The weight given to the latest observation.
+   */
+  private final double smoothing;
+  /**
+   * The learned cost per cell per scenario, in nanoseconds, keyed by function type.
+   */
+  private final Map<Class<?>, Double> costs = new ConcurrentHashMap<>();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an empty cost model using the default smoothing.
+   *
+   * @return the cost model
+   */
+  public static CalculationTaskCostModel create() {
+    return new CalculationTaskCostModel(DEFAULT_SMOOTHING);
+  }
+
+  /**
+   * Obtains an empty cost model specifying the smoothing.
+   * <p>
+   * The smoothing is the weight given to the latest observation when updating the average,
+   * from zero exclusive to one inclusive. A value of one only retains the latest observation.
+   *
+   * @param smoothing  the weight given to the latest observation
+   * @return the cost model
+   */
+  public static CalculationTaskCostModel of(double smoothing) {
+    ArgChecker.isTrue(
+        smoothing > 0d && smoothing <= 1d, "Smoothing must be greater than zero and at most one: {}", smoothing);
+    return new CalculationTaskCostModel(smoothing);
+  }
+
+  // restricted constructor
+  private CalculationTaskCostModel(double smoothing) {
+    this.smoothing = smoothing;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Estimates the cost of executing the task.
+   * <p>
+   * The result is in nanoseconds if the function type has been observed.
+   * Tasks for function types that have not yet been observed are given the highest known cost,
+   * ensuring that unknown work is started early.
+   *
+   * @param task  the task
+   * @param scenarioCount  the number of scenarios
+   * @return the estimated cost
+   */
+  public double estimate(CalculationTask task, int scenarioCount) {
+    Double unitCost = costs.get(task.getFunction().getClass());
+    double cost = unitCost != null ? unitCost : maxUnitCost();
+    return cost * task.getCells().size() * Math.max(scenarioCount, 1);
+  }
+
+  /**
+   * Records the observed cost of executing the task.
+   *
+   * @param task  the task
+   * @param scenarioCount  the number of scenarios that were calculated
+   * @param elapsedNanos  the elapsed time in nanoseconds
+   */
+  public void record(CalculationTask task, int scenarioCount, long elapsedNanos) {
+    double unitCost = (double) Math.max(elapsedNanos, 1) / (task.getCells().size() * Math.max(scenarioCount, 1));
+    costs.merge(task.getFunction().getClass(), unitCost, (old, latest) -> old + smoothing * (latest - old));
+  }
+
+  // the highest known cost, one if nothing is known
+  private double maxUnitCost() {
+    return costs.values().stream().mapToDouble(Double::doubleValue).max().orElse(1d);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "CalculationTaskCostModel" + costs;
+  }
+
+}
@@ -7,11 +7,13 @@ package com.opengamma.strata.calc.runner;
 
 import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.calc.CalculationRules;
 import com.opengamma.strata.calc.CalculationRunner;
 import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 
@@ -79,6 +81,91 @@ public interface CalculationTaskRunner extends AutoCloseable {
     return DefaultCalculationTaskRunner.of(executor);
   }
 
+  /**
+   * Creates a calculation task runner that calculates targets in batches, specifying the executor.
+   * <p>
+   * Tasks whose function is a {@link BatchCalculationFunction} are grouped into batches of up to
+   * the specified size, where every task in a batch has the same function, parameters and measures.
+   * Each batch is calculated by a single invocation of the function, sharing market data lookups
+   * between the targets. Other tasks are calculated individually.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param executor  the executor to use
+   * @param maxBatchSize  the maximum number of tasks in a batch, one to disable batching
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner of(ExecutorService executor, int maxBatchSize) {
+    return DefaultCalculationTaskRunner.of(executor, maxBatchSize);
+  }
+
+  /**
+   * Creates a work-stealing calculation task runner that submits the most expensive tasks first.
+   * <p>
+   * This factory creates a {@link ForkJoinPool} basing the parallelism on the number of available processors.
+   * The relative cost of each task is estimated by a {@link CalculationTaskCostModel}
+   * that learns from the tasks run by this runner.
+   * It is recommended to use try-with-resources to manage the runner:
+   * <pre>
+   *  try (CalculationTaskRunner runner = CalculationTaskRunner.ofWorkStealing()) {
+   *    // use the runner
+   *  }
+   * </pre>
+   * 
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner ofWorkStealing() {
+    return DefaultCalculationTaskRunner.ofWorkStealing();
+  }
+
+  /**
+   * Creates a work-stealing calculation task runner, specifying the pool, cost model and scenario split size.
+   * <p>
+   * Tasks are submitted in order of decreasing cost, as estimated by the cost model.
+   * The cost model learns from each task that completes, thus it may be shared between
+   * runners and runs to retain the knowledge of the relative cost of each function.
+   * <p>
+   * If the scenario split size is positive, a task with at least twice that number of scenarios
+   * is split into parts, each of which calculates a contiguous range of the scenarios.
+   * This allows a single expensive task to be spread across multiple threads.
+   * The results of the parts are merged before being passed to the listener.
+   * Splitting is only effective for functions whose results are the standard {@code ScenarioArray} types.
+   * Other results cause the task to be calculated again without being split.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the pool.
+   * 
+   * @param pool  the pool to use
+   * @param costModel  the model used to estimate the cost of each task
+   * @param scenarioSplitSize  the minimum number of scenarios in each part of a split task, zero to disable splitting
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner ofWorkStealing(
+      ForkJoinPool pool,
+      CalculationTaskCostModel costModel,
+      int scenarioSplitSize) {
+
+    return DefaultCalculationTaskRunner.ofWorkStealing(pool, costModel, scenarioSplitSize);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a runner that reuses resolved targets between calculation runs, using the specified cache.
+   * <p>
+   * The cache is made available to the functions of each task when the task is executed.
+   * Functions that support the cache use it to find targets that have already been resolved.
+   * The cache is held by the runner rather than the calculation rules, thus the rules are unaffected.
+   * <p>
+   * The returned runner delegates to this runner, adding the cache to the parameters of each task.
+   * This runner continues to own any resources, such as the executor. Closing the returned runner
+   * has no effect, thus this runner must still be closed.
+   *
+   * @param resolvedTargetCache  the cache of resolved targets
+   * @return the runner that uses the cache
+   */
+  public default CalculationTaskRunner withResolvedTargetCache(ResolvedTargetCache resolvedTargetCache) {
+    return new ResolvedTargetCachingTaskRunner(this, resolvedTargetCache);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Performs calculations for a single set of market data.
@@ -161,6 +248,45 @@ public interface CalculationTaskRunner extends AutoCloseable {
       ReferenceData refData,
       CalculationListener listener);
 
+  /**
+   * Performs calculations for multiple scenarios, streaming the results to a listener with back-pressure.
+   * <p>
+   * This is similar to
+   * {@link #calculateMultiScenarioAsync(CalculationTasks, ScenarioMarketData, ReferenceData, CalculationListener)},
+   * except that the number of pending tasks is limited. A task is pending from when it is submitted
+   * until its results have been passed to the listener. When the limit is reached, no more tasks are
+   * submitted until the listener has caught up. Provided the listener does not retain the results,
+   * such as when writing them to disk or aggregating them, the memory used by the results is bounded
+   * by the limit rather than by the size of the grid.
+   * <p>
+   * This method blocks until all the results have been passed to the listener and
+   * {@link CalculationListener#calculationsComplete()} has been invoked.
+   * If the thread is interrupted while this method is blocked, no more tasks are submitted
+   * and a runtime exception is thrown, with the interrupted flag set.
+   * <p>
+   * The default implementation does not limit the number of pending tasks.
+   * It invokes {@code calculateMultiScenarioAsync} and waits for the calculations to complete.
+   * 
+   * @param tasks  the calculation tasks to invoke
+   * @param marketData  the market data to be used in the calculations
+   * @param refData  the reference data to be used in the calculations
+   * @param listener  listener that is invoked when individual results are calculated
+   * @param maxPendingTasks  the maximum number of tasks that have been submitted but whose results
+   *   have not yet been passed to the listener
+   */
+  public default void calculateMultiScenarioStreaming(
+      CalculationTasks tasks,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      CalculationListener listener,
+      int maxPendingTasks) {
+
+    ArgChecker.notNegativeOrZero(maxPendingTasks, "maxPendingTasks");
+    BlockingListener blockingListener = new BlockingListener(listener);
+    calculateMultiScenarioAsync(tasks, marketData, refData, blockingListener);
+    blockingListener.await();
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Closes any resources held by the component.
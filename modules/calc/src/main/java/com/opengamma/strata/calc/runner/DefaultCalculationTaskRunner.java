@@ -7,20 +7,33 @@ package com.opengamma.strata.calc.runner;
 
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.CalculationTarget;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.calc.Column;
 import com.opengamma.strata.calc.Results;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.scenario.ScenarioArray;
@@ -30,6 +43,16 @@ import com.opengamma.strata.data.scenario.ScenarioMarketData;
  * The default calculation task runner.
  * <p>
  * This uses a single instance of {@link ExecutorService}.
+ * <p>
+ * By default, tasks are submitted to the executor in the order they are defined.
+ * If a {@link CalculationTaskCostModel} is specified, the tasks are instead submitted
+ * in order of decreasing estimated cost, and the cost model learns from each task that completes.
+ * If a scenario split size is specified, a task calculating many scenarios is split into
+ * tasks for sub-ranges of the scenarios, with the results merged before being delivered.
+ * These options are intended for use with a work-stealing {@link ForkJoinPool}.
+ * <p>
+ * If a maximum batch size is specified, tasks whose function is a {@link BatchCalculationFunction}
+ * are grouped into batches, each of which is calculated by a single invocation of the function.
  */
 final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
 
@@ -38,6 +61,18 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
    * This will typically be multi-threaded, but single or direct executors also work.
    */
   private final ExecutorService executor;
+  /**
+   * The model used to order tasks by estimated cost, null if tasks are submitted in order.
+   */
+  private final CalculationTaskCostModel costModel;
+  /**
+   * The minimum number of scenarios in each part of a split task, zero if tasks are not split.
+   */
+  private final int scenarioSplitSize;
+  /**
+   * The maximum number of tasks calculated together by a batch function, one if tasks are not batched.
+   */
+  private final int maxBatchSize;
 
   //-------------------------------------------------------------------------
   /**
@@ -69,6 +104,63 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
     return new DefaultCalculationTaskRunner(executor);
   }
 
+  /**
+   * Creates a calculation task runner that calculates targets in batches, specifying the executor.
+   * <p>
+   * Tasks whose function is a {@link BatchCalculationFunction} are grouped into batches of up to the
+   * specified size, where every task in a batch has the same function, parameters and measures.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param executor  the executor to use
+   * @param maxBatchSize  the maximum number of tasks in a batch, one to disable batching
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner of(ExecutorService executor, int maxBatchSize) {
+    ArgChecker.notNegativeOrZero(maxBatchSize, "maxBatchSize");
+    return new DefaultCalculationTaskRunner(executor, null, 0, maxBatchSize);
+  }
+
+  /**
+   * Creates a work-stealing calculation task runner that orders tasks by estimated cost.
+   * <p>
+   * This factory creates a {@link ForkJoinPool} basing the parallelism on the number of available processors.
+   * The tasks are ordered using a new cost model, and tasks are not split by scenario.
+   * It is recommended to use try-with-resources to manage the runner.
+   *
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner ofWorkStealing() {
+    return ofWorkStealing(createForkJoinPool(), CalculationTaskCostModel.create(), 0);
+  }
+
+  /**
+   * Creates a calculation task runner that orders tasks by estimated cost,
+   * specifying the pool, cost model and scenario split size.
+   * <p>
+   * Tasks are submitted in order of decreasing estimated cost.
+   * If the scenario split size is positive, a task with at least twice that number of
+   * scenarios is split into parts, each of which calculates a contiguous range of at least
+   * that number of scenarios. The results of the parts are merged in scenario order.
+   * A split size of zero disables splitting.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the pool.
+   *
+   * @param pool  the pool to use
+   * @param costModel  the cost model, which may be shared between runners
+   * @param scenarioSplitSize  the minimum number of scenarios in each part of a split task, zero to disable
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner ofWorkStealing(
+      ForkJoinPool pool,
+      CalculationTaskCostModel costModel,
+      int scenarioSplitSize) {
+
+    ArgChecker.notNull(costModel, "costModel");
+    ArgChecker.notNegative(scenarioSplitSize, "scenarioSplitSize");
+    return new DefaultCalculationTaskRunner(pool, costModel, scenarioSplitSize, 1);
+  }
+
   // create an executor with daemon threads
   private static ExecutorService createExecutor(int threads) {
     int effectiveThreads = (threads <= 0 ? Runtime.getRuntime().availableProcessors() : threads);
@@ -82,6 +174,17 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
     return Executors.newFixedThreadPool(effectiveThreads, threadFactory);
   }
 
+  // create a work-stealing pool with daemon threads
+  private static ForkJoinPool createForkJoinPool() {
+    ForkJoinWorkerThreadFactory threadFactory = pool -> {
+      ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+      t.setName("CalculationTaskRunner-" + t.getName());
+      t.setDaemon(true);
+      return t;
+    };
+    return new ForkJoinPool(Runtime.getRuntime().availableProcessors(), threadFactory, null, false);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Creates an instance specifying the executor to use.
@@ -89,7 +192,27 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
    * @param executor  the executor that is used to perform the calculations
    */
   private DefaultCalculationTaskRunner(ExecutorService executor) {
+    this(executor, null, 0, 1);
+  }
+
+  /**
+   * Creates an instance specifying the executor, cost model, scenario split size and maximum batch size.
+   *
+   * @param executor  the executor that is used to perform the calculations
+   * @param costModel  the cost model, null if tasks are submitted in order
+   * @param scenarioSplitSize  the minimum number of scenarios in each part of a split task, zero to disable
+   * @param maxBatchSize  the maximum number of tasks in a batch, one to disable batching
+   */
+  private DefaultCalculationTaskRunner(
+      ExecutorService executor,
+      CalculationTaskCostModel costModel,
+      int scenarioSplitSize,
+      int maxBatchSize) {
+
     this.executor = ArgChecker.notNull(executor, "executor");
+    this.costModel = costModel;
+    this.scenarioSplitSize = scenarioSplitSize;
+    this.maxBatchSize = maxBatchSize;
   }
 
   //-------------------------------------------------------------------------
@@ -180,8 +303,106 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
     Consumer<CalculationResults> consumer =
         new ListenerWrapper(listener, taskList.size(), tasks.getTargets(), tasks.getColumns());
 
-    // run each task using the executor
-    taskList.forEach(task -> runTask(task, marketData, refData, consumer));
+    // run each task or batch of tasks using the executor
+    for (List<CalculationTask> batch : batches(taskList, marketData, maxBatchSize)) {
+      runBatch(batch, marketData, refData, consumer);
+    }
+  }
+
+  @Override
+  public void calculateMultiScenarioStreaming(
+      CalculationTasks tasks,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      CalculationListener listener,
+      int maxPendingTasks) {
+
+    ArgChecker.notNegativeOrZero(maxPendingTasks, "maxPendingTasks");
+    List<CalculationTask> taskList = tasks.getTasks();
+    // a permit is acquired before each task is submitted, and released once its results have been delivered
+    // this throttles submission when the listener falls behind, bounding the results held in memory
+    Semaphore pendingTasks = new Semaphore(maxPendingTasks);
+    BlockingListener blockingListener = new BlockingListener(listener);
+    Consumer<CalculationResults> consumer = new ListenerWrapper(
+        blockingListener, taskList.size(), tasks.getTargets(), tasks.getColumns(), pendingTasks::release);
+
+    // run each task or batch of tasks using the executor, waiting if too many tasks are pending
+    try {
+      for (List<CalculationTask> batch : batches(taskList, marketData, Math.min(maxBatchSize, maxPendingTasks))) {
+        pendingTasks.acquire(batch.size());
+        runBatch(batch, marketData, refData, consumer);
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(ex);
+    }
+    blockingListener.await();
+  }
+
+  // the order in which tasks are submitted, as indices into the task list
+  // if there is a cost model, the most expensive tasks are submitted first
+  private int[] submissionOrder(List<CalculationTask> taskList, ScenarioMarketData marketData) {
+    if (costModel == null) {
+      return IntStream.range(0, taskList.size()).toArray();
+    }
+    int scenarioCount = marketData.getScenarioCount();
+    double[] costs = taskList.stream().mapToDouble(task -> costModel.estimate(task, scenarioCount)).toArray();
+    return IntStream.range(0, taskList.size())
+        .boxed()
+        .sorted(Comparator.comparingDouble((Integer i) -> costs[i]).reversed())
+        .mapToInt(Integer::intValue)
+        .toArray();
+  }
+
+  // groups the tasks into batches, in submission order
+  // each batch contains tasks with the same batch function, parameters and measures
+  private List<List<CalculationTask>> batches(
+      List<CalculationTask> taskList,
+      ScenarioMarketData marketData,
+      int batchSize) {
+
+    List<List<CalculationTask>> batches = new ArrayList<>();
+    Map<List<Object>, List<CalculationTask>> openBatches = new HashMap<>();
+    for (int taskIndex : submissionOrder(taskList, marketData)) {
+      CalculationTask task = taskList.get(taskIndex);
+      if (batchSize == 1 || !(task.getFunction() instanceof BatchCalculationFunction)) {
+        batches.add(ImmutableList.of(task));
+        continue;
+      }
+      List<Object> key = ImmutableList.of(task.getFunction(), task.getParameters(), task.getMeasures());
+      List<CalculationTask> batch = openBatches.computeIfAbsent(key, k -> {
+        List<CalculationTask> newBatch = new ArrayList<>(batchSize);
+        batches.add(newBatch);
+        return newBatch;
+      });
+      batch.add(task);
+      if (batch.size() == batchSize) {
+        openBatches.remove(key);
+      }
+    }
+    return batches;
+  }
+
+  // submits a batch of tasks to the executor to be run
+  private void runBatch(
+      List<CalculationTask> batch,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      Consumer<CalculationResults> consumer) {
+
+    if (batch.size() == 1) {
+      runTask(batch.get(0), marketData, refData, consumer);
+    } else {
+      // if the batch cannot be calculated, each task receives a failure so that every result is delivered
+      submit(timed(batch, marketData, refData))
+          .whenComplete((results, ex) -> {
+            if (ex != null) {
+              batch.forEach(task -> consumer.accept(failedResults(task, ex)));
+            } else {
+              results.forEach(consumer);
+            }
+          });
+    }
   }
 
   // submits a task to the executor to be run
@@ -193,8 +414,153 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
 
     // the task is executed, with the result passed to the consumer
     // the consumer wraps the listener to ensure thread-safety
-    Supplier<CalculationResults> taskExecutor = () -> task.execute(marketData, refData);
-    CompletableFuture.supplyAsync(taskExecutor, executor).thenAccept(consumer);
+    int scenarioCount = marketData.getScenarioCount();
+    if (scenarioSplitSize > 0 && scenarioCount >= scenarioSplitSize * 2) {
+      runSplitTask(task, marketData, refData, consumer);
+    } else {
+      deliver(task, submit(timed(task, marketData, refData)), consumer);
+    }
+  }
+
+  // submits the parts of a task split by scenario to the executor, merging the results
+  private void runSplitTask(
+      CalculationTask task,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      Consumer<CalculationResults> consumer) {
+
+    int scenarioCount = marketData.getScenarioCount();
+    int partCount = scenarioCount / scenarioSplitSize;
+    List<CompletableFuture<CalculationResults>> parts = new ArrayList<>(partCount);
+    for (int i = 0; i < partCount; i++) {
+      int start = (int) ((long) scenarioCount * i / partCount);
+      int end = (int) ((long) scenarioCount * (i + 1) / partCount);
+      ScenarioMarketData partMarketData = new ScenarioRangeMarketData(marketData, start, end);
+      parts.add(submit(timed(task, partMarketData, refData)));
+    }
+    CompletableFuture<CalculationResults> merged = CompletableFuture.allOf(parts.toArray(new CompletableFuture<?>[0]))
+        .thenApply(ignored -> mergeParts(task, parts, marketData, refData));
+    deliver(task, merged, consumer);
+  }
+
+  // submits work to the executor, returning a failed future if the executor rejects it
+  private <T> CompletableFuture<T> submit(Supplier<T> work) {
+    try {
+      return CompletableFuture.supplyAsync(work, executor);
+    } catch (RuntimeException ex) {
+      CompletableFuture<T> failed = new CompletableFuture<>();
+      failed.completeExceptionally(ex);
+      return failed;
+    }
+  }
+
+  // passes the results of the task to the consumer once complete, even if the task failed
+  // the task itself converts exceptions to failures, but an error or rejected submission completes the future
+  // exceptionally, and the results must still be delivered to release any permit and complete the listener
+  private static void deliver(
+      CalculationTask task,
+      CompletableFuture<CalculationResults> future,
+      Consumer<CalculationResults> consumer) {
+
+    future.whenComplete((results, ex) -> consumer.accept(ex != null ? failedResults(task, ex) : results));
+  }
+
+  // the results of a task that could not be calculated, with a failure for each cell
+  private static CalculationResults failedResults(CalculationTask task, Throwable ex) {
+    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+    Result<?> failure = Result.failure(
+        FailureReason.CALCULATION_FAILED,
+        cause,
+        "Error when invoking function '{}' for target '{}': {}",
+        task.getFunction().getClass().getSimpleName(),
+        task.getTarget(),
+        cause.toString());
+    List<CalculationResult> cells = task.getCells().stream()
+        .map(cell -> CalculationResult.of(cell.getRowIndex(), cell.getColumnIndex(), failure))
+        .collect(toImmutableList());
+    return CalculationResults.of(task.getTarget(), cells);
+  }
+
+  // merges the results of the parts of a split task
+  // if a result is not a scenario array, or the parts cannot be combined, the task is run again without being split
+  private CalculationResults mergeParts(
+      CalculationTask task,
+      List<CompletableFuture<CalculationResults>> parts,
+      ScenarioMarketData marketData,
+      ReferenceData refData) {
+
+    List<CalculationResults> partResults = parts.stream().map(CompletableFuture::join).collect(toImmutableList());
+    List<CalculationResult> merged = new ArrayList<>(task.getCells().size());
+    for (int cellIndex = 0; cellIndex < task.getCells().size(); cellIndex++) {
+      int index = cellIndex;
+      List<CalculationResult> cellParts = partResults.stream()
+          .map(results -> results.getCells().get(index))
+          .collect(toImmutableList());
+      Optional<Result<?>> mergedResult = mergeResults(
+          cellParts.stream().map(CalculationResult::getResult).collect(toImmutableList()));
+      if (!mergedResult.isPresent()) {
+        return timed(task, marketData, refData).get();
+      }
+      merged.add(cellParts.get(0).withResult(mergedResult.get()));
+    }
+    return CalculationResults.of(task.getTarget(), merged);
+  }
+
+  // merges the results of the parts of a cell by concatenating the scenarios
+  // empty if the results are not scenario arrays or cannot be combined
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Optional<Result<?>> mergeResults(List<Result<?>> results) {
+    Optional<Result<?>> failure = results.stream().filter(Result::isFailure).findFirst();
+    if (failure.isPresent()) {
+      return failure;
+    }
+    if (!results.stream().allMatch(result -> result.getValue() instanceof ScenarioArray)) {
+      return Optional.empty();
+    }
+    List<ScenarioArray> arrays = results.stream()
+        .map(result -> (ScenarioArray) result.getValue())
+        .collect(toImmutableList());
+    try {
+      return Optional.of(Result.success(arrays.get(0).concat(arrays.subList(1, arrays.size()))));
+    } catch (RuntimeException ex) {
+      // the parts are not compatible, such as different currencies
+      return Optional.empty();
+    }
+  }
+
+  // returns a supplier that executes the task, recording the time taken in the cost model
+  private Supplier<CalculationResults> timed(
+      CalculationTask task,
+      ScenarioMarketData marketData,
+      ReferenceData refData) {
+
+    if (costModel == null) {
+      return () -> task.execute(marketData, refData);
+    }
+    return () -> {
+      long start = System.nanoTime();
+      CalculationResults results = task.execute(marketData, refData);
+      costModel.record(task, marketData.getScenarioCount(), System.nanoTime() - start);
+      return results;
+    };
+  }
+
+  // returns a supplier that executes a batch of tasks, recording the average time taken in the cost model
+  private Supplier<List<CalculationResults>> timed(
+      List<CalculationTask> batch,
+      ScenarioMarketData marketData,
+      ReferenceData refData) {
+
+    if (costModel == null) {
+      return () -> CalculationTask.executeBatch(batch, marketData, refData);
+    }
+    return () -> {
+      long start = System.nanoTime();
+      List<CalculationResults> results = CalculationTask.executeBatch(batch, marketData, refData);
+      long nanosPerTask = (System.nanoTime() - start) / batch.size();
+      batch.forEach(task -> costModel.record(task, marketData.getScenarioCount(), nanosPerTask));
+      return results;
+    };
   }
 
   //-------------------------------------------------------------------------
@@ -203,8 +569,6 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
     executor.shutdown();
   }
 
-  //-------------------------------------------------------------------------
-
   //-------------------------------------------------------------------------
   /**
    * Listener that decorates another listener and unwraps {@link ScenarioArray} instances
@@ -219,6 +583,11 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
       this.delegate = delegate;
     }
 
+    @Override
+    public void deliveryMetricsAvailable(ResultDeliveryMetrics metrics) {
+      delegate.deliveryMetricsAvailable(metrics);
+    }
+
     @Override
     public void calculationsStarted(List<CalculationTarget> targets, List<Column> columns) {
       delegate.calculationsStarted(targets, columns);
@@ -5,11 +5,10 @@
  */
 package com.opengamma.strata.calc.runner;
 
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import org.slf4j.Logger;
@@ -29,38 +28,48 @@ import com.opengamma.strata.collect.ArgChecker;
  * Calculations may be performed in bulk for a given target.
  * The logic in this class unwraps the {@link CalculationResults}, calling the
  * listener with each individual {@link CalculationResult}.
+ * <p>
+ * No lock is used when results are received. Each calculation thread adds its results to a
+ * lock-free queue and increments a count of the undelivered results. The thread that increments
+ * the count from zero becomes the single consumer, delivering results to the listener until the
+ * count returns to zero. The other threads return immediately.
+ * <p>
+ * The count of undelivered results is exposed as the queue depth by {@link ResultDeliveryMetrics}.
  */
-final class ListenerWrapper implements Consumer<CalculationResults> {
+final class ListenerWrapper implements Consumer<CalculationResults>, ResultDeliveryMetrics {
 
   private static final Logger log = LoggerFactory.getLogger(ListenerWrapper.class);
 
   /** The wrapped listener. */
   private final CalculationListener listener;
 
-  /** Queue of actions to perform on the delegate. */
-  private final Queue<CalculationResults> queue = new LinkedList<>();
+  /** Queue of results to deliver to the listener, added to by multiple threads and removed by one. */
+  private final Queue<CalculationResults> queue = new ConcurrentLinkedQueue<>();
 
-  /** Protects the queue and the executing flag. */
-  private final Lock lock = new ReentrantLock();
+  /**
+   * The number of results received but not yet delivered.
+   * <p>
+   * A result is added to the queue before this count is incremented, and the count is only decremented
+   * once the result has been delivered. As such, the thread that increments the count from zero delivers
+   * the results, and it is guaranteed that there is a result on the queue whenever the count is non-zero.
+   * The count also guarantees that any state changes in the listener are visible to the next thread
+   * that delivers results.
+   */
+  private final AtomicInteger pending = new AtomicInteger();
 
-  /** This lock is never contended; it is used to guarantee the listener state is visible to all threads. */
-  private final Lock listenerLock = new ReentrantLock();
+  /** The maximum value of the number of results received but not yet delivered. */
+  private final AtomicInteger maxPending = new AtomicInteger();
 
   /** The total number of tasks to be executed. */
   private final int tasksExpected;
 
-  // Mutable state -----------------------------------------------------
+  /** The action invoked after the results of each task have been delivered. */
+  private final Runnable deliveredAction;
 
-  /**
-   * Flags whether a call to the underlying listener is executing.
-   * If this flag is set when {@link #accept} is called, the result is added to
-   * the queue and the calling thread returns. The executing thread will ensure
-   * all queued results are delivered.
-   */
-  private boolean executing;
+  // Mutable state -----------------------------------------------------
 
-  /** The number of task results that have been received. */
-  private int tasksReceived;
+  /** The number of task results that have been delivered, only written by the delivering thread. */
+  private volatile int tasksDelivered;
 
   //-------------------------------------------------------------------------
   /**
@@ -70,18 +79,38 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
    * @param columns  the columns for which values are being calculated
    */
   ListenerWrapper(CalculationListener listener, int tasksExpected, List<CalculationTarget> targets, List<Column> columns) {
-    this.listener = ArgChecker.notNull(listener, "listener");
-    this.tasksExpected = ArgChecker.notNegative(tasksExpected, "tasksExpected");
+    this(listener, tasksExpected, targets, columns, () -> { });
+  }
 
-    listenerLock.lock();
-    try {
-      listener.calculationsStarted(targets, columns);
+  /**
+   * Creates an instance wrapping the specified listener, with an action invoked as each task is delivered.
+   * <p>
+   * The action is invoked once the results of a task have been passed to the listener.
+   * This allows the number of tasks that have been submitted but not yet delivered to be limited.
+   *
+   * @param listener  the underlying listener wrapped by this object
+   * @param tasksExpected  the number of tasks to be executed
+   * @param targets  the targets for which values are being calculated
+   * @param columns  the columns for which values are being calculated
+   * @param deliveredAction  the action invoked after the results of each task have been delivered
+   */
+  ListenerWrapper(
+      CalculationListener listener,
+      int tasksExpected,
+      List<CalculationTarget> targets,
+      List<Column> columns,
+      Runnable deliveredAction) {
 
-      if (tasksExpected == 0) {
-        listener.calculationsComplete();
-      }
-    } finally {
-      listenerLock.unlock();
+    this.listener = ArgChecker.notNull(listener, "listener");
+    this.tasksExpected = ArgChecker.notNegative(tasksExpected, "tasksExpected");
+    this.deliveredAction = ArgChecker.notNull(deliveredAction, "deliveredAction");
+
+    // the wrapper is safely published to the calculation threads after construction,
+    // so any state changes in the listener are visible to the thread delivering the first result
+    listener.deliveryMetricsAvailable(this);
+    listener.calculationsStarted(targets, columns);
+    if (tasksExpected == 0) {
+      listener.calculationsComplete();
     }
   }
 
@@ -101,85 +130,63 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
    */
   @Override
   public void accept(CalculationResults result) {
-    CalculationResults nextResult;
-
-    // Multiple calculation threads can try to acquire this lock at the same time.
-    // The thread which acquires the lock will set the executing flag and proceed into
-    // the body of the method.
-    // If another thread acquires the lock while the first thread is executing it will
-    // add an item to the queue and return.
-    // The lock also ensures the state of the executing flag and the queue are visible
-    // to any thread acquiring the lock.
-    lock.lock();
+    queue.add(result);
+    int depth = pending.incrementAndGet();
+    if (depth > maxPending.get()) {
+      maxPending.accumulateAndGet(depth, Math::max);
+    }
+    if (depth == 1) {
+      // This thread incremented the count from zero, so no other thread is delivering results.
+      // Deliver results until the count returns to zero, including those added by other threads
+      // while this thread is invoking the listener.
+      do {
+        deliver(queue.poll());
+      } while (pending.decrementAndGet() != 0);
+    }
+  }
+
+  // delivers the results of a single task, only invoked by one thread at a time
+  private void deliver(CalculationResults results) {
     try {
-      if (executing) {
-        // Another thread is already invoking the listener. Add the result to
-        // the queue and return. The other thread will ensure the queued results
-        // are delivered.
-        queue.add(result);
-        return;
-      } else {
-        // There is no thread invoking the listener. Set the executing flag to
-        // ensure no other thread passes this point and invoke the listener.
-        executing = true;
-        nextResult = result;
+      for (CalculationResult cell : results.getCells()) {
+        listener.resultReceived(results.getTarget(), cell);
       }
-    } finally {
-      lock.unlock();
+    } catch (RuntimeException e) {
+      log.warn("Exception invoking listener.resultReceived", e);
     }
+    deliveredAction.run();
 
-    // The logic in the block above guarantees that there will never be more than one thread in the
-    // rest of the method below this point.
-
-    // Loop until the nextResult and all the results from the queue have been delivered
-    for (;;) {
-      // The logic above means this lock is never contended; the executing flag means
-      // only one thread will ever be in this loop at any given time.
-      // This lock is required to ensure any state changes in the listener are visible to all threads
-      listenerLock.lock();
+    int delivered = tasksDelivered + 1;
+    tasksDelivered = delivered;
+    if (delivered == tasksExpected) {
+      // The expected number of results have been received, inform the listener
       try {
-        // Invoke the listener while not protected by lock. This allows other threads
-        // to queue results while this thread is delivering them to the listener.
-        for (CalculationResult cell : nextResult.getCells()) {
-          listener.resultReceived(nextResult.getTarget(), cell);
-        }
+        listener.calculationsComplete();
       } catch (RuntimeException e) {
-        log.warn("Exception invoking listener.resultReceived", e);
-      } finally {
-        listenerLock.unlock();
-      }
-
-      // The following code must be executed whilst holding the lock to guarantee any changes
-      // to the executing flag and to the state of the queue are visible to all threads
-      lock.lock();
-      try {
-        if (++tasksReceived == tasksExpected) {
-          // The expected number of results have been received, inform the listener.
-          // The listener lock must be acquired to ensure any state changes in the listener are
-          // visible to all threads
-          listenerLock.lock();
-          try {
-            listener.calculationsComplete();
-          } catch (RuntimeException e) {
-            log.warn("Exception invoking listener.calculationsComplete", e);
-          } finally {
-            listenerLock.unlock();
-          }
-          return;
-        } else if (queue.isEmpty()) {
-          // There are no more results to deliver. Unset the executing flag and return.
-          // This allows the next calling thread to deliver results.
-          executing = false;
-          return;
-        } else {
-          // There are results on the queue. This means another thread called accept(),
-          // added a result to the queue and returned while this thread was invoking the listener.
-          // This thread must deliver the results from the queue.
-          nextResult = queue.remove();
-        }
-      } finally {
-        lock.unlock();
+        log.warn("Exception invoking listener.calculationsComplete", e);
       }
     }
   }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public int getQueueDepth() {
+    return pending.get();
+  }
+
+  @Override
+  public int getMaxQueueDepth() {
+    return maxPending.get();
+  }
+
+  @Override
+  public int getTasksDelivered() {
+    return tasksDelivered;
+  }
+
+  @Override
+  public int getTasksExpected() {
+    return tasksExpected;
+  }
+
 }
@@ -0,0 +1,232 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+
+/**
+ * A cache of resolved calculation targets, reused between calculation runs.
+ * <p>
+ * Most calculation functions resolve the target before calculating, such as resolving a swap trade
+ * to a resolved swap trade. Resolution can be expensive, generating schedules and adjusting dates
+ * using holiday calendars, and is repeated every time the target is calculated.
+ * Where the same targets are calculated many times using the same reference data, such as when
+ * a portfolio is recalculated during the day, this cache allows the resolved form to be reused.
+ * <p>
+ * The cache is opt-in. It is enabled by passing it to
+ * {@link CalculationTaskRunner#withResolvedTargetCache(ResolvedTargetCache)}, and retaining the runner
+ * or the cache between calculation runs. The runner adds the cache to the parameters of each task
+ * as it is executed, thus the cache is not part of the {@code CalculationRules}.
+ * Calculation functions that support the cache resolve targets using
+ * {@link #resolve(Object, CalculationParameters, ReferenceData, BiFunction)}.
+ * <p>
+ * Entries are keyed by the target, using {@code equals} and {@code hashCode}, thus a target that is
+ * recreated with the same content, such as a trade loaded again from a file, will find the entry.
+ * Entries are also keyed by the identity of the reference data, thus runs using different
+ * {@link ReferenceData} instances can share the cache without finding each other's entries.
+ * Entries for reference data that is no longer used are discarded as other entries are added.
+ * <p>
+ * The number of entries is bounded by a maximum size, with the least recently used entries discarded.
+ * The cache may also be created such that entries are discarded when memory is low,
+ * see {@link #ofMemorySensitive(long)}.
+ * <p>
+ * Unlike other parameters, this class holds mutable state. The state does not affect the results
+ * of the calculations, only how quickly they are produced. As such, it should be supplied to the runner
+ * rather than being added to the rules, which are expected to be comparable and serializable.
+ * This class is thread-safe.
+ */
+public final class ResolvedTargetCache implements CalculationParameter {
+
+  /**
+   * The underlying cache.
+   */
+  private final Cache<Key, Object> cache;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance with the specified maximum number of entries.
+   *
+   * @param maximumSize  the maximum number of entries
+   * @return the cache
+   */
+  public static ResolvedTargetCache of(long maximumSize) {
+    ArgChecker.notNegativeOrZero(maximumSize, "maximumSize");
+    return new ResolvedTargetCache(CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build());
+  }
+
+  /**
+   * Obtains an instance with the specified maximum number of entries,
+   * discarding entries when memory is low.
+   * <p>
+   * The resolved targets are held using soft references, allowing the garbage collector
+   * to discard them in response to memory demand.
+   *
+   * @param maximumSize  the maximum number of entries
+   * @return the cache
+   */
+  public static ResolvedTargetCache ofMemorySensitive(long maximumSize) {
+    ArgChecker.notNegativeOrZero(maximumSize, "maximumSize");
+    return new ResolvedTargetCache(
+        CacheBuilder.newBuilder().maximumSize(maximumSize).softValues().recordStats().build());
+  }
+
+  // restricted constructor
+  private ResolvedTargetCache(Cache<Key, Object> cache) {
+    this.cache = cache;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Resolves a target, using the cache if present in the parameters.
+   * <p>
+   * If the parameters contain a {@code ResolvedTargetCache}, it is used to find or store the resolved target.
+   * Otherwise, the resolver function is invoked directly.
+   * <p>
+   * The resolver function must always return the same resolved form for the same target and reference data.
+   *
+   * @param <T>  the type of the target
+   * @param <R>  the type of the resolved target
+   * @param target  the target to resolve
+   * @param parameters  the calculation parameters
+   * @param refData  the reference data
+   * @param resolver  the function to resolve the target
+   * @return the resolved target
+   * @throws RuntimeException if the target cannot be resolved
+   */
+  public static <T, R> R resolve(
+      T target,
+      CalculationParameters parameters,
+      ReferenceData refData,
+      BiFunction<? super T, ReferenceData, ? extends R> resolver) {
+
+    Optional<ResolvedTargetCache> cache = parameters.findParameter(ResolvedTargetCache.class);
+    if (cache.isPresent()) {
+      return cache.get().resolve(target, refData, resolver);
+    }
+    return resolver.apply(target, refData);
+  }
+
+  /**
+   * Resolves a target using the cache.
+   * <p>
+   * If the target has already been resolved using the same reference data, the cached form is returned.
+   * Otherwise, the resolver function is invoked and the result is cached.
+   * A failure to resolve is not cached.
+   * <p>
+   * The resolver function must always return the same resolved form for the same target and reference data.
+   *
+   * @param <T>  the type of the target
+   * @param <R>  the type of the resolved target
+   * @param target  the target to resolve
+   * @param refData  the reference data
+   * @param resolver  the function to resolve the target
+   * @return the resolved target
+   * @throws RuntimeException if the target cannot be resolved
+   */
+  @SuppressWarnings("unchecked")
+  public <T, R> R resolve(T target, ReferenceData refData, BiFunction<? super T, ReferenceData, ? extends R> resolver) {
+    Key key = new Key(target, refData);
+    Object cached = cache.getIfPresent(key);
+    if (cached != null) {
+      return (R) cached;
+    }
+    R resolved = resolver.apply(target, refData);
+    cache.put(key, resolved);
+    return resolved;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of entries in the cache.
+   *
+   * @return the approximate number of entries
+   */
+  public long getEntryCount() {
+    return cache.size();
+  }
+
+  /**
+   * Gets the number of times a resolved target was found in the cache.
+   *
+   * @return the hit count
+   */
+  public long getHitCount() {
+    return cache.stats().hitCount();
+  }
+
+  /**
+   * Gets the number of times a target had to be resolved because it was not in the cache.
+   *
+   * @return the miss count
+   */
+  public long getMissCount() {
+    return cache.stats().missCount();
+  }
+
+  /**
+   * Gets the number of entries that have been discarded due to the size or memory bounds.
+   *
+   * @return the eviction count
+   */
+  public long getEvictionCount() {
+    return cache.stats().evictionCount();
+  }
+
+  /**
+   * Discards all entries in the cache.
+   */
+  public void clear() {
+    cache.invalidateAll();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    CacheStats stats = cache.stats();
+    return Messages.format(
+        "ResolvedTargetCache[entries={}, hits={}, misses={}]", cache.size(), stats.hitCount(), stats.missCount());
+  }
+
+  //-------------------------------------------------------------------------
+  // the cache key, the target by equality and the reference data by identity
+  private static final class Key {
+    private final Object target;
+    private final ReferenceData refData;
+    private final int hashCode;
+
+    private Key(Object target, ReferenceData refData) {
+      this.target = target;
+      this.refData = refData;
+      this.hashCode = target.hashCode() * 31 + System.identityHashCode(refData);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) {
+        return true;
+      }
+      if (obj instanceof Key) {
+        Key other = (Key) obj;
+        return refData == other.refData && hashCode == other.hashCode && target.equals(other.target);
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+}
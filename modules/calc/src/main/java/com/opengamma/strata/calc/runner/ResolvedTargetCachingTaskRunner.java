@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.List;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Calculation task runner that decorates another runner, supplying a cache of resolved targets to the tasks.
+ * <p>
+ * The cache is added to the parameters of each task before the tasks are passed to the underlying runner,
+ * allowing functions to find it using {@link ResolvedTargetCache#resolve}.
+ * The tasks passed in are not altered.
+ * <p>
+ * The underlying runner owns any resources, such as the executor.
+ * Closing this runner has no effect, thus the underlying runner must be closed separately.
+ */
+final class ResolvedTargetCachingTaskRunner implements CalculationTaskRunner {
+
+  /** The underlying runner. */
+  private final CalculationTaskRunner delegate;
+  /** The cache of resolved targets. */
+  private final ResolvedTargetCache resolvedTargetCache;
+
+  /**
+   * Creates an instance wrapping the specified runner.
+   *
+   * @param delegate  the underlying runner
+   * @param resolvedTargetCache  the cache of resolved targets
+   */
+  ResolvedTargetCachingTaskRunner(CalculationTaskRunner delegate, ResolvedTargetCache resolvedTargetCache) {
+    this.delegate = ArgChecker.notNull(delegate, "delegate");
+    this.resolvedTargetCache = ArgChecker.notNull(resolvedTargetCache, "resolvedTargetCache");
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public CalculationTaskRunner withResolvedTargetCache(ResolvedTargetCache resolvedTargetCache) {
+    return new ResolvedTargetCachingTaskRunner(delegate, resolvedTargetCache);
+  }
+
+  @Override
+  public Results calculate(CalculationTasks tasks, MarketData marketData, ReferenceData refData) {
+    return delegate.calculate(withCache(tasks), marketData, refData);
+  }
+
+  @Override
+  public void calculateAsync(
+      CalculationTasks tasks,
+      MarketData marketData,
+      ReferenceData refData,
+      CalculationListener listener) {
+
+    delegate.calculateAsync(withCache(tasks), marketData, refData, listener);
+  }
+
+  @Override
+  public Results calculateMultiScenario(
+      CalculationTasks tasks,
+      ScenarioMarketData marketData,
+      ReferenceData refData) {
+
+    return delegate.calculateMultiScenario(withCache(tasks), marketData, refData);
+  }
+
+  @Override
+  public void calculateMultiScenarioAsync(
+      CalculationTasks tasks,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      CalculationListener listener) {
+
+    delegate.calculateMultiScenarioAsync(withCache(tasks), marketData, refData, listener);
+  }
+
+  @Override
+  public void calculateMultiScenarioStreaming(
+      CalculationTasks tasks,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      CalculationListener listener,
+      int maxPendingTasks) {
+
+    delegate.calculateMultiScenarioStreaming(withCache(tasks), marketData, refData, listener, maxPendingTasks);
+  }
+
+  // adds the cache of resolved targets to the parameters of each task, so the function can find it
+  private CalculationTasks withCache(CalculationTasks tasks) {
+    List<CalculationTask> cachingTasks = tasks.getTasks().stream()
+        .map(task -> CalculationTask.of(
+            task.getTarget(),
+            task.getFunction(),
+            task.getParameters().with(resolvedTargetCache),
+            task.getCells()))
+        .collect(toImmutableList());
+    return CalculationTasks.of(cachingTasks, tasks.getColumns());
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public void close() {
+    // the underlying runner owns the resources
+  }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+/**
+ * Metrics describing the delivery of calculation results to a {@link CalculationListener}.
+ * <p>
+ * Results are produced by the calculation threads and queued for delivery to the listener,
+ * which is only ever invoked by a single thread at a time. If the listener is slower than the
+ * calculations, the queue grows. A queue depth that stays high indicates that the listener,
+ * rather than the calculations, is the bottleneck.
+ * <p>
+ * The metrics are live, reflecting the state of delivery at the time each method is called.
+ * The methods may be called from any thread, for example by a monitoring thread.
+ * Implementations must be thread-safe.
+ */
+public interface ResultDeliveryMetrics {
+
+  /**
+   * Gets the number of task results that have been received from the calculation threads
+   * but not yet delivered to the listener.
+   * <p>
+   * This includes any task whose results are currently being delivered.
+   *
+   * @return the current queue depth
+   */
+  public abstract int getQueueDepth();
+
+  /**
+   * Gets the maximum queue depth observed since the calculations started.
+   *
+   * @return the maximum queue depth
+   */
+  public abstract int getMaxQueueDepth();
+
+  /**
+   * Gets the number of task results that have been delivered to the listener.
+   *
+   * @return the number of tasks delivered
+   */
+  public abstract int getTasksDelivered();
+
+  /**
+   * Gets the number of task results that are expected to be delivered to the listener.
+   *
+   * @return the number of tasks expected
+   */
+  public abstract int getTasksExpected();
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * A view of a contiguous range of scenarios within some underlying scenario market data.
+ * <p>
+ * This is used to split a single calculation task into several tasks, each calculating
+ * a sub-range of the scenarios. Single values are shared, scenario values are sliced.
+ */
+final class ScenarioRangeMarketData implements ScenarioMarketData {
+
+  /**
+   * The underlying market data.
+   */
+  private final ScenarioMarketData underlying;
+  /**
+   * The index of the first scenario, inclusive.
+   */
+  private final int startIndex;
+  /**
+   * The number of scenarios in the range.
+   */
+  private final int scenarioCount;
+
+  /**
+   * Creates an instance.
+   *
+   * @param underlying  the underlying market data
+   * @param startIndex  the index of the first scenario, inclusive
+   * @param endIndex  the index of the last scenario, exclusive
+   */
+  ScenarioRangeMarketData(ScenarioMarketData underlying, int startIndex, int endIndex) {
+    this.underlying = ArgChecker.notNull(underlying, "underlying");
+    ArgChecker.inOrderNotEqual(startIndex, endIndex, "startIndex", "endIndex");
+    ArgChecker.isTrue(
+        startIndex >= 0 && endIndex <= underlying.getScenarioCount(),
+        "Scenario range {}-{} is invalid for {} scenarios",
+        startIndex,
+        endIndex,
+        underlying.getScenarioCount());
+    this.startIndex = startIndex;
+    this.scenarioCount = endIndex - startIndex;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public MarketDataBox<LocalDate> getValuationDate() {
+    return slice(underlying.getValuationDate());
+  }
+
+  @Override
+  public int getScenarioCount() {
+    return scenarioCount;
+  }
+
+  @Override
+  public <T> Optional<MarketDataBox<T>> findValue(MarketDataId<T> id) {
+    return underlying.findValue(id).map(this::slice);
+  }
+
+  @Override
+  public Set<MarketDataId<?>> getIds() {
+    return underlying.getIds();
+  }
+
+  @Override
+  public <T> Set<MarketDataId<T>> findIds(MarketDataName<T> name) {
+    return underlying.findIds(name);
+  }
+
+  @Override
+  public Set<ObservableId> getTimeSeriesIds() {
+    return underlying.getTimeSeriesIds();
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries getTimeSeries(ObservableId id) {
+    return underlying.getTimeSeries(id);
+  }
+
+  // single values are shared by all scenarios, scenario values are restricted to the range
+  private <T> MarketDataBox<T> slice(MarketDataBox<T> box) {
+    if (box.isSingleValue()) {
+      return box;
+    }
+    List<T> values = box.stream().skip(startIndex).limit(scenarioCount).collect(toImmutableList());
+    return MarketDataBox.ofScenarioValues(values);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "ScenarioRangeMarketData[" + startIndex + "-" + (startIndex + scenarioCount) + "]";
+  }
+
+}
@@ -10,9 +10,12 @@ import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.Test;
 
@@ -849,6 +852,119 @@ public class DefaultMarketDataFactoryTest {
     assertThat(values).isEqualTo(expectedValues);
   }
 
+  /**
+   * Tests building scenario data concurrently gives the same results as building it level by level.
+   */
+  @Test
+  public void buildScenarioValuesConcurrently() {
+    TestIdB idB1 = new TestIdB("1");
+    TestIdB idB2 = new TestIdB("2");
+    MarketDataRequirements requirements = MarketDataRequirements.builder()
+        .addValues(idB1, idB2)
+        .build();
+    LocalDateDoubleTimeSeries timeSeries1 = LocalDateDoubleTimeSeries.builder()
+        .put(date(2011, 3, 8), 1)
+        .put(date(2011, 3, 9), 2)
+        .build();
+    LocalDateDoubleTimeSeries timeSeries2 = LocalDateDoubleTimeSeries.builder()
+        .put(date(2011, 3, 8), 10)
+        .put(date(2011, 3, 9), 20)
+        .build();
+    TestIdA idA1 = new TestIdA("1");
+    TestIdA idA2 = new TestIdA("2");
+    BuiltScenarioMarketData suppliedData = BuiltScenarioMarketData.builder(date(2011, 3, 8))
+        .addTimeSeries(idA1, timeSeries1)
+        .addTimeSeries(idA2, timeSeries2)
+        .addValue(idA1, 1d)
+        .addValue(idA2, 2d)
+        .build();
+    PerturbationMapping<Double> aMapping = PerturbationMapping.of(
+        new ExactIdFilter<>(new TestIdA("2")),
+        new RelativeDoubleShift(0.2, 0.3, 0.4));
+    PerturbationMapping<TestMarketDataC> cMapping = PerturbationMapping.of(
+        new ExactIdFilter<>(new TestIdC("1")),
+        new TestCPerturbation(1.1, 1.2, 1.3));
+    ScenarioDefinition scenarioDefinition = ScenarioDefinition.ofMappings(aMapping, cMapping);
+
+    List<MarketDataFunction<?, ?>> functions =
+        ImmutableList.of(new TestMarketDataFunctionB(), new TestMarketDataFunctionC());
+    MarketDataFactory factory = MarketDataFactory.of(ObservableDataProvider.none(), TimeSeriesProvider.none(), functions);
+    BuiltScenarioMarketData expected =
+        factory.createMultiScenario(requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA, scenarioDefinition);
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      MarketDataFactory concurrentFactory =
+          MarketDataFactory.of(ObservableDataProvider.none(), TimeSeriesProvider.none(), executor, functions);
+      BuiltScenarioMarketData marketData = concurrentFactory.createMultiScenario(
+          requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA, scenarioDefinition);
+      assertThat(marketData.getValueFailures()).isEmpty();
+      assertThat(marketData.getScenarioCount()).isEqualTo(3);
+      assertThat(marketData).isEqualTo(expected);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Tests that perturbed observable data is seen when building non-observable data concurrently.
+   */
+  @Test
+  public void buildNonObservableValuesConcurrently() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      MarketDataFactory factory = MarketDataFactory.of(
+          new TestObservableDataProvider(),
+          new TestTimeSeriesProvider(ImmutableMap.of()),
+          executor,
+          ImmutableList.of(new NonObservableMarketDataFunction()));
+      BuiltScenarioMarketData suppliedData = BuiltScenarioMarketData.builder(date(2011, 3, 8)).build();
+
+      MarketDataId<?> id1 = new NonObservableId("a");
+      MarketDataId<?> id2 = new NonObservableId("b");
+      TestObservableId quoteId = TestObservableId.of(StandardId.of("reqs", "b"));
+      MarketDataRequirements requirements = MarketDataRequirements.builder().addValues(id1, id2).build();
+
+      PerturbationMapping<Double> mapping = PerturbationMapping.of(
+          new ExactIdFilter<>(quoteId),
+          new RelativeDoubleShift(0.1, 0.2, 0.3));
+      ScenarioDefinition scenarioDefinition = ScenarioDefinition.ofMappings(ImmutableList.of(mapping));
+      BuiltScenarioMarketData marketData = factory.createMultiScenario(
+          requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA, scenarioDefinition);
+
+      assertThat(marketData.getValue(id1)).isEqualTo(MarketDataBox.ofSingleValue("1.0"));
+      assertThat(marketData.getValue(id2)).isEqualTo(MarketDataBox.ofScenarioValues("2.2", "2.4", "2.6"));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Tests an exception is thrown when there is no builder for an ID type and data is built concurrently.
+   */
+  @Test
+  public void noMarketDataBuilderAvailableConcurrently() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      MarketDataFactory factory = MarketDataFactory.of(
+          new TestObservableDataProvider(),
+          new TestTimeSeriesProvider(ImmutableMap.of()),
+          executor,
+          ImmutableList.of(new TestMarketDataFunctionB()));
+      MarketDataRequirements requirements = MarketDataRequirements.builder()
+          .addValues(new TestIdB("1"), new TestIdB("2"))
+          .build();
+      BuiltScenarioMarketData suppliedData = BuiltScenarioMarketData.builder(date(2011, 3, 8)).build();
+      assertThatIllegalStateException()
+          .isThrownBy(
+              () -> factory.createMultiScenario(
+                  requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA, ScenarioDefinition.empty()))
+          .withMessageStartingWith("No market data function available for market data ID of type");
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   /**
    * Tests ObservableDataProvider.none(), which is never normally be invoked.
    */
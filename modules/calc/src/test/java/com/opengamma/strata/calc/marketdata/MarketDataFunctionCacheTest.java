@@ -0,0 +1,268 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.marketdata;
+
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.MoreFiles;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.data.scenario.ImmutableScenarioMarketData;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Test {@link MarketDataFunctionCache}.
+ */
+public class MarketDataFunctionCacheTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final MarketDataConfig CONFIG = MarketDataConfig.empty();
+  private static final TestObservableId QUOTE_ID = TestObservableId.of("1");
+  private static final TestingNamedId ID = new TestingNamedId("A");
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_memory() {
+    MarketDataFunctionCache cache = MarketDataFunctionCache.of(10);
+    CountingFunction underlying = new CountingFunction();
+    MarketDataFunction<String, TestingNamedId> function = cache.cached(underlying, "counting");
+    assertThat(function.getMarketDataIdType()).isEqualTo(TestingNamedId.class);
+    assertThat(function.requirements(ID, CONFIG)).isEqualTo(underlying.requirements(ID, CONFIG));
+
+    assertThat(function.build(ID, CONFIG, marketData(1d), REF_DATA)).isEqualTo(MarketDataBox.ofSingleValue("A:1.0"));
+    assertThat(function.build(ID, CONFIG, marketData(1d), REF_DATA)).isEqualTo(MarketDataBox.ofSingleValue("A:1.0"));
+    assertThat(underlying.count).isEqualTo(1);
+    assertThat(cache.getHitCount()).isEqualTo(1);
+    assertThat(cache.getMissCount()).isEqualTo(1);
+    assertThat(cache.getEntryCount()).isEqualTo(1);
+
+    // a change to the inputs is a different entry
+    assertThat(function.build(ID, CONFIG, marketData(2d), REF_DATA)).isEqualTo(MarketDataBox.ofSingleValue("A:2.0"));
+    assertThat(underlying.count).isEqualTo(2);
+    assertThat(cache.getEntryCount()).isEqualTo(2);
+
+    cache.clear();
+    assertThat(cache.getEntryCount()).isEqualTo(0);
+    function.build(ID, CONFIG, marketData(1d), REF_DATA);
+    assertThat(underlying.count).isEqualTo(3);
+    assertThat(cache.toString()).contains("hits=1");
+  }
+
+  @Test
+  public void test_missingInput() {
+    MarketDataFunctionCache cache = MarketDataFunctionCache.of(10);
+    CountingFunction underlying = new CountingFunction();
+    MarketDataFunction<String, TestingNamedId> function = cache.cached(underlying, "counting");
+    ScenarioMarketData empty = ImmutableScenarioMarketData.builder(date(2011, 3, 8)).build();
+    function.build(ID, CONFIG, empty, REF_DATA);
+    function.build(ID, CONFIG, empty, REF_DATA);
+    assertThat(underlying.count).isEqualTo(2);
+    assertThat(cache.getEntryCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void test_disk() throws IOException {
+    Path directory = Files.createTempDirectory("market-data-cache-test");
+    try {
+      CountingFunction underlying = new CountingFunction();
+      MarketDataFunctionCache cache1 = MarketDataFunctionCache.of(10, directory);
+      cache1.cached(underlying, "counting").build(ID, CONFIG, marketData(1d), REF_DATA);
+      assertThat(underlying.count).isEqualTo(1);
+
+      // a new cache, as in a later run, finds the entry on disk
+      MarketDataFunctionCache cache2 = MarketDataFunctionCache.of(10, directory);
+      MarketDataFunction<String, TestingNamedId> function = cache2.cached(underlying, "counting");
+      assertThat(function.build(ID, CONFIG, marketData(1d), REF_DATA)).isEqualTo(MarketDataBox.ofSingleValue("A:1.0"));
+      assertThat(function.build(ID, CONFIG, marketData(1d), REF_DATA)).isEqualTo(MarketDataBox.ofSingleValue("A:1.0"));
+      assertThat(underlying.count).isEqualTo(1);
+      assertThat(cache2.getDiskHitCount()).isEqualTo(1);
+      assertThat(cache2.getHitCount()).isEqualTo(1);
+      assertThat(cache2.getMissCount()).isEqualTo(0);
+
+      // clearing deletes the entries on disk
+      cache2.clear();
+      MarketDataFunctionCache cache3 = MarketDataFunctionCache.of(10, directory);
+      cache3.cached(underlying, "counting").build(ID, CONFIG, marketData(1d), REF_DATA);
+      assertThat(underlying.count).isEqualTo(2);
+      assertThat(cache3.getDiskHitCount()).isEqualTo(0);
+    } finally {
+      MoreFiles.deleteRecursively(directory);
+    }
+  }
+
+  @Test
+  public void test_functionKey() {
+    MarketDataFunctionCache cache = MarketDataFunctionCache.of(10);
+    CountingFunction underlying = new CountingFunction();
+    cache.cached(underlying, "A").build(ID, CONFIG, marketData(1d), REF_DATA);
+    cache.cached(underlying, "A").build(ID, CONFIG, marketData(1d), REF_DATA);
+    assertThat(underlying.count).isEqualTo(1);
+    cache.cached(underlying, "B").build(ID, CONFIG, marketData(1d), REF_DATA);
+    assertThat(underlying.count).isEqualTo(2);
+    assertThat(cache.getEntryCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void test_functionConfiguration() {
+    MarketDataFunctionCache cache = MarketDataFunctionCache.of(10);
+    assertThat(cache.cached(new ConfiguredFunction("X")).build(ID, CONFIG, marketData(1d), REF_DATA))
+        .isEqualTo(MarketDataBox.ofSingleValue("X:1.0"));
+    assertThat(cache.cached(new ConfiguredFunction("X")).build(ID, CONFIG, marketData(1d), REF_DATA))
+        .isEqualTo(MarketDataBox.ofSingleValue("X:1.0"));
+    assertThat(cache.getHitCount()).isEqualTo(1);
+    assertThat(cache.cached(new ConfiguredFunction("Y")).build(ID, CONFIG, marketData(1d), REF_DATA))
+        .isEqualTo(MarketDataBox.ofSingleValue("Y:1.0"));
+    assertThat(cache.getEntryCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void test_notSerializable() {
+    MarketDataFunctionCache cache = MarketDataFunctionCache.of(10);
+    assertThatIllegalArgumentException().isThrownBy(() -> cache.cached(new CountingFunction()));
+  }
+
+  @Test
+  public void test_referenceData() {
+    MarketDataFunctionCache cache = MarketDataFunctionCache.of(10);
+    CountingFunction underlying = new CountingFunction();
+    MarketDataFunction<String, TestingNamedId> function = cache.cached(underlying, "counting");
+    function.build(ID, CONFIG, marketData(1d), REF_DATA);
+    function.build(ID, CONFIG, marketData(1d), ReferenceData.empty());
+    assertThat(underlying.count).isEqualTo(2);
+    assertThat(cache.getEntryCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void test_configurationOrder() {
+    MarketDataConfig config1 = config(
+        ImmutableMap.of(
+            String.class, typeConfig(String.class, ImmutableMap.of("A", "a", "B", "b")),
+            Integer.class, typeConfig(Integer.class, ImmutableMap.of("C", 1))),
+        ImmutableMap.of(String.class, "x", Double.class, 2d));
+    MarketDataConfig config2 = config(
+        ImmutableMap.of(
+            Integer.class, typeConfig(Integer.class, ImmutableMap.of("C", 1)),
+            String.class, typeConfig(String.class, ImmutableMap.of("B", "b", "A", "a"))),
+        ImmutableMap.of(Double.class, 2d, String.class, "x"));
+    MarketDataConfig config3 = MarketDataConfig.builder()
+        .add("A", "a")
+        .add("B", "b")
+        .add("C", 1)
+        .addDefault("x")
+        .addDefault(2d)
+        .build();
+    assertThat(config1).isEqualTo(config2);
+    assertThat(config1).isEqualTo(config3);
+
+    MarketDataFunctionCache cache = MarketDataFunctionCache.of(10);
+    CountingFunction underlying = new CountingFunction();
+    MarketDataFunction<String, TestingNamedId> function = cache.cached(underlying, "counting");
+    function.build(ID, config1, marketData(1d), REF_DATA);
+    function.build(ID, config2, marketData(1d), REF_DATA);
+    function.build(ID, config3, marketData(1d), REF_DATA);
+    assertThat(underlying.count).isEqualTo(1);
+    assertThat(cache.getEntryCount()).isEqualTo(1);
+
+    // a change to the configuration is a different entry
+    function.build(ID, MarketDataConfig.builder().add("A", "a").build(), marketData(1d), REF_DATA);
+    assertThat(underlying.count).isEqualTo(2);
+    assertThat(cache.getEntryCount()).isEqualTo(2);
+  }
+
+  //-------------------------------------------------------------------------
+  private static ScenarioMarketData marketData(double quote) {
+    return ImmutableScenarioMarketData.builder(date(2011, 3, 8))
+        .addValue(QUOTE_ID, quote)
+        .build();
+  }
+
+  // creates configuration whose maps iterate in the order specified
+  private static MarketDataConfig config(
+      ImmutableMap<Class<?>, SingleTypeMarketDataConfig> configs,
+      ImmutableMap<Class<?>, Object> defaultConfigs) {
+
+    return new MarketDataConfig(configs, defaultConfigs);
+  }
+
+  private static SingleTypeMarketDataConfig typeConfig(Class<?> type, ImmutableMap<String, Object> configObjects) {
+    return SingleTypeMarketDataConfig.builder()
+        .configType(type)
+        .configObjects(configObjects)
+        .build();
+  }
+
+  // a function that counts the number of times data is built
+  private static final class CountingFunction implements MarketDataFunction<String, TestingNamedId> {
+
+    private int count;
+
+    @Override
+    public MarketDataRequirements requirements(TestingNamedId id, MarketDataConfig marketDataConfig) {
+      return MarketDataRequirements.builder().addValues(QUOTE_ID).build();
+    }
+
+    @Override
+    public MarketDataBox<String> build(
+        TestingNamedId id,
+        MarketDataConfig marketDataConfig,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      count++;
+      double quote = marketData.findValue(QUOTE_ID).map(box -> box.getSingleValue()).orElse(0d);
+      return MarketDataBox.ofSingleValue(id.getMarketDataName().getName() + ":" + quote);
+    }
+
+    @Override
+    public Class<TestingNamedId> getMarketDataIdType() {
+      return TestingNamedId.class;
+    }
+  }
+
+  // a serializable function whose result depends on its configuration
+  private static final class ConfiguredFunction implements MarketDataFunction<String, TestingNamedId>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String prefix;
+
+    private ConfiguredFunction(String prefix) {
+      this.prefix = prefix;
+    }
+
+    @Override
+    public MarketDataRequirements requirements(TestingNamedId id, MarketDataConfig marketDataConfig) {
+      return MarketDataRequirements.builder().addValues(QUOTE_ID).build();
+    }
+
+    @Override
+    public MarketDataBox<String> build(
+        TestingNamedId id,
+        MarketDataConfig marketDataConfig,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      double quote = marketData.findValue(QUOTE_ID).map(box -> box.getSingleValue()).orElse(0d);
+      return MarketDataBox.ofSingleValue(prefix + ":" + quote);
+    }
+
+    @Override
+    public Class<TestingNamedId> getMarketDataIdType() {
+      return TestingNamedId.class;
+    }
+  }
+
+}
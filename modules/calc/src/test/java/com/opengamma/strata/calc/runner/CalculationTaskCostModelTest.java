@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.calc.ReportingCurrency.NATURAL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.calc.TestingMeasures;
+import com.opengamma.strata.calc.runner.CalculationTaskTest.TestFunction;
+import com.opengamma.strata.calc.runner.CalculationTaskTest.TestTarget;
+import com.opengamma.strata.calc.runner.DefaultCalculationTaskRunnerTest.HangingFunction;
+
+/**
+ * Test {@link CalculationTaskCostModel}.
+ */
+public class CalculationTaskCostModelTest {
+
+  private static final TestTarget TARGET = new TestTarget();
+  private static final CalculationTaskCell CELL = CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+  private static final CalculationTask TASK1 = CalculationTask.of(TARGET, new TestFunction(), CELL);
+  private static final CalculationTask TASK2 = CalculationTask.of(TARGET, new HangingFunction(), CELL);
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_estimate_unknown() {
+    CalculationTaskCostModel test = CalculationTaskCostModel.create();
+    assertThat(test.estimate(TASK1, 1)).isEqualTo(1d);
+    assertThat(test.estimate(TASK1, 10)).isEqualTo(10d);
+  }
+
+  @Test
+  public void test_record() {
+    CalculationTaskCostModel test = CalculationTaskCostModel.of(0.5d);
+    test.record(TASK1, 10, 1000);
+    assertThat(test.estimate(TASK1, 1)).isEqualTo(100d);
+    assertThat(test.estimate(TASK1, 5)).isEqualTo(500d);
+    test.record(TASK1, 10, 2000);
+    assertThat(test.estimate(TASK1, 1)).isEqualTo(150d);
+    // unknown function types are estimated using the highest known cost
+    assertThat(test.estimate(TASK2, 2)).isEqualTo(300d);
+    test.record(TASK2, 1, 10);
+    assertThat(test.estimate(TASK2, 2)).isEqualTo(20d);
+  }
+
+  @Test
+  public void test_of_invalid() {
+    assertThatIllegalArgumentException().isThrownBy(() -> CalculationTaskCostModel.of(0d));
+    assertThatIllegalArgumentException().isThrownBy(() -> CalculationTaskCostModel.of(1.5d));
+  }
+
+}
@@ -8,19 +8,27 @@ package com.opengamma.strata.calc.runner;
 import static com.opengamma.strata.basics.currency.Currency.USD;
 import static com.opengamma.strata.calc.ReportingCurrency.NATURAL;
 import static com.opengamma.strata.collect.CollectProjectAssertions.assertThat;
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
@@ -36,10 +44,15 @@ import com.opengamma.strata.calc.Column;
 import com.opengamma.strata.calc.Measure;
 import com.opengamma.strata.calc.Results;
 import com.opengamma.strata.calc.TestingMeasures;
+import com.opengamma.strata.calc.marketdata.TestObservableId;
 import com.opengamma.strata.calc.runner.CalculationTaskTest.TestTarget;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.scenario.DoubleScenarioArray;
+import com.opengamma.strata.data.scenario.ImmutableScenarioMarketData;
+import com.opengamma.strata.data.scenario.MarketDataBox;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 
@@ -157,6 +170,514 @@ public class DefaultCalculationTaskRunnerTest {
     assertThat(results.getColumns().get(0).getMeasure()).isEqualTo(TestingMeasures.PRESENT_VALUE);
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void workStealingSplitByScenario() {
+    TestObservableId id = TestObservableId.of("1");
+    ScenarioMarketData marketData = ImmutableScenarioMarketData.of(
+        10,
+        VAL_DATE,
+        ImmutableMap.of(id, MarketDataBox.ofScenarioValues(0d, 1d, 2d, 3d, 4d, 5d, 6d, 7d, 8d, 9d)),
+        ImmutableMap.of());
+    ScenarioValueFunction fn = new ScenarioValueFunction(id);
+    CalculationTaskCell cell = CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+    CalculationTask task = CalculationTask.of(TARGET, fn, cell);
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    CalculationTasks tasks = CalculationTasks.of(ImmutableList.of(task), ImmutableList.of(column));
+
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      CalculationTaskCostModel costModel = CalculationTaskCostModel.create();
+      CalculationTaskRunner test = CalculationTaskRunner.ofWorkStealing(pool, costModel, 3);
+      Results results = test.calculateMultiScenario(tasks, marketData, REF_DATA);
+      assertThat(results.get(0, 0)).hasValue(DoubleScenarioArray.of(DoubleArray.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9)));
+      assertThat(fn.scenarioCounts).containsOnly(3, 4);
+      assertThat(costModel.estimate(task, 10)).isGreaterThan(0d);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void workStealingSplitByScenario_customArray() {
+    TestObservableId id = TestObservableId.of("1");
+    ScenarioMarketData marketData = ImmutableScenarioMarketData.of(
+        10,
+        VAL_DATE,
+        ImmutableMap.of(id, MarketDataBox.ofScenarioValues(0d, 1d, 2d, 3d, 4d, 5d, 6d, 7d, 8d, 9d)),
+        ImmutableMap.of());
+    ScenarioValueFunction fn = new ScenarioValueFunction(id, true);
+    CalculationTaskCell cell = CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+    CalculationTask task = CalculationTask.of(TARGET, fn, cell);
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    CalculationTasks tasks = CalculationTasks.of(ImmutableList.of(task), ImmutableList.of(column));
+
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      CalculationTaskRunner test = CalculationTaskRunner.ofWorkStealing(pool, CalculationTaskCostModel.create(), 3);
+      Results results = test.calculateMultiScenario(tasks, marketData, REF_DATA);
+      assertThat(results.get(0, 0)).hasValue(ScenarioArray.of(0d, 1d, 2d, 3d, 4d, 5d, 6d, 7d, 8d, 9d));
+      // the parts are merged, rather than the task being run again without being split
+      assertThat(fn.scenarioCounts).containsOnly(3, 4);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  @Timeout(10)
+  public void streamingWithBackPressure() {
+    int taskCount = 50;
+    int maxPendingTasks = 3;
+    CountingFunction fn = new CountingFunction();
+    List<CalculationTask> taskList = IntStream.range(0, taskCount)
+        .mapToObj(i -> CalculationTaskCell.of(i, 0, TestingMeasures.PRESENT_VALUE, NATURAL))
+        .map(cell -> CalculationTask.of(TARGET, fn, cell))
+        .collect(toImmutableList());
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    CalculationTasks tasks = CalculationTasks.of(taskList, ImmutableList.of(column));
+    ScenarioMarketData marketData = ScenarioMarketData.of(1, MarketData.empty(VAL_DATE));
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      CalculationTaskRunner test = CalculationTaskRunner.of(executor);
+      SlowListener listener = new SlowListener(fn.executed);
+      test.calculateMultiScenarioStreaming(tasks, marketData, REF_DATA, listener, maxPendingTasks);
+      // the method only returns once all results have been delivered
+      assertThat(listener.complete).isTrue();
+      assertThat(listener.received).isEqualTo(taskCount);
+      assertThat(listener.maxPending).isLessThanOrEqualTo(maxPendingTasks);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  @Timeout(10)
+  public void streamingFunctionThrowsError() {
+    int taskCount = 10;
+    ErrorFunction fn = new ErrorFunction();
+    List<CalculationTask> taskList = IntStream.range(0, taskCount)
+        .mapToObj(i -> CalculationTaskCell.of(i, 0, TestingMeasures.PRESENT_VALUE, NATURAL))
+        .map(cell -> CalculationTask.of(TARGET, fn, cell))
+        .collect(toImmutableList());
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    CalculationTasks tasks = CalculationTasks.of(taskList, ImmutableList.of(column));
+    ScenarioMarketData marketData = ScenarioMarketData.of(1, MarketData.empty(VAL_DATE));
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      CalculationTaskRunner test = CalculationTaskRunner.of(executor);
+      ResultsListener listener = new ResultsListener();
+      // the permits of the failed tasks must be released, otherwise this would block forever
+      test.calculateMultiScenarioStreaming(tasks, marketData, REF_DATA, listener, 2);
+      Results results = listener.result();
+      assertThat(results.getCells()).hasSize(taskCount);
+      results.getCells().forEach(result -> assertThat(result).isFailure(FailureReason.CALCULATION_FAILED));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  @Timeout(10)
+  public void streamingSubmissionRejected() {
+    CountingFunction fn = new CountingFunction();
+    CalculationTaskCell cell = CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+    CalculationTask task = CalculationTask.of(TARGET, fn, cell);
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    CalculationTasks tasks = CalculationTasks.of(ImmutableList.of(task), ImmutableList.of(column));
+    ScenarioMarketData marketData = ScenarioMarketData.of(1, MarketData.empty(VAL_DATE));
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    executor.shutdown();
+    CalculationTaskRunner test = CalculationTaskRunner.of(executor);
+    ResultsListener listener = new ResultsListener();
+    test.calculateMultiScenarioStreaming(tasks, marketData, REF_DATA, listener, 1);
+    assertThat(listener.result().getCells()).hasSize(1);
+    assertThat(listener.result().getCells().get(0)).isFailure(FailureReason.CALCULATION_FAILED);
+    assertThat(fn.executed.get()).isEqualTo(0);
+  }
+
+  @Test
+  public void streamingInvalidMaxPendingTasks() {
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    CalculationTasks tasks = CalculationTasks.of(ImmutableList.of(), ImmutableList.of(column));
+    CalculationTaskRunner test = CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService());
+    ScenarioMarketData marketData = ScenarioMarketData.of(1, MarketData.empty(VAL_DATE));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> test.calculateMultiScenarioStreaming(tasks, marketData, REF_DATA, new Listener(), 0));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void batched() {
+    BatchFunction fn = new BatchFunction(false);
+    Results results = calculateBatched(fn, 10, 4);
+    assertThat(fn.batchSizes).containsExactly(4, 4, 2);
+    assertThat(results.getCells()).hasSize(10);
+    results.getCells().forEach(result -> assertThat(result).hasValue(ScenarioArray.of("batch")));
+  }
+
+  @Test
+  public void batchedFailureCalculatedSeparately() {
+    BatchFunction fn = new BatchFunction(true);
+    Results results = calculateBatched(fn, 5, 4);
+    assertThat(fn.batchSizes).containsExactly(4);
+    assertThat(results.getCells()).hasSize(5);
+    results.getCells().forEach(result -> assertThat(result).hasValue(ScenarioArray.of("single")));
+  }
+
+  @Test
+  public void batchedInvalidSize() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService(), 0));
+  }
+
+  @Test
+  public void resolvedTargetCache() {
+    ResolvingFunction fn = new ResolvingFunction();
+    CalculationTaskCell cell = CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+    CalculationTask task = CalculationTask.of(TARGET, fn, cell);
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    CalculationTasks tasks = CalculationTasks.of(ImmutableList.of(task), ImmutableList.of(column));
+    ScenarioMarketData marketData = ScenarioMarketData.of(1, MarketData.empty(VAL_DATE));
+    ResolvedTargetCache cache = ResolvedTargetCache.of(10);
+    CalculationTaskRunner test =
+        CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService()).withResolvedTargetCache(cache);
+    test.calculateMultiScenario(tasks, marketData, REF_DATA);
+    Results results = test.calculateMultiScenario(tasks, marketData, REF_DATA);
+    assertThat(results.get(0, 0)).hasValue(ScenarioArray.of(1));
+    assertThat(fn.resolved.get()).isEqualTo(1);
+    assertThat(cache.getHitCount()).isEqualTo(1);
+    // the cache is not added to the tasks themselves
+    assertThat(task.getParameters().findParameter(ResolvedTargetCache.class)).isEmpty();
+  }
+
+  @Test
+  public void resolvedTargetCache_close() {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    CalculationTaskRunner base = CalculationTaskRunner.of(executor);
+    try {
+      // the underlying runner owns the executor
+      base.withResolvedTargetCache(ResolvedTargetCache.of(10)).close();
+      assertThat(executor.isShutdown()).isFalse();
+    } finally {
+      base.close();
+    }
+    assertThat(executor.isShutdown()).isTrue();
+  }
+
+  private static Results calculateBatched(BatchFunction fn, int taskCount, int maxBatchSize) {
+    List<CalculationTask> taskList = IntStream.range(0, taskCount)
+        .mapToObj(i -> CalculationTaskCell.of(i, 0, TestingMeasures.PRESENT_VALUE, NATURAL))
+        .map(cell -> CalculationTask.of(TARGET, fn, cell))
+        .collect(toImmutableList());
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    CalculationTasks tasks = CalculationTasks.of(taskList, ImmutableList.of(column));
+    ScenarioMarketData marketData = ScenarioMarketData.of(1, MarketData.empty(VAL_DATE));
+    CalculationTaskRunner test = CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService(), maxBatchSize);
+    return test.calculateMultiScenario(tasks, marketData, REF_DATA);
+  }
+
+  //-------------------------------------------------------------------------
+  private static final class BatchFunction implements BatchCalculationFunction<TestTarget> {
+
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private final boolean fail;
+
+    private BatchFunction(boolean fail) {
+      this.fail = fail;
+    }
+
+    @Override
+    public Class<TestTarget> targetType() {
+      return TestTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return MEASURES;
+    }
+
+    @Override
+    public Currency naturalCurrency(TestTarget trade, ReferenceData refData) {
+      return USD;
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.empty();
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      return ImmutableMap.of(TestingMeasures.PRESENT_VALUE, Result.success(ScenarioArray.of("single")));
+    }
+
+    @Override
+    public List<Map<Measure, Result<?>>> calculateBatch(
+        List<? extends TestTarget> targets,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      batchSizes.add(targets.size());
+      if (fail) {
+        throw new IllegalStateException("Batch failed");
+      }
+      Map<Measure, Result<?>> result =
+          ImmutableMap.of(TestingMeasures.PRESENT_VALUE, Result.success(ScenarioArray.of("batch")));
+      return Collections.nCopies(targets.size(), result);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  private static final class CountingFunction implements CalculationFunction<TestTarget> {
+
+    private final AtomicInteger executed = new AtomicInteger();
+
+    @Override
+    public Class<TestTarget> targetType() {
+      return TestTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return MEASURES;
+    }
+
+    @Override
+    public Currency naturalCurrency(TestTarget trade, ReferenceData refData) {
+      return USD;
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.empty();
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      int count = executed.incrementAndGet();
+      return ImmutableMap.of(TestingMeasures.PRESENT_VALUE, Result.success(ScenarioArray.of(count)));
+    }
+  }
+
+  // a function that resolves the target using the cache, returning the number of times it was resolved
+  private static final class ResolvingFunction implements CalculationFunction<TestTarget> {
+
+    private final AtomicInteger resolved = new AtomicInteger();
+
+    @Override
+    public Class<TestTarget> targetType() {
+      return TestTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return MEASURES;
+    }
+
+    @Override
+    public Currency naturalCurrency(TestTarget trade, ReferenceData refData) {
+      return USD;
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.empty();
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      Integer count = ResolvedTargetCache.resolve(target, parameters, refData, (t, r) -> resolved.incrementAndGet());
+      return ImmutableMap.of(TestingMeasures.PRESENT_VALUE, Result.success(ScenarioArray.of(count)));
+    }
+  }
+
+  // a function that throws an error, which is not converted to a failure by the task
+  private static final class ErrorFunction implements CalculationFunction<TestTarget> {
+
+    @Override
+    public Class<TestTarget> targetType() {
+      return TestTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return MEASURES;
+    }
+
+    @Override
+    public Currency naturalCurrency(TestTarget trade, ReferenceData refData) {
+      return USD;
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.empty();
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      throw new AssertionError("Calculation error");
+    }
+  }
+
+  // a listener that is slower than the calculations, recording the maximum number of pending tasks
+  private static final class SlowListener implements CalculationListener {
+
+    private final AtomicInteger executed;
+    private int received;
+    private int maxPending;
+    private boolean complete;
+
+    private SlowListener(AtomicInteger executed) {
+      this.executed = executed;
+    }
+
+    @Override
+    public void resultReceived(CalculationTarget target, CalculationResult result) {
+      // the task being delivered is still pending
+      maxPending = Math.max(maxPending, executed.get() - received);
+      received++;
+      try {
+        Thread.sleep(2);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    @Override
+    public void calculationsComplete() {
+      complete = true;
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  private static final class ScenarioValueFunction implements CalculationFunction<TestTarget> {
+
+    private final TestObservableId id;
+    private final boolean custom;
+    private final Set<Integer> scenarioCounts = ConcurrentHashMap.newKeySet();
+
+    private ScenarioValueFunction(TestObservableId id) {
+      this(id, false);
+    }
+
+    private ScenarioValueFunction(TestObservableId id, boolean custom) {
+      this.id = id;
+      this.custom = custom;
+    }
+
+    @Override
+    public Class<TestTarget> targetType() {
+      return TestTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return MEASURES;
+    }
+
+    @Override
+    public Currency naturalCurrency(TestTarget trade, ReferenceData refData) {
+      return USD;
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.empty();
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      scenarioCounts.add(marketData.getScenarioCount());
+      MarketDataBox<Double> box = marketData.getValue(id);
+      DoubleScenarioArray array = DoubleScenarioArray.of(marketData.getScenarioCount(), i -> box.getValue(i));
+      ScenarioArray<Double> result = custom ? new CustomScenarioArray(array.getValues()) : array;
+      return ImmutableMap.of(TestingMeasures.PRESENT_VALUE, Result.success(result));
+    }
+  }
+
+  // a scenario array of a type unknown to the runner
+  private static final class CustomScenarioArray implements ScenarioArray<Double> {
+
+    private final DoubleArray values;
+
+    private CustomScenarioArray(DoubleArray values) {
+      this.values = values;
+    }
+
+    @Override
+    public int getScenarioCount() {
+      return values.size();
+    }
+
+    @Override
+    public Double get(int scenarioIndex) {
+      return values.get(scenarioIndex);
+    }
+  }
+
   //-------------------------------------------------------------------------
   private static final class ScenarioResultFunction implements CalculationFunction<TestTarget> {
 
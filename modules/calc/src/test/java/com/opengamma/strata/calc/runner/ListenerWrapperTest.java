@@ -6,6 +6,7 @@
 package com.opengamma.strata.calc.runner;
 
 import static java.util.stream.Collectors.joining;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
 
 import java.util.Queue;
@@ -13,6 +14,7 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.stream.IntStream;
 
@@ -52,6 +54,56 @@ public class ListenerWrapperTest {
     }
   }
 
+  // Tests that results received while the listener is being invoked are reported in the queue depth
+  @Test
+  public void deliveryMetrics() throws Exception {
+    CountDownLatch invoked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicReference<ResultDeliveryMetrics> metricsRef = new AtomicReference<>();
+    CalculationListener listener = new CalculationListener() {
+      @Override
+      public void deliveryMetricsAvailable(ResultDeliveryMetrics metrics) {
+        metricsRef.set(metrics);
+      }
+
+      @Override
+      public void resultReceived(CalculationTarget target, CalculationResult result) {
+        invoked.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+        }
+      }
+
+      @Override
+      public void calculationsComplete() {
+      }
+    };
+    Consumer<CalculationResults> wrapper = new ListenerWrapper(listener, 5, ImmutableList.of(), ImmutableList.of());
+    ResultDeliveryMetrics metrics = metricsRef.get();
+    assertThat(metrics).isSameAs(wrapper);
+    assertThat(metrics.getTasksExpected()).isEqualTo(5);
+    assertThat(metrics.getQueueDepth()).isEqualTo(0);
+
+    CalculationResult result = CalculationResult.of(0, 0, Result.failure(FailureReason.ERROR, "foo"));
+    CalculationResults results = CalculationResults.of(new CalculationTarget() {}, ImmutableList.of(result));
+    Thread deliveringThread = new Thread(() -> wrapper.accept(results));
+    deliveringThread.start();
+    invoked.await();
+    // the listener is blocked delivering the first result, so the other results are queued without blocking
+    IntStream.range(1, 5).forEach(i -> wrapper.accept(results));
+    assertThat(metrics.getQueueDepth()).isEqualTo(5);
+    assertThat(metrics.getTasksDelivered()).isEqualTo(0);
+
+    release.countDown();
+    deliveringThread.join();
+    assertThat(metrics.getQueueDepth()).isEqualTo(0);
+    assertThat(metrics.getMaxQueueDepth()).isEqualTo(5);
+    assertThat(metrics.getTasksDelivered()).isEqualTo(5);
+  }
+
+  //-------------------------------------------------------------------------
   public static final class Listener implements CalculationListener {
 
     /**
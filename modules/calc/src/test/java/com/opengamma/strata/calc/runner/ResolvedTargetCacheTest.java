@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.basics.ImmutableReferenceData;
+import com.opengamma.strata.basics.ReferenceData;
+
+/**
+ * Test {@link ResolvedTargetCache}.
+ */
+public class ResolvedTargetCacheTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final ReferenceData REF_DATA2 = ImmutableReferenceData.empty();
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_resolve() {
+    AtomicInteger count = new AtomicInteger();
+    BiFunction<String, ReferenceData, String> resolver = (target, refData) -> {
+      count.incrementAndGet();
+      return target + "-resolved";
+    };
+    ResolvedTargetCache test = ResolvedTargetCache.of(10);
+    assertThat(test.resolve("A", REF_DATA, resolver)).isEqualTo("A-resolved");
+    assertThat(test.resolve("B", REF_DATA, resolver)).isEqualTo("B-resolved");
+    assertThat(test.resolve(new String("A"), REF_DATA, resolver)).isEqualTo("A-resolved");
+    assertThat(count.get()).isEqualTo(2);
+    assertThat(test.getEntryCount()).isEqualTo(2);
+    assertThat(test.getHitCount()).isEqualTo(1);
+    assertThat(test.getMissCount()).isEqualTo(2);
+    assertThat(test.toString()).isEqualTo("ResolvedTargetCache[entries=2, hits=1, misses=2]");
+  }
+
+  @Test
+  public void test_resolve_changedReferenceData() {
+    AtomicInteger count = new AtomicInteger();
+    BiFunction<String, ReferenceData, String> resolver = (target, refData) -> {
+      count.incrementAndGet();
+      return target + "-resolved";
+    };
+    ResolvedTargetCache test = ResolvedTargetCache.of(10);
+    test.resolve("A", REF_DATA, resolver);
+    test.resolve("A", REF_DATA2, resolver);
+    assertThat(count.get()).isEqualTo(2);
+    assertThat(test.getEntryCount()).isEqualTo(2);
+    // alternating between reference data does not discard the entries of either
+    test.resolve("A", REF_DATA, resolver);
+    test.resolve("A", REF_DATA2, resolver);
+    assertThat(count.get()).isEqualTo(2);
+    assertThat(test.getHitCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void test_resolve_maximumSize() {
+    ResolvedTargetCache test = ResolvedTargetCache.ofMemorySensitive(2);
+    for (int i = 0; i < 5; i++) {
+      test.resolve(i, REF_DATA, (target, refData) -> target.toString());
+    }
+    assertThat(test.getEntryCount()).isEqualTo(2);
+    assertThat(test.getEvictionCount()).isEqualTo(3);
+    test.clear();
+    assertThat(test.getEntryCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void test_resolve_failure() {
+    ResolvedTargetCache test = ResolvedTargetCache.of(10);
+    BiFunction<String, ReferenceData, String> resolver = (target, refData) -> {
+      throw new IllegalArgumentException("Bad");
+    };
+    assertThatIllegalArgumentException().isThrownBy(() -> test.resolve("A", REF_DATA, resolver));
+    assertThat(test.getEntryCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void test_resolve_parameters() {
+    ResolvedTargetCache cache = ResolvedTargetCache.of(10);
+    CalculationParameters parameters = CalculationParameters.of(cache);
+    String resolved1 = ResolvedTargetCache.resolve("A", parameters, REF_DATA, (target, refData) -> target + "1");
+    String resolved2 = ResolvedTargetCache.resolve("A", parameters, REF_DATA, (target, refData) -> target + "2");
+    String uncached = ResolvedTargetCache.resolve(
+        "A", CalculationParameters.empty(), REF_DATA, (target, refData) -> target + "2");
+    assertThat(resolved1).isEqualTo("A1");
+    assertThat(resolved2).isEqualTo("A1");
+    assertThat(uncached).isEqualTo("A2");
+    assertThat(cache.getHitCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void test_of_invalid() {
+    assertThatIllegalArgumentException().isThrownBy(() -> ResolvedTargetCache.of(0));
+    assertThatIllegalArgumentException().isThrownBy(() -> ResolvedTargetCache.ofMemorySensitive(-1));
+  }
+
+}
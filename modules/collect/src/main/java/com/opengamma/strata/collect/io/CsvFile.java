@@ -335,7 +335,8 @@ public final class CsvFile {
       return ImmutableList.of();
     }
     ImmutableList.Builder<String> builder = ImmutableList.builder();
-    String terminated = line + separator;
+    // the line is treated as though terminated by a separator, without copying it
+    int length = line.length() + 1;
     // three modes of parsing - base, value and quote
     // to match other lenient parsers, when quote mode finishes, the mode switches to value with the result combined
     int pos = 0;
@@ -343,26 +344,28 @@ public final class CsvFile {
     String value = "";
     boolean valueMode = false;
     boolean quoteMode = false;
-    while (pos < terminated.length()) {
-      char ch = terminated.charAt(pos++);
+    while (pos < length) {
+      char ch = pos < line.length() ? line.charAt(pos) : separator;
+      pos++;
       if (quoteMode) {
         // currently in quote mode
-        if (ch == '"' && pos < terminated.length() - 1 && terminated.charAt(pos) == '"') {
+        if (ch == '"' && pos < length - 1 && line.charAt(pos) == '"') {
           // two double quotes will become one
           pos++;
         } else if (ch == '"') {
           // end of quoted section
-          value = terminated.substring(startPos, pos - 1).replace("\"\"", "\"");
+          value = unescapeQuotes(line.substring(startPos, pos - 1));
           startPos = pos;
           quoteMode = false;
-        } else if (pos == terminated.length()) {
+        } else if (pos == length) {
           // end of string with quote not terminated properly
-          builder.add(terminated.substring(startPos, pos - 1).replace("\"\"", "\""));
+          builder.add(unescapeQuotes(line.substring(startPos)));
         }
       } else if (valueMode) {
         // currently in value mode
         if (ch == separator) {
-          builder.add(value + terminated.substring(startPos, pos - 1).trim());
+          String trimmed = trimmedSubstring(line, startPos, pos - 1);
+          builder.add(value.isEmpty() ? trimmed : value + trimmed);
           valueMode = false;
           value = "";
         }
@@ -371,7 +374,7 @@ public final class CsvFile {
         builder.add("");
       } else if (ch == ' ') {
         // ignore spaces after separators
-      } else if (ch == '=' && pos < terminated.length() - 1 && terminated.charAt(pos) == '"') {
+      } else if (ch == '=' && pos < length - 1 && line.charAt(pos) == '"') {
         // handle convention where ="xxx" means xxx by simply ignoring the equals
       } else if (ch == '"') {
         // quoted mode
@@ -392,6 +395,24 @@ public final class CsvFile {
     return fields;
   }
 
+  // two double quotes become one, avoiding the cost of String.replace() in the common case
+  private static String unescapeQuotes(String str) {
+    return str.indexOf("\"\"") < 0 ? str : str.replace("\"\"", "\"");
+  }
+
+  // equivalent to substring().trim(), but only creating one string
+  private static String trimmedSubstring(String str, int startInclusive, int endExclusive) {
+    int start = startInclusive;
+    int end = endExclusive;
+    while (start < end && str.charAt(start) <= ' ') {
+      start++;
+    }
+    while (end > start && str.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    return str.substring(start, end);
+  }
+
   // determines whether there is any content on a line
   // this handles lines that contain separators but nothing else
   private static boolean hasContent(ImmutableList<String> fields) {
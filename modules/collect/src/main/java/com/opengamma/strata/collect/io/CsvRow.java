@@ -309,6 +309,28 @@ public final class CsvRow {
     return findField(header).filter(str -> !str.isEmpty());
   }
 
+  /**
+   * Gets a single field value from the row by header, parsed as a {@code double}.
+   * <p>
+   * This returns the value of the first column where the header matches the specified header.
+   * The value is parsed using {@link Double#parseDouble(String)}, avoiding the boxing of
+   * {@link #getValue(String, Function)}.
+   *
+   * @param header  the column header
+   * @return the parsed field value
+   * @throws IllegalArgumentException if the header is not found, if the value in the field is empty
+   *   or if the value cannot be parsed
+   */
+  public double parseDouble(String header) {
+    String value = getValue(header);
+    try {
+      return Double.parseDouble(value);
+    } catch (NumberFormatException ex) {
+      throw new IllegalArgumentException(
+          "Unable to parse double from '" + value + "' for field: '" + header + "'", ex);
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Gets a single field value from the row by header pattern.
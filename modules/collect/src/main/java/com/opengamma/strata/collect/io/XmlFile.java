@@ -7,9 +7,19 @@ package com.opengamma.strata.collect.io;
 
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
 import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamConstants;
@@ -147,6 +157,60 @@ public final class XmlFile {
     });
   }
 
+  /**
+   * Parses the specified source as an XML file, streaming the selected elements.
+   * <p>
+   * This parses the specified byte source expecting an XML file format, but without
+   * building the whole document in memory. Instead, the selector decides which elements are returned.
+   * The selector is passed the names of the elements from the root to the current element inclusive.
+   * Where the selector returns true, the element and its descendants are parsed and returned as the
+   * root of an {@code XmlFile}, and the descendants are not passed to the selector.
+   * All other elements are discarded once read.
+   * As such, memory usage is bounded by the size of the largest selected element.
+   * <p>
+   * This supports capturing attribute references, such as an id/href pair, as per
+   * {@link #of(ByteSource, String)}. The references of each returned file are those
+   * found within the selected element.
+   * <p>
+   * The stream is lazy, reading the source only as far as needed to find the next selected element.
+   * The stream must be closed to release the underlying input, such as by using try-with-resources.
+   * 
+   * @param source  the XML source data
+   * @param refAttrName  the attribute name that should be parsed as a reference
+   * @param selector  the selector, passed the list of element names from the root, not to be retained
+   * @return the stream of selected elements, each as the root of a file
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the file cannot be parsed
+   */
+  public static Stream<XmlFile> streamElements(
+      ByteSource source,
+      String refAttrName,
+      Predicate<List<String>> selector) {
+
+    ArgChecker.notNull(source, "source");
+    ArgChecker.notNull(refAttrName, "refAttrName");
+    ArgChecker.notNull(selector, "selector");
+    InputStream in = Unchecked.wrap(() -> source.openBufferedStream());
+    XMLStreamReader xmlReader;
+    try {
+      xmlReader = XML_FACTORY.createXMLStreamReader(in);
+    } catch (XMLStreamException ex) {
+      Unchecked.wrap(() -> in.close());
+      throw new IllegalArgumentException(ex);
+    }
+    SelectedElementIterator iterator = new SelectedElementIterator(xmlReader, refAttrName, selector);
+    Spliterator<XmlFile> spliterator =
+        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL);
+    return StreamSupport.stream(spliterator, false)
+        .onClose(() -> Unchecked.wrap(() -> {
+          try {
+            xmlReader.close();
+          } finally {
+            in.close();
+          }
+        }));
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Parses the tree from the StAX stream reader, capturing references.
@@ -260,6 +324,66 @@ public final class XmlFile {
     return attrs;
   }
 
+  //-------------------------------------------------------------------------
+  // iterates over the elements matched by the selector, parsing each to a file
+  private static final class SelectedElementIterator implements Iterator<XmlFile> {
+    private final XMLStreamReader reader;
+    private final String refAttr;
+    private final Predicate<List<String>> selector;
+    // the names of the elements from the root to the current element
+    private final List<String> path = new ArrayList<>();
+    private final List<String> pathView = Collections.unmodifiableList(path);
+    private XmlFile next;
+
+    private SelectedElementIterator(XMLStreamReader reader, String refAttr, Predicate<List<String>> selector) {
+      this.reader = reader;
+      this.refAttr = refAttr;
+      this.selector = selector;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (next == null) {
+        next = findNext();
+      }
+      return next != null;
+    }
+
+    @Override
+    public XmlFile next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException("No more selected elements");
+      }
+      XmlFile result = next;
+      next = null;
+      return result;
+    }
+
+    // reads until the next selected element has been parsed, returning null at the end of the input
+    private XmlFile findNext() {
+      try {
+        while (reader.hasNext()) {
+          int event = reader.next();
+          if (event == XMLStreamConstants.START_ELEMENT) {
+            path.add(reader.getLocalName());
+            if (selector.test(pathView)) {
+              HashMap<String, XmlElement> refs = new HashMap<>();
+              XmlElement element = parse(reader, refAttr, refs);
+              path.remove(path.size() - 1);
+              return new XmlFile(element, refs);
+            }
+          } else if (event == XMLStreamConstants.END_ELEMENT) {
+            path.remove(path.size() - 1);
+          }
+        }
+        return null;
+
+      } catch (XMLStreamException ex) {
+        throw new IllegalArgumentException(ex);
+      }
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Restricted constructor.
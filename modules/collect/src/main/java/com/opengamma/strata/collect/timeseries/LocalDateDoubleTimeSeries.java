@@ -125,6 +125,20 @@ public interface LocalDateDoubleTimeSeries {
    */
   public abstract OptionalDouble get(LocalDate date);
 
+  /**
+   * Gets the value associated with the specified epoch day.
+   * <p>
+   * This is equivalent to {@link #get(LocalDate)} where the date is {@code LocalDate.ofEpochDay(epochDay)}.
+   * It allows callers that hold dates as epoch days, such as when iterating over a large store
+   * of fixings, to avoid creating {@code LocalDate} instances.
+   *
+   * @param epochDay  the epoch day to get the value for
+   * @return the value associated with the epoch day, optional empty if the date is not present
+   */
+  public default OptionalDouble getByEpochDay(long epochDay) {
+    return get(LocalDate.ofEpochDay(epochDay));
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Get the earliest date contained in this time-series.
@@ -191,6 +205,21 @@ public interface LocalDateDoubleTimeSeries {
    */
   public abstract LocalDateDoubleTimeSeries subSeries(LocalDate startInclusive, LocalDate endExclusive);
 
+  /**
+   * Gets part of this series as a sub-series between two epoch days.
+   * <p>
+   * This is equivalent to {@link #subSeries(LocalDate, LocalDate)} where the dates are
+   * obtained using {@code LocalDate.ofEpochDay(long)}.
+   *
+   * @param startInclusive  the start epoch day, inclusive
+   * @param endExclusive  the end epoch day, exclusive
+   * @return the sub-series between the epoch days
+   * @throws IllegalArgumentException if the end is before the start
+   */
+  public default LocalDateDoubleTimeSeries subSeriesByEpochDay(long startInclusive, long endExclusive) {
+    return subSeries(LocalDate.ofEpochDay(startInclusive), LocalDate.ofEpochDay(endExclusive));
+  }
+
   /**
    * Gets part of this series as a sub-series, choosing the earliest entries.
    * <p>
@@ -10,6 +10,7 @@ import static com.opengamma.strata.collect.timeseries.DenseLocalDateDoubleTimeSe
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoField;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -18,6 +19,7 @@ import java.util.OptionalDouble;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.function.DoubleBinaryOperator;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import com.opengamma.strata.collect.ArgChecker;
@@ -29,6 +31,10 @@ import com.opengamma.strata.collect.ArgChecker;
  * Entries can be added to the builder in any order.
  * If a date is duplicated it will overwrite an earlier entry.
  * <p>
+ * Entries added in ascending date order, as is typical when loading fixings,
+ * are held in primitive arrays of epoch days and values. The entries are only
+ * moved to a sorted map when an entry is added out of order, or merged.
+ * <p>
  * Use {@link LocalDateDoubleTimeSeries#builder()} to create an instance.
  */
 public final class LocalDateDoubleTimeSeriesBuilder {
@@ -40,8 +46,22 @@ public final class LocalDateDoubleTimeSeriesBuilder {
 
   /**
    * The entries for the time-series.
+   * This is only used once an entry has been added out of order.
    */
   private final SortedMap<LocalDate, Double> entries = new TreeMap<>();
+  /**
+   * The epoch days of the entries added in ascending order.
+   * This is only used while the map of entries is empty.
+   */
+  private long[] appendEpochDays = new long[0];
+  /**
+   * The values of the entries added in ascending order.
+   */
+  private double[] appendValues = new double[0];
+  /**
+   * The number of entries added in ascending order.
+   */
+  private int appendSize;
 
   /**
    * Keep track of whether we have weekends in the data.
@@ -62,12 +82,18 @@ public final class LocalDateDoubleTimeSeriesBuilder {
    * <p>
    * Use {@link LocalDateDoubleTimeSeries#toBuilder()}.
    * 
-   * @param dates  the dates to initialize with
+   * @param epochDays  the epoch days to initialize with, in ascending order
    * @param values  the values to initialize with
    */
-  LocalDateDoubleTimeSeriesBuilder(LocalDate[] dates, double[] values) {
-    for (int i = 0; i < dates.length; i++) {
-      put(dates[i], values[i]);
+  LocalDateDoubleTimeSeriesBuilder(long[] epochDays, double[] values) {
+    this.appendEpochDays = epochDays.clone();
+    this.appendValues = values.clone();
+    this.appendSize = epochDays.length;
+    for (long epochDay : epochDays) {
+      if (isWeekend(epochDay)) {
+        containsWeekends = true;
+        break;
+      }
     }
   }
 
@@ -94,6 +120,10 @@ public final class LocalDateDoubleTimeSeriesBuilder {
    * @return the value associated with the date, optional empty if the date is not present
    */
   public OptionalDouble get(LocalDate date) {
+    if (isAppending()) {
+      int position = Arrays.binarySearch(appendEpochDays, 0, appendSize, date.toEpochDay());
+      return (position >= 0 ? OptionalDouble.of(appendValues[position]) : OptionalDouble.empty());
+    }
     Double value = entries.get(date);
     return (value != null ? OptionalDouble.of(value) : OptionalDouble.empty());
   }
@@ -109,10 +139,22 @@ public final class LocalDateDoubleTimeSeriesBuilder {
   public LocalDateDoubleTimeSeriesBuilder put(LocalDate date, double value) {
     ArgChecker.notNull(date, "date");
     ArgChecker.isFalse(Double.isNaN(value), "NaN is not allowed as a value");
-    entries.put(date, value);
     if (!containsWeekends && date.get(ChronoField.DAY_OF_WEEK) > 5) {
       containsWeekends = true;
     }
+    if (isAppending()) {
+      long epochDay = date.toEpochDay();
+      if (appendSize == 0 || epochDay > appendEpochDays[appendSize - 1]) {
+        append(epochDay, value);
+        return this;
+      }
+      if (epochDay == appendEpochDays[appendSize - 1]) {
+        appendValues[appendSize - 1] = value;
+        return this;
+      }
+      spill();
+    }
+    entries.put(date, value);
     return this;
   }
 
@@ -142,6 +184,7 @@ public final class LocalDateDoubleTimeSeriesBuilder {
   public LocalDateDoubleTimeSeriesBuilder merge(LocalDate date, double value, DoubleBinaryOperator operator) {
     ArgChecker.notNull(date, "date");
     ArgChecker.notNull(operator, "operator");
+    spill();
     entries.merge(date, value, (a, b) -> operator.applyAsDouble(a, b));
     return this;
   }
@@ -157,6 +200,7 @@ public final class LocalDateDoubleTimeSeriesBuilder {
    */
   public LocalDateDoubleTimeSeriesBuilder merge(LocalDateDoublePoint point, DoubleBinaryOperator operator) {
     ArgChecker.notNull(point, "point");
+    spill();
     entries.merge(point.getDate(), point.getValue(), (a, b) -> operator.applyAsDouble(a, b));
     return this;
   }
@@ -251,6 +295,13 @@ public final class LocalDateDoubleTimeSeriesBuilder {
    */
   public LocalDateDoubleTimeSeriesBuilder putAll(LocalDateDoubleTimeSeriesBuilder other) {
     ArgChecker.notNull(other, "other");
+    if (other.isAppending()) {
+      for (int i = 0; i < other.appendSize; i++) {
+        put(LocalDate.ofEpochDay(other.appendEpochDays[i]), other.appendValues[i]);
+      }
+      return this;
+    }
+    spill();
     entries.putAll(other.entries);
     containsWeekends = containsWeekends || other.containsWeekends;
     return this;
@@ -270,6 +321,39 @@ public final class LocalDateDoubleTimeSeriesBuilder {
     return this;
   }
 
+  //-------------------------------------------------------------------------
+  // checks if the entries are held in the append arrays
+  private boolean isAppending() {
+    return entries.isEmpty();
+  }
+
+  // appends an entry that is after all existing entries
+  private void append(long epochDay, double value) {
+    if (appendSize == appendEpochDays.length) {
+      int capacity = Math.max(appendSize * 2, 16);
+      appendEpochDays = Arrays.copyOf(appendEpochDays, capacity);
+      appendValues = Arrays.copyOf(appendValues, capacity);
+    }
+    appendEpochDays[appendSize] = epochDay;
+    appendValues[appendSize] = value;
+    appendSize++;
+  }
+
+  // moves the entries from the append arrays to the map
+  private void spill() {
+    for (int i = 0; i < appendSize; i++) {
+      entries.put(LocalDate.ofEpochDay(appendEpochDays[i]), appendValues[i]);
+    }
+    appendEpochDays = new long[0];
+    appendValues = new double[0];
+    appendSize = 0;
+  }
+
+  // checks if the epoch day is a Saturday or Sunday, 1970-01-01 being a Thursday
+  private static boolean isWeekend(long epochDay) {
+    return Math.floorMod(epochDay + 3, 7) >= 5;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Build the time-series from the builder.
@@ -278,7 +362,7 @@ public final class LocalDateDoubleTimeSeriesBuilder {
    */
   public LocalDateDoubleTimeSeries build() {
 
-    if (entries.isEmpty()) {
+    if (size() == 0) {
       return LocalDateDoubleTimeSeries.empty();
     }
 
@@ -291,17 +375,26 @@ public final class LocalDateDoubleTimeSeriesBuilder {
 
   private LocalDateDoubleTimeSeries createDenseSeries() {
     return DenseLocalDateDoubleTimeSeries.of(
-        entries.firstKey(),
-        entries.lastKey(),
+        firstDate(),
+        lastDate(),
         streamEntries(),
         determineCalculation());
   }
 
   private SparseLocalDateDoubleTimeSeries createSparseSeries() {
+    if (isAppending()) {
+      return SparseLocalDateDoubleTimeSeries.ofEpochDays(
+          Arrays.copyOf(appendEpochDays, appendSize),
+          Arrays.copyOf(appendValues, appendSize));
+    }
     return SparseLocalDateDoubleTimeSeries.of(entries.keySet(), entries.values());
   }
 
   private Stream<LocalDateDoublePoint> streamEntries() {
+    if (isAppending()) {
+      return IntStream.range(0, appendSize)
+          .mapToObj(i -> LocalDateDoublePoint.of(LocalDate.ofEpochDay(appendEpochDays[i]), appendValues[i]));
+    }
     return entries.entrySet()
         .stream()
         .map(e -> LocalDateDoublePoint.of(e.getKey(), e.getValue()));
@@ -313,8 +406,20 @@ public final class LocalDateDoubleTimeSeriesBuilder {
 
   private double density() {
     // We can use the calculators to work out range size
-    double rangeSize = determineCalculation().calculatePosition(entries.firstKey(), entries.lastKey()) + 1;
-    return entries.size() / rangeSize;
+    double rangeSize = determineCalculation().calculatePosition(firstDate(), lastDate()) + 1;
+    return size() / rangeSize;
+  }
+
+  private int size() {
+    return isAppending() ? appendSize : entries.size();
+  }
+
+  private LocalDate firstDate() {
+    return isAppending() ? LocalDate.ofEpochDay(appendEpochDays[0]) : entries.firstKey();
+  }
+
+  private LocalDate lastDate() {
+    return isAppending() ? LocalDate.ofEpochDay(appendEpochDays[appendSize - 1]) : entries.lastKey();
   }
 
 }
@@ -5,6 +5,10 @@
  */
 package com.opengamma.strata.collect.timeseries;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -18,6 +22,7 @@ import java.util.function.ObjDoubleConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import org.joda.beans.Bean;
@@ -26,9 +31,6 @@ import org.joda.beans.ImmutableBean;
 import org.joda.beans.JodaBeanUtils;
 import org.joda.beans.MetaBean;
 import org.joda.beans.MetaProperty;
-import org.joda.beans.gen.BeanDefinition;
-import org.joda.beans.gen.ImmutableConstructor;
-import org.joda.beans.gen.PropertyDefinition;
 import org.joda.beans.impl.direct.DirectMetaBean;
 import org.joda.beans.impl.direct.DirectMetaProperty;
 import org.joda.beans.impl.direct.DirectMetaPropertyMap;
@@ -48,9 +50,14 @@ import com.opengamma.strata.collect.function.ObjDoublePredicate;
  * If more or less continuous data is being used then {@link DenseLocalDateDoubleTimeSeries}
  * is likely to be a better choice for the data.
  * <p>
- * This implementation uses arrays internally.
+ * This implementation uses arrays internally, with the dates stored as epoch days.
+ * Dates are found using an interpolation search, which takes advantage of dates
+ * that are spread fairly evenly, such as daily fixings with occasional gaps.
+ * <p>
+ * The bean and serialized forms have a {@code dates} property of type {@code LocalDate[]},
+ * which is created on demand from the epoch days. As there is no field for the property,
+ * the meta-bean and Java serialization are written by hand, matching the generated form.
  */
-@BeanDefinition(builderScope = "private", metaScope = "package")
 final class SparseLocalDateDoubleTimeSeries
     implements ImmutableBean, Serializable, LocalDateDoubleTimeSeries {
 
@@ -58,20 +65,21 @@ final class SparseLocalDateDoubleTimeSeries
    * An empty time-series.
    */
   static final LocalDateDoubleTimeSeries EMPTY =
-      new SparseLocalDateDoubleTimeSeries(new LocalDate[0], new double[0]);
+      new SparseLocalDateDoubleTimeSeries(new long[0], new double[0]);
 
   /**
-   * The dates in the series.
+   * The dates in the series, stored as epoch days.
    * The dates are ordered from earliest to latest.
+   * This is exposed as the {@code dates} property.
+   * The field is not final as it is assigned when deserialized.
    */
-  @PropertyDefinition(get = "manual", validate = "notNull")
-  private final LocalDate[] dates;
+  private long[] epochDays;
   /**
    * The values in the series.
    * The date for each value is at the matching array index.
+   * The field is not final as it is assigned when deserialized.
    */
-  @PropertyDefinition(get = "manual", validate = "notNull")
-  private final double[] values;
+  private double[] values;
 
   //-------------------------------------------------------------------------
   /**
@@ -86,27 +94,55 @@ final class SparseLocalDateDoubleTimeSeries
   static SparseLocalDateDoubleTimeSeries of(Collection<LocalDate> dates, Collection<Double> values) {
     ArgChecker.noNulls(dates, "dates");
     ArgChecker.noNulls(values, "values");
-    LocalDate[] datesArray = dates.toArray(new LocalDate[dates.size()]);
+    long[] epochDaysArray = dates.stream().mapToLong(LocalDate::toEpochDay).toArray();
     double[] valuesArray = Doubles.toArray(values);
-    validate(datesArray, valuesArray);
-    return createUnsafe(datesArray, valuesArray);
+    validate(epochDaysArray, valuesArray);
+    return createUnsafe(epochDaysArray, valuesArray);
+  }
+
+  /**
+   * Obtains a time-series from matching arrays of epoch days and values.
+   * <p>
+   * The two arrays must be the same size and must be sorted from earliest to latest.
+   * The arrays are not cloned and must not be altered after calling this method.
+   *
+   * @param epochDays  the epoch days
+   * @param values  the values
+   * @return the time-series
+   */
+  static SparseLocalDateDoubleTimeSeries ofEpochDays(long[] epochDays, double[] values) {
+    ArgChecker.notNull(epochDays, "epochDays");
+    ArgChecker.notNull(values, "values");
+    validate(epochDays, values);
+    return createUnsafe(epochDays, values);
   }
 
   // creates time-series by directly assigning the input arrays
   // must only be called when safe to do so
-  private static SparseLocalDateDoubleTimeSeries createUnsafe(LocalDate[] dates, double[] values) {
-    return new SparseLocalDateDoubleTimeSeries(dates, values, true);
+  private static SparseLocalDateDoubleTimeSeries createUnsafe(long[] epochDays, double[] values) {
+    return new SparseLocalDateDoubleTimeSeries(epochDays, values);
+  }
+
+  // converts the dates to epoch days
+  private static long[] toEpochDays(LocalDate[] dates) {
+    long[] epochDays = new long[dates.length];
+    for (int i = 0; i < dates.length; i++) {
+      epochDays[i] = dates[i].toEpochDay();
+    }
+    return epochDays;
   }
 
   // validates the arrays are same length and in order
-  private static void validate(LocalDate[] dates, double[] values) {
-    ArgChecker.isTrue(dates.length == values.length,
-        "Arrays are of different sizes - dates: {}, values: {}", dates.length, values.length);
-    LocalDate maxDate = LocalDate.MIN;
-    for (LocalDate date : dates) {
-      ArgChecker.isTrue(date.isAfter(maxDate),
-          "Dates must be in ascending order but: {} is not after: {}", date, maxDate);
-      maxDate = date;
+  private static void validate(long[] epochDays, double[] values) {
+    ArgChecker.isTrue(epochDays.length == values.length,
+        "Arrays are of different sizes - dates: {}, values: {}", epochDays.length, values.length);
+    for (int i = 1; i < epochDays.length; i++) {
+      if (epochDays[i] <= epochDays[i - 1]) {
+        throw new IllegalArgumentException(Messages.format(
+            "Dates must be in ascending order but: {} is not after: {}",
+            LocalDate.ofEpochDay(epochDays[i]),
+            LocalDate.ofEpochDay(epochDays[i - 1])));
+      }
     }
   }
 
@@ -114,43 +150,72 @@ final class SparseLocalDateDoubleTimeSeries
   /**
    * Creates an instance, validating the supplied arrays.
    * <p>
-   * The arrays are cloned as this constructor is called from Joda-Beans.
+   * The values are cloned as this constructor is called from Joda-Beans.
    *
    * @param dates  the dates
    * @param values  the values
    */
-  @ImmutableConstructor
   private SparseLocalDateDoubleTimeSeries(LocalDate[] dates, double[] values) {
     ArgChecker.noNulls(dates, "dates");
     ArgChecker.notNull(values, "values");
-    validate(dates, values);
-    this.dates = dates.clone();
+    long[] epochDays = toEpochDays(dates);
+    validate(epochDays, values);
+    this.epochDays = epochDays;
     this.values = values.clone();
   }
 
   /**
    * Creates an instance without validating the supplied arrays.
    *
-   * @param dates  the dates
+   * @param epochDays  the epoch days
    * @param values  the values
-   * @param trusted  flag to distinguish constructor
    */
-  private SparseLocalDateDoubleTimeSeries(LocalDate[] dates, double[] values, boolean trusted) {
+  private SparseLocalDateDoubleTimeSeries(long[] epochDays, double[] values) {
     // constructor exists to avoid clones where possible
-    // because Joda-Beans owns the main constructor, this one has a weird flag
     // use createUnsafe() instead of calling this directly
-    this.dates = dates;
+    this.epochDays = epochDays;
     this.values = values;
   }
 
+  //-----------------------------------------------------------------------
+  /**
+   * The serialized fields, matching the form where the dates were stored as {@code LocalDate}.
+   */
+  private static final ObjectStreamField[] serialPersistentFields = {
+      new ObjectStreamField("dates", LocalDate[].class),
+      new ObjectStreamField("values", double[].class)};
+
+  // writes the dates as LocalDate, thus the serialized form is unchanged
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    ObjectOutputStream.PutField fields = out.putFields();
+    fields.put("dates", getDates());
+    fields.put("values", values);
+    out.writeFields();
+  }
+
+  // reads the dates as LocalDate, validating as per the standard constructor
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    ObjectInputStream.GetField fields = in.readFields();
+    SparseLocalDateDoubleTimeSeries validated = new SparseLocalDateDoubleTimeSeries(
+        (LocalDate[]) fields.get("dates", null),
+        (double[]) fields.get("values", null));
+    this.epochDays = validated.epochDays;
+    this.values = validated.values;
+  }
+
   //-----------------------------------------------------------------------
   /**
    * Gets the dates in the series.
    * The dates are ordered from earliest to latest.
+   * The array is created from the epoch days.
    * @return the value of the property, not null
    */
   private LocalDate[] getDates() {
-    return dates.clone();
+    LocalDate[] dates = new LocalDate[epochDays.length];
+    for (int i = 0; i < epochDays.length; i++) {
+      dates[i] = LocalDate.ofEpochDay(epochDays[i]);
+    }
+    return dates;
   }
 
   /**
@@ -165,36 +230,78 @@ final class SparseLocalDateDoubleTimeSeries
   //-------------------------------------------------------------------------
   @Override
   public int size() {
-    return dates.length;
+    return epochDays.length;
   }
 
   @Override
   public boolean isEmpty() {
-    return dates.length == 0;
+    return epochDays.length == 0;
   }
 
   @Override
   public boolean containsDate(LocalDate date) {
-    return (findDatePosition(date) >= 0);
+    return (findDatePosition(date.toEpochDay()) >= 0);
   }
 
   @Override
   public OptionalDouble get(LocalDate date) {
-    int position = findDatePosition(date);
+    return getByEpochDay(date.toEpochDay());
+  }
+
+  @Override
+  public OptionalDouble getByEpochDay(long epochDay) {
+    int position = findDatePosition(epochDay);
     return (position >= 0 ? OptionalDouble.of(values[position]) : OptionalDouble.empty());
   }
 
-  private int findDatePosition(LocalDate date) {
-    return Arrays.binarySearch(dates, date);
+  // finds the position of the epoch day, using the same result convention as Arrays.binarySearch()
+  // interpolation steps alternate with bisection steps to bound the cost when the dates are uneven
+  private int findDatePosition(long epochDay) {
+    int low = 0;
+    int high = epochDays.length - 1;
+    boolean interpolate = true;
+    while (low <= high) {
+      long lowDay = epochDays[low];
+      long highDay = epochDays[high];
+      if (epochDay <= lowDay) {
+        return epochDay == lowDay ? low : -low - 1;
+      }
+      if (epochDay >= highDay) {
+        return epochDay == highDay ? high : -high - 2;
+      }
+      // the day is strictly between the low and high days, thus mid must be in the range [low, high)
+      // the interpolation uses doubles as the product of the differences can exceed a long
+      int mid = interpolate ?
+          Math.min(low + (int) ((double) (epochDay - lowDay) / (highDay - lowDay) * (high - low)), high - 1) :
+          (low + high) >>> 1;
+      interpolate = !interpolate;
+      long midDay = epochDays[mid];
+      if (midDay < epochDay) {
+        low = mid + 1;
+      } else if (midDay > epochDay) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -low - 1;
   }
 
   //-------------------------------------------------------------------------
+  @Override
+  public LocalDate getEarliestDate() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("Unable to return earliest, time-series is empty");
+    }
+    return LocalDate.ofEpochDay(epochDays[0]);
+  }
+
   @Override
   public LocalDate getLatestDate() {
     if (isEmpty()) {
       throw new NoSuchElementException("Unable to return latest, time-series is empty");
     }
-    return dates[dates.length - 1];
+    return LocalDate.ofEpochDay(epochDays[epochDays.length - 1]);
   }
 
   @Override
@@ -214,19 +321,26 @@ final class SparseLocalDateDoubleTimeSeries
       throw new IllegalArgumentException(
           "Invalid sub series, end before start: " + startInclusive + " to " + endExclusive);
     }
+    return subSeriesByEpochDay(startInclusive.toEpochDay(), endExclusive.toEpochDay());
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries subSeriesByEpochDay(long startInclusive, long endExclusive) {
+    if (endExclusive < startInclusive) {
+      throw new IllegalArgumentException(
+          "Invalid sub series, end before start: " + LocalDate.ofEpochDay(startInclusive) +
+              " to " + LocalDate.ofEpochDay(endExclusive));
+    }
     // special case when this is empty or when the dates are the same
-    if (isEmpty() || startInclusive.equals(endExclusive)) {
+    if (isEmpty() || startInclusive == endExclusive) {
       return EMPTY;
     }
     // where in the array would start/end be (whether or not it's actually in the series)
-    int startPos = Arrays.binarySearch(dates, startInclusive);
+    int startPos = findDatePosition(startInclusive);
     startPos = startPos >= 0 ? startPos : -startPos - 1;
-    int endPos = Arrays.binarySearch(dates, endExclusive);
+    int endPos = findDatePosition(endExclusive);
     endPos = endPos >= 0 ? endPos : -endPos - 1;
-    // create sub-series
-    LocalDate[] timesArray = Arrays.copyOfRange(dates, startPos, endPos);
-    double[] valuesArray = Arrays.copyOfRange(values, startPos, endPos);
-    return createUnsafe(timesArray, valuesArray);
+    return copyOfRange(startPos, endPos);
   }
 
   @Override
@@ -237,9 +351,7 @@ final class SparseLocalDateDoubleTimeSeries
     } else if (numPoints >= size()) {
       return this;
     }
-    LocalDate[] datesArray = Arrays.copyOfRange(dates, 0, numPoints);
-    double[] valuesArray = Arrays.copyOfRange(values, 0, numPoints);
-    return createUnsafe(datesArray, valuesArray);
+    return copyOfRange(0, numPoints);
   }
 
   @Override
@@ -250,20 +362,26 @@ final class SparseLocalDateDoubleTimeSeries
     } else if (numPoints >= size()) {
       return this;
     }
-    LocalDate[] datesArray = Arrays.copyOfRange(dates, size() - numPoints, size());
-    double[] valuesArray = Arrays.copyOfRange(values, size() - numPoints, size());
-    return createUnsafe(datesArray, valuesArray);
+    return copyOfRange(size() - numPoints, size());
+  }
+
+  // creates a sub-series from the specified range of positions
+  private SparseLocalDateDoubleTimeSeries copyOfRange(int from, int to) {
+    long[] epochDaysArray = Arrays.copyOfRange(epochDays, from, to);
+    double[] valuesArray = Arrays.copyOfRange(values, from, to);
+    return createUnsafe(epochDaysArray, valuesArray);
   }
 
   //-------------------------------------------------------------------------
   @Override
   public Stream<LocalDateDoublePoint> stream() {
-    return IntStream.range(0, size()).mapToObj(i -> LocalDateDoublePoint.of(dates[i], values[i]));
+    return IntStream.range(0, size())
+        .mapToObj(i -> LocalDateDoublePoint.of(LocalDate.ofEpochDay(epochDays[i]), values[i]));
   }
 
   @Override
   public Stream<LocalDate> dates() {
-    return Stream.of(dates);
+    return LongStream.of(epochDays).mapToObj(LocalDate::ofEpochDay);
   }
 
   @Override
@@ -276,46 +394,46 @@ final class SparseLocalDateDoubleTimeSeries
   public void forEach(ObjDoubleConsumer<LocalDate> action) {
     ArgChecker.notNull(action, "action");
     for (int i = 0; i < size(); i++) {
-      action.accept(dates[i], values[i]);
+      action.accept(LocalDate.ofEpochDay(epochDays[i]), values[i]);
     }
   }
 
   @Override
   public LocalDateDoubleTimeSeries mapDates(Function<? super LocalDate, ? extends LocalDate> mapper) {
     ArgChecker.notNull(mapper, "mapper");
-    LocalDate[] dates = Arrays.stream(this.dates).map(mapper).toArray(size -> new LocalDate[size]);
+    LocalDate[] dates = dates().map(mapper).toArray(size -> new LocalDate[size]);
     // Check the dates are still in ascending order after the mapping
     Arrays.stream(dates).reduce(this::checkAscending);
-    return createUnsafe(dates, values);
+    return createUnsafe(toEpochDays(dates), values);
   }
 
   @Override
   public LocalDateDoubleTimeSeries mapValues(DoubleUnaryOperator mapper) {
     ArgChecker.notNull(mapper, "mapper");
-    return createUnsafe(dates, DoubleStream.of(values).map(mapper).toArray());
+    return createUnsafe(epochDays, DoubleStream.of(values).map(mapper).toArray());
   }
 
   @Override
   public LocalDateDoubleTimeSeries filter(ObjDoublePredicate<LocalDate> predicate) {
     ArgChecker.notNull(predicate, "predicate");
     // build up result in arrays keeping track of count of retained dates
-    LocalDate[] resDates = new LocalDate[size()];
+    long[] resEpochDays = new long[size()];
     double[] resValues = new double[size()];
     int resCount = 0;
     for (int i = 0; i < size(); i++) {
-      if (predicate.test(dates[i], values[i])) {
-        resDates[resCount] = dates[i];
+      if (predicate.test(LocalDate.ofEpochDay(epochDays[i]), values[i])) {
+        resEpochDays[resCount] = epochDays[i];
         resValues[resCount] = values[i];
         resCount++;
       }
     }
-    return createUnsafe(Arrays.copyOf(resDates, resCount), Arrays.copyOf(resValues, resCount));
+    return createUnsafe(Arrays.copyOf(resEpochDays, resCount), Arrays.copyOf(resValues, resCount));
   }
 
   //-------------------------------------------------------------------------
   @Override
   public LocalDateDoubleTimeSeriesBuilder toBuilder() {
-    return new LocalDateDoubleTimeSeriesBuilder(dates, values);
+    return new LocalDateDoubleTimeSeriesBuilder(epochDays, values);
   }
 
   //-------------------------------------------------------------------------
@@ -335,7 +453,7 @@ final class SparseLocalDateDoubleTimeSeries
     }
     if (obj instanceof SparseLocalDateDoubleTimeSeries) {
       SparseLocalDateDoubleTimeSeries other = (SparseLocalDateDoubleTimeSeries) obj;
-      return Arrays.equals(dates, other.dates) && Arrays.equals(values, other.values);
+      return Arrays.equals(epochDays, other.epochDays) && Arrays.equals(values, other.values);
     }
     return false;
   }
@@ -347,7 +465,7 @@ final class SparseLocalDateDoubleTimeSeries
    */
   @Override
   public int hashCode() {
-    return 31 * Arrays.hashCode(dates) + Arrays.hashCode(values);
+    return 31 * Arrays.hashCode(epochDays) + Arrays.hashCode(values);
   }
 
   /**
@@ -383,7 +501,7 @@ final class SparseLocalDateDoubleTimeSeries
             later));
   }
 
-  //------------------------- AUTOGENERATED START -------------------------
+  //-------------------------------------------------------------------------
   /**
    * The meta-bean for {@code SparseLocalDateDoubleTimeSeries}.
    * @return the meta-bean, not null
@@ -568,6 +686,4 @@ final class SparseLocalDateDoubleTimeSeries
     }
 
   }
-
-  //-------------------------- AUTOGENERATED END --------------------------
 }
@@ -457,6 +457,14 @@ public class CsvFileTest {
     assertThat(csvFile.row(1).getField("a")).isEqualTo(" ");
   }
 
+  @Test
+  public void test_of_unquotedTrimmed() {
+    CsvFile csvFile = CsvFile.of(CharSource.wrap("a,b,c\nx\t,\ty ,\t z\t\n\"p\"q ,\"\"r\t,s"), true);
+    assertThat(csvFile.rowCount()).isEqualTo(2);
+    assertThat(csvFile.row(0).fields()).containsExactly("x", "y", "z");
+    assertThat(csvFile.row(1).fields()).containsExactly("pq", "r", "s");
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_of_lists_noHeader() {
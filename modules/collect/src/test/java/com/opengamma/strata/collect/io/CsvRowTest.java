@@ -74,6 +74,17 @@ public class CsvRowTest {
     assertThatIllegalArgumentException().isThrownBy(() -> row.getValue("X", Period::parse));
   }
 
+  @Test
+  public void test_parseDouble() {
+    ImmutableList<String> fields = ImmutableList.of("1.25", "", "2020-03-31", "p", "q");
+    CsvRow row = new CsvRow(HEADERS, SEARCH_HEADERS, 1, fields);
+    assertThat(row.parseDouble("A")).isEqualTo(1.25d);
+    assertThatIllegalArgumentException().isThrownBy(() -> row.parseDouble("B"));
+    assertThatIllegalArgumentException().isThrownBy(() -> row.parseDouble("C"))
+        .withMessage("Unable to parse double from '2020-03-31' for field: 'C'");
+    assertThatIllegalArgumentException().isThrownBy(() -> row.parseDouble("X"));
+  }
+
   @Test
   public void test_getValue_Pattern() {
     CsvRow row = new CsvRow(HEADERS, SEARCH_HEADERS, 1, FIELDS);
@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.collect.io;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -14,6 +15,7 @@ import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
@@ -207,6 +209,56 @@ public class XmlFileTest {
         .isThrownBy(() -> XmlFile.parseElements(source, name -> Integer.MAX_VALUE));
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_streamElements() {
+    ByteSource source = ByteSource.wrap(SAMPLE.getBytes(StandardCharsets.UTF_8));
+    try (Stream<XmlFile> stream = XmlFile.streamElements(
+        source, "", path -> path.size() == 3 && !path.get(2).equals("leaf1"))) {
+      List<XmlFile> test = stream.collect(toImmutableList());
+      assertThat(test).hasSize(3);
+      assertThat(test.get(0).getRoot()).isEqualTo(LEAF2A);
+      assertThat(test.get(1).getRoot()).isEqualTo(LEAF2B);
+      assertThat(test.get(2).getRoot()).isEqualTo(OBJ);
+      assertThat(test.get(2).getReferences()).isEqualTo(ImmutableMap.of());
+    }
+  }
+
+  @Test
+  public void test_streamElements_parsedReferences() {
+    ByteSource source = ByteSource.wrap(SAMPLE.getBytes(StandardCharsets.UTF_8));
+    try (Stream<XmlFile> stream = XmlFile.streamElements(source, "key", path -> path.contains("test"))) {
+      List<XmlFile> test = stream.collect(toImmutableList());
+      assertThat(test).hasSize(1);
+      XmlElement root = test.get(0).getRoot();
+      assertThat(root).isEqualTo(XmlElement.ofChildren("test", ATTR_MAP, CHILD_LIST_MULTI));
+      assertThat(test.get(0).getReferences()).isEqualTo(ImmutableMap.of("value", root));
+    }
+  }
+
+  @Test
+  public void test_streamElements_noneSelected() {
+    ByteSource source = ByteSource.wrap(SAMPLE.getBytes(StandardCharsets.UTF_8));
+    try (Stream<XmlFile> stream = XmlFile.streamElements(source, "", path -> false)) {
+      assertThat(stream.count()).isEqualTo(0);
+    }
+  }
+
+  @Test
+  public void test_streamElements_badEnd() {
+    ByteSource source = ByteSource.wrap(SAMPLE_BAD_END.getBytes(StandardCharsets.UTF_8));
+    try (Stream<XmlFile> stream = XmlFile.streamElements(source, "", path -> path.size() == 2)) {
+      assertThatIllegalArgumentException().isThrownBy(() -> stream.count());
+    }
+  }
+
+  @Test
+  public void test_streamElements_ioException() {
+    ByteSource source = Files.asByteSource(new File("/oh-dear-no-such-file"));
+    assertThatExceptionOfType(UncheckedIOException.class)
+        .isThrownBy(() -> XmlFile.streamElements(source, "", path -> true));
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_equalsHashCodeToString() {
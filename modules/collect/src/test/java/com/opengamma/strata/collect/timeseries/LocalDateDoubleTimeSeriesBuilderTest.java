@@ -122,6 +122,45 @@ public class LocalDateDoubleTimeSeriesBuilderTest {
     assertThat(test.get(date(2014, 1, 1))).hasValue(3d);
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_outOfOrderAfterAscending() {
+    LocalDateDoubleTimeSeriesBuilder test = LocalDateDoubleTimeSeries.builder()
+        .put(date(2012, 1, 1), 12)
+        .put(date(2013, 1, 1), 13)
+        .put(date(2013, 1, 1), 23);
+    assertThat(test.get(date(2012, 1, 1))).hasValue(12d);
+    assertThat(test.get(date(2013, 1, 1))).hasValue(23d);
+    assertThat(test.get(date(2011, 1, 1))).isEmpty();
+
+    test.put(date(2011, 1, 1), 11);
+    test.put(date(2014, 1, 1), 14);
+    assertThat(test.get(date(2011, 1, 1))).hasValue(11d);
+    assertThat(test.get(date(2012, 1, 1))).hasValue(12d);
+
+    LocalDateDoubleTimeSeries series = test.build();
+    assertThat(series.size()).isEqualTo(4);
+    assertThat(series.getEarliestDate()).isEqualTo(date(2011, 1, 1));
+    assertThat(series.getLatestDate()).isEqualTo(date(2014, 1, 1));
+    assertThat(series.get(date(2013, 1, 1))).hasValue(23d);
+  }
+
+  @Test
+  public void test_putAll_builderAfterAscending() {
+    LocalDateDoubleTimeSeriesBuilder other = LocalDateDoubleTimeSeries.builder()
+        .put(date(2013, 1, 5), 13) // Saturday
+        .put(date(2014, 1, 1), 14);
+    LocalDateDoubleTimeSeries test = LocalDateDoubleTimeSeries.builder()
+        .put(date(2012, 1, 1), 12)
+        .put(date(2014, 1, 1), 4)
+        .putAll(other)
+        .build();
+
+    assertThat(test.size()).isEqualTo(3);
+    assertThat(test.get(date(2013, 1, 5))).hasValue(13d);
+    assertThat(test.get(date(2014, 1, 1))).hasValue(14d);
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_seriesGetsSorted() {
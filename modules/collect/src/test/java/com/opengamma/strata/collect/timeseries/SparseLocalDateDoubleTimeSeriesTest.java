@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.collect.timeseries;
 
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
 import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
 import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
 import static java.util.stream.Collectors.toList;
@@ -13,6 +14,13 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.within;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
@@ -280,6 +288,39 @@ public class SparseLocalDateDoubleTimeSeriesTest {
             LocalDateDoublePoint.of(DATE_2012_01_01, 12d));
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_getByEpochDay() {
+    LocalDateDoubleTimeSeries test = LocalDateDoubleTimeSeries.builder().putAll(DATES_2010_14, VALUES_10_14).build();
+    for (int i = 0; i < DATES_2010_14.size(); i++) {
+      LocalDate date = DATES_2010_14.get(i);
+      assertThat(test.getByEpochDay(date.toEpochDay())).hasValue(VALUES_10_14.get(i));
+      assertThat(test.getByEpochDay(date.toEpochDay() + 1)).isEmpty();
+      assertThat(test.getByEpochDay(date.toEpochDay() - 1)).isEmpty();
+    }
+    assertThat(test.get(LocalDate.MIN)).isEmpty();
+    assertThat(test.get(LocalDate.MAX)).isEmpty();
+    assertThat(LocalDateDoubleTimeSeries.empty().getByEpochDay(0)).isEmpty();
+  }
+
+  @Test
+  public void test_get_unevenlySpaced() {
+    // dates bunched together and spread apart, exercising the interpolation search
+    LocalDateDoubleTimeSeriesBuilder builder = LocalDateDoubleTimeSeries.builder();
+    for (int i = 0; i < 50; i++) {
+      builder.put(DATE_2010_01_01.plusDays(i), i);
+    }
+    for (int i = 0; i < 10; i++) {
+      builder.put(DATE_2012_01_01.plusYears(i), 100 + i);
+    }
+    LocalDateDoubleTimeSeries test = builder.build();
+    assertThat(test.getClass()).isEqualTo(SparseLocalDateDoubleTimeSeries.class);
+    test.forEach((date, value) -> assertThat(test.get(date)).hasValue(value));
+    for (LocalDate date = date(2009, 12, 1); date.isBefore(date(2022, 2, 1)); date = date.plusDays(1)) {
+      assertThat(test.containsDate(date)).isEqualTo(test.dates().anyMatch(date::equals));
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_earliestLatest() {
@@ -341,6 +382,36 @@ public class SparseLocalDateDoubleTimeSeriesTest {
     assertThat(test.size()).isEqualTo(0);
   }
 
+  @ParameterizedTest
+  @MethodSource("data_subSeries")
+  public void test_subSeriesByEpochDay(LocalDate start, LocalDate end, int[] expected) {
+    LocalDateDoubleTimeSeries base = LocalDateDoubleTimeSeries.builder().putAll(DATES_2010_14, VALUES_10_14).build();
+    LocalDateDoubleTimeSeries test = base.subSeriesByEpochDay(start.toEpochDay(), end.toEpochDay());
+    assertThat(test).isEqualTo(base.subSeries(start, end));
+  }
+
+  @Test
+  public void test_subSeries_unboundedDates() {
+    LocalDateDoubleTimeSeries base = LocalDateDoubleTimeSeries.builder().putAll(DATES_2010_14, VALUES_10_14).build();
+    assertThat(base.subSeries(LocalDate.MIN, LocalDate.MAX)).isEqualTo(base);
+    assertThat(base.subSeries(LocalDate.MIN, DATE_2011_01_01).size()).isEqualTo(1);
+    assertThat(base.subSeries(DATE_2013_01_01, LocalDate.MAX).size()).isEqualTo(2);
+  }
+
+  @Test
+  public void test_extremeDates() {
+    LocalDateDoubleTimeSeries test = SparseLocalDateDoubleTimeSeries.of(
+        dates(LocalDate.MIN, DATE_2012_01_01, LocalDate.MAX), values(1, 2, 3));
+    assertThat(test.get(LocalDate.MIN)).hasValue(1d);
+    assertThat(test.get(DATE_2012_01_01)).hasValue(2d);
+    assertThat(test.get(LocalDate.MAX)).hasValue(3d);
+    assertThat(test.get(DATE_2011_01_01)).isEmpty();
+    assertThat(test.getEarliestDate()).isEqualTo(LocalDate.MIN);
+    assertThat(test.getLatestDate()).isEqualTo(LocalDate.MAX);
+    assertThat(test.subSeries(DATE_2011_01_01, LocalDate.MAX).size()).isEqualTo(1);
+    assertThat(test.subSeriesByEpochDay(LocalDate.MIN.toEpochDay(), 0).size()).isEqualTo(1);
+  }
+
   @Test
   public void test_subSeries_startAfterEnd() {
     LocalDateDoubleTimeSeries base = LocalDateDoubleTimeSeries.builder().putAll(DATES_2010_14, VALUES_10_14).build();
@@ -700,6 +771,41 @@ public class SparseLocalDateDoubleTimeSeriesTest {
     coverBeanEquals(test, test2);
   }
 
+  @Test
+  public void test_serialization() throws Exception {
+    List<LocalDate> dates = ImmutableList.of(DATE_2011_01_01, DATE_2011_06_01);
+    List<Double> values = ImmutableList.of(1d, 2d);
+    SparseLocalDateDoubleTimeSeries test = SparseLocalDateDoubleTimeSeries.of(dates, values);
+    assertSerialization(test);
+    // the epoch days are derived when deserialized
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+      oos.writeObject(test);
+    }
+    try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+      LocalDateDoubleTimeSeries result = (LocalDateDoubleTimeSeries) ois.readObject();
+      assertThat(result.get(DATE_2011_06_01)).hasValue(2d);
+    }
+    // the serialized form holds the dates as LocalDate, as it did when they were stored that way
+    ObjectStreamClass desc = ObjectStreamClass.lookup(SparseLocalDateDoubleTimeSeries.class);
+    assertThat(desc.getSerialVersionUID()).isEqualTo(1L);
+    assertThat(desc.getField("dates").getType()).isEqualTo(LocalDate[].class);
+    assertThat(desc.getField("values").getType()).isEqualTo(double[].class);
+    // the bean form also exposes the dates as LocalDate
+    assertThat(test.metaBean().metaProperty("dates").get(test))
+        .isEqualTo(new LocalDate[] {DATE_2011_01_01, DATE_2011_06_01});
+  }
+
+  @Test
+  public void test_footprint() {
+    // the dates are stored as primitive epoch days, rather than one LocalDate instance per point
+    List<Class<?>> fieldTypes = Arrays.stream(SparseLocalDateDoubleTimeSeries.class.getDeclaredFields())
+        .filter(field -> !Modifier.isStatic(field.getModifiers()))
+        .map(Field::getType)
+        .collect(toList());
+    assertThat(fieldTypes).containsExactlyInAnyOrder(long[].class, double[].class);
+  }
+
   //-------------------------------------------------------------------------
   private static LocalDate date(int year, int month, int day) {
     return LocalDate.of(year, month, day);
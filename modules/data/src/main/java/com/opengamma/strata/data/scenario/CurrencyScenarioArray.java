@@ -5,6 +5,8 @@
  */
 package com.opengamma.strata.data.scenario;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
@@ -129,6 +131,12 @@ public final class CurrencyScenarioArray
     return amounts.stream();
   }
 
+  @Override
+  public CurrencyScenarioArray concat(List<? extends ScenarioArray<CurrencyAmount>> arrays) {
+    return CurrencyScenarioArray.of(Stream.concat(stream(), arrays.stream().flatMap(ScenarioArray::stream))
+        .collect(toImmutableList()));
+  }
+
   @Override
   public CurrencyScenarioArray convertedTo(Currency reportingCurrency, ScenarioFxRateProvider fxRateProvider) {
     if (getCurrency().equals(reportingCurrency)) {
@@ -96,6 +96,15 @@ public final class DoubleScenarioArray
     return values.stream().boxed();
   }
 
+  @Override
+  public DoubleScenarioArray concat(List<? extends ScenarioArray<Double>> arrays) {
+    DoubleArray combined = values;
+    for (ScenarioArray<Double> array : arrays) {
+      combined = combined.concat(DoubleArray.of(array.getScenarioCount(), array::get));
+    }
+    return DoubleScenarioArray.of(combined);
+  }
+
   //------------------------- AUTOGENERATED START -------------------------
   /**
    * The meta-bean for {@code DoubleScenarioArray}.
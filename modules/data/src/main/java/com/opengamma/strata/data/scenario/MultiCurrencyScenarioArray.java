@@ -5,6 +5,8 @@
  */
 package com.opengamma.strata.data.scenario;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
 import static java.util.stream.Collector.Characteristics.UNORDERED;
 import static java.util.stream.Collectors.toList;
 
@@ -182,6 +184,12 @@ public final class MultiCurrencyScenarioArray
     return amounts.stream();
   }
 
+  @Override
+  public MultiCurrencyScenarioArray concat(List<? extends ScenarioArray<MultiCurrencyAmount>> arrays) {
+    return MultiCurrencyScenarioArray.of(Stream.concat(stream(), arrays.stream().flatMap(ScenarioArray::stream))
+        .collect(toImmutableList()));
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public CurrencyScenarioArray convertedTo(Currency reportingCurrency, ScenarioFxRateProvider fxRateProvider) {
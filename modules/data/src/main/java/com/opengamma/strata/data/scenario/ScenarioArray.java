@@ -5,6 +5,8 @@
  */
 package com.opengamma.strata.data.scenario;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
 import java.util.List;
 import java.util.function.IntFunction;
 import java.util.stream.IntStream;
@@ -120,4 +122,20 @@ public interface ScenarioArray<T> {
     return IntStream.range(0, getScenarioCount()).mapToObj(i -> get(i));
   }
 
+  /**
+   * Returns an array containing the values of this array followed by the values of the specified arrays.
+   * <p>
+   * This is used to combine the results of a calculation that was split into ranges of scenarios.
+   * Implementations with special handling for certain types of value override this method
+   * to return an array of the same type. The default implementation returns a general purpose array.
+   *
+   * @param arrays  the arrays whose values follow those of this array, in order
+   * @return an array containing the values of all the arrays
+   * @throws IllegalArgumentException if the values cannot be combined
+   */
+  public default ScenarioArray<T> concat(List<? extends ScenarioArray<T>> arrays) {
+    return ScenarioArray.of(Stream.concat(stream(), arrays.stream().flatMap(ScenarioArray::stream))
+        .collect(toImmutableList()));
+  }
+
 }
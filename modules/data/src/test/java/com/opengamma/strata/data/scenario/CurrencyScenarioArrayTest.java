@@ -177,6 +177,16 @@ public class CurrencyScenarioArrayTest {
     assertThat(minusAmountResult).isEqualTo(CurrencyScenarioArray.of(GBP, DoubleArray.of(-1, 0, 1)));
   }
 
+  @Test
+  public void test_concat() {
+    CurrencyScenarioArray test = CurrencyScenarioArray.of(GBP, DoubleArray.of(1, 2));
+    CurrencyScenarioArray other = CurrencyScenarioArray.of(GBP, DoubleArray.of(3));
+    assertThat(test.concat(ImmutableList.of(other, ScenarioArray.of(CurrencyAmount.of(GBP, 4)))))
+        .isEqualTo(CurrencyScenarioArray.of(GBP, DoubleArray.of(1, 2, 3, 4)));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> test.concat(ImmutableList.of(CurrencyScenarioArray.of(USD, DoubleArray.of(3)))));
+  }
+
   @Test
   public void coverage() {
     DoubleArray values = DoubleArray.of(1, 2, 3);
@@ -59,6 +59,15 @@ public class DoubleScenarioArrayTest {
   }
 
   //-------------------------------------------------------------------------
+  @Test
+  public void test_concat() {
+    DoubleScenarioArray test = DoubleScenarioArray.of(DoubleArray.of(1, 2));
+    DoubleScenarioArray other = DoubleScenarioArray.of(DoubleArray.of(3));
+    assertThat(test.concat(ImmutableList.of(other, ScenarioArray.of(4d, 5d))))
+        .isEqualTo(DoubleScenarioArray.of(DoubleArray.of(1, 2, 3, 4, 5)));
+    assertThat(test.concat(ImmutableList.of())).isEqualTo(test);
+  }
+
   @Test
   public void coverage() {
     DoubleArray values = DoubleArray.of(1, 2, 3);
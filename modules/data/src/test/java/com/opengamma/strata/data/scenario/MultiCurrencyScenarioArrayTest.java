@@ -267,6 +267,15 @@ public class MultiCurrencyScenarioArrayTest {
     assertThatIllegalArgumentException().isThrownBy(() -> arrays.stream().collect(toMultiCurrencyScenarioArray()));
   }
 
+  @Test
+  public void test_concat() {
+    MultiCurrencyAmount mca1 = MultiCurrencyAmount.of(CurrencyAmount.of(GBP, 10), CurrencyAmount.of(USD, 20));
+    MultiCurrencyAmount mca2 = MultiCurrencyAmount.of(CurrencyAmount.of(EUR, 30));
+    MultiCurrencyScenarioArray test = MultiCurrencyScenarioArray.of(mca1);
+    assertThat(test.concat(ImmutableList.of(MultiCurrencyScenarioArray.of(mca2))))
+        .isEqualTo(MultiCurrencyScenarioArray.of(mca1, mca2));
+  }
+
   @Test
   public void coverage() {
     coverImmutableBean(VALUES_ARRAY);
@@ -47,6 +47,15 @@ public class ScenarioArrayTest {
     assertThat(test).isEqualTo(expected);
   }
 
+  @Test
+  public void test_concat() {
+    ScenarioArray<String> test = ScenarioArray.of("1", "2");
+    assertThat(test.concat(ImmutableList.of(ScenarioArray.of("3"), ScenarioArray.ofSingleValue(2, "4"))))
+        .isEqualTo(DefaultScenarioArray.of("1", "2", "3", "4", "4"));
+    assertThat(ScenarioArray.ofSingleValue(2, "1").concat(ImmutableList.of(test)))
+        .isEqualTo(DefaultScenarioArray.of("1", "1", "1", "2"));
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_stream() {
@@ -14,7 +14,9 @@ import java.math.BigDecimal;
 import java.text.ParsePosition;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.Month;
 import java.time.Period;
+import java.time.Year;
 import java.time.YearMonth;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
@@ -308,7 +310,8 @@ public final class LoaderUtils {
     try {
       // yyyy-MM-dd
       if (str.length() == 10 && str.charAt(4) == '-' && str.charAt(7) == '-') {
-        return LocalDate.parse(str, YYYY_MM_DD_DASH);
+        LocalDate date = parseIsoDate(str);
+        return date != null ? date : LocalDate.parse(str, YYYY_MM_DD_DASH);
       }
       // yyyy/M/d
       if (str.length() >= 8 && str.charAt(4) == '/') {
@@ -339,6 +342,30 @@ public final class LoaderUtils {
     }
   }
 
+  // parses 'yyyy-MM-dd' without using a formatter, null if the formatter is needed to handle or reject the input
+  private static LocalDate parseIsoDate(String str) {
+    int year = parseDigits(str, 0, 4);
+    int month = parseDigits(str, 5, 7);
+    int day = parseDigits(str, 8, 10);
+    if (year < 1 || month < 1 || month > 12 || day < 1 || day > Month.of(month).length(Year.isLeap(year))) {
+      return null;
+    }
+    return LocalDate.of(year, month, day);
+  }
+
+  // parses a non-negative number from the digits, -1 if any character is not an ASCII digit
+  private static int parseDigits(String str, int startInclusive, int endExclusive) {
+    int result = 0;
+    for (int i = startInclusive; i < endExclusive; i++) {
+      int digit = str.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      result = result * 10 + digit;
+    }
+    return result;
+  }
+
   /**
    * Parses a year-month from the input string.
    * <p>
@@ -20,7 +20,7 @@ import com.opengamma.strata.basics.index.Index;
 import com.opengamma.strata.basics.index.PriceIndex;
 import com.opengamma.strata.collect.MapStream;
 import com.opengamma.strata.collect.Messages;
-import com.opengamma.strata.collect.io.CsvFile;
+import com.opengamma.strata.collect.io.CsvIterator;
 import com.opengamma.strata.collect.io.CsvRow;
 import com.opengamma.strata.collect.io.ResourceLocator;
 import com.opengamma.strata.collect.io.UnicodeBom;
@@ -114,16 +114,22 @@ public final class FixingSeriesCsvLoader {
   // loads a single fixing series CSV file
   private static ImmutableMap<ObservableId, LocalDateDoubleTimeSeries> parseSingle(CharSource resource) {
     Map<ObservableId, LocalDateDoubleTimeSeriesBuilder> builders = new HashMap<>();
-    try {
-      CsvFile csv = CsvFile.of(resource, true);
-      for (CsvRow row : csv.rows()) {
+    try (CsvIterator csv = CsvIterator.of(resource, true)) {
+      // rows are typically grouped by index, so the index is only looked up when the text changes
+      String previousReferenceStr = null;
+      Index index = null;
+      ObservableId id = null;
+      while (csv.hasNext()) {
+        CsvRow row = csv.next();
         String referenceStr = row.getField(REFERENCE_FIELD);
         String dateStr = row.getField(DATE_FIELD);
-        String valueStr = row.getField(VALUE_FIELD);
 
-        Index index = LoaderUtils.findIndex(referenceStr);
-        ObservableId id = IndexQuoteId.of(index);
-        double value = Double.parseDouble(valueStr);
+        if (!referenceStr.equals(previousReferenceStr)) {
+          index = LoaderUtils.findIndex(referenceStr);
+          id = IndexQuoteId.of(index);
+          previousReferenceStr = referenceStr;
+        }
+        double value = row.parseDouble(VALUE_FIELD);
         LocalDate date;
         if (index instanceof PriceIndex) {
           try {
@@ -21,7 +21,7 @@ import com.google.common.collect.ImmutableMap.Builder;
 import com.google.common.io.CharSource;
 import com.opengamma.strata.basics.StandardId;
 import com.opengamma.strata.collect.Messages;
-import com.opengamma.strata.collect.io.CsvFile;
+import com.opengamma.strata.collect.io.CsvIterator;
 import com.opengamma.strata.collect.io.CsvRow;
 import com.opengamma.strata.collect.io.ResourceLocator;
 import com.opengamma.strata.collect.io.UnicodeBom;
@@ -211,18 +211,25 @@ public final class QuotesCsvLoader {
       CharSource resource,
       Map<LocalDate, ImmutableMap.Builder<QuoteId, Double>> mutableMap) {
 
-    try {
-      CsvFile csv = CsvFile.of(resource, true);
-      for (CsvRow row : csv.rows()) {
+    try (CsvIterator csv = CsvIterator.of(resource, true)) {
+      // rows are typically grouped by date, so the date is only parsed and tested when the text changes
+      String previousDateText = null;
+      LocalDate date = null;
+      boolean dateMatches = false;
+      while (csv.hasNext()) {
+        CsvRow row = csv.next();
         String dateText = row.getField(DATE_FIELD);
-        LocalDate date = LoaderUtils.parseDate(dateText);
-        if (datePredicate.test(date)) {
+        if (!dateText.equals(previousDateText)) {
+          date = LoaderUtils.parseDate(dateText);
+          dateMatches = datePredicate.test(date);
+          previousDateText = dateText;
+        }
+        if (dateMatches) {
           String symbologyStr = row.getField(SYMBOLOGY_FIELD);
           String tickerStr = row.getField(TICKER_FIELD);
           String fieldNameStr = row.getField(FIELD_NAME_FIELD);
-          String valueStr = row.getField(VALUE_FIELD);
+          double value = row.parseDouble(VALUE_FIELD);
 
-          double value = Double.valueOf(valueStr);
           StandardId id = StandardId.of(symbologyStr, tickerStr);
           FieldName fieldName = fieldNameStr.isEmpty() ? FieldName.MARKET_VALUE : FieldName.of(fieldNameStr);
 
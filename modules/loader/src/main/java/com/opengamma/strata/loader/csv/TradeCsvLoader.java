@@ -15,14 +15,17 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
 import com.google.common.io.CharSource;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.StandardId;
 import com.opengamma.strata.basics.StandardSchemes;
 import com.opengamma.strata.collect.ArgChecker;
-import com.opengamma.strata.collect.Guavate;
+import com.opengamma.strata.collect.io.CsvFile;
 import com.opengamma.strata.collect.io.CsvIterator;
 import com.opengamma.strata.collect.io.CsvRow;
 import com.opengamma.strata.collect.io.ResourceLocator;
@@ -269,10 +272,19 @@ public final class TradeCsvLoader {
   static final String TRADE_ZONE_FIELD = "Trade Zone";
   static final String SETTLEMENT_DATE_FIELD = "Settlement Date";
 
+  /**
+   * The default number of rows in each chunk when parsing in parallel.
+   */
+  private static final int DEFAULT_CHUNK_SIZE = 10_000;
+
   /**
    * The resolver, providing additional information.
    */
   private final TradeCsvInfoResolver resolver;
+  /**
+   * The number of rows in each chunk when parsing in parallel, zero to parse sequentially.
+   */
+  private final int chunkSize;
 
   //-------------------------------------------------------------------------
   /**
@@ -281,7 +293,7 @@ public final class TradeCsvLoader {
    * @return the loader
    */
   public static TradeCsvLoader standard() {
-    return new TradeCsvLoader(TradeCsvInfoResolver.standard());
+    return new TradeCsvLoader(TradeCsvInfoResolver.standard(), 0);
   }
 
   /**
@@ -291,7 +303,7 @@ public final class TradeCsvLoader {
    * @return the loader
    */
   public static TradeCsvLoader of(ReferenceData refData) {
-    return new TradeCsvLoader(TradeCsvInfoResolver.of(refData));
+    return new TradeCsvLoader(TradeCsvInfoResolver.of(refData), 0);
   }
 
   /**
@@ -301,12 +313,36 @@ public final class TradeCsvLoader {
    * @return the loader
    */
   public static TradeCsvLoader of(TradeCsvInfoResolver resolver) {
-    return new TradeCsvLoader(resolver);
+    return new TradeCsvLoader(resolver, 0);
   }
 
   // restricted constructor
-  private TradeCsvLoader(TradeCsvInfoResolver resolver) {
+  private TradeCsvLoader(TradeCsvInfoResolver resolver, int chunkSize) {
     this.resolver = ArgChecker.notNull(resolver, "resolver");
+    this.chunkSize = chunkSize;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a loader that parses in parallel, using the same resolver as this loader.
+   * <p>
+   * The files are read concurrently, and each file is split into chunks of rows that are parsed concurrently.
+   * A 'Swap' or 'Swaption' row is always parsed in the same chunk as its following 'Variable' rows.
+   * The parsing is performed using the common fork-join pool.
+   * <p>
+   * The result is the same as parsing sequentially, with the trades and failures in the same order.
+   * Each file is read fully into memory before parsing.
+   * The resolver must be thread-safe, as is normally the case for implementations of {@link TradeCsvInfoResolver}.
+   * 
+   * @return the parallel loader
+   */
+  public TradeCsvLoader parallel() {
+    return parallel(DEFAULT_CHUNK_SIZE);
+  }
+
+  // obtains a parallel loader with the specified chunk size
+  TradeCsvLoader parallel(int chunkSize) {
+    return new TradeCsvLoader(resolver, ArgChecker.notNegativeOrZero(chunkSize, "chunkSize"));
   }
 
   //-------------------------------------------------------------------------
@@ -421,18 +457,90 @@ public final class TradeCsvLoader {
    */
   public <T extends Trade> ValueWithFailures<List<T>> parse(Collection<CharSource> charSources, Class<T> tradeType) {
     try {
-      ValueWithFailures<List<T>> result = ValueWithFailures.of(ImmutableList.of());
+      if (chunkSize > 0) {
+        return merge(parseParallel(charSources, tradeType));
+      }
+      List<ValueWithFailures<List<T>>> results = new ArrayList<>(charSources.size());
       for (CharSource charSource : charSources) {
-        ValueWithFailures<List<T>> singleResult = parseFile(charSource, tradeType);
-        result = result.combinedWith(singleResult, Guavate::concatToList);
+        results.add(parseFile(charSource, tradeType));
       }
-      return result;
+      return merge(results);
 
     } catch (RuntimeException ex) {
       return ValueWithFailures.of(ImmutableList.of(), FailureItem.of(FailureReason.ERROR, ex));
     }
   }
 
+  // merges the results in order, sizing the merged lists up-front
+  private static <T> ValueWithFailures<List<T>> merge(List<ValueWithFailures<List<T>>> results) {
+    int tradeCount = 0;
+    int failureCount = 0;
+    for (ValueWithFailures<List<T>> result : results) {
+      tradeCount += result.getValue().size();
+      failureCount += result.getFailures().size();
+    }
+    ImmutableList.Builder<T> trades = ImmutableList.builderWithExpectedSize(tradeCount);
+    ImmutableList.Builder<FailureItem> failures = ImmutableList.builderWithExpectedSize(failureCount);
+    for (ValueWithFailures<List<T>> result : results) {
+      trades.addAll(result.getValue());
+      failures.addAll(result.getFailures());
+    }
+    return ValueWithFailures.of(trades.build(), failures.build());
+  }
+
+  // parses the files in parallel, returning the results of each chunk in order
+  private <T extends Trade> List<ValueWithFailures<List<T>>> parseParallel(
+      Collection<CharSource> charSources,
+      Class<T> tradeType) {
+
+    // read and split the files concurrently, then parse the chunks of all the files concurrently
+    List<List<Supplier<ValueWithFailures<List<T>>>>> fileChunks = charSources.parallelStream()
+        .map(charSource -> splitFile(charSource, tradeType))
+        .collect(toList());
+    return fileChunks.stream()
+        .flatMap(List::stream)
+        .collect(toList())
+        .parallelStream()
+        .map(Supplier::get)
+        .collect(toList());
+  }
+
+  // reads a single CSV file, splitting it into chunks that can be parsed independently
+  private <T extends Trade> List<Supplier<ValueWithFailures<List<T>>>> splitFile(
+      CharSource charSource,
+      Class<T> tradeType) {
+
+    ImmutableList<CsvRow> rows;
+    try {
+      CsvFile csv = CsvFile.of(charSource, true);
+      if (!csv.headers().contains(TYPE_FIELD)) {
+        return ImmutableList.of(() -> ValueWithFailures.of(
+            ImmutableList.of(),
+            FailureItem.of(FailureReason.PARSING, "CSV file does not contain '{header}' header: {}", TYPE_FIELD, charSource)));
+      }
+      rows = csv.rows();
+
+    } catch (RuntimeException ex) {
+      return ImmutableList.of(() -> ValueWithFailures.of(
+          ImmutableList.of(),
+          FailureItem.of(
+              FailureReason.PARSING, ex, "CSV file could not be parsed: {exceptionMessage}: {}", ex.getMessage(), charSource)));
+    }
+    // a chunk never starts with a 'Variable' row, so it is parsed with the preceding 'Swap' or 'Swaption'
+    List<Supplier<ValueWithFailures<List<T>>>> chunks = new ArrayList<>();
+    int start = 0;
+    while (start < rows.size()) {
+      int end = Math.min(start + chunkSize, rows.size());
+      while (end < rows.size() && isVariableRow(rows.get(end))) {
+        end++;
+      }
+      List<CsvRow> chunkRows = rows.subList(start, end);
+      chunks.add(() -> parseRows(Iterators.peekingIterator(chunkRows.iterator()), tradeType));
+      start = end;
+    }
+    return chunks;
+  }
+
   // loads a single CSV file, filtering by trade type
   private <T extends Trade> ValueWithFailures<List<T>> parseFile(CharSource charSource, Class<T> tradeType) {
     try (CsvIterator csv = CsvIterator.of(charSource, true)) {
@@ -441,7 +549,7 @@ public final class TradeCsvLoader {
             ImmutableList.of(),
             FailureItem.of(FailureReason.PARSING, "CSV file does not contain '{header}' header: {}", TYPE_FIELD, charSource));
       }
-      return parseFile(csv, tradeType);
+      return parseRows(csv, tradeType);
 
     } catch (RuntimeException ex) {
       return ValueWithFailures.of(
@@ -451,11 +559,12 @@ public final class TradeCsvLoader {
     }
   }
 
-  // loads a single CSV file
-  private <T extends Trade> ValueWithFailures<List<T>> parseFile(CsvIterator csv, Class<T> tradeType) {
+  // loads the rows of a CSV file
+  private <T extends Trade> ValueWithFailures<List<T>> parseRows(PeekingIterator<CsvRow> csv, Class<T> tradeType) {
     List<T> trades = new ArrayList<>();
     List<FailureItem> failures = new ArrayList<>();
-    for (CsvRow row : csv.asIterable()) {
+    while (csv.hasNext()) {
+      CsvRow row = csv.next();
       try {
         String typeRaw = row.getField(TYPE_FIELD);
         TradeInfo info = parseTradeInfo(row);
@@ -487,7 +596,7 @@ public final class TradeCsvLoader {
           case "SWAP":
             if (tradeType == SwapTrade.class || tradeType == Trade.class) {
               List<CsvRow> variableRows = new ArrayList<>();
-              while (csv.hasNext() && csv.peek().getField(TYPE_FIELD).toUpperCase(Locale.ENGLISH).equals("VARIABLE")) {
+              while (csv.hasNext() && isVariableRow(csv.peek())) {
                 variableRows.add(csv.next());
               }
               trades.add(tradeType.cast(resolver.parseSwapTrade(row, variableRows, info)));
@@ -496,7 +605,7 @@ public final class TradeCsvLoader {
           case "SWAPTION":
             if (tradeType == SwaptionTrade.class || tradeType == Trade.class) {
               List<CsvRow> variableRows = new ArrayList<>();
-              while (csv.hasNext() && csv.peek().getField(TYPE_FIELD).toUpperCase(Locale.ENGLISH).equals("VARIABLE")) {
+              while (csv.hasNext() && isVariableRow(csv.peek())) {
                 variableRows.add(csv.next());
               }
               trades.add(tradeType.cast(resolver.parseSwaptionTrade(row, variableRows, info)));
@@ -579,6 +688,11 @@ public final class TradeCsvLoader {
     return ValueWithFailures.of(trades, failures);
   }
 
+  // checks if the row is a 'Variable' row, which belongs to the preceding 'Swap' or 'Swaption' row
+  private static boolean isVariableRow(CsvRow row) {
+    return row.getField(TYPE_FIELD).toUpperCase(Locale.ENGLISH).equals("VARIABLE");
+  }
+
   // parse the trade info
   private TradeInfo parseTradeInfo(CsvRow row) {
     TradeInfoBuilder infoBuilder = TradeInfo.builder();
@@ -13,6 +13,7 @@ import java.time.Period;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -252,6 +253,32 @@ public final class FpmlDocument {
     this.strictValidation = strictValidation;
   }
 
+  // creates an instance with additional references, retaining the parsed parties
+  private FpmlDocument(FpmlDocument base, Map<String, XmlElement> additionalReferences) {
+    Map<String, XmlElement> mergedReferences = new HashMap<>(base.references);
+    mergedReferences.putAll(additionalReferences);
+    this.fpmlRoot = base.fpmlRoot;
+    this.references = ImmutableMap.copyOf(mergedReferences);
+    this.parties = base.parties;
+    this.ourPartyHrefIds = base.ourPartyHrefIds;
+    this.tradeInfoParser = base.tradeInfoParser;
+    this.refData = base.refData;
+    this.strictValidation = base.strictValidation;
+  }
+
+  /**
+   * Returns a copy of this document with additional references.
+   * <p>
+   * This is used when streaming trades, where the references within each trade
+   * are only known once that trade has been read.
+   * 
+   * @param additionalReferences  the additional map of id/href to referenced element
+   * @return the document with the additional references
+   */
+  FpmlDocument withAdditionalReferences(Map<String, XmlElement> additionalReferences) {
+    return additionalReferences.isEmpty() ? this : new FpmlDocument(this, additionalReferences);
+  }
+
   // parse all the root-level party elements
   private static ImmutableListMultimap<String, String> parseParties(XmlElement root) {
     ListMultimap<String, String> parties = ArrayListMultimap.create();
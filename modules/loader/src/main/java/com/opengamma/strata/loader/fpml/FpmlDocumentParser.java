@@ -5,15 +5,21 @@
  */
 package com.opengamma.strata.loader.fpml;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static com.opengamma.strata.collect.Guavate.toImmutableSet;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
@@ -36,6 +42,7 @@ import com.opengamma.strata.product.Trade;
 public final class FpmlDocumentParser {
   // Notes: Streaming trades directly from the file is difficult due to the
   // need to parse the party element at the root, which is after the trades
+  // thus streaming reads the file twice, once for the parties and once for the trades
 
   /**
    * The lookup of trade parsers.
@@ -358,6 +365,74 @@ public final class FpmlDocumentParser {
     return null;
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Parses FpML from the specified source, streaming the trades.
+   * <p>
+   * This parses the specified byte source which must be an XML document.
+   * Unlike {@link #parseTrades(ByteSource)}, the whole document is not held in memory.
+   * Instead, each {@code <trade>} element is read, parsed and returned in turn,
+   * such that memory usage is bounded by the size of the largest trade.
+   * The stream is lazy, thus parsing can be overlapped with processing of the trades.
+   * <p>
+   * The source is read twice. The first read finds the {@code <party>} elements,
+   * which are normally after the trades. The second read streams the trades.
+   * <p>
+   * The FpML root element is found as per {@link #parseTrades(ByteSource)}, as the element
+   * whose children are {@code <party>} elements. The trades must be children of the FpML root,
+   * or be within a child or grandchild of the FpML root.
+   * <p>
+   * Each trade can refer to the parties and to the elements within the trade itself.
+   * References from one trade to an element in another part of the document are not supported.
+   * <p>
+   * The stream must be closed to release the underlying input, such as by using try-with-resources.
+   * Any error is thrown when the affected trade is reached in the stream.
+   * 
+   * @param source  the source of the FpML XML document
+   * @return the stream of parsed trades
+   * @throws RuntimeException if a parse error occurred
+   */
+  public Stream<Trade> streamTrades(ByteSource source) {
+    // find the parties, and the FpML root which contains both parties and trades
+    PartyFinder partyFinder = new PartyFinder();
+    List<XmlFile> partyFiles;
+    try (Stream<XmlFile> stream = XmlFile.streamElements(source, FpmlDocument.ID, partyFinder)) {
+      partyFiles = stream.collect(toImmutableList());
+    }
+    List<String> rootPath = partyFinder.partyParentPaths.stream()
+        .filter(partyFinder.tradeAncestorPaths::contains)
+        .findFirst()
+        .orElseThrow(() -> new FpmlParseException("Unable to find FpML root element"));
+    List<XmlElement> partyEls = new ArrayList<>();
+    Map<String, XmlElement> partyRefs = new HashMap<>();
+    for (int i = 0; i < partyFiles.size(); i++) {
+      if (partyFinder.partyParentPaths.get(i).equals(rootPath)) {
+        partyEls.add(partyFiles.get(i).getRoot());
+        partyRefs.putAll(partyFiles.get(i).getReferences());
+      }
+    }
+    XmlElement fpmlRoot = XmlElement.ofChildren(rootPath.get(rootPath.size() - 1), partyEls);
+    FpmlDocument document =
+        new FpmlDocument(fpmlRoot, partyRefs, ourPartySelector, tradeInfoParser, refData, strictValidation);
+
+    // stream the trades
+    return XmlFile.streamElements(source, FpmlDocument.ID, path -> isTrade(path, rootPath))
+        .map(tradeFile -> parseTrade(
+            document.withAdditionalReferences(tradeFile.getReferences()),
+            tradeFile.getRoot()));
+  }
+
+  // checks if the path is a trade element within the FpML root
+  private static boolean isTrade(List<String> path, List<String> rootPath) {
+    // the trade is a child of the FpML root, or within a child or grandchild (clearing wrappers)
+    int size = path.size();
+    int rootSize = rootPath.size();
+    return size > rootSize &&
+        size <= rootSize + 3 &&
+        path.get(size - 1).equals("trade") &&
+        path.subList(0, rootSize).equals(rootPath);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Parses the FpML document extracting the trades.
@@ -399,4 +474,31 @@ public final class FpmlDocumentParser {
     throw new FpmlParseException("Unknown product type: " + childNames);
   }
 
+  //-------------------------------------------------------------------------
+  // selects the party elements, capturing the paths needed to find the FpML root
+  private static final class PartyFinder implements Predicate<List<String>> {
+    // the path of the parent of each selected party, in the order selected
+    private final List<List<String>> partyParentPaths = new ArrayList<>();
+    // the paths of elements that have a trade as a child, grandchild or great-grandchild
+    private final Set<List<String>> tradeAncestorPaths = new HashSet<>();
+
+    @Override
+    public boolean test(List<String> path) {
+      // the FpML root is the root, or a child or grandchild of the root
+      int size = path.size();
+      String name = path.get(size - 1);
+      if (name.equals("trade")) {
+        for (int i = Math.max(size - 3, 1); i < size; i++) {
+          tradeAncestorPaths.add(ImmutableList.copyOf(path.subList(0, i)));
+        }
+        return false;
+      }
+      if (size >= 2 && size <= 4 && name.equals("party")) {
+        partyParentPaths.add(ImmutableList.copyOf(path.subList(0, size - 1)));
+        return true;
+      }
+      return false;
+    }
+  }
+
 }
@@ -8,6 +8,7 @@ package com.opengamma.strata.loader;
 import static com.opengamma.strata.basics.date.BusinessDayConventions.MODIFIED_FOLLOWING;
 import static com.opengamma.strata.collect.TestHelper.coverPrivateConstructor;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.within;
 
@@ -17,11 +18,14 @@ import java.time.LocalTime;
 import java.time.Period;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.date.Tenor;
 import com.opengamma.strata.basics.index.FxIndices;
@@ -180,6 +184,21 @@ public class LoaderUtilsTest {
     assertThatIllegalArgumentException().isThrownBy(() -> LoaderUtils.parseDate("Rubbish"));
   }
 
+  @Test
+  public void test_parseDate_isoMatchesFormatter() {
+    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd", Locale.ENGLISH);
+    List<String> valid = ImmutableList.of("2012-06-30", "2012-02-29", "2013-02-29", "2013-04-31", "0001-01-01");
+    for (String str : valid) {
+      assertThat(LoaderUtils.parseDate(str)).isEqualTo(LocalDate.parse(str, formatter));
+    }
+    List<String> invalid =
+        ImmutableList.of("2012-13-01", "2012-00-01", "2012-01-00", "2012-01-32", "0000-01-01", "2012-0a-01");
+    for (String str : invalid) {
+      assertThatExceptionOfType(DateTimeParseException.class).isThrownBy(() -> LocalDate.parse(str, formatter));
+      assertThatIllegalArgumentException().isThrownBy(() -> LoaderUtils.parseDate(str));
+    }
+  }
+
   @Test
   public void test_parseYearMonth() {
     assertThat(LoaderUtils.parseYearMonth("2012-06")).isEqualTo(YearMonth.of(2012, 6));
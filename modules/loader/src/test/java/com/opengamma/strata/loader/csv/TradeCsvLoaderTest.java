@@ -170,6 +170,26 @@ public class TradeCsvLoaderTest {
     assertThat(trades.getFailures().size()).as(trades.getFailures().toString()).isEqualTo(0);
   }
 
+  @Test
+  public void test_load_parallel() {
+    ImmutableList<CharSource> charSources = ImmutableList.of(
+        FILE.getCharSource(),
+        CharSource.wrap("Id"),
+        FILE_CPTY.getCharSource(),
+        CharSource.wrap("Strata Trade Type\nFoo\nVariable\nFRA"),
+        FILE_CPTY2.getCharSource());
+    ValueWithFailures<List<Trade>> expected = TradeCsvLoader.standard().parse(charSources);
+    // chunk sizes that split the 'Swap' and 'Variable' rows into different chunks if not grouped
+    for (int chunkSize : new int[] {1, 2, 3, 1000}) {
+      ValueWithFailures<List<Trade>> test = TradeCsvLoader.standard().parallel(chunkSize).parse(charSources);
+      assertThat(test.getValue()).isEqualTo(expected.getValue());
+      assertThat(test.getFailures()).extracting(FailureItem::getMessage)
+          .isEqualTo(expected.getFailures().stream().map(FailureItem::getMessage).collect(toImmutableList()));
+    }
+    ValueWithFailures<List<Trade>> test = TradeCsvLoader.standard().parallel().load(FILE);
+    assertThat(test.getValue()).isEqualTo(TradeCsvLoader.standard().load(FILE).getValue());
+  }
+
   @Test
   public void test_load_fx_forwards() throws Exception {
     TradeCsvLoader standard = TradeCsvLoader.standard();
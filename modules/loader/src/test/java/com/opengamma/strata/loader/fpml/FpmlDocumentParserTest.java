@@ -40,6 +40,7 @@ import static com.opengamma.strata.basics.index.IborIndices.GBP_LIBOR_6M;
 import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_3M;
 import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_6M;
 import static com.opengamma.strata.basics.index.OvernightIndices.EUR_EONIA;
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static com.opengamma.strata.collect.TestHelper.assertEqualsBean;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static com.opengamma.strata.product.common.BuySell.BUY;
@@ -60,6 +61,7 @@ import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Optional;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.joda.beans.Bean;
 import org.junit.jupiter.api.Test;
@@ -1578,6 +1580,48 @@ public class FpmlDocumentParserTest {
     assertThat(trades).hasSize(1);
   }
 
+  @ParameterizedTest
+  @MethodSource("data_parse")
+  public void stream(String location) {
+    ByteSource resource = ResourceLocator.of(location).getByteSource();
+    FpmlDocumentParser parser = FpmlDocumentParser.of(FpmlPartySelector.matching("Party2"));
+    try (Stream<Trade> stream = parser.streamTrades(resource)) {
+      List<Trade> trades = stream.collect(toImmutableList());
+      assertThat(trades).isEqualTo(parser.parseTrades(resource));
+    }
+  }
+
+  @Test
+  public void stream_wrappers() {
+    List<String> locations = ImmutableList.of(
+        "classpath:com/opengamma/strata/loader/fpml/ird-ex08-fra-namespace.xml",
+        "classpath:com/opengamma/strata/loader/fpml/ird-ex08-fra-wrapper1.xml",
+        "classpath:com/opengamma/strata/loader/fpml/ird-ex08-fra-wrapper2.xml",
+        "classpath:com/opengamma/strata/loader/fpml/ird-ex08-fra-wrapper-clearing-status.xml");
+    FpmlDocumentParser parser = FpmlDocumentParser.of(FpmlPartySelector.matching("Party2"));
+    for (String location : locations) {
+      ByteSource resource = ResourceLocator.of(location).getByteSource();
+      try (Stream<Trade> stream = parser.streamTrades(resource)) {
+        List<Trade> trades = stream.collect(toImmutableList());
+        assertFra(trades, false);
+        assertThat(trades).isEqualTo(parser.parseTrades(resource));
+      }
+    }
+  }
+
+  @Test
+  public void stream_unknownProduct() {
+    String location = "classpath:com/opengamma/strata/loader/fpml/ird-ex08-fra.xml";
+    ByteSource resource = ResourceLocator.of(location).getByteSource();
+    FpmlDocumentParser parser = FpmlDocumentParser.of(
+        FpmlPartySelector.any(), FpmlTradeInfoParserPlugin.standard(), ImmutableMap.of());
+    try (Stream<Trade> stream = parser.streamTrades(resource)) {
+      assertThatExceptionOfType(FpmlParseException.class)
+          .isThrownBy(() -> stream.count())
+          .withMessageStartingWith("Unknown product type: ");
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void noTrades() {
@@ -1648,6 +1692,9 @@ public class FpmlDocumentParserTest {
     assertThatExceptionOfType(FpmlParseException.class)
         .isThrownBy(() -> parser.parseTrades(resource))
         .withMessageStartingWith("Unable to find FpML root element");
+    assertThatExceptionOfType(FpmlParseException.class)
+        .isThrownBy(() -> parser.streamTrades(resource))
+        .withMessageStartingWith("Unable to find FpML root element");
   }
 
   @Test
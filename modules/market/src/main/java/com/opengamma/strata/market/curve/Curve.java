@@ -15,6 +15,7 @@ import java.util.stream.IntStream;
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.ParameterPerturbation;
@@ -97,6 +98,23 @@ public interface Curve extends ParameterizedData {
    */
   public abstract double yValue(double x);
 
+  /**
+   * Computes the y-values for the specified x-values.
+   * <p>
+   * This is equivalent to calling {@link #yValue(double)} for each x-value,
+   * storing the result in the matching element of the result array.
+   * Implementations may be more efficient when the x-values are sorted from low to high,
+   * as is typically the case when looking up a schedule of dates.
+   * 
+   * @param x  the x-values to find the y-values for
+   * @param result  the array to store the y-values in, the same size as the x-values
+   */
+  public default void yValues(double[] x, double[] result) {
+    for (int i = 0; i < x.length; i++) {
+      result[i] = yValue(x[i]);
+    }
+  }
+
   /**
    * Computes the sensitivity of the y-value with respect to the curve parameters.
    * <p>
@@ -109,6 +127,48 @@ public interface Curve extends ParameterizedData {
    */
   public abstract UnitParameterSensitivity yValueParameterSensitivity(double x);
 
+  /**
+   * Adds the sensitivity of the y-value with respect to the curve parameters to the accumulator.
+   * <p>
+   * The sensitivity at the specified x-value is multiplied by the amount and added to the accumulator
+   * in the specified currency. This is equivalent to adding the result of {@link #yValueParameterSensitivity(double)},
+   * but allows implementations to avoid creating a dense sensitivity for each x-value.
+   * 
+   * @param x  the x-value at which the parameter sensitivity is computed
+   * @param currency  the currency of the amount
+   * @param amount  the amount to multiply the sensitivity by
+   * @param accumulator  the accumulator to add the sensitivity to
+   * @throws RuntimeException if the sensitivity cannot be calculated
+   */
+  public default void addYValueParameterSensitivity(
+      double x,
+      Currency currency,
+      double amount,
+      CurrencyParameterSensitivitiesAccumulator accumulator) {
+
+    accumulator.add(yValueParameterSensitivity(x), currency, amount);
+  }
+
+  /**
+   * Adds the sensitivity of the y-value with respect to the curve parameters to an array.
+   * <p>
+   * The sensitivity at the specified x-value to each parameter is multiplied by the factor and added
+   * to the matching element of the array, which has one element for each parameter of the curve.
+   * This is equivalent to using {@link #yValueParameterSensitivity(double)}, but allows implementations
+   * to only add the non-zero sensitivities, without creating a dense sensitivity for each x-value.
+   * 
+   * @param x  the x-value at which the parameter sensitivity is computed
+   * @param factor  the factor to multiply the sensitivity by
+   * @param sensitivity  the mutable array to add the sensitivity to
+   * @throws RuntimeException if the sensitivity cannot be calculated
+   */
+  public default void addYValueParameterSensitivity(double x, double factor, double[] sensitivity) {
+    double[] values = yValueParameterSensitivity(x).getSensitivity().toArrayUnsafe();
+    for (int i = 0; i < values.length; i++) {
+      sensitivity[i] += values[i] * factor;
+    }
+  }
+
   /**
    * Computes the first derivative of the curve.
    * <p>
@@ -35,6 +35,7 @@ import com.opengamma.strata.market.curve.interpolator.BoundCurveInterpolator;
 import com.opengamma.strata.market.curve.interpolator.CurveExtrapolator;
 import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.ParameterPerturbation;
@@ -243,11 +244,37 @@ public final class InterpolatedNodalCurve
     return boundInterpolator.interpolate(x);
   }
 
+  @Override
+  public void yValues(double[] x, double[] result) {
+    boundInterpolator.interpolate(x, result);
+  }
+
   @Override
   public UnitParameterSensitivity yValueParameterSensitivity(double x) {
     return createParameterSensitivity(boundInterpolator.parameterSensitivity(x));
   }
 
+  @Override
+  public void addYValueParameterSensitivity(
+      double x,
+      Currency currency,
+      double amount,
+      CurrencyParameterSensitivitiesAccumulator accumulator) {
+
+    int size = xValues.size();
+    accumulator.add(
+        getName(),
+        currency,
+        () -> createParameterSensitivity(currency, DoubleArray.filled(size)),
+        size,
+        sensitivity -> boundInterpolator.addParameterSensitivity(x, amount, sensitivity));
+  }
+
+  @Override
+  public void addYValueParameterSensitivity(double x, double factor, double[] sensitivity) {
+    boundInterpolator.addParameterSensitivity(x, factor, sensitivity);
+  }
+
   @Override
   public double firstDerivative(double x) {
     return boundInterpolator.firstDerivative(x);
@@ -152,6 +152,34 @@ public abstract class AbstractBoundCurveInterpolator
    */
   protected abstract DoubleArray doParameterSensitivity(double xValue);
 
+  @Override
+  public final void addParameterSensitivity(double xValue, double factor, double[] sensitivity) {
+    if (xValue < firstXValue) {
+      extrapolatorLeft.addLeftExtrapolateParameterSensitivity(xValue, factor, sensitivity);
+    } else if (xValue > lastXValue) {
+      extrapolatorRight.addRightExtrapolateParameterSensitivity(xValue, factor, sensitivity);
+    } else {
+      doAddParameterSensitivity(xValue, factor, sensitivity);
+    }
+  }
+
+  /**
+   * Method for subclasses to add the parameter sensitivity to an array.
+   * <p>
+   * The default implementation adds the result of {@link #doParameterSensitivity(double)}.
+   * Subclasses should override this to only add the non-zero sensitivities.
+   * 
+   * @param xValue  the x-value
+   * @param factor  the factor to multiply the sensitivity by
+   * @param sensitivity  the mutable array to add the sensitivity to
+   */
+  protected void doAddParameterSensitivity(double xValue, double factor, double[] sensitivity) {
+    double[] values = doParameterSensitivity(xValue).toArrayUnsafe();
+    for (int i = 0; i < values.length; i++) {
+      sensitivity[i] += values[i] * factor;
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Returns the index of the last value in the input array which is lower than the specified value.
@@ -197,4 +225,32 @@ public abstract class AbstractBoundCurveInterpolator
     return lo - 1;
   }
 
+  /**
+   * Returns the index of the last value in the input array which is lower than the specified value,
+   * searching forwards from a previous result.
+   * <p>
+   * This is intended for use when looking up x-values sorted from low to high, where the result for
+   * each x-value is typically the same as, or slightly after, the result for the previous x-value.
+   * If the x-value is lower than the value at the previous index, a binary search is used instead.
+   * <p>
+   * The conditions of {@link #lowerBoundIndex(double, double[])} apply,
+   * and the result is the same as that method.
+   *
+   * @param xValue  a value which is less than the last element in {@code xValues}
+   * @param xValues  an array of values sorted in ascending order
+   * @param previousIndex  the index returned for the previous x-value, zero if none
+   * @return the index of the last value in {@code xValues} which is lower than {@code xValue}
+   */
+  protected static int lowerBoundIndex(double xValue, double[] xValues, int previousIndex) {
+    if (xValue < xValues[previousIndex]) {
+      return lowerBoundIndex(xValue, xValues);
+    }
+    int index = previousIndex;
+    int lastIndex = xValues.length - 1;
+    while (index < lastIndex && xValues[index + 1] <= xValue) {
+      index++;
+    }
+    return index;
+  }
+
 }
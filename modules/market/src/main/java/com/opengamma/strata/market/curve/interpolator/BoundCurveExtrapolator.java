@@ -54,6 +54,28 @@ public interface BoundCurveExtrapolator {
    */
   public abstract DoubleArray leftExtrapolateParameterSensitivity(double xValue);
 
+  /**
+   * Adds the parameter sensitivities of the left extrapolated y-value at the specified x-value to an array.
+   * <p>
+   * This method is only intended to be invoked when the x-value is less than the x-value of the first node.
+   * The behavior is undefined if called with any other x-value.
+   * <p>
+   * The sensitivity to each parameter is multiplied by the factor and added to the matching element of the array.
+   * This is equivalent to {@link #leftExtrapolateParameterSensitivity(double)}, but allows implementations
+   * to only add the non-zero sensitivities.
+   * 
+   * @param xValue  the x-value to find the y-value for
+   * @param factor  the factor to multiply the sensitivity by
+   * @param sensitivity  the mutable array to add the sensitivity to
+   * @throws RuntimeException if the sensitivity cannot be calculated
+   */
+  public default void addLeftExtrapolateParameterSensitivity(double xValue, double factor, double[] sensitivity) {
+    double[] values = leftExtrapolateParameterSensitivity(xValue).toArrayUnsafe();
+    for (int i = 0; i < values.length; i++) {
+      sensitivity[i] += values[i] * factor;
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Right extrapolates the y-value from the specified x-value.
@@ -91,4 +113,26 @@ public interface BoundCurveExtrapolator {
    */
   public abstract DoubleArray rightExtrapolateParameterSensitivity(double xValue);
 
+  /**
+   * Adds the parameter sensitivities of the right extrapolated y-value at the specified x-value to an array.
+   * <p>
+   * This method is only intended to be invoked when the x-value is greater than the x-value of the last node.
+   * The behavior is undefined if called with any other x-value.
+   * <p>
+   * The sensitivity to each parameter is multiplied by the factor and added to the matching element of the array.
+   * This is equivalent to {@link #rightExtrapolateParameterSensitivity(double)}, but allows implementations
+   * to only add the non-zero sensitivities.
+   * 
+   * @param xValue  the x-value to find the y-value for
+   * @param factor  the factor to multiply the sensitivity by
+   * @param sensitivity  the mutable array to add the sensitivity to
+   * @throws RuntimeException if the sensitivity cannot be calculated
+   */
+  public default void addRightExtrapolateParameterSensitivity(double xValue, double factor, double[] sensitivity) {
+    double[] values = rightExtrapolateParameterSensitivity(xValue).toArrayUnsafe();
+    for (int i = 0; i < values.length; i++) {
+      sensitivity[i] += values[i] * factor;
+    }
+  }
+
 }
@@ -29,6 +29,24 @@ public interface BoundCurveInterpolator {
    */
   public abstract double interpolate(double x);
 
+  /**
+   * Computes the y-values for the specified x-values by interpolation.
+   * <p>
+   * This is equivalent to calling {@link #interpolate(double)} for each x-value,
+   * storing the result in the matching element of the result array.
+   * Implementations may be more efficient when the x-values are sorted from low to high,
+   * as is typically the case when looking up a schedule of dates.
+   * 
+   * @param xValues  the x-values to find the y-values for
+   * @param result  the array to store the y-values in, the same size as the x-values
+   * @throws RuntimeException if a y-value cannot be calculated
+   */
+  public default void interpolate(double[] xValues, double[] result) {
+    for (int i = 0; i < xValues.length; i++) {
+      result[i] = interpolate(xValues[i]);
+    }
+  }
+
   /**
    * Computes the first derivative of the y-value for the specified x-value.
    * <p>
@@ -52,6 +70,27 @@ public interface BoundCurveInterpolator {
    */
   public abstract DoubleArray parameterSensitivity(double x);
 
+  /**
+   * Adds the sensitivity of the y-value with respect to the curve parameters to an array.
+   * <p>
+   * The sensitivity of the y-value at the specified x-value to each parameter is multiplied by the factor
+   * and added to the matching element of the array, which has one element for each parameter of the curve.
+   * This is equivalent to {@link #parameterSensitivity(double)}, but allows implementations to avoid
+   * creating a dense array where the y-value only depends on a small number of parameters,
+   * such as the two nodes surrounding the x-value in linear interpolation.
+   * 
+   * @param x  the x-value at which the parameter sensitivity is computed
+   * @param factor  the factor to multiply the sensitivity by
+   * @param sensitivity  the mutable array to add the sensitivity to
+   * @throws RuntimeException if the sensitivity cannot be calculated
+   */
+  public default void addParameterSensitivity(double x, double factor, double[] sensitivity) {
+    double[] values = parameterSensitivity(x).toArrayUnsafe();
+    for (int i = 0; i < values.length; i++) {
+      sensitivity[i] += values[i] * factor;
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Binds this interpolator to the specified extrapolators.
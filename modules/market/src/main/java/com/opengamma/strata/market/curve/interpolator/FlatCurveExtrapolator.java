@@ -98,6 +98,11 @@ final class FlatCurveExtrapolator
       return leftSensitivity;
     }
 
+    @Override
+    public void addLeftExtrapolateParameterSensitivity(double xValue, double factor, double[] sensitivity) {
+      sensitivity[0] += factor;
+    }
+
     //-------------------------------------------------------------------------
     @Override
     public double rightExtrapolate(double xValue) {
@@ -113,6 +118,11 @@ final class FlatCurveExtrapolator
     public DoubleArray rightExtrapolateParameterSensitivity(double xValue) {
       return rightSensitivity;
     }
+
+    @Override
+    public void addRightExtrapolateParameterSensitivity(double xValue, double factor, double[] sensitivity) {
+      sensitivity[nodeCount - 1] += factor;
+    }
   }
 
 }
@@ -105,6 +105,23 @@ final class LinearCurveInterpolator
       return y1 + (xValue - x1) * gradients[lowerIndex];
     }
 
+    @Override
+    public void interpolate(double[] x, double[] result) {
+      int lowerIndex = 0;
+      for (int i = 0; i < x.length; i++) {
+        double xValue = x[i];
+        if (xValue >= xValues[0] && xValue < xValues[intervalCount]) {
+          // walk forwards from the previous interval, as the x-values are typically sorted
+          lowerIndex = lowerBoundIndex(xValue, xValues, lowerIndex);
+          double x1 = xValues[lowerIndex];
+          double y1 = yValues[lowerIndex];
+          result[i] = y1 + (xValue - x1) * gradients[lowerIndex];
+        } else {
+          result[i] = interpolate(xValue);
+        }
+      }
+    }
+
     @Override
     protected double doInterpolateFromExtrapolator(double xValue) {
       int lowerIndex = lowerBoundIndex(xValue, xValues);
@@ -148,6 +165,23 @@ final class LinearCurveInterpolator
       return DoubleArray.ofUnsafe(result);
     }
 
+    @Override
+    protected void doAddParameterSensitivity(double xValue, double factor, double[] sensitivity) {
+      int lowerIndex = lowerBoundIndex(xValue, xValues);
+      // check if x-value is at the last node
+      if (lowerIndex == intervalCount) {
+        // sensitivity is entirely to the last node
+        sensitivity[intervalCount] += factor;
+      } else {
+        double x1 = xValues[lowerIndex];
+        double x2 = xValues[lowerIndex + 1];
+        double dx = x2 - x1;
+        double a = (x2 - xValue) / dx;
+        sensitivity[lowerIndex] += a * factor;
+        sensitivity[lowerIndex + 1] += (1 - a) * factor;
+      }
+    }
+
     @Override
     public BoundCurveInterpolator bind(
         BoundCurveExtrapolator extrapolatorLeft,
@@ -98,6 +98,25 @@ final class LogLinearCurveInterpolator
       return Math.pow(y2 / y1, (xValue - x1) / (x2 - x1)) * y1;
     }
 
+    @Override
+    public void interpolate(double[] x, double[] result) {
+      int lowerIndex = 0;
+      for (int i = 0; i < x.length; i++) {
+        double xValue = x[i];
+        if (xValue >= xValues[0] && xValue < xValues[intervalCount]) {
+          // walk forwards from the previous interval, as the x-values are typically sorted
+          lowerIndex = lowerBoundIndex(xValue, xValues, lowerIndex);
+          double x1 = xValues[lowerIndex];
+          double x2 = xValues[lowerIndex + 1];
+          double y1 = yValues[lowerIndex];
+          double y2 = yValues[lowerIndex + 1];
+          result[i] = Math.pow(y2 / y1, (xValue - x1) / (x2 - x1)) * y1;
+        } else {
+          result[i] = interpolate(xValue);
+        }
+      }
+    }
+
     @Override
     protected double doInterpolateFromExtrapolator(double xValue) {
       int lowerIndex = lowerBoundIndex(xValue, xValues);
@@ -157,6 +176,27 @@ final class LogLinearCurveInterpolator
       return DoubleArray.ofUnsafe(result);
     }
 
+    @Override
+    protected void doAddParameterSensitivity(double xValue, double factor, double[] sensitivity) {
+      int lowerIndex = lowerBoundIndex(xValue, xValues);
+      // check if x-value is at the last node
+      if (lowerIndex == intervalCount) {
+        // sensitivity is entirely to the last node
+        sensitivity[intervalCount] += factor;
+      } else {
+        double x1 = xValues[lowerIndex];
+        double x2 = xValues[lowerIndex + 1];
+        double y1 = yValues[lowerIndex];
+        double y2 = yValues[lowerIndex + 1];
+        double diffInv = 1.0 / (x2 - x1);
+        double x1diffInv = (xValue - x1) * diffInv;
+        double x2diffInv = (x2 - xValue) * diffInv;
+        double yDiv = y1 / y2;
+        sensitivity[lowerIndex] += Math.pow(yDiv, -x1diffInv) * x2diffInv * factor;
+        sensitivity[lowerIndex + 1] += Math.pow(yDiv, x2diffInv) * x1diffInv * factor;
+      }
+    }
+
     @Override
     public BoundCurveInterpolator bind(
         BoundCurveExtrapolator extrapolatorLeft,
@@ -0,0 +1,278 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.param;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.data.MarketDataName;
+
+/**
+ * Mutable accumulator for {@code CurrencyParameterSensitivities}.
+ * <p>
+ * This is used to sum a large number of parameter sensitivities, typically one for each point sensitivity
+ * of a trade. The sensitivity values are summed in place, in a single array for each market data name
+ * and currency, with a single immutable {@link CurrencyParameterSensitivities} created by {@link #build()}.
+ * <p>
+ * The sensitivities are combined in the same way as
+ * {@link CurrencyParameterSensitivities#combinedWith(CurrencyParameterSensitivity)}.
+ * The values are summed by index using market data name and currency as a key.
+ * The parameter metadata is not checked, thus the caller must ensure the sensitivities
+ * are compatible with the same metadata and parameter count.
+ * To combine taking the metadata into account, use {@link CurrencyParameterSensitivitiesBuilder}.
+ * <p>
+ * This class is mutable and not thread-safe.
+ */
+public final class CurrencyParameterSensitivitiesAccumulator {
+
+  /**
+   * The map of sensitivity data.
+   */
+  private final Map<Pair<MarketDataName<?>, Currency>, Entry> data = new HashMap<>();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates an empty accumulator.
+   *
+   * @return the accumulator
+   */
+  public static CurrencyParameterSensitivitiesAccumulator create() {
+    return new CurrencyParameterSensitivitiesAccumulator();
+  }
+
+  // restricted constructor
+  private CurrencyParameterSensitivitiesAccumulator() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Checks if the accumulator is empty.
+   *
+   * @return true if no sensitivities have been added
+   */
+  public boolean isEmpty() {
+    return data.isEmpty();
+  }
+
+  /**
+   * Adds sensitivities to the accumulator.
+   *
+   * @param sensitivities  the sensitivities to add
+   * @return this, for chaining
+   */
+  public CurrencyParameterSensitivitiesAccumulator add(CurrencyParameterSensitivities sensitivities) {
+    for (CurrencyParameterSensitivity sensitivity : sensitivities.getSensitivities()) {
+      add(sensitivity);
+    }
+    return this;
+  }
+
+  /**
+   * Adds a sensitivity to the accumulator.
+   *
+   * @param sensitivity  the sensitivity to add
+   * @return this, for chaining
+   */
+  public CurrencyParameterSensitivitiesAccumulator add(CurrencyParameterSensitivity sensitivity) {
+    Pair<MarketDataName<?>, Currency> key = Pair.of(sensitivity.getMarketDataName(), sensitivity.getCurrency());
+    Entry entry = data.get(key);
+    if (entry == null) {
+      data.put(key, new Entry(sensitivity));
+    } else {
+      entry.add(sensitivity.getSensitivity(), 1d);
+    }
+    return this;
+  }
+
+  /**
+   * Adds unit sensitivities to the accumulator, multiplied by an amount in the specified currency.
+   * <p>
+   * This is equivalent to adding {@link UnitParameterSensitivities#multipliedBy(Currency, double)}.
+   *
+   * @param sensitivities  the unit sensitivities to add
+   * @param currency  the currency of the amount
+   * @param amount  the amount to multiply by
+   * @return this, for chaining
+   */
+  public CurrencyParameterSensitivitiesAccumulator add(
+      UnitParameterSensitivities sensitivities,
+      Currency currency,
+      double amount) {
+
+    for (UnitParameterSensitivity sensitivity : sensitivities.getSensitivities()) {
+      add(sensitivity, currency, amount);
+    }
+    return this;
+  }
+
+  /**
+   * Adds a unit sensitivity to the accumulator, multiplied by an amount in the specified currency.
+   * <p>
+   * This is equivalent to adding {@link UnitParameterSensitivity#multipliedBy(Currency, double)},
+   * but without creating the intermediate sensitivity where the market data name and currency
+   * have already been added.
+   *
+   * @param sensitivity  the unit sensitivity to add
+   * @param currency  the currency of the amount
+   * @param amount  the amount to multiply by
+   * @return this, for chaining
+   */
+  public CurrencyParameterSensitivitiesAccumulator add(
+      UnitParameterSensitivity sensitivity,
+      Currency currency,
+      double amount) {
+
+    Pair<MarketDataName<?>, Currency> key = Pair.of(sensitivity.getMarketDataName(), currency);
+    Entry entry = data.get(key);
+    if (entry == null) {
+      data.put(key, new Entry(sensitivity.multipliedBy(currency, amount)));
+    } else {
+      entry.add(sensitivity.getSensitivity(), amount);
+    }
+    return this;
+  }
+
+  /**
+   * Adds sensitivity values to the accumulator for the market data name and currency.
+   * <p>
+   * This allows a sensitivity to be added without creating an intermediate sensitivity instance,
+   * such as when the caller has calculated the values directly into an array.
+   * If there is no existing entry for the market data name and currency, the supplied sensitivity is
+   * added first. This would typically be a zero sensitivity, providing the parameter metadata.
+   * <p>
+   * The values are summed into the accumulator, and the array is not retained.
+   *
+   * @param marketDataName  the market data name
+   * @param currency  the currency of the sensitivity
+   * @param initialSupplier  the supplier of the initial sensitivity, used if there is no existing entry
+   * @param values  the sensitivity values to add, one for each parameter
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the number of values does not match the existing entry
+   */
+  public CurrencyParameterSensitivitiesAccumulator add(
+      MarketDataName<?> marketDataName,
+      Currency currency,
+      Supplier<CurrencyParameterSensitivity> initialSupplier,
+      double[] values) {
+
+    Pair<MarketDataName<?>, Currency> key = Pair.of(marketDataName, currency);
+    Entry entry = data.get(key);
+    if (entry == null) {
+      entry = new Entry(initialSupplier.get());
+      data.put(key, entry);
+    }
+    entry.add(values, 1d);
+    return this;
+  }
+
+  /**
+   * Adds sensitivity values to the accumulator for the market data name and currency, in place.
+   * <p>
+   * This allows a sensitivity that depends on only a few parameters, such as the two nodes surrounding
+   * a point on a linearly interpolated curve, to be added without creating a dense array.
+   * If there is no existing entry for the market data name and currency, the supplied sensitivity is
+   * added first. This would typically be a zero sensitivity, providing the parameter metadata.
+   * <p>
+   * The adder is invoked with the summed values of the entry, and must add to the elements it affects.
+   * The array must not be retained by the adder.
+   *
+   * @param marketDataName  the market data name
+   * @param currency  the currency of the sensitivity
+   * @param initialSupplier  the supplier of the initial sensitivity, used if there is no existing entry
+   * @param parameterCount  the number of parameters the adder expects
+   * @param adder  the function that adds the sensitivity values to the summed values
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the parameter count does not match the existing entry
+   */
+  public CurrencyParameterSensitivitiesAccumulator add(
+      MarketDataName<?> marketDataName,
+      Currency currency,
+      Supplier<CurrencyParameterSensitivity> initialSupplier,
+      int parameterCount,
+      Consumer<double[]> adder) {
+
+    Pair<MarketDataName<?>, Currency> key = Pair.of(marketDataName, currency);
+    Entry entry = data.get(key);
+    if (entry == null) {
+      entry = new Entry(initialSupplier.get());
+      data.put(key, entry);
+    }
+    entry.add(parameterCount, adder);
+    return this;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Builds the sensitivities from the accumulated data.
+   * <p>
+   * The accumulator may continue to be used after this method is called.
+   *
+   * @return the sensitivities instance
+   */
+  public CurrencyParameterSensitivities build() {
+    return CurrencyParameterSensitivities.of(data.values().stream()
+        .map(Entry::build)
+        .sorted(CurrencyParameterSensitivity::compareKey)
+        .collect(toImmutableList()));
+  }
+
+  //-------------------------------------------------------------------------
+  // the mutable sensitivity values of a single market data name and currency
+  private static final class Entry {
+    // the first sensitivity added, providing the metadata
+    private final CurrencyParameterSensitivity template;
+    // the summed values
+    private final double[] values;
+
+    private Entry(CurrencyParameterSensitivity template) {
+      this.template = template;
+      this.values = template.getSensitivity().toArray();
+    }
+
+    // adds the values multiplied by the amount
+    private void add(DoubleArray sensitivity, double amount) {
+      add(sensitivity.toArrayUnsafe(), amount);
+    }
+
+    // adds the values multiplied by the amount
+    private void add(double[] added, double amount) {
+      checkSize(added.length);
+      for (int i = 0; i < values.length; i++) {
+        values[i] += added[i] * amount;
+      }
+    }
+
+    // adds the values in place
+    private void add(int parameterCount, Consumer<double[]> adder) {
+      checkSize(parameterCount);
+      adder.accept(values);
+    }
+
+    // checks the number of parameters matches
+    private void checkSize(int parameterCount) {
+      if (parameterCount != values.length) {
+        throw new IllegalArgumentException(Messages.format(
+            "Sensitivity for '{}' must have {} parameters but found {}",
+            template.getMarketDataName(),
+            values.length,
+            parameterCount));
+      }
+    }
+
+    private CurrencyParameterSensitivity build() {
+      return template.withSensitivity(DoubleArray.copyOf(values));
+    }
+  }
+
+}
@@ -0,0 +1,742 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.param;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+
+import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.ImmutableValidator;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.direct.DirectMetaBean;
+import org.joda.beans.impl.direct.DirectMetaProperty;
+import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioFxConvertible;
+import com.opengamma.strata.data.scenario.ScenarioFxRateProvider;
+
+/**
+ * A scenario array of currency parameter sensitivities, stored in primitive arrays.
+ * <p>
+ * This class is a more efficient alternative to storing a list of {@link CurrencyParameterSensitivities},
+ * one for each scenario. The sensitivity values of each market data name and currency are stored
+ * in a matrix, with one row for each scenario and one column for each parameter.
+ * The market data name, currency and parameter metadata are only stored once.
+ * <p>
+ * The sensitivities of each scenario are recreated on demand by {@link #get(int)}.
+ * Every scenario must have the same market data names and currencies, with the same parameter metadata,
+ * such that the sensitivities returned by {@code get(int)} are equal to those the instance was created from.
+ * Use {@link #ofCompatible(int, IntFunction)} to fall back to a general purpose {@link ScenarioArray}
+ * where the scenarios differ.
+ */
+@BeanDefinition(builderScope = "private")
+public final class CurrencyParameterSensitivitiesScenarioArray
+    implements ScenarioArray<CurrencyParameterSensitivities>,
+    ScenarioFxConvertible<CurrencyParameterSensitivitiesScenarioArray>, ImmutableBean, Serializable {
+
+  /**
+   * The number of scenarios.
+   */
+  @PropertyDefinition(validate = "ArgChecker.notNegative", overrideGet = true)
+  private final int scenarioCount;
+  /**
+   * The sensitivity entries, defining the market data name, currency and parameter metadata.
+   * <p>
+   * The entries are sorted using {@link CurrencyParameterSensitivity#compareKey}.
+   * The sensitivity values of the entries are zero, with the values held in {@code values}.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final ImmutableList<CurrencyParameterSensitivity> sensitivities;
+  /**
+   * The sensitivity values, one matrix for each entry in {@code sensitivities}.
+   * <p>
+   * Each matrix has one row for each scenario and one column for each parameter.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final ImmutableList<DoubleMatrix> values;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from the sensitivities of each scenario.
+   *
+   * @param sensitivities  the sensitivities, one for each scenario
+   * @return the scenario array
+   * @throws IllegalArgumentException if the market data names, currencies or parameter metadata
+   *   differ between scenarios
+   */
+  public static CurrencyParameterSensitivitiesScenarioArray of(List<CurrencyParameterSensitivities> sensitivities) {
+    return of(sensitivities.size(), sensitivities::get);
+  }
+
+  /**
+   * Obtains an instance using a function to create the sensitivities of each scenario.
+   * <p>
+   * The function is invoked once for each scenario, with the values copied into the primitive arrays.
+   * The sensitivities returned by the function are not retained.
+   *
+   * @param scenarioCount  the number of scenarios
+   * @param sensitivitiesFunction  the function used to obtain the sensitivities of each scenario
+   * @return the scenario array
+   * @throws IllegalArgumentException if the market data names, currencies or parameter metadata
+   *   differ between scenarios
+   */
+  public static CurrencyParameterSensitivitiesScenarioArray of(
+      int scenarioCount,
+      IntFunction<CurrencyParameterSensitivities> sensitivitiesFunction) {
+
+    ArgChecker.notNegative(scenarioCount, "scenarioCount");
+    List<CurrencyParameterSensitivity> first = ImmutableList.of();
+    List<Entry> entries = new ArrayList<>();
+    for (int i = 0; i < scenarioCount; i++) {
+      ImmutableList<CurrencyParameterSensitivity> scenario = sensitivitiesFunction.apply(i).getSensitivities();
+      if (i == 0) {
+        first = scenario;
+        scenario.forEach(sens -> entries.add(new Entry(sens, scenarioCount)));
+      } else if (!isCompatible(first, scenario)) {
+        throw new IllegalArgumentException(Messages.format(
+            "Sensitivities of scenario {} must have the same market data names, currencies and parameter " +
+                "metadata as scenario 0",
+            i));
+      }
+      // the sensitivities are sorted, thus the entries and sensitivities match by index
+      for (int j = 0; j < scenario.size(); j++) {
+        entries.get(j).set(i, scenario.get(j).getSensitivity());
+      }
+    }
+    return build(scenarioCount, entries);
+  }
+
+  /**
+   * Obtains a scenario array from the sensitivities of each scenario, using this class where possible.
+   * <p>
+   * If every scenario has the same market data names and currencies, with the same parameter metadata,
+   * then an instance of this class is returned. Otherwise, a general purpose {@link ScenarioArray}
+   * holding the sensitivities of each scenario is returned.
+   * <p>
+   * The function is invoked once for each scenario, with the values copied into the primitive arrays
+   * as each scenario is obtained, thus the sensitivities returned by the function are not retained.
+   * If a scenario differs, the sensitivities of the earlier scenarios are recreated from the primitive arrays.
+   *
+   * @param scenarioCount  the number of scenarios
+   * @param sensitivitiesFunction  the function used to obtain the sensitivities of each scenario
+   * @return the scenario array
+   */
+  public static ScenarioArray<CurrencyParameterSensitivities> ofCompatible(
+      int scenarioCount,
+      IntFunction<CurrencyParameterSensitivities> sensitivitiesFunction) {
+
+    ArgChecker.notNegative(scenarioCount, "scenarioCount");
+    List<CurrencyParameterSensitivity> first = ImmutableList.of();
+    List<Entry> entries = new ArrayList<>();
+    for (int i = 0; i < scenarioCount; i++) {
+      CurrencyParameterSensitivities sensitivities = sensitivitiesFunction.apply(i);
+      ImmutableList<CurrencyParameterSensitivity> scenario = sensitivities.getSensitivities();
+      if (i == 0) {
+        first = scenario;
+        scenario.forEach(sens -> entries.add(new Entry(sens, scenarioCount)));
+      } else if (!isCompatible(first, scenario)) {
+        // the earlier scenarios are rebuilt from the packed values, as the function is only invoked once
+        List<CurrencyParameterSensitivities> unpacked = new ArrayList<>(scenarioCount);
+        for (int s = 0; s < i; s++) {
+          int scenarioIndex = s;
+          unpacked.add(CurrencyParameterSensitivities.of(entries.stream()
+              .map(entry -> entry.sensitivity(scenarioIndex))
+              .collect(toImmutableList())));
+        }
+        unpacked.add(sensitivities);
+        for (int s = i + 1; s < scenarioCount; s++) {
+          unpacked.add(sensitivitiesFunction.apply(s));
+        }
+        return ScenarioArray.of(unpacked);
+      }
+      // the sensitivities are sorted, thus the entries and sensitivities match by index
+      for (int j = 0; j < scenario.size(); j++) {
+        entries.get(j).set(i, scenario.get(j).getSensitivity());
+      }
+    }
+    return build(scenarioCount, entries);
+  }
+
+  // checks if the sensitivities of two scenarios have the same names, currencies and metadata, matching by index
+  private static boolean isCompatible(
+      List<CurrencyParameterSensitivity> first,
+      List<CurrencyParameterSensitivity> other) {
+
+    if (first.size() != other.size()) {
+      return false;
+    }
+    for (int i = 0; i < first.size(); i++) {
+      CurrencyParameterSensitivity sens1 = first.get(i);
+      CurrencyParameterSensitivity sens2 = other.get(i);
+      if (!sens1.getMarketDataName().equals(sens2.getMarketDataName()) ||
+          !sens1.getCurrency().equals(sens2.getCurrency()) ||
+          !sens1.getParameterMetadata().equals(sens2.getParameterMetadata()) ||
+          !sens1.getParameterSplit().equals(sens2.getParameterSplit())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // creates an instance from the entries, which may be unsorted
+  private static CurrencyParameterSensitivitiesScenarioArray build(int scenarioCount, Iterable<Entry> entries) {
+    List<Entry> sorted = new ArrayList<>();
+    entries.forEach(sorted::add);
+    sorted.sort((entry1, entry2) -> entry1.template.compareKey(entry2.template));
+    return new CurrencyParameterSensitivitiesScenarioArray(
+        scenarioCount,
+        sorted.stream().map(entry -> entry.template).collect(toImmutableList()),
+        sorted.stream().map(Entry::matrix).collect(toImmutableList()));
+  }
+
+  @ImmutableValidator
+  private void validate() {
+    ArgChecker.isTrue(
+        sensitivities.size() == values.size(),
+        "Sensitivities and values must have the same size, but found {} and {}",
+        sensitivities.size(),
+        values.size());
+    for (int i = 0; i < sensitivities.size(); i++) {
+      CurrencyParameterSensitivity sens = sensitivities.get(i);
+      DoubleMatrix matrix = values.get(i);
+      boolean validColumns = scenarioCount == 0 || matrix.columnCount() == sens.getParameterCount();
+      if (matrix.rowCount() != scenarioCount || !validColumns) {
+        throw new IllegalArgumentException(Messages.format(
+            "Values for '{}' must have {} scenarios and {} parameters but found {} and {}",
+            sens.getMarketDataName(),
+            scenarioCount,
+            sens.getParameterCount(),
+            matrix.rowCount(),
+            matrix.columnCount()));
+      }
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the sensitivities of the specified scenario.
+   *
+   * @param scenarioIndex  the index of the scenario
+   * @return the sensitivities of the scenario
+   * @throws IndexOutOfBoundsException if the index is invalid
+   */
+  @Override
+  public CurrencyParameterSensitivities get(int scenarioIndex) {
+    if (scenarioIndex < 0 || scenarioIndex >= scenarioCount) {
+      throw new IndexOutOfBoundsException(Messages.format(
+          "Scenario index {} is out of range, there are {} scenarios", scenarioIndex, scenarioCount));
+    }
+    ImmutableList.Builder<CurrencyParameterSensitivity> builder = ImmutableList.builder();
+    for (int i = 0; i < sensitivities.size(); i++) {
+      builder.add(sensitivities.get(i).withSensitivity(values.get(i).row(scenarioIndex)));
+    }
+    return CurrencyParameterSensitivities.of(builder.build());
+  }
+
+  /**
+   * Returns an array containing the sensitivities of this array followed by those of the specified arrays.
+   * <p>
+   * If the arrays are all instances of this class with the same market data names, currencies and
+   * parameter metadata, the matrices are combined directly. Otherwise, the result is created
+   * as per {@link #ofCompatible(int, IntFunction)}.
+   *
+   * @param arrays  the arrays whose sensitivities follow those of this array, in order
+   * @return an array containing the sensitivities of all the arrays
+   */
+  @Override
+  public ScenarioArray<CurrencyParameterSensitivities> concat(
+      List<? extends ScenarioArray<CurrencyParameterSensitivities>> arrays) {
+
+    List<ScenarioArray<CurrencyParameterSensitivities>> all = new ArrayList<>(arrays.size() + 1);
+    all.add(this);
+    all.addAll(arrays);
+    int combinedCount = all.stream().mapToInt(ScenarioArray::getScenarioCount).sum();
+    boolean packed = arrays.stream()
+        .allMatch(array -> array instanceof CurrencyParameterSensitivitiesScenarioArray &&
+            ((CurrencyParameterSensitivitiesScenarioArray) array).sensitivities.equals(sensitivities));
+    if (!packed) {
+      return ofCompatible(combinedCount, index -> scenario(all, index));
+    }
+    // the rows of the immutable matrices are shared
+    List<DoubleMatrix> combined = new ArrayList<>(sensitivities.size());
+    for (int i = 0; i < sensitivities.size(); i++) {
+      double[][] rows = new double[combinedCount][];
+      int start = 0;
+      for (ScenarioArray<CurrencyParameterSensitivities> array : all) {
+        double[][] part = ((CurrencyParameterSensitivitiesScenarioArray) array).values.get(i).toArrayUnsafe();
+        System.arraycopy(part, 0, rows, start, part.length);
+        start += part.length;
+      }
+      combined.add(DoubleMatrix.ofUnsafe(rows));
+    }
+    return new CurrencyParameterSensitivitiesScenarioArray(combinedCount, sensitivities, combined);
+  }
+
+  // finds the scenario of the combined arrays
+  private static CurrencyParameterSensitivities scenario(
+      List<ScenarioArray<CurrencyParameterSensitivities>> arrays,
+      int scenarioIndex) {
+
+    int index = scenarioIndex;
+    for (ScenarioArray<CurrencyParameterSensitivities> array : arrays) {
+      if (index < array.getScenarioCount()) {
+        return array.get(index);
+      }
+      index -= array.getScenarioCount();
+    }
+    throw new IndexOutOfBoundsException(Messages.format("Scenario index {} is out of range", scenarioIndex));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns the total of the sensitivity values of each scenario.
+   * <p>
+   * The result is the total of all values, summed by currency.
+   *
+   * @return the total sensitivity of each scenario
+   */
+  public MultiCurrencyScenarioArray total() {
+    Map<Currency, double[]> totals = new HashMap<>();
+    for (int i = 0; i < sensitivities.size(); i++) {
+      double[] total = totals.computeIfAbsent(sensitivities.get(i).getCurrency(), ccy -> new double[scenarioCount]);
+      DoubleMatrix matrix = values.get(i);
+      for (int s = 0; s < scenarioCount; s++) {
+        total[s] += matrix.row(s).sum();
+      }
+    }
+    Map<Currency, DoubleArray> result = new HashMap<>();
+    totals.forEach((ccy, total) -> result.put(ccy, DoubleArray.ofUnsafe(total)));
+    return MultiCurrencyScenarioArray.of(result);
+  }
+
+  /**
+   * Returns an instance with the sensitivity values multiplied by the specified factor.
+   *
+   * @param factor  the multiplicative factor
+   * @return an instance based on this one, with each sensitivity value multiplied by the factor
+   */
+  public CurrencyParameterSensitivitiesScenarioArray multipliedBy(double factor) {
+    return new CurrencyParameterSensitivitiesScenarioArray(
+        scenarioCount,
+        sensitivities,
+        values.stream().map(matrix -> matrix.multipliedBy(factor)).collect(toImmutableList()));
+  }
+
+  /**
+   * Converts the sensitivities of each scenario to the specified currency.
+   * <p>
+   * Each scenario is converted using the FX rates of the matching scenario in the provider.
+   * Where this results in two entries with the same market data name, the values are summed.
+   *
+   * @param resultCurrency  the currency of the result
+   * @param rateProvider  the multi-scenario provider of FX rates
+   * @return the converted sensitivities
+   * @throws RuntimeException if no FX rate could be found
+   */
+  @Override
+  public CurrencyParameterSensitivitiesScenarioArray convertedTo(
+      Currency resultCurrency,
+      ScenarioFxRateProvider rateProvider) {
+
+    if (rateProvider.getScenarioCount() != scenarioCount) {
+      throw new IllegalArgumentException(Messages.format(
+          "Expected {} FX rates but received {}", scenarioCount, rateProvider.getScenarioCount()));
+    }
+    Map<MarketDataName<?>, Entry> entries = new LinkedHashMap<>();
+    for (int i = 0; i < sensitivities.size(); i++) {
+      CurrencyParameterSensitivity sens = sensitivities.get(i);
+      Entry entry = entries.computeIfAbsent(
+          sens.getMarketDataName(), name -> new Entry(withCurrency(sens, resultCurrency), scenarioCount));
+      DoubleMatrix matrix = values.get(i);
+      for (int s = 0; s < scenarioCount; s++) {
+        entry.add(s, matrix.row(s), rateProvider.convert(1d, sens.getCurrency(), resultCurrency, s));
+      }
+    }
+    return build(scenarioCount, entries.values());
+  }
+
+  // creates a copy of the sensitivity with the currency changed
+  private static CurrencyParameterSensitivity withCurrency(CurrencyParameterSensitivity sens, Currency currency) {
+    return CurrencyParameterSensitivity.of(
+        sens.getMarketDataName(),
+        sens.getParameterMetadata(),
+        currency,
+        sens.getSensitivity(),
+        sens.getParameterSplit().orElse(null));
+  }
+
+  //-------------------------------------------------------------------------
+  // the mutable values of a single market data name and currency
+  private static final class Entry {
+    // the zero sensitivity, providing the metadata
+    private final CurrencyParameterSensitivity template;
+    // the values, indexed by scenario
+    private final double[][] values;
+
+    private Entry(CurrencyParameterSensitivity sensitivity, int scenarioCount) {
+      int parameterCount = sensitivity.getParameterCount();
+      this.template = sensitivity.withSensitivity(DoubleArray.filled(parameterCount));
+      this.values = new double[scenarioCount][parameterCount];
+    }
+
+    // sets the values of a scenario
+    private void set(int scenarioIndex, DoubleArray sensitivity) {
+      checkSize(sensitivity);
+      sensitivity.copyInto(values[scenarioIndex], 0);
+    }
+
+    // adds the values of a scenario multiplied by the amount
+    private void add(int scenarioIndex, DoubleArray sensitivity, double amount) {
+      checkSize(sensitivity);
+      double[] row = values[scenarioIndex];
+      for (int i = 0; i < row.length; i++) {
+        row[i] += sensitivity.get(i) * amount;
+      }
+    }
+
+    // checks the sensitivity has the expected number of parameters
+    private void checkSize(DoubleArray sensitivity) {
+      if (sensitivity.size() != template.getParameterCount()) {
+        throw new IllegalArgumentException(Messages.format(
+            "Sensitivity for '{}' must have {} parameters but found {}",
+            template.getMarketDataName(),
+            template.getParameterCount(),
+            sensitivity.size()));
+      }
+    }
+
+    // the sensitivity of a scenario, sharing the values
+    private CurrencyParameterSensitivity sensitivity(int scenarioIndex) {
+      return template.withSensitivity(DoubleArray.ofUnsafe(values[scenarioIndex]));
+    }
+
+    private DoubleMatrix matrix() {
+      return DoubleMatrix.ofUnsafe(values);
+    }
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  /**
+   * The meta-bean for {@code CurrencyParameterSensitivitiesScenarioArray}.
+   * @return the meta-bean, not null
+   */
+  public static CurrencyParameterSensitivitiesScenarioArray.Meta meta() {
+    return CurrencyParameterSensitivitiesScenarioArray.Meta.INSTANCE;
+  }
+
+  static {
+    MetaBean.register(CurrencyParameterSensitivitiesScenarioArray.Meta.INSTANCE);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  private CurrencyParameterSensitivitiesScenarioArray(
+      int scenarioCount,
+      List<CurrencyParameterSensitivity> sensitivities,
+      List<DoubleMatrix> values) {
+    ArgChecker.notNegative(scenarioCount, "scenarioCount");
+    JodaBeanUtils.notNull(sensitivities, "sensitivities");
+    JodaBeanUtils.notNull(values, "values");
+    this.scenarioCount = scenarioCount;
+    this.sensitivities = ImmutableList.copyOf(sensitivities);
+    this.values = ImmutableList.copyOf(values);
+    validate();
+  }
+
+  @Override
+  public CurrencyParameterSensitivitiesScenarioArray.Meta metaBean() {
+    return CurrencyParameterSensitivitiesScenarioArray.Meta.INSTANCE;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the number of scenarios.
+   * @return the value of the property
+   */
+  @Override
+  public int getScenarioCount() {
+    return scenarioCount;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the sensitivity entries, defining the market data name, currency and parameter metadata.
+   * <p>
+   * The entries are sorted using {@link CurrencyParameterSensitivity#compareKey}.
+   * The sensitivity values of the entries are zero, with the values held in {@code values}.
+   * @return the value of the property, not null
+   */
+  public ImmutableList<CurrencyParameterSensitivity> getSensitivities() {
+    return sensitivities;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the sensitivity values, one matrix for each entry in {@code sensitivities}.
+   * <p>
+   * Each matrix has one row for each scenario and one column for each parameter.
+   * @return the value of the property, not null
+   */
+  public ImmutableList<DoubleMatrix> getValues() {
+    return values;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      CurrencyParameterSensitivitiesScenarioArray other = (CurrencyParameterSensitivitiesScenarioArray) obj;
+      return (scenarioCount == other.scenarioCount) &&
+          JodaBeanUtils.equal(sensitivities, other.sensitivities) &&
+          JodaBeanUtils.equal(values, other.values);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(scenarioCount);
+    hash = hash * 31 + JodaBeanUtils.hashCode(sensitivities);
+    hash = hash * 31 + JodaBeanUtils.hashCode(values);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(128);
+    buf.append("CurrencyParameterSensitivitiesScenarioArray{");
+    buf.append("scenarioCount").append('=').append(JodaBeanUtils.toString(scenarioCount)).append(',').append(' ');
+    buf.append("sensitivities").append('=').append(JodaBeanUtils.toString(sensitivities)).append(',').append(' ');
+    buf.append("values").append('=').append(JodaBeanUtils.toString(values));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The meta-bean for {@code CurrencyParameterSensitivitiesScenarioArray}.
+   */
+  public static final class Meta extends DirectMetaBean {
+    /**
+     * The singleton instance of the meta-bean.
+     */
+    static final Meta INSTANCE = new Meta();
+
+    /**
+     * The meta-property for the {@code scenarioCount} property.
+     */
+    private final MetaProperty<Integer> scenarioCount = DirectMetaProperty.ofImmutable(
+        this, "scenarioCount", CurrencyParameterSensitivitiesScenarioArray.class, Integer.TYPE);
+    /**
+     * The meta-property for the {@code sensitivities} property.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes" })
+    private final MetaProperty<ImmutableList<CurrencyParameterSensitivity>> sensitivities = DirectMetaProperty.ofImmutable(
+        this, "sensitivities", CurrencyParameterSensitivitiesScenarioArray.class, (Class) ImmutableList.class);
+    /**
+     * The meta-property for the {@code values} property.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes" })
+    private final MetaProperty<ImmutableList<DoubleMatrix>> values = DirectMetaProperty.ofImmutable(
+        this, "values", CurrencyParameterSensitivitiesScenarioArray.class, (Class) ImmutableList.class);
+    /**
+     * The meta-properties.
+     */
+    private final Map<String, MetaProperty<?>> metaPropertyMap$ = new DirectMetaPropertyMap(
+        this, null,
+        "scenarioCount",
+        "sensitivities",
+        "values");
+
+    /**
+     * Restricted constructor.
+     */
+    private Meta() {
+    }
+
+    @Override
+    protected MetaProperty<?> metaPropertyGet(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case -1203198113:  // scenarioCount
+          return scenarioCount;
+        case 1226228605:  // sensitivities
+          return sensitivities;
+        case -823812830:  // values
+          return values;
+      }
+      return super.metaPropertyGet(propertyName);
+    }
+
+    @Override
+    public BeanBuilder<? extends CurrencyParameterSensitivitiesScenarioArray> builder() {
+      return new CurrencyParameterSensitivitiesScenarioArray.Builder();
+    }
+
+    @Override
+    public Class<? extends CurrencyParameterSensitivitiesScenarioArray> beanType() {
+      return CurrencyParameterSensitivitiesScenarioArray.class;
+    }
+
+    @Override
+    public Map<String, MetaProperty<?>> metaPropertyMap() {
+      return metaPropertyMap$;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The meta-property for the {@code scenarioCount} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<Integer> scenarioCount() {
+      return scenarioCount;
+    }
+
+    /**
+     * The meta-property for the {@code sensitivities} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<ImmutableList<CurrencyParameterSensitivity>> sensitivities() {
+      return sensitivities;
+    }
+
+    /**
+     * The meta-property for the {@code values} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<ImmutableList<DoubleMatrix>> values() {
+      return values;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    protected Object propertyGet(Bean bean, String propertyName, boolean quiet) {
+      switch (propertyName.hashCode()) {
+        case -1203198113:  // scenarioCount
+          return ((CurrencyParameterSensitivitiesScenarioArray) bean).getScenarioCount();
+        case 1226228605:  // sensitivities
+          return ((CurrencyParameterSensitivitiesScenarioArray) bean).getSensitivities();
+        case -823812830:  // values
+          return ((CurrencyParameterSensitivitiesScenarioArray) bean).getValues();
+      }
+      return super.propertyGet(bean, propertyName, quiet);
+    }
+
+    @Override
+    protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
+      metaProperty(propertyName);
+      if (quiet) {
+        return;
+      }
+      throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
+    }
+
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The bean-builder for {@code CurrencyParameterSensitivitiesScenarioArray}.
+   */
+  private static final class Builder extends DirectPrivateBeanBuilder<CurrencyParameterSensitivitiesScenarioArray> {
+
+    private int scenarioCount;
+    private List<CurrencyParameterSensitivity> sensitivities = ImmutableList.of();
+    private List<DoubleMatrix> values = ImmutableList.of();
+
+    /**
+     * Restricted constructor.
+     */
+    private Builder() {
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public Object get(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case -1203198113:  // scenarioCount
+          return scenarioCount;
+        case 1226228605:  // sensitivities
+          return sensitivities;
+        case -823812830:  // values
+          return values;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Builder set(String propertyName, Object newValue) {
+      switch (propertyName.hashCode()) {
+        case -1203198113:  // scenarioCount
+          this.scenarioCount = (Integer) newValue;
+          break;
+        case 1226228605:  // sensitivities
+          this.sensitivities = (List<CurrencyParameterSensitivity>) newValue;
+          break;
+        case -823812830:  // values
+          this.values = (List<DoubleMatrix>) newValue;
+          break;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+      return this;
+    }
+
+    @Override
+    public CurrencyParameterSensitivitiesScenarioArray build() {
+      return new CurrencyParameterSensitivitiesScenarioArray(
+          scenarioCount,
+          sensitivities,
+          values);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+      StringBuilder buf = new StringBuilder(128);
+      buf.append("CurrencyParameterSensitivitiesScenarioArray.Builder{");
+      buf.append("scenarioCount").append('=').append(JodaBeanUtils.toString(scenarioCount)).append(',').append(' ');
+      buf.append("sensitivities").append('=').append(JodaBeanUtils.toString(sensitivities)).append(',').append(' ');
+      buf.append("values").append('=').append(JodaBeanUtils.toString(values));
+      buf.append('}');
+      return buf.toString();
+    }
+
+  }
+
+  //-------------------------- AUTOGENERATED END --------------------------
+}
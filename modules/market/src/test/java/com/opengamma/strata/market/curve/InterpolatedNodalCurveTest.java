@@ -27,6 +27,8 @@ import com.opengamma.strata.market.curve.interpolator.CurveExtrapolator;
 import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.LabelDateParameterMetadata;
 import com.opengamma.strata.market.param.ParameterMetadata;
@@ -132,6 +134,40 @@ public class InterpolatedNodalCurveTest {
     assertThat(test.firstDerivative(10d)).isEqualTo(interp.firstDerivative(10d));
   }
 
+  @Test
+  public void test_yValues() {
+    InterpolatedNodalCurve test = InterpolatedNodalCurve.of(METADATA, XVALUES, YVALUES, INTERPOLATOR);
+    double[] x = {0.5d, 1d, 1.5d, 2.5d, 10d};
+    double[] result = new double[x.length];
+    test.yValues(x, result);
+    for (int i = 0; i < x.length; i++) {
+      assertThat(result[i]).isEqualTo(test.yValue(x[i]));
+    }
+  }
+
+  @Test
+  public void test_addYValueParameterSensitivity() {
+    InterpolatedNodalCurve test = InterpolatedNodalCurve.of(METADATA, XVALUES, YVALUES, INTERPOLATOR);
+    CurrencyParameterSensitivitiesAccumulator accumulator = CurrencyParameterSensitivitiesAccumulator.create();
+    test.addYValueParameterSensitivity(2.5d, Currency.GBP, 2d, accumulator);
+    test.addYValueParameterSensitivity(10d, Currency.GBP, 3d, accumulator);
+    CurrencyParameterSensitivities expected = CurrencyParameterSensitivities.of(
+        test.yValueParameterSensitivity(2.5d).multipliedBy(Currency.GBP, 2d))
+        .combinedWith(test.yValueParameterSensitivity(10d).multipliedBy(Currency.GBP, 3d));
+    assertThat(accumulator.build().equalWithTolerance(expected, 1e-12)).isTrue();
+  }
+
+  @Test
+  public void test_addYValueParameterSensitivity_array() {
+    InterpolatedNodalCurve test = InterpolatedNodalCurve.of(METADATA, XVALUES, YVALUES, INTERPOLATOR);
+    double[] sensitivity = new double[SIZE];
+    test.addYValueParameterSensitivity(2.5d, 2d, sensitivity);
+    test.addYValueParameterSensitivity(10d, 3d, sensitivity);
+    DoubleArray expected = test.yValueParameterSensitivity(2.5d).getSensitivity().multipliedBy(2d)
+        .plus(test.yValueParameterSensitivity(10d).getSensitivity().multipliedBy(3d));
+    assertThat(DoubleArray.ofUnsafe(sensitivity).equalWithTolerance(expected, 1e-12)).isTrue();
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_withMetadata() {
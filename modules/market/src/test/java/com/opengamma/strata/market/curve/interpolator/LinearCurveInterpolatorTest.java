@@ -45,6 +45,20 @@ public class LinearCurveInterpolatorTest {
     }
   }
 
+  @Test
+  public void test_interpolation_array() {
+    BoundCurveInterpolator bci = LINEAR_INTERPOLATOR.bind(X_DATA, Y_DATA, FLAT_EXTRAPOLATOR, FLAT_EXTRAPOLATOR);
+    double[] sorted = {-1.0, -0.0, 0.0, 0.2, 0.4, 1.1, 1.1, 2.3, 4.9, 5.0, 6.0};
+    double[] unsorted = {2.3, 0.2, 5.0, 1.1, -1.0, 0.4, 4.9, 0.0};
+    for (double[] xValues : new double[][] {sorted, unsorted}) {
+      double[] result = new double[xValues.length];
+      bci.interpolate(xValues, result);
+      for (int i = 0; i < xValues.length; i++) {
+        assertThat(result[i]).isEqualTo(bci.interpolate(xValues[i]));
+      }
+    }
+  }
+
   @Test
   public void test_firstDerivative() {
     BoundCurveInterpolator bci = LINEAR_INTERPOLATOR.bind(X_DATA, Y_DATA, FLAT_EXTRAPOLATOR, FLAT_EXTRAPOLATOR);
@@ -82,6 +96,18 @@ public class LinearCurveInterpolatorTest {
     assertThat(bci.parameterSensitivity(5.0).get(X_DATA.size() - 1)).isCloseTo(1d, offset(TOL));
   }
 
+  @Test
+  public void test_addParameterSensitivity() {
+    BoundCurveInterpolator bci = LINEAR_INTERPOLATOR.bind(X_DATA, Y_DATA, FLAT_EXTRAPOLATOR, FLAT_EXTRAPOLATOR);
+    double[] xValues = {-1.0, 0.0, 0.2, 1.1, 2.3, 5.0, 6.0};
+    for (double x : xValues) {
+      double[] sensitivity = DoubleArray.filled(X_DATA.size(), 1d).toArray();
+      bci.addParameterSensitivity(x, 2d, sensitivity);
+      DoubleArray expected = bci.parameterSensitivity(x).multipliedBy(2d).plus(1d);
+      assertThat(DoubleArray.ofUnsafe(sensitivity).equalWithTolerance(expected, TOL)).isTrue();
+    }
+  }
+
   @Test
   public void test_interpolatorExtrapolator() {
     DoubleArray xValues = DoubleArray.of(1, 2, 3);
@@ -0,0 +1,238 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.param;
+
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.FxMatrix;
+import com.opengamma.strata.basics.currency.FxRateProvider;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioFxRateProvider;
+import com.opengamma.strata.market.curve.CurveName;
+
+/**
+ * Test {@link CurrencyParameterSensitivitiesScenarioArray}.
+ */
+public class CurrencyParameterSensitivitiesScenarioArrayTest {
+
+  private static final Currency USD = Currency.USD;
+  private static final Currency EUR = Currency.EUR;
+  private static final MarketDataName<?> NAME1 = CurveName.of("NAME-1");
+  private static final MarketDataName<?> NAME2 = CurveName.of("NAME-2");
+  private static final List<ParameterMetadata> METADATA1 = ParameterMetadata.listOfEmpty(3);
+  private static final List<ParameterMetadata> METADATA2 = ParameterMetadata.listOfEmpty(2);
+
+  private static final CurrencyParameterSensitivity ENTRY_USD1 =
+      CurrencyParameterSensitivity.of(NAME1, METADATA1, USD, DoubleArray.of(1, 2, 3));
+  private static final CurrencyParameterSensitivity ENTRY_USD2 =
+      CurrencyParameterSensitivity.of(NAME1, METADATA1, USD, DoubleArray.of(4, 5, 6));
+  private static final CurrencyParameterSensitivity ENTRY_EUR1 =
+      CurrencyParameterSensitivity.of(NAME1, METADATA1, EUR, DoubleArray.of(10, 20, 30));
+  private static final CurrencyParameterSensitivity ENTRY_EUR2 =
+      CurrencyParameterSensitivity.of(NAME2, METADATA2, EUR, DoubleArray.of(7, 8));
+
+  private static final CurrencyParameterSensitivities SENS1 = CurrencyParameterSensitivities.of(ENTRY_USD1, ENTRY_EUR2);
+  private static final CurrencyParameterSensitivities SENS2 = CurrencyParameterSensitivities.of(ENTRY_USD2, ENTRY_EUR2);
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of_list() {
+    CurrencyParameterSensitivitiesScenarioArray test = CurrencyParameterSensitivitiesScenarioArray.of(
+        ImmutableList.of(SENS1, SENS2));
+    assertThat(test.getScenarioCount()).isEqualTo(2);
+    assertThat(test.get(0)).isEqualTo(SENS1);
+    assertThat(test.get(1)).isEqualTo(SENS2);
+    assertThat(test.stream()).containsExactly(SENS1, SENS2);
+    assertThat(test.getSensitivities()).hasSize(2);
+    assertThat(test.getSensitivities().get(0).getSensitivity()).isEqualTo(DoubleArray.filled(3));
+    assertThat(test.getValues().get(0).row(1)).isEqualTo(DoubleArray.of(4, 5, 6));
+    assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> test.get(-1));
+    assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> test.get(2));
+  }
+
+  @Test
+  public void test_of_function() {
+    CurrencyParameterSensitivitiesScenarioArray test =
+        CurrencyParameterSensitivitiesScenarioArray.of(2, i -> i == 0 ? SENS1 : SENS2);
+    assertThat(test).isEqualTo(CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(SENS1, SENS2)));
+  }
+
+  @Test
+  public void test_of_missingInScenario() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> CurrencyParameterSensitivitiesScenarioArray.of(
+            ImmutableList.of(CurrencyParameterSensitivities.of(ENTRY_USD1), SENS2)))
+        .withMessage("Sensitivities of scenario 1 must have the same market data names, currencies and parameter " +
+            "metadata as scenario 0");
+  }
+
+  @Test
+  public void test_of_metadataMismatch() {
+    List<ParameterMetadata> labels = ImmutableList.of(
+        LabelParameterMetadata.of("A"), LabelParameterMetadata.of("B"), LabelParameterMetadata.of("C"));
+    CurrencyParameterSensitivity otherMetadata =
+        CurrencyParameterSensitivity.of(NAME1, labels, USD, DoubleArray.of(4, 5, 6));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> CurrencyParameterSensitivitiesScenarioArray.of(
+            ImmutableList.of(SENS1, CurrencyParameterSensitivities.of(otherMetadata, ENTRY_EUR2))));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_ofCompatible() {
+    ScenarioArray<CurrencyParameterSensitivities> test =
+        CurrencyParameterSensitivitiesScenarioArray.ofCompatible(2, i -> i == 0 ? SENS1 : SENS2);
+    assertThat(test).isEqualTo(CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(SENS1, SENS2)));
+  }
+
+  @Test
+  public void test_ofCompatible_missingInScenario() {
+    CurrencyParameterSensitivities sens1 = CurrencyParameterSensitivities.of(ENTRY_USD1);
+    ScenarioArray<CurrencyParameterSensitivities> test =
+        CurrencyParameterSensitivitiesScenarioArray.ofCompatible(2, i -> i == 0 ? sens1 : SENS2);
+    assertThat(test).isEqualTo(ScenarioArray.of(sens1, SENS2));
+    assertThat(test.get(0)).isEqualTo(sens1);
+  }
+
+  @Test
+  public void test_ofCompatible_laterScenarioMismatch() {
+    CurrencyParameterSensitivities sens3 = CurrencyParameterSensitivities.of(ENTRY_EUR1);
+    List<CurrencyParameterSensitivities> scenarios = ImmutableList.of(SENS1, SENS2, sens3, SENS1);
+    int[] invocations = new int[scenarios.size()];
+    ScenarioArray<CurrencyParameterSensitivities> test =
+        CurrencyParameterSensitivitiesScenarioArray.ofCompatible(scenarios.size(), i -> {
+          invocations[i]++;
+          return scenarios.get(i);
+        });
+    assertThat(test).isEqualTo(ScenarioArray.of(scenarios));
+    assertThat(invocations).containsOnly(1);
+  }
+
+  @Test
+  public void test_ofCompatible_parameterCountMismatch() {
+    CurrencyParameterSensitivities sens2 =
+        CurrencyParameterSensitivities.of(CurrencyParameterSensitivity.of(NAME1, USD, DoubleArray.of(1)), ENTRY_EUR2);
+    ScenarioArray<CurrencyParameterSensitivities> test =
+        CurrencyParameterSensitivitiesScenarioArray.ofCompatible(2, i -> i == 0 ? SENS1 : sens2);
+    assertThat(test).isEqualTo(ScenarioArray.of(SENS1, sens2));
+  }
+
+  @Test
+  public void test_of_empty() {
+    CurrencyParameterSensitivitiesScenarioArray test =
+        CurrencyParameterSensitivitiesScenarioArray.of(2, i -> CurrencyParameterSensitivities.empty());
+    assertThat(test.getScenarioCount()).isEqualTo(2);
+    assertThat(test.get(1)).isEqualTo(CurrencyParameterSensitivities.empty());
+  }
+
+  @Test
+  public void test_of_parameterCountMismatch() {
+    CurrencyParameterSensitivity small = CurrencyParameterSensitivity.of(NAME1, USD, DoubleArray.of(1));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> CurrencyParameterSensitivitiesScenarioArray.of(
+            ImmutableList.of(SENS1, CurrencyParameterSensitivities.of(small))));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_concat() {
+    CurrencyParameterSensitivitiesScenarioArray test = CurrencyParameterSensitivitiesScenarioArray.of(
+        ImmutableList.of(SENS1, SENS2));
+    CurrencyParameterSensitivitiesScenarioArray other = CurrencyParameterSensitivitiesScenarioArray.of(
+        ImmutableList.of(SENS2));
+    assertThat(test.concat(ImmutableList.of(other, other)))
+        .isEqualTo(CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(SENS1, SENS2, SENS2, SENS2)));
+    assertThat(test.concat(ImmutableList.of(ScenarioArray.of(SENS1))))
+        .isEqualTo(CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(SENS1, SENS2, SENS1)));
+  }
+
+  @Test
+  public void test_concat_incompatible() {
+    CurrencyParameterSensitivitiesScenarioArray test = CurrencyParameterSensitivitiesScenarioArray.of(
+        ImmutableList.of(SENS1, SENS2));
+    CurrencyParameterSensitivities sens = CurrencyParameterSensitivities.of(ENTRY_USD1);
+    CurrencyParameterSensitivitiesScenarioArray other = CurrencyParameterSensitivitiesScenarioArray.of(
+        ImmutableList.of(sens));
+    assertThat(test.concat(ImmutableList.of(other))).isEqualTo(ScenarioArray.of(SENS1, SENS2, sens));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_total() {
+    CurrencyParameterSensitivitiesScenarioArray test = CurrencyParameterSensitivitiesScenarioArray.of(
+        ImmutableList.of(SENS1, SENS2));
+    assertThat(test.total()).isEqualTo(MultiCurrencyScenarioArray.of(SENS1.total(), SENS2.total()));
+  }
+
+  @Test
+  public void test_multipliedBy() {
+    CurrencyParameterSensitivitiesScenarioArray test = CurrencyParameterSensitivitiesScenarioArray.of(
+        ImmutableList.of(SENS1, SENS2));
+    assertThat(test.multipliedBy(2d).get(1)).isEqualTo(SENS2.multipliedBy(2d));
+  }
+
+  @Test
+  public void test_convertedTo() {
+    CurrencyParameterSensitivities sens1 = SENS1.combinedWith(ENTRY_EUR1);
+    CurrencyParameterSensitivities sens2 = SENS2.combinedWith(ENTRY_EUR1.multipliedBy(2d));
+    CurrencyParameterSensitivitiesScenarioArray test = CurrencyParameterSensitivitiesScenarioArray.of(
+        ImmutableList.of(sens1, sens2));
+    FxMatrix fx1 = FxMatrix.of(EUR, USD, 1.5d);
+    FxMatrix fx2 = FxMatrix.of(EUR, USD, 2d);
+    ScenarioFxRateProvider fxProvider = new ScenarioFxRateProvider() {
+      @Override
+      public int getScenarioCount() {
+        return 2;
+      }
+
+      @Override
+      public FxRateProvider fxRateProvider(int scenarioIndex) {
+        return scenarioIndex == 0 ? fx1 : fx2;
+      }
+    };
+    CurrencyParameterSensitivitiesScenarioArray converted = test.convertedTo(USD, fxProvider);
+    assertThat(converted.getScenarioCount()).isEqualTo(2);
+    assertThat(converted.get(0)).isEqualTo(sens1.convertedTo(USD, fx1));
+    assertThat(converted.get(1)).isEqualTo(sens2.convertedTo(USD, fx2));
+    assertThat(converted.total()).isEqualTo(MultiCurrencyScenarioArray.of(
+        MultiCurrencyAmount.of(sens1.total(USD, fx1)), MultiCurrencyAmount.of(sens2.total(USD, fx2))));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(SENS1))
+            .convertedTo(USD, fxProvider));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void coverage() {
+    CurrencyParameterSensitivitiesScenarioArray test = CurrencyParameterSensitivitiesScenarioArray.of(
+        ImmutableList.of(SENS1, SENS2));
+    coverImmutableBean(test);
+    CurrencyParameterSensitivitiesScenarioArray test2 = CurrencyParameterSensitivitiesScenarioArray.of(
+        ImmutableList.of(CurrencyParameterSensitivities.of(ENTRY_EUR1)));
+    coverBeanEquals(test, test2);
+  }
+
+  @Test
+  public void test_serialization() {
+    assertSerialization(CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(SENS1, SENS2)));
+  }
+
+}
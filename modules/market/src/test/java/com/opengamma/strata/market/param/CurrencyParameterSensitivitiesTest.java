@@ -254,6 +254,62 @@ public class CurrencyParameterSensitivitiesTest {
     assertThat(test).isEqualTo(SENSI_1);
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_accumulator() {
+    CurrencyParameterSensitivitiesAccumulator test = CurrencyParameterSensitivitiesAccumulator.create();
+    assertThat(test.isEmpty()).isTrue();
+    assertThat(test.build()).isEqualTo(CurrencyParameterSensitivities.empty());
+    test.add(SENSI_1).add(SENSI_2);
+    assertThat(test.isEmpty()).isFalse();
+    assertThat(test.build()).isEqualTo(SENSI_1.combinedWith(SENSI_2));
+    test.add(ENTRY_USD);
+    assertThat(test.build()).isEqualTo(SENSI_1.combinedWith(SENSI_2).combinedWith(ENTRY_USD));
+  }
+
+  @Test
+  public void test_accumulator_unit() {
+    UnitParameterSensitivity unit1 = UnitParameterSensitivity.of(NAME1, METADATA1, VECTOR_USD1);
+    UnitParameterSensitivity unit2 = UnitParameterSensitivity.of(NAME2, METADATA2, VECTOR_EUR1);
+    CurrencyParameterSensitivities test = CurrencyParameterSensitivitiesAccumulator.create()
+        .add(unit1, USD, FACTOR1)
+        .add(UnitParameterSensitivities.of(unit1, unit2), USD, 2d)
+        .build();
+    CurrencyParameterSensitivities expected = CurrencyParameterSensitivities.of(unit1.multipliedBy(USD, FACTOR1))
+        .combinedWith(UnitParameterSensitivities.of(unit1, unit2).multipliedBy(USD, 2d));
+    assertThat(test).isEqualTo(expected);
+  }
+
+  @Test
+  public void test_accumulator_values() {
+    double[] values = VECTOR_USD1.toArray();
+    CurrencyParameterSensitivitiesAccumulator test = CurrencyParameterSensitivitiesAccumulator.create()
+        .add(NAME1, USD, () -> ENTRY_USD.withSensitivity(DoubleArray.filled(VECTOR_USD1.size())), values)
+        .add(NAME1, USD, () -> ENTRY_USD, values);
+    values[0] = 1000d;
+    assertThat(test.build()).isEqualTo(CurrencyParameterSensitivities.of(ENTRY_USD.multipliedBy(2d)));
+  }
+
+  @Test
+  public void test_accumulator_inPlace() {
+    CurrencyParameterSensitivitiesAccumulator test = CurrencyParameterSensitivitiesAccumulator.create()
+        .add(NAME1, USD, () -> ENTRY_USD, VECTOR_USD1.size(), values -> values[1] += 10d)
+        .add(NAME1, USD, () -> ENTRY_USD, VECTOR_USD1.size(), values -> values[1] += 5d);
+    DoubleArray expected = VECTOR_USD1.with(1, VECTOR_USD1.get(1) + 15d);
+    assertThat(test.build()).isEqualTo(CurrencyParameterSensitivities.of(ENTRY_USD.withSensitivity(expected)));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> test.add(NAME1, USD, () -> ENTRY_USD, 1, values -> values[0] += 1d));
+  }
+
+  @Test
+  public void test_accumulator_sizeMismatch() {
+    CurrencyParameterSensitivitiesAccumulator test = CurrencyParameterSensitivitiesAccumulator.create().add(ENTRY_USD);
+    assertThatIllegalArgumentException().isThrownBy(() -> test.add(ENTRY_USD_SMALL));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> test.add(NAME1, USD, () -> ENTRY_USD, new double[1]))
+        .withMessage("Sensitivity for '" + NAME1 + "' must have " + VECTOR_USD1.size() + " parameters but found 1");
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_mergedWith() {
@@ -0,0 +1,262 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.differentiation;
+
+/**
+ * An active double, used for reverse mode algorithmic adjoint differentiation (AAD).
+ * <p>
+ * An active double holds a value and, unless it is a constant, the index of the node on the {@link AadTape}
+ * that recorded it. Each arithmetic operation records its result on the same tape, allowing the
+ * derivatives of the final result to be calculated by {@link AadTape#adjoints(AadDouble)}.
+ * <p>
+ * A constant is not recorded on any tape and can be combined with values from any tape.
+ * <p>
+ * This class is immutable, however the tape it refers to is mutable.
+ */
+public final class AadDouble {
+
+  /**
+   * The value.
+   */
+  private final double value;
+  /**
+   * The tape, null for a constant.
+   */
+  private final AadTape tape;
+  /**
+   * The index of the node on the tape, -1 for a constant.
+   */
+  private final int index;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains a constant, which is not recorded on any tape.
+   *
+   * @param value  the value
+   * @return the constant
+   */
+  public static AadDouble constant(double value) {
+    return new AadDouble(value, null, -1);
+  }
+
+  // restricted constructor, used by the tape
+  AadDouble(double value, AadTape tape, int index) {
+    this.value = value;
+    this.tape = tape;
+    this.index = index;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the value.
+   *
+   * @return the value
+   */
+  public double getValue() {
+    return value;
+  }
+
+  /**
+   * Gets the index of the node on the tape, -1 for a constant.
+   *
+   * @return the index
+   */
+  public int getIndex() {
+    return index;
+  }
+
+  /**
+   * Checks if this value is recorded on a tape.
+   *
+   * @return true if this value is recorded on a tape, false if it is a constant
+   */
+  public boolean isActive() {
+    return tape != null;
+  }
+
+  // the tape, null for a constant
+  AadTape getTape() {
+    return tape;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns the sum of this value and the other.
+   *
+   * @param other  the other value
+   * @return the sum
+   */
+  public AadDouble plus(AadDouble other) {
+    AadTape resultTape = tape(other);
+    if (resultTape == null) {
+      return constant(value + other.value);
+    }
+    return resultTape.record(value + other.value, this, 1d, other, 1d);
+  }
+
+  /**
+   * Returns the sum of this value and a constant.
+   *
+   * @param other  the constant
+   * @return the sum
+   */
+  public AadDouble plus(double other) {
+    return unary(value + other, 1d);
+  }
+
+  /**
+   * Returns the difference between this value and the other.
+   *
+   * @param other  the other value
+   * @return the difference
+   */
+  public AadDouble minus(AadDouble other) {
+    AadTape resultTape = tape(other);
+    if (resultTape == null) {
+      return constant(value - other.value);
+    }
+    return resultTape.record(value - other.value, this, 1d, other, -1d);
+  }
+
+  /**
+   * Returns the difference between this value and a constant.
+   *
+   * @param other  the constant
+   * @return the difference
+   */
+  public AadDouble minus(double other) {
+    return unary(value - other, 1d);
+  }
+
+  /**
+   * Returns the product of this value and the other.
+   *
+   * @param other  the other value
+   * @return the product
+   */
+  public AadDouble multipliedBy(AadDouble other) {
+    AadTape resultTape = tape(other);
+    if (resultTape == null) {
+      return constant(value * other.value);
+    }
+    return resultTape.record(value * other.value, this, other.value, other, value);
+  }
+
+  /**
+   * Returns the product of this value and a constant.
+   *
+   * @param other  the constant
+   * @return the product
+   */
+  public AadDouble multipliedBy(double other) {
+    return unary(value * other, other);
+  }
+
+  /**
+   * Returns the quotient of this value and the other.
+   *
+   * @param other  the other value
+   * @return the quotient
+   */
+  public AadDouble dividedBy(AadDouble other) {
+    double result = value / other.value;
+    AadTape resultTape = tape(other);
+    if (resultTape == null) {
+      return constant(result);
+    }
+    return resultTape.record(result, this, 1d / other.value, other, -result / other.value);
+  }
+
+  /**
+   * Returns the quotient of this value and a constant.
+   *
+   * @param other  the constant
+   * @return the quotient
+   */
+  public AadDouble dividedBy(double other) {
+    return unary(value / other, 1d / other);
+  }
+
+  /**
+   * Returns the negation of this value.
+   *
+   * @return the negation
+   */
+  public AadDouble negated() {
+    return unary(-value, -1d);
+  }
+
+  /**
+   * Returns the reciprocal of this value.
+   *
+   * @return the reciprocal
+   */
+  public AadDouble reciprocal() {
+    double result = 1d / value;
+    return unary(result, -result * result);
+  }
+
+  /**
+   * Returns the exponential of this value.
+   *
+   * @return the exponential
+   */
+  public AadDouble exp() {
+    double result = Math.exp(value);
+    return unary(result, result);
+  }
+
+  /**
+   * Returns the natural logarithm of this value.
+   *
+   * @return the natural logarithm
+   */
+  public AadDouble log() {
+    return unary(Math.log(value), 1d / value);
+  }
+
+  /**
+   * Returns the square root of this value.
+   *
+   * @return the square root
+   */
+  public AadDouble sqrt() {
+    double result = Math.sqrt(value);
+    return unary(result, 0.5d / result);
+  }
+
+  /**
+   * Returns this value raised to the power of a constant.
+   *
+   * @param exponent  the exponent
+   * @return the power
+   */
+  public AadDouble pow(double exponent) {
+    double result = Math.pow(value, exponent);
+    return unary(result, exponent * Math.pow(value, exponent - 1d));
+  }
+
+  //-------------------------------------------------------------------------
+  // records a function of this value
+  private AadDouble unary(double result, double partial) {
+    if (tape == null) {
+      return constant(result);
+    }
+    return tape.record(result, this, partial);
+  }
+
+  // the tape of the result of a binary operation, null if both are constants
+  private AadTape tape(AadDouble other) {
+    return tape != null ? tape : other.tape;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return isActive() ? value + "@" + index : Double.toString(value);
+  }
+
+}
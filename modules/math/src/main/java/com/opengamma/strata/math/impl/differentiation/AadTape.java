@@ -0,0 +1,251 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.differentiation;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * A tape used for reverse mode algorithmic adjoint differentiation (AAD).
+ * <p>
+ * Each operation on an {@link AadDouble} records a node on the tape holding the partial derivatives
+ * of the result with respect to the operands. Once the output has been calculated, a single reverse
+ * sweep over the tape computes the derivative of the output with respect to every input.
+ * The cost of the sweep is a small constant multiple of the cost of calculating the output,
+ * independent of the number of inputs.
+ * <p>
+ * Functions with a known analytic derivative, such as curve interpolation, can be recorded as a single node
+ * using {@link #record(double, AadDouble[], double[])}. This avoids recording each elementary operation.
+ * <p>
+ * A tape is intended to be used for a single calculation on a single thread.
+ * This class is mutable and not thread-safe.
+ */
+public final class AadTape {
+
+  /**
+   * The initial capacity of the arrays.
+   */
+  private static final int INITIAL_CAPACITY = 64;
+
+  /**
+   * The number of nodes recorded.
+   */
+  private int nodeCount;
+  /**
+   * The number of edges recorded.
+   */
+  private int edgeCount;
+  /**
+   * The end index of the edges of each node, exclusive.
+   */
+  private int[] edgeEnds = new int[INITIAL_CAPACITY];
+  /**
+   * The index of the operand of each edge.
+   */
+  private int[] edgeOperands = new int[INITIAL_CAPACITY];
+  /**
+   * The partial derivative of each edge.
+   */
+  private double[] edgePartials = new double[INITIAL_CAPACITY];
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates an empty tape.
+   *
+   * @return the tape
+   */
+  public static AadTape create() {
+    return new AadTape();
+  }
+
+  // restricted constructor
+  private AadTape() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of nodes recorded on the tape.
+   *
+   * @return the number of nodes
+   */
+  public int size() {
+    return nodeCount;
+  }
+
+  /**
+   * Records an input, which is a value that derivatives are calculated with respect to.
+   *
+   * @param value  the value of the input
+   * @return the active input
+   */
+  public AadDouble input(double value) {
+    return new AadDouble(value, this, addNode());
+  }
+
+  /**
+   * Records the inputs, which are the values that derivatives are calculated with respect to.
+   *
+   * @param values  the values of the inputs
+   * @return the active inputs
+   */
+  public AadDouble[] inputs(DoubleArray values) {
+    AadDouble[] result = new AadDouble[values.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = input(values.get(i));
+    }
+    return result;
+  }
+
+  /**
+   * Records the result of a function of one operand.
+   *
+   * @param value  the value of the result
+   * @param operand  the operand
+   * @param partial  the partial derivative of the result with respect to the operand
+   * @return the active result
+   */
+  public AadDouble record(double value, AadDouble operand, double partial) {
+    if (!operand.isActive()) {
+      return AadDouble.constant(value);
+    }
+    checkTape(operand);
+    addEdge(operand.getIndex(), partial);
+    return new AadDouble(value, this, addNode());
+  }
+
+  /**
+   * Records the result of a function of two operands.
+   *
+   * @param value  the value of the result
+   * @param operand1  the first operand
+   * @param partial1  the partial derivative of the result with respect to the first operand
+   * @param operand2  the second operand
+   * @param partial2  the partial derivative of the result with respect to the second operand
+   * @return the active result
+   */
+  public AadDouble record(double value, AadDouble operand1, double partial1, AadDouble operand2, double partial2) {
+    if (!operand1.isActive()) {
+      return record(value, operand2, partial2);
+    }
+    if (!operand2.isActive()) {
+      return record(value, operand1, partial1);
+    }
+    checkTape(operand1);
+    checkTape(operand2);
+    addEdge(operand1.getIndex(), partial1);
+    addEdge(operand2.getIndex(), partial2);
+    return new AadDouble(value, this, addNode());
+  }
+
+  /**
+   * Records the result of a function of any number of operands.
+   * <p>
+   * This is used to record a function with a known analytic derivative as a single node.
+   * Operands that are not active are ignored.
+   *
+   * @param value  the value of the result
+   * @param operands  the operands
+   * @param partials  the partial derivatives of the result with respect to the operands
+   * @return the active result
+   */
+  public AadDouble record(double value, AadDouble[] operands, double[] partials) {
+    ArgChecker.isTrue(
+        operands.length == partials.length,
+        "Operands and partials must have the same length: {} and {}",
+        operands.length,
+        partials.length);
+    int edgeStart = edgeCount;
+    for (int i = 0; i < operands.length; i++) {
+      if (operands[i].isActive() && partials[i] != 0d) {
+        checkTape(operands[i]);
+        addEdge(operands[i].getIndex(), partials[i]);
+      }
+    }
+    if (edgeCount == edgeStart && Arrays.stream(operands).noneMatch(AadDouble::isActive)) {
+      return AadDouble.constant(value);
+    }
+    return new AadDouble(value, this, addNode());
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the adjoint of every node on the tape with respect to the output.
+   * <p>
+   * This performs the reverse sweep. The adjoint of a node is the derivative of the output
+   * with respect to the node. The result is indexed by {@link AadDouble#getIndex()}.
+   *
+   * @param output  the output
+   * @return the adjoints, indexed by node
+   */
+  public double[] adjoints(AadDouble output) {
+    double[] adjoints = new double[nodeCount];
+    if (!output.isActive()) {
+      return adjoints;
+    }
+    checkTape(output);
+    adjoints[output.getIndex()] = 1d;
+    for (int node = output.getIndex(); node >= 0; node--) {
+      double adjoint = adjoints[node];
+      if (adjoint != 0d) {
+        int edgeStart = node == 0 ? 0 : edgeEnds[node - 1];
+        for (int edge = edgeStart; edge < edgeEnds[node]; edge++) {
+          adjoints[edgeOperands[edge]] += adjoint * edgePartials[edge];
+        }
+      }
+    }
+    return adjoints;
+  }
+
+  /**
+   * Calculates the derivatives of the output with respect to the specified inputs.
+   *
+   * @param output  the output
+   * @param inputs  the inputs
+   * @return the derivatives, in the order of the inputs
+   */
+  public DoubleArray derivatives(AadDouble output, List<AadDouble> inputs) {
+    double[] adjoints = adjoints(output);
+    return DoubleArray.of(inputs.size(), i -> inputs.get(i).isActive() ? adjoints[inputs.get(i).getIndex()] : 0d);
+  }
+
+  //-------------------------------------------------------------------------
+  // adds a node whose edges have already been added
+  private int addNode() {
+    if (nodeCount == edgeEnds.length) {
+      edgeEnds = Arrays.copyOf(edgeEnds, nodeCount * 2);
+    }
+    edgeEnds[nodeCount] = edgeCount;
+    return nodeCount++;
+  }
+
+  // adds an edge to the next node
+  private void addEdge(int operand, double partial) {
+    if (edgeCount == edgeOperands.length) {
+      edgeOperands = Arrays.copyOf(edgeOperands, edgeCount * 2);
+      edgePartials = Arrays.copyOf(edgePartials, edgeCount * 2);
+    }
+    edgeOperands[edgeCount] = operand;
+    edgePartials[edgeCount] = partial;
+    edgeCount++;
+  }
+
+  // checks that the value was recorded on this tape
+  private void checkTape(AadDouble value) {
+    if (value.getTape() != this) {
+      throw new IllegalArgumentException("Value was recorded on a different tape");
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "AadTape[nodes=" + nodeCount + ", edges=" + edgeCount + "]";
+  }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.rootfinding.newton;
+
+import java.util.function.Function;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
+/**
+ * A Jacobian update using Schubert's sparse form of Broyden's update formula.
+ * <p>
+ * Broyden's rank-one update generally fills in every element of the Jacobian estimate.
+ * This update instead applies the secant condition row by row, restricted to the elements
+ * that are non-zero in the estimate, thus elements that are zero remain zero.
+ * This suits problems where the sparsity is known, such as curve calibration where
+ * each node is only sensitive to some of the curves.
+ * <p>
+ * The estimate is only updated while it predicts the change in the function well.
+ * If the relative error of the predicted change exceeds the recalculation threshold,
+ * then the Jacobian is recalculated instead.
+ */
+public class SparseBroydenMatrixUpdateFunction implements NewtonRootFinderMatrixUpdateFunction {
+
+  /**
+   * The default recalculation threshold.
+   */
+  private static final double DEFAULT_RECALCULATION_THRESHOLD = 0.5;
+
+  /**
+   * The relative error of the predicted change in the function above which the Jacobian is recalculated.
+   */
+  private final double recalculationThreshold;
+
+  /**
+   * Creates an instance using the default recalculation threshold.
+   */
+  public SparseBroydenMatrixUpdateFunction() {
+    this(DEFAULT_RECALCULATION_THRESHOLD);
+  }
+
+  /**
+   * Creates an instance.
+   *
+   * @param recalculationThreshold  the relative error of the predicted change in the function
+   *   above which the Jacobian is recalculated
+   */
+  public SparseBroydenMatrixUpdateFunction(double recalculationThreshold) {
+    ArgChecker.notNegative(recalculationThreshold, "recalculationThreshold");
+    this.recalculationThreshold = recalculationThreshold;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public DoubleMatrix getUpdatedMatrix(
+      Function<DoubleArray, DoubleMatrix> jacobianFunction,
+      DoubleArray x,
+      DoubleArray deltaX,
+      DoubleArray deltaY,
+      DoubleMatrix matrix) {
+
+    ArgChecker.notNull(deltaX, "deltaX");
+    ArgChecker.notNull(deltaY, "deltaY");
+    ArgChecker.notNull(matrix, "matrix");
+    int rowCount = matrix.rowCount();
+    int columnCount = matrix.columnCount();
+    // the error of the change predicted by the estimate
+    double[] residual = new double[rowCount];
+    double residualLength2 = 0d;
+    double deltaYLength2 = 0d;
+    for (int i = 0; i < rowCount; i++) {
+      double predicted = 0d;
+      for (int j = 0; j < columnCount; j++) {
+        predicted += matrix.get(i, j) * deltaX.get(j);
+      }
+      residual[i] = deltaY.get(i) - predicted;
+      residualLength2 += residual[i] * residual[i];
+      deltaYLength2 += deltaY.get(i) * deltaY.get(i);
+    }
+    if (residualLength2 == 0d) {
+      return matrix;
+    }
+    if (residualLength2 > recalculationThreshold * recalculationThreshold * deltaYLength2) {
+      ArgChecker.notNull(jacobianFunction, "jacobianFunction");
+      ArgChecker.notNull(x, "x");
+      return jacobianFunction.apply(x);
+    }
+    // update each row in the direction of the step restricted to the non-zero elements
+    double[][] result = matrix.toArray();
+    for (int i = 0; i < rowCount; i++) {
+      double[] row = result[i];
+      double length2 = 0d;
+      for (int j = 0; j < columnCount; j++) {
+        if (row[j] != 0d) {
+          length2 += deltaX.get(j) * deltaX.get(j);
+        }
+      }
+      if (length2 == 0d) {
+        continue;
+      }
+      double scale = residual[i] / length2;
+      for (int j = 0; j < columnCount; j++) {
+        if (row[j] != 0d) {
+          row[j] += scale * deltaX.get(j);
+        }
+      }
+    }
+    return DoubleMatrix.ofUnsafe(result);
+  }
+
+}
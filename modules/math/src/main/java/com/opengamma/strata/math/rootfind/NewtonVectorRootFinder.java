@@ -12,6 +12,7 @@ import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.math.MathException;
 import com.opengamma.strata.math.impl.linearalgebra.SVDecompositionCommons;
 import com.opengamma.strata.math.impl.rootfinding.newton.BroydenVectorRootFinder;
+import com.opengamma.strata.math.impl.rootfinding.newton.SparseBroydenVectorRootFinder;
 import com.opengamma.strata.math.linearalgebra.Decomposition;
 
 /**
@@ -64,6 +65,23 @@ public interface NewtonVectorRootFinder {
     return new BroydenVectorRootFinder(absoluteTol, relativeTol, maxSteps, decomposition);
   }
 
+  /**
+   * Obtains an instance of the sparse Broyden root finder specifying the tolerances.
+   * <p>
+   * This reuses the Jacobian across iterations with rank-one updates that preserve the zero
+   * elements of the Jacobian, recalculating it when the estimate no longer predicts the change
+   * in the function well. This suits large problems where the sparsity of the Jacobian is known,
+   * such as the calibration of a group of curves. This uses SV decomposition.
+   * 
+   * @param absoluteTol  the absolute tolerance
+   * @param relativeTol  the relative tolerance
+   * @param maxSteps  the maximum steps
+   * @return the root finder
+   */
+  public static NewtonVectorRootFinder sparseBroyden(double absoluteTol, double relativeTol, int maxSteps) {
+    return new SparseBroydenVectorRootFinder(absoluteTol, relativeTol, maxSteps, new SVDecompositionCommons());
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Finds the root from the specified start position.
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.differentiation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * Test {@link AadTape} and {@link AadDouble}.
+ */
+public class AadTapeTest {
+
+  private static final double TOLERANCE = 1e-12;
+  private static final double TOLERANCE_FD = 1e-6;
+  private static final ScalarFieldFirstOrderDifferentiator FD = new ScalarFieldFirstOrderDifferentiator();
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_arithmetic() {
+    AadTape tape = AadTape.create();
+    AadDouble x = tape.input(2d);
+    AadDouble y = tape.input(3d);
+    AadDouble result = x.multipliedBy(y).plus(x.dividedBy(y)).minus(y.multipliedBy(4d));
+    assertThat(result.getValue()).isCloseTo(2d * 3d + 2d / 3d - 12d, offset(TOLERANCE));
+    DoubleArray derivatives = tape.derivatives(result, ImmutableList.of(x, y));
+    assertThat(derivatives.get(0)).isCloseTo(3d + 1d / 3d, offset(TOLERANCE));
+    assertThat(derivatives.get(1)).isCloseTo(2d - 2d / 9d - 4d, offset(TOLERANCE));
+  }
+
+  @Test
+  public void test_functions_finiteDifference() {
+    Function<DoubleArray, Double> fn = v -> Math.exp(-v.get(0) * v.get(1)) * Math.log(v.get(0)) /
+        (1d + Math.sqrt(v.get(1))) + Math.pow(v.get(0), 1.5d) - 1d / v.get(1);
+    DoubleArray point = DoubleArray.of(1.3d, 0.7d);
+    AadTape tape = AadTape.create();
+    AadDouble x = tape.input(point.get(0));
+    AadDouble y = tape.input(point.get(1));
+    AadDouble result = x.multipliedBy(y).negated().exp().multipliedBy(x.log())
+        .dividedBy(y.sqrt().plus(1d))
+        .plus(x.pow(1.5d))
+        .minus(y.reciprocal());
+    assertThat(result.getValue()).isCloseTo(fn.apply(point), offset(TOLERANCE));
+    DoubleArray expected = FD.differentiate(fn).apply(point);
+    DoubleArray derivatives = tape.derivatives(result, ImmutableList.of(x, y));
+    assertThat(derivatives.get(0)).isCloseTo(expected.get(0), offset(TOLERANCE_FD));
+    assertThat(derivatives.get(1)).isCloseTo(expected.get(1), offset(TOLERANCE_FD));
+  }
+
+  @Test
+  public void test_record() {
+    AadTape tape = AadTape.create();
+    AadDouble[] inputs = tape.inputs(DoubleArray.of(1d, 2d, 3d));
+    AadDouble external = tape.record(10d, inputs, new double[] {0.5d, 0d, 2d});
+    AadDouble result = external.multipliedBy(inputs[1]);
+    assertThat(tape.size()).isEqualTo(5);
+    double[] adjoints = tape.adjoints(result);
+    assertThat(adjoints[inputs[0].getIndex()]).isCloseTo(0.5d * 2d, offset(TOLERANCE));
+    assertThat(adjoints[inputs[1].getIndex()]).isCloseTo(10d, offset(TOLERANCE));
+    assertThat(adjoints[inputs[2].getIndex()]).isCloseTo(2d * 2d, offset(TOLERANCE));
+    assertThatIllegalArgumentException().isThrownBy(() -> tape.record(1d, inputs, new double[] {1d}));
+  }
+
+  @Test
+  public void test_constant() {
+    AadTape tape = AadTape.create();
+    AadDouble x = tape.input(2d);
+    AadDouble constant = AadDouble.constant(5d);
+    assertThat(constant.isActive()).isFalse();
+    assertThat(constant.plus(1d).exp().isActive()).isFalse();
+    AadDouble result = constant.multipliedBy(x);
+    assertThat(result.isActive()).isTrue();
+    assertThat(tape.derivatives(result, ImmutableList.of(x, constant))).isEqualTo(DoubleArray.of(5d, 0d));
+    assertThat(tape.adjoints(constant)).containsOnly(0d);
+  }
+
+  @Test
+  public void test_differentTape() {
+    AadDouble x = AadTape.create().input(1d);
+    AadDouble y = AadTape.create().input(2d);
+    assertThatIllegalArgumentException().isThrownBy(() -> x.plus(y));
+  }
+
+}
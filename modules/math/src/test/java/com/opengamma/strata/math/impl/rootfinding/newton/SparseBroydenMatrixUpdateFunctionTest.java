@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.rootfinding.newton;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
+/**
+ * Test.
+ */
+public class SparseBroydenMatrixUpdateFunctionTest {
+  private static final SparseBroydenMatrixUpdateFunction UPDATE = new SparseBroydenMatrixUpdateFunction();
+  private static final DoubleArray V = DoubleArray.of(1, 2);
+  private static final DoubleMatrix M = DoubleMatrix.copyOf(new double[][] {{3, 0}, {5, 6}});
+  private static final DoubleMatrix RECALCULATED = DoubleMatrix.copyOf(new double[][] {{1, 1}, {1, 1}});
+  private static final Function<DoubleArray, DoubleMatrix> J = x -> RECALCULATED;
+  private static final double TOL = 1e-12;
+
+  @Test
+  public void testNullDeltaX() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> UPDATE.getUpdatedMatrix(J, V, null, V, M));
+  }
+
+  @Test
+  public void testNullDeltaY() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> UPDATE.getUpdatedMatrix(J, V, V, null, M));
+  }
+
+  @Test
+  public void testNullMatrix() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> UPDATE.getUpdatedMatrix(J, V, V, V, null));
+  }
+
+  @Test
+  public void testNegativeThreshold() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> new SparseBroydenMatrixUpdateFunction(-1));
+  }
+
+  @Test
+  public void testSparsityPreserved() {
+    // predicted change is (3, 17), actual change differs slightly
+    DoubleArray deltaY = DoubleArray.of(3.3, 17.5);
+    DoubleMatrix test = UPDATE.getUpdatedMatrix(J, V, V, deltaY, M);
+    assertThat(test.get(0, 1)).isEqualTo(0d);
+    assertThat(test.get(0, 0)).isCloseTo(3.3, offset(TOL));
+    assertThat(test.get(1, 0)).isCloseTo(5.1, offset(TOL));
+    assertThat(test.get(1, 1)).isCloseTo(6.2, offset(TOL));
+    // secant condition holds for the updated matrix
+    assertThat(test.get(0, 0) * V.get(0) + test.get(0, 1) * V.get(1)).isCloseTo(deltaY.get(0), offset(TOL));
+    assertThat(test.get(1, 0) * V.get(0) + test.get(1, 1) * V.get(1)).isCloseTo(deltaY.get(1), offset(TOL));
+  }
+
+  @Test
+  public void testExactPrediction() {
+    assertThat(UPDATE.getUpdatedMatrix(J, V, V, DoubleArray.of(3, 17), M)).isSameAs(M);
+  }
+
+  @Test
+  public void testRecalculated() {
+    assertThat(UPDATE.getUpdatedMatrix(J, V, V, DoubleArray.of(-3, 1), M)).isSameAs(RECALCULATED);
+  }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.rootfinding.newton;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.math.impl.linearalgebra.SVDecompositionCommons;
+
+/**
+ * Test.
+ */
+public class SparseBroydenVectorRootFinderTest extends VectorRootFinderTest {
+  private static final BaseNewtonVectorRootFinder DEFAULT =
+      new SparseBroydenVectorRootFinder(TOLERANCE, TOLERANCE, MAXSTEPS);
+  private static final BaseNewtonVectorRootFinder SV =
+      new SparseBroydenVectorRootFinder(TOLERANCE, TOLERANCE, MAXSTEPS, new SVDecompositionCommons());
+
+  @Test
+  public void test() {
+    assertLinear(DEFAULT, EPS);
+    assertLinear(SV, EPS);
+    assertFunction3D(DEFAULT, EPS);
+    assertFunction3D(SV, EPS);
+    assertYieldCurveBootstrap(DEFAULT, EPS);
+    assertYieldCurveBootstrap(SV, EPS);
+  }
+}
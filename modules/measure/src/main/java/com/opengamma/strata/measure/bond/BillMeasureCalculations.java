@@ -12,6 +12,7 @@ import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesScenarioArray;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.pricer.bond.DiscountingBillTradePricer;
 import com.opengamma.strata.pricer.bond.LegalEntityDiscountingProvider;
@@ -99,7 +100,7 @@ public class BillMeasureCalculations {
       ResolvedBillTrade trade,
       LegalEntityDiscountingScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.ofCompatible(
         marketData.getScenarioCount(),
         i -> pv01CalibratedBucketed(trade, marketData.scenario(i).discountingProvider()));
   }
@@ -140,7 +141,7 @@ public class BillMeasureCalculations {
       ResolvedBillTrade trade,
       LegalEntityDiscountingScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.ofCompatible(
         marketData.getScenarioCount(),
         i -> pv01MarketQuoteBucketed(trade, marketData.scenario(i).discountingProvider()));
   }
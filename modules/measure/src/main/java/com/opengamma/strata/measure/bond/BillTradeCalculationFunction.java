@@ -19,6 +19,7 @@ import com.opengamma.strata.calc.Measure;
 import com.opengamma.strata.calc.runner.CalculationFunction;
 import com.opengamma.strata.calc.runner.CalculationParameters;
 import com.opengamma.strata.calc.runner.FunctionRequirements;
+import com.opengamma.strata.calc.runner.ResolvedTargetCache;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
@@ -145,7 +146,7 @@ public class BillTradeCalculationFunction<T extends SecuritizedProductPortfolioI
       ReferenceData refData) {
 
     // resolve the trade once for all measures and all scenarios
-    ResolvedBillTrade resolved = target.resolve(refData);
+    ResolvedBillTrade resolved = ResolvedTargetCache.resolve(target, parameters, refData, T::resolve);
 
     // use lookup to query market data
     LegalEntityDiscountingMarketDataLookup lookup = parameters.getParameter(LegalEntityDiscountingMarketDataLookup.class);
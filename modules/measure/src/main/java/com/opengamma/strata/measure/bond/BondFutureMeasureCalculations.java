@@ -16,6 +16,7 @@ import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.market.observable.QuoteId;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesScenarioArray;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.pricer.bond.DiscountingBondFutureTradePricer;
 import com.opengamma.strata.pricer.bond.LegalEntityDiscountingProvider;
@@ -105,7 +106,7 @@ final class BondFutureMeasureCalculations {
       ResolvedBondFutureTrade trade,
       LegalEntityDiscountingScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.ofCompatible(
         marketData.getScenarioCount(),
         i -> pv01CalibratedBucketed(trade, marketData.scenario(i).discountingProvider()));
   }
@@ -146,7 +147,7 @@ final class BondFutureMeasureCalculations {
       ResolvedBondFutureTrade trade,
       LegalEntityDiscountingScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.ofCompatible(
         marketData.getScenarioCount(),
         i -> pv01MarketQuoteBucketed(trade, marketData.scenario(i).discountingProvider()));
   }
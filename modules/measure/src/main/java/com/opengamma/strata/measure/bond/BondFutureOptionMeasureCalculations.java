@@ -17,6 +17,7 @@ import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.market.observable.QuoteId;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesScenarioArray;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.pricer.bond.BlackBondFutureOptionMarginedTradePricer;
 import com.opengamma.strata.pricer.bond.BlackBondFutureVolatilities;
@@ -120,7 +121,7 @@ final class BondFutureOptionMeasureCalculations {
       BondFutureOptionScenarioMarketData optionMarketData) {
 
     SecurityId securityId = trade.getProduct().getUnderlyingFuture().getSecurityId();
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.ofCompatible(
         legalEntityMarketData.getScenarioCount(),
         i -> pv01CalibratedBucketed(
             trade,
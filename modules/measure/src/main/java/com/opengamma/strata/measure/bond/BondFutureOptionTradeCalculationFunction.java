@@ -19,6 +19,7 @@ import com.opengamma.strata.calc.Measure;
 import com.opengamma.strata.calc.runner.CalculationFunction;
 import com.opengamma.strata.calc.runner.CalculationParameters;
 import com.opengamma.strata.calc.runner.FunctionRequirements;
+import com.opengamma.strata.calc.runner.ResolvedTargetCache;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
@@ -158,7 +159,7 @@ public class BondFutureOptionTradeCalculationFunction<T extends SecuritizedProdu
       ReferenceData refData) {
 
     // resolve the trade once for all measures and all scenarios
-    ResolvedBondFutureOptionTrade resolved = target.resolve(refData);
+    ResolvedBondFutureOptionTrade resolved = ResolvedTargetCache.resolve(target, parameters, refData, T::resolve);
 
     // use lookup to query market data
     LegalEntityDiscountingMarketDataLookup ledLookup = parameters.getParameter(LegalEntityDiscountingMarketDataLookup.class);
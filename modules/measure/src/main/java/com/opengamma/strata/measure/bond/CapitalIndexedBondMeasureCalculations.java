@@ -12,6 +12,7 @@ import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesScenarioArray;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.measure.rate.RatesScenarioMarketData;
 import com.opengamma.strata.pricer.bond.DiscountingCapitalIndexedBondTradePricer;
@@ -107,7 +108,7 @@ final class CapitalIndexedBondMeasureCalculations {
       RatesScenarioMarketData ratesMarketData,
       LegalEntityDiscountingScenarioMarketData legalEntityMarketData) {
 
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.ofCompatible(
         legalEntityMarketData.getScenarioCount(),
         i -> pv01CalibratedBucketed(
             trade,
@@ -19,6 +19,7 @@ import com.opengamma.strata.calc.Measure;
 import com.opengamma.strata.calc.runner.CalculationFunction;
 import com.opengamma.strata.calc.runner.CalculationParameters;
 import com.opengamma.strata.calc.runner.FunctionRequirements;
+import com.opengamma.strata.calc.runner.ResolvedTargetCache;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
@@ -153,7 +154,7 @@ public class CapitalIndexedBondTradeCalculationFunction<T extends SecuritizedPro
       ReferenceData refData) {
 
     // resolve the trade once for all measures and all scenarios
-    ResolvedCapitalIndexedBondTrade resolved = target.resolve(refData);
+    ResolvedCapitalIndexedBondTrade resolved = ResolvedTargetCache.resolve(target, parameters, refData, T::resolve);
 
     // use lookup to query market data
     RatesMarketDataLookup ratesLookup = parameters.getParameter(RatesMarketDataLookup.class);
@@ -19,6 +19,7 @@ import com.opengamma.strata.calc.Measure;
 import com.opengamma.strata.calc.runner.CalculationFunction;
 import com.opengamma.strata.calc.runner.CalculationParameters;
 import com.opengamma.strata.calc.runner.FunctionRequirements;
+import com.opengamma.strata.calc.runner.ResolvedTargetCache;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
@@ -146,7 +147,7 @@ public class FixedCouponBondTradeCalculationFunction<T extends SecuritizedProduc
       ReferenceData refData) {
 
     // resolve the trade once for all measures and all scenarios
-    ResolvedFixedCouponBondTrade resolved = target.resolve(refData);
+    ResolvedFixedCouponBondTrade resolved = ResolvedTargetCache.resolve(target, parameters, refData, T::resolve);
 
     // use lookup to query market data
     LegalEntityDiscountingMarketDataLookup bondLookup = parameters.getParameter(LegalEntityDiscountingMarketDataLookup.class);
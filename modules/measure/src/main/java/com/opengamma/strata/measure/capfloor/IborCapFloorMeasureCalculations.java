@@ -11,6 +11,7 @@ import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesScenarioArray;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.measure.rate.RatesScenarioMarketData;
 import com.opengamma.strata.pricer.capfloor.IborCapletFloorletVolatilities;
@@ -114,7 +115,7 @@ final class IborCapFloorMeasureCalculations {
       IborCapFloorScenarioMarketData capFloorMarketData) {
 
     IborIndex index = trade.getProduct().getCapFloorLeg().getIndex();
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.ofCompatible(
         ratesMarketData.getScenarioCount(),
         i -> pv01RatesCalibratedBucketed(
             trade,
@@ -167,7 +168,7 @@ final class IborCapFloorMeasureCalculations {
       IborCapFloorScenarioMarketData capFloorMarketData) {
 
     IborIndex index = trade.getProduct().getCapFloorLeg().getIndex();
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.ofCompatible(
         ratesMarketData.getScenarioCount(),
         i -> pv01RatesMarketQuoteBucketed(
             trade,
@@ -14,6 +14,7 @@ import com.opengamma.strata.data.scenario.DoubleScenarioArray;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesScenarioArray;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.pricer.common.PriceType;
@@ -223,7 +224,7 @@ final class CdsIndexMeasureCalculations {
       CreditRatesScenarioMarketData marketData,
       ReferenceData refData) {
 
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.ofCompatible(
         marketData.getScenarioCount(),
         i -> ir01MarketQuoteBucketed(trade, marketData.scenario(i).creditRatesProvider(), refData));
   }
@@ -273,7 +274,7 @@ final class CdsIndexMeasureCalculations {
       CreditRatesScenarioMarketData marketData,
       ReferenceData refData) {
 
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.ofCompatible(
         marketData.getScenarioCount(),
         i -> pv01CalibratedBucketed(trade, marketData.scenario(i).creditRatesProvider(), refData));
   }
@@ -319,7 +320,7 @@ final class CdsIndexMeasureCalculations {
       CreditRatesScenarioMarketData marketData,
       ReferenceData refData) {
 
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.ofCompatible(
         marketData.getScenarioCount(),
         i -> pv01MarketQuoteBucketed(trade, marketData.scenario(i).creditRatesProvider(), refData));
   }
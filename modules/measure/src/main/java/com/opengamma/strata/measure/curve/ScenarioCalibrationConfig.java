@@ -0,0 +1,392 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.curve;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.joda.beans.Bean;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.ImmutableDefaults;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.direct.DirectFieldsBeanBuilder;
+import org.joda.beans.impl.direct.DirectMetaBean;
+import org.joda.beans.impl.direct.DirectMetaProperty;
+import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * Configuration controlling how curves are calibrated when there are multiple scenarios.
+ * <p>
+ * By default, the curves for each scenario are calibrated one after another on the calling thread.
+ * This configuration allows the scenarios to be split into contiguous blocks that are calibrated in parallel.
+ * The calibrated curves are returned in scenario order, and are identical to those from sequential calibration
+ * unless warm start is enabled.
+ * <p>
+ * If warm start is enabled, the calibrated parameters of each scenario are used as the initial guess
+ * for the next scenario in the same block. This typically reduces the number of root finder iterations,
+ * as adjacent scenarios tend to have similar market data. The calibrated curves then agree with
+ * those from sequential calibration to within the root finder tolerance, but not exactly.
+ * As the first scenario of each block starts from the initial guess of the curve definitions,
+ * the results with warm start also depend on the parallelism, which defines the blocks.
+ * <p>
+ * The blocks are only calibrated in parallel if the function performing the calibration has an executor.
+ */
+@BeanDefinition
+public final class ScenarioCalibrationConfig implements ImmutableBean, Serializable {
+
+  /** The standard configuration, which calibrates scenarios sequentially without warm start. */
+  private static final ScenarioCalibrationConfig STANDARD = new ScenarioCalibrationConfig(1, false);
+
+  /**
+   * The maximum number of blocks of scenarios that are calibrated in parallel.
+   * <p>
+   * A value of one calibrates all scenarios sequentially on the calling thread.
+   */
+  @PropertyDefinition(validate = "ArgChecker.notNegativeOrZero")
+  private final int parallelism;
+  /**
+   * Whether the calibrated parameters of each scenario are used as the initial guess for the next scenario.
+   */
+  @PropertyDefinition
+  private final boolean warmStart;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns the standard configuration, which calibrates scenarios sequentially without warm start.
+   *
+   * @return the standard configuration
+   */
+  public static ScenarioCalibrationConfig standard() {
+    return STANDARD;
+  }
+
+  /**
+   * Obtains an instance specifying the parallelism and whether to use warm start.
+   *
+   * @param parallelism  the maximum number of blocks of scenarios that are calibrated in parallel
+   * @param warmStart  whether the calibrated parameters of each scenario are used as the initial guess for the next
+   * @return the configuration
+   */
+  public static ScenarioCalibrationConfig of(int parallelism, boolean warmStart) {
+    return new ScenarioCalibrationConfig(parallelism, warmStart);
+  }
+
+  @ImmutableDefaults
+  private static void applyDefaults(Builder builder) {
+    builder.parallelism(1);
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  /**
+   * The meta-bean for {@code ScenarioCalibrationConfig}.
+   * @return the meta-bean, not null
+   */
+  public static ScenarioCalibrationConfig.Meta meta() {
+    return ScenarioCalibrationConfig.Meta.INSTANCE;
+  }
+
+  static {
+    MetaBean.register(ScenarioCalibrationConfig.Meta.INSTANCE);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Returns a builder used to create an instance of the bean.
+   * @return the builder, not null
+   */
+  public static ScenarioCalibrationConfig.Builder builder() {
+    return new ScenarioCalibrationConfig.Builder();
+  }
+
+  private ScenarioCalibrationConfig(
+      int parallelism,
+      boolean warmStart) {
+    ArgChecker.notNegativeOrZero(parallelism, "parallelism");
+    this.parallelism = parallelism;
+    this.warmStart = warmStart;
+  }
+
+  @Override
+  public ScenarioCalibrationConfig.Meta metaBean() {
+    return ScenarioCalibrationConfig.Meta.INSTANCE;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the maximum number of blocks of scenarios that are calibrated in parallel.
+   * <p>
+   * A value of one calibrates all scenarios sequentially on the calling thread.
+   * @return the value of the property
+   */
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets whether the calibrated parameters of each scenario are used as the initial guess for the next scenario.
+   * @return the value of the property
+   */
+  public boolean isWarmStart() {
+    return warmStart;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Returns a builder that allows this bean to be mutated.
+   * @return the mutable builder, not null
+   */
+  public Builder toBuilder() {
+    return new Builder(this);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      ScenarioCalibrationConfig other = (ScenarioCalibrationConfig) obj;
+      return (parallelism == other.parallelism) &&
+          (warmStart == other.warmStart);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(parallelism);
+    hash = hash * 31 + JodaBeanUtils.hashCode(warmStart);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(96);
+    buf.append("ScenarioCalibrationConfig{");
+    buf.append("parallelism").append('=').append(JodaBeanUtils.toString(parallelism)).append(',').append(' ');
+    buf.append("warmStart").append('=').append(JodaBeanUtils.toString(warmStart));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The meta-bean for {@code ScenarioCalibrationConfig}.
+   */
+  public static final class Meta extends DirectMetaBean {
+    /**
+     * The singleton instance of the meta-bean.
+     */
+    static final Meta INSTANCE = new Meta();
+
+    /**
+     * The meta-property for the {@code parallelism} property.
+     */
+    private final MetaProperty<Integer> parallelism = DirectMetaProperty.ofImmutable(
+        this, "parallelism", ScenarioCalibrationConfig.class, Integer.TYPE);
+    /**
+     * The meta-property for the {@code warmStart} property.
+     */
+    private final MetaProperty<Boolean> warmStart = DirectMetaProperty.ofImmutable(
+        this, "warmStart", ScenarioCalibrationConfig.class, Boolean.TYPE);
+    /**
+     * The meta-properties.
+     */
+    private final Map<String, MetaProperty<?>> metaPropertyMap$ = new DirectMetaPropertyMap(
+        this, null,
+        "parallelism",
+        "warmStart");
+
+    /**
+     * Restricted constructor.
+     */
+    private Meta() {
+    }
+
+    @Override
+    protected MetaProperty<?> metaPropertyGet(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case 635164956:  // parallelism
+          return parallelism;
+        case -1787818787:  // warmStart
+          return warmStart;
+      }
+      return super.metaPropertyGet(propertyName);
+    }
+
+    @Override
+    public ScenarioCalibrationConfig.Builder builder() {
+      return new ScenarioCalibrationConfig.Builder();
+    }
+
+    @Override
+    public Class<? extends ScenarioCalibrationConfig> beanType() {
+      return ScenarioCalibrationConfig.class;
+    }
+
+    @Override
+    public Map<String, MetaProperty<?>> metaPropertyMap() {
+      return metaPropertyMap$;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The meta-property for the {@code parallelism} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<Integer> parallelism() {
+      return parallelism;
+    }
+
+    /**
+     * The meta-property for the {@code warmStart} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<Boolean> warmStart() {
+      return warmStart;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    protected Object propertyGet(Bean bean, String propertyName, boolean quiet) {
+      switch (propertyName.hashCode()) {
+        case 635164956:  // parallelism
+          return ((ScenarioCalibrationConfig) bean).getParallelism();
+        case -1787818787:  // warmStart
+          return ((ScenarioCalibrationConfig) bean).isWarmStart();
+      }
+      return super.propertyGet(bean, propertyName, quiet);
+    }
+
+    @Override
+    protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
+      metaProperty(propertyName);
+      if (quiet) {
+        return;
+      }
+      throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
+    }
+
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The bean-builder for {@code ScenarioCalibrationConfig}.
+   */
+  public static final class Builder extends DirectFieldsBeanBuilder<ScenarioCalibrationConfig> {
+
+    private int parallelism;
+    private boolean warmStart;
+
+    /**
+     * Restricted constructor.
+     */
+    private Builder() {
+      applyDefaults(this);
+    }
+
+    /**
+     * Restricted copy constructor.
+     * @param beanToCopy  the bean to copy from, not null
+     */
+    private Builder(ScenarioCalibrationConfig beanToCopy) {
+      this.parallelism = beanToCopy.getParallelism();
+      this.warmStart = beanToCopy.isWarmStart();
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public Object get(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case 635164956:  // parallelism
+          return parallelism;
+        case -1787818787:  // warmStart
+          return warmStart;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+    }
+
+    @Override
+    public Builder set(String propertyName, Object newValue) {
+      switch (propertyName.hashCode()) {
+        case 635164956:  // parallelism
+          this.parallelism = (Integer) newValue;
+          break;
+        case -1787818787:  // warmStart
+          this.warmStart = (Boolean) newValue;
+          break;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+      return this;
+    }
+
+    @Override
+    public Builder set(MetaProperty<?> property, Object value) {
+      super.set(property, value);
+      return this;
+    }
+
+    @Override
+    public ScenarioCalibrationConfig build() {
+      return new ScenarioCalibrationConfig(
+          parallelism,
+          warmStart);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sets the maximum number of blocks of scenarios that are calibrated in parallel.
+     * <p>
+     * A value of one calibrates all scenarios sequentially on the calling thread.
+     * @param parallelism  the new value
+     * @return this, for chaining, not null
+     */
+    public Builder parallelism(int parallelism) {
+      ArgChecker.notNegativeOrZero(parallelism, "parallelism");
+      this.parallelism = parallelism;
+      return this;
+    }
+
+    /**
+     * Sets whether the calibrated parameters of each scenario are used as the initial guess for the next scenario.
+     * @param warmStart  the new value
+     * @return this, for chaining, not null
+     */
+    public Builder warmStart(boolean warmStart) {
+      this.warmStart = warmStart;
+      return this;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+      StringBuilder buf = new StringBuilder(96);
+      buf.append("ScenarioCalibrationConfig.Builder{");
+      buf.append("parallelism").append('=').append(JodaBeanUtils.toString(parallelism)).append(',').append(' ');
+      buf.append("warmStart").append('=').append(JodaBeanUtils.toString(warmStart));
+      buf.append('}');
+      return buf.toString();
+    }
+
+  }
+
+  //-------------------------- AUTOGENERATED END --------------------------
+}
@@ -13,6 +13,7 @@ import com.opengamma.strata.data.scenario.DoubleScenarioArray;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesScenarioArray;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.measure.rate.RatesScenarioMarketData;
 import com.opengamma.strata.pricer.deposit.DiscountingTermDepositTradePricer;
@@ -101,7 +102,7 @@ final class TermDepositMeasureCalculations {
       ResolvedTermDepositTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.ofCompatible(
         marketData.getScenarioCount(),
         i -> pv01CalibratedBucketed(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -142,7 +143,7 @@ final class TermDepositMeasureCalculations {
       ResolvedTermDepositTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.ofCompatible(
         marketData.getScenarioCount(),
         i -> pv01MarketQuoteBucketed(trade, marketData.scenario(i).ratesProvider()));
   }
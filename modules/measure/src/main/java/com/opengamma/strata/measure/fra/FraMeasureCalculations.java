@@ -5,9 +5,12 @@
  */
 package com.opengamma.strata.measure.fra;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static com.opengamma.strata.collect.Guavate.toImmutableSet;
 
+import java.util.List;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
@@ -30,6 +33,7 @@ import com.opengamma.strata.market.curve.CurveId;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.param.CrossGammaParameterSensitivities;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesScenarioArray;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.measure.rate.RatesMarketData;
@@ -38,6 +42,7 @@ import com.opengamma.strata.pricer.fra.DiscountingFraTradePricer;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.pricer.sensitivity.CurveGammaCalculator;
 import com.opengamma.strata.pricer.sensitivity.MarketQuoteSensitivityCalculator;
+import com.opengamma.strata.product.fra.ResolvedFra;
 import com.opengamma.strata.product.fra.ResolvedFraTrade;
 
 /**
@@ -91,6 +96,21 @@ final class FraMeasureCalculations {
         i -> presentValue(trade, marketData.scenario(i).ratesProvider()));
   }
 
+  // calculates present value of a batch of trades for all scenarios, pricing the trades together
+  List<CurrencyScenarioArray> presentValue(
+      List<ResolvedFraTrade> trades,
+      RatesScenarioMarketData marketData) {
+
+    List<ResolvedFra> products = trades.stream().map(ResolvedFraTrade::getProduct).collect(toImmutableList());
+    int scenarioCount = marketData.getScenarioCount();
+    List<List<CurrencyAmount>> values = IntStream.range(0, scenarioCount)
+        .mapToObj(i -> tradePricer.getProductPricer().presentValue(products, marketData.scenario(i).ratesProvider()))
+        .collect(toImmutableList());
+    return IntStream.range(0, trades.size())
+        .mapToObj(t -> CurrencyScenarioArray.of(scenarioCount, i -> values.get(i).get(t)))
+        .collect(toImmutableList());
+  }
+
   // present value for one scenario
   CurrencyAmount presentValue(
       ResolvedFraTrade trade,
@@ -144,7 +164,7 @@ final class FraMeasureCalculations {
       ResolvedFraTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.ofCompatible(
         marketData.getScenarioCount(),
         i -> pv01CalibratedBucketed(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -185,7 +205,7 @@ final class FraMeasureCalculations {
       ResolvedFraTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.ofCompatible(
         marketData.getScenarioCount(),
         i -> pv01MarketQuoteBucketed(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -206,7 +226,7 @@ final class FraMeasureCalculations {
       ResolvedFraTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.ofCompatible(
         marketData.getScenarioCount(),
         i -> pv01SemiParallelGammaBucketed(trade, marketData.scenario(i)));
   }
@@ -263,7 +283,7 @@ final class FraMeasureCalculations {
       ResolvedFraTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.ofCompatible(
         marketData.getScenarioCount(),
         i -> pv01SingleNodeGammaBucketed(trade, marketData.scenario(i).ratesProvider()));
   }
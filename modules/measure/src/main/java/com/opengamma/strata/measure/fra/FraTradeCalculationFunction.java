@@ -5,21 +5,27 @@
  */
 package com.opengamma.strata.measure.fra;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.index.IborIndex;
 import com.opengamma.strata.calc.Measure;
-import com.opengamma.strata.calc.runner.CalculationFunction;
+import com.opengamma.strata.calc.runner.BatchCalculationFunction;
 import com.opengamma.strata.calc.runner.CalculationParameters;
 import com.opengamma.strata.calc.runner.FunctionRequirements;
+import com.opengamma.strata.calc.runner.ResolvedTargetCache;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
@@ -53,9 +59,12 @@ import com.opengamma.strata.product.fra.ResolvedFraTrade;
  *   <li>{@linkplain AdvancedMeasures#PV01_SEMI_PARALLEL_GAMMA_BUCKETED PV01 semi-parallel gamma bucketed}
  *   <li>{@linkplain AdvancedMeasures#PV01_SINGLE_NODE_GAMMA_BUCKETED PV01 single node gamma bucketed}
  * </ul>
+ * <p>
+ * When calculated as a batch, the market data view is shared by all the trades in the batch,
+ * and the present value of the batch is priced together using struct-of-arrays data.
  */
 public class FraTradeCalculationFunction
-    implements CalculationFunction<FraTrade> {
+    implements BatchCalculationFunction<FraTrade> {
 
   /**
    * The calculations by measure.
@@ -137,7 +146,7 @@ public class FraTradeCalculationFunction
       ReferenceData refData) {
 
     // resolve the trade once for all measures and all scenarios
-    ResolvedFraTrade resolved = trade.resolve(refData);
+    ResolvedFraTrade resolved = ResolvedTargetCache.resolve(trade, parameters, refData, FraTrade::resolve);
 
     // use lookup to query market data
     RatesMarketDataLookup ratesLookup = parameters.getParameter(RatesMarketDataLookup.class);
@@ -151,6 +160,57 @@ public class FraTradeCalculationFunction
     return results;
   }
 
+  @Override
+  public List<Map<Measure, Result<?>>> calculateBatch(
+      List<? extends FraTrade> trades,
+      Set<Measure> measures,
+      CalculationParameters parameters,
+      ScenarioMarketData scenarioMarketData,
+      ReferenceData refData) {
+
+    // resolve the trades once for all measures and all scenarios
+    List<ResolvedFraTrade> resolved = trades.stream()
+        .map(trade -> ResolvedTargetCache.resolve(trade, parameters, refData, FraTrade::resolve))
+        .collect(toImmutableList());
+
+    // use lookup to query market data, sharing the market data view between the trades
+    RatesMarketDataLookup ratesLookup = parameters.getParameter(RatesMarketDataLookup.class);
+    RatesScenarioMarketData marketData = ratesLookup.marketDataView(scenarioMarketData);
+
+    // price the present value of the batch together
+    List<Result<?>> presentValues = measures.contains(Measures.PRESENT_VALUE) ?
+        presentValues(resolved, marketData) :
+        ImmutableList.of();
+
+    // loop around trades and measures, calculating all scenarios for one measure
+    List<Map<Measure, Result<?>>> results = new ArrayList<>(resolved.size());
+    for (int i = 0; i < resolved.size(); i++) {
+      Map<Measure, Result<?>> tradeResults = new HashMap<>();
+      for (Measure measure : measures) {
+        Result<?> result = measure.equals(Measures.PRESENT_VALUE) ?
+            presentValues.get(i) :
+            calculate(measure, resolved.get(i), marketData);
+        tradeResults.put(measure, result);
+      }
+      results.add(tradeResults);
+    }
+    return results;
+  }
+
+  // calculate the present value of a batch of trades
+  // if the batch cannot be priced, each trade is priced separately
+  private List<Result<?>> presentValues(List<ResolvedFraTrade> trades, RatesScenarioMarketData marketData) {
+    try {
+      return FraMeasureCalculations.DEFAULT.presentValue(trades, marketData).stream()
+          .<Result<?>>map(Result::success)
+          .collect(toImmutableList());
+    } catch (RuntimeException ex) {
+      return trades.stream()
+          .map(trade -> calculate(Measures.PRESENT_VALUE, trade, marketData))
+          .collect(toImmutableList());
+    }
+  }
+
   // calculate one measure
   private Result<?> calculate(
       Measure measure,
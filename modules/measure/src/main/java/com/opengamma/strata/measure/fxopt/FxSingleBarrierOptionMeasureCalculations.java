@@ -15,6 +15,7 @@ import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesScenarioArray;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.measure.rate.RatesScenarioMarketData;
 import com.opengamma.strata.pricer.fxopt.BlackFxOptionVolatilities;
@@ -139,7 +140,7 @@ final class FxSingleBarrierOptionMeasureCalculations {
       FxSingleBarrierOptionMethod method) {
 
     CurrencyPair currencyPair = trade.getProduct().getCurrencyPair();
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.ofCompatible(
         ratesMarketData.getScenarioCount(),
         i -> pv01RatesCalibratedBucketed(
             trade,
@@ -197,7 +198,7 @@ final class FxSingleBarrierOptionMeasureCalculations {
       FxSingleBarrierOptionMethod method) {
 
     CurrencyPair currencyPair = trade.getProduct().getCurrencyPair();
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.ofCompatible(
         ratesMarketData.getScenarioCount(),
         i -> pv01RatesMarketQuoteBucketed(
             trade,
@@ -15,6 +15,7 @@ import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesScenarioArray;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.measure.rate.RatesScenarioMarketData;
 import com.opengamma.strata.pricer.fxopt.BlackFxOptionSmileVolatilities;
@@ -140,7 +141,7 @@ final class FxVanillaOptionMeasureCalculations {
       FxVanillaOptionMethod method) {
 
     CurrencyPair currencyPair = trade.getProduct().getCurrencyPair();
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.ofCompatible(
         ratesMarketData.getScenarioCount(),
         i -> pv01RatesCalibratedBucketed(
             trade,
@@ -198,7 +199,7 @@ final class FxVanillaOptionMeasureCalculations {
       FxVanillaOptionMethod method) {
 
     CurrencyPair currencyPair = trade.getProduct().getCurrencyPair();
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.ofCompatible(
         ratesMarketData.getScenarioCount(),
         i -> pv01RatesMarketQuoteBucketed(
             trade,
@@ -8,10 +8,15 @@ package com.opengamma.strata.measure.rate;
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.calc.marketdata.MarketDataConfig;
@@ -36,6 +41,7 @@ import com.opengamma.strata.market.curve.RatesCurveInputs;
 import com.opengamma.strata.market.curve.RatesCurveInputsId;
 import com.opengamma.strata.market.observable.IndexQuoteId;
 import com.opengamma.strata.measure.curve.RootFinderConfig;
+import com.opengamma.strata.measure.curve.ScenarioCalibrationConfig;
 import com.opengamma.strata.pricer.curve.CalibrationMeasures;
 import com.opengamma.strata.pricer.curve.RatesCurveCalibrator;
 import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
@@ -44,6 +50,10 @@ import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
  * Market data function that builds a curve group.
  * <p>
  * This function calibrates curves, turning a {@link RatesCurveGroupDefinition} into a {@link RatesCurveGroup}.
+ * <p>
+ * When there are multiple scenarios, the {@link MarketDataConfig} may contain a {@link ScenarioCalibrationConfig}
+ * to split the scenarios into blocks. The blocks are calibrated in parallel only if this function
+ * was created with an executor, otherwise they are calibrated one after another on the calling thread.
  */
 public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<RatesCurveGroup, RatesCurveGroupId> {
 
@@ -51,6 +61,10 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
    * The default analytics object that performs the curve calibration.
    */
   private final CalibrationMeasures calibrationMeasures;
+  /**
+   * The executor used to calibrate blocks of scenarios in parallel, null to use the calling thread.
+   */
+  private final Executor executor;
 
   //-------------------------------------------------------------------------
   /**
@@ -69,11 +83,29 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
    * <p>
    * The default calibrator is specified. The {@link MarketDataConfig} may contain a
    * {@link RootFinderConfig} that alters the tolerances used in calibration.
+   * All calibration takes place on the calling thread.
    *
    * @param calibrationMeasures  the calibration measures to be used in the calibrator
    */
   public RatesCurveGroupMarketDataFunction(CalibrationMeasures calibrationMeasures) {
     this.calibrationMeasures = ArgChecker.notNull(calibrationMeasures, "calibrationMeasures");
+    this.executor = null;
+  }
+
+  /**
+   * Creates a new function for building curve groups, specifying the executor for parallel calibration.
+   * <p>
+   * The default calibrator is specified. The {@link MarketDataConfig} may contain a
+   * {@link RootFinderConfig} that alters the tolerances used in calibration.
+   * The executor is only used if the {@code MarketDataConfig} contains a {@link ScenarioCalibrationConfig}
+   * with a parallelism greater than one. It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param calibrationMeasures  the calibration measures to be used in the calibrator
+   * @param executor  the executor used to calibrate blocks of scenarios in parallel
+   */
+  public RatesCurveGroupMarketDataFunction(CalibrationMeasures calibrationMeasures, Executor executor) {
+    this.calibrationMeasures = ArgChecker.notNull(calibrationMeasures, "calibrationMeasures");
+    this.executor = ArgChecker.notNull(executor, "executor");
   }
 
   //-------------------------------------------------------------------------
@@ -114,7 +146,9 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
     // calibrate
     CurveGroupName groupName = id.getCurveGroupName();
     RatesCurveGroupDefinition configuredDefn = marketDataConfig.get(RatesCurveGroupDefinition.class, groupName);
-    return buildCurveGroup(configuredDefn, calibrator, marketData, refData, id.getObservableSource());
+    ScenarioCalibrationConfig scenarioConfig =
+        marketDataConfig.find(ScenarioCalibrationConfig.class).orElse(ScenarioCalibrationConfig.standard());
+    return buildCurveGroup(configuredDefn, calibrator, scenarioConfig, marketData, refData, id.getObservableSource());
   }
 
   @Override
@@ -140,6 +174,29 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
       ReferenceData refData,
       ObservableSource obsSource) {
 
+    return buildCurveGroup(
+        configuredGroup, calibrator, ScenarioCalibrationConfig.standard(), marketData, refData, obsSource);
+  }
+
+  /**
+   * Builds a curve group given the configuration for the group and a set of market data.
+   *
+   * @param configuredGroup  the definition of the curve group
+   * @param calibrator  the calibrator
+   * @param scenarioConfig  the configuration controlling the calibration of multiple scenarios
+   * @param marketData  the market data containing any values required to build the curve group
+   * @param refData  the reference data, used for resolving trades
+   * @param obsSource  the source of observable market data
+   * @return a result containing the curve group or details of why it couldn't be built
+   */
+  MarketDataBox<RatesCurveGroup> buildCurveGroup(
+      RatesCurveGroupDefinition configuredGroup,
+      RatesCurveCalibrator calibrator,
+      ScenarioCalibrationConfig scenarioConfig,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      ObservableSource obsSource) {
+
     // find and combine all the input data
     CurveGroupName groupName = configuredGroup.getName();
 
@@ -154,7 +211,8 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
     Map<ObservableId, LocalDateDoubleTimeSeries> fixings = extractFixings(marketData);
 
     return multipleValues || multipleValuationDates ?
-        buildMultipleCurveGroups(configuredGroup, calibrator, valuationDates, inputBoxes, fixings, refData) :
+        buildMultipleCurveGroups(
+            configuredGroup, calibrator, scenarioConfig, valuationDates, inputBoxes, fixings, refData) :
         buildSingleCurveGroup(configuredGroup, calibrator, valuationDates.getSingleValue(), inputBoxes, fixings, refData);
   }
 
@@ -168,26 +226,78 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
   }
 
   // calibrates when there are multiple groups
+  // the scenarios are split into contiguous blocks, which are calibrated in parallel if configured
   private MarketDataBox<RatesCurveGroup> buildMultipleCurveGroups(
       RatesCurveGroupDefinition configuredGroup,
       RatesCurveCalibrator calibrator,
+      ScenarioCalibrationConfig scenarioConfig,
       MarketDataBox<LocalDate> valuationDateBox,
       List<MarketDataBox<RatesCurveInputs>> inputBoxes,
       Map<ObservableId, LocalDateDoubleTimeSeries> fixings,
       ReferenceData refData) {
 
     int scenarioCount = scenarioCount(valuationDateBox, inputBoxes);
-    ImmutableList.Builder<RatesCurveGroup> builder = ImmutableList.builder();
+    RatesCurveGroup[] curveGroups = new RatesCurveGroup[scenarioCount];
+    int blockCount = Math.min(scenarioConfig.getParallelism(), scenarioCount);
+    boolean warmStart = scenarioConfig.isWarmStart();
+    // the blocks do not depend on whether they run in parallel, thus warm start results do not depend on the executor
+    List<Runnable> tasks = new ArrayList<>(blockCount);
+    for (int block = 0; block < blockCount; block++) {
+      int start = (int) ((long) scenarioCount * block / blockCount);
+      int end = (int) ((long) scenarioCount * (block + 1) / blockCount);
+      tasks.add(() -> buildCurveGroupBlock(
+          configuredGroup,
+          calibrator,
+          warmStart,
+          valuationDateBox,
+          inputBoxes,
+          fixings,
+          refData,
+          start,
+          end,
+          curveGroups));
+    }
+    if (executor == null || blockCount == 1) {
+      tasks.forEach(Runnable::run);
+    } else {
+      List<CompletableFuture<Void>> futures = tasks.stream()
+          .map(task -> CompletableFuture.runAsync(task, executor))
+          .collect(toImmutableList());
+      // wait for all blocks, so that no calibration is still running if one fails
+      try {
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+      } catch (CompletionException ex) {
+        Throwables.throwIfUnchecked(ex.getCause());
+        throw ex;
+      }
+    }
+    return MarketDataBox.ofScenarioValues(ImmutableList.copyOf(curveGroups));
+  }
 
-    for (int i = 0; i < scenarioCount; i++) {
+  // calibrates a contiguous block of scenarios, storing the groups in the array
+  // if warm start is enabled, each scenario uses the previous scenario in the block as the initial guess
+  private void buildCurveGroupBlock(
+      RatesCurveGroupDefinition configuredGroup,
+      RatesCurveCalibrator calibrator,
+      boolean warmStart,
+      MarketDataBox<LocalDate> valuationDateBox,
+      List<MarketDataBox<RatesCurveInputs>> inputBoxes,
+      Map<ObservableId, LocalDateDoubleTimeSeries> fixings,
+      ReferenceData refData,
+      int startIndex,
+      int endIndex,
+      RatesCurveGroup[] curveGroups) {
+
+    RatesCurveGroup previous = null;
+    for (int i = startIndex; i < endIndex; i++) {
       LocalDate valuationDate = valuationDateBox.getValue(i);
       RatesCurveGroupDefinition filteredGroup = configuredGroup.filtered(valuationDate, refData);
       List<RatesCurveInputs> curveInputsList = inputsForScenario(inputBoxes, i);
       MarketData inputs = inputsByKey(valuationDate, curveInputsList, fixings);
-      builder.add(buildGroup(filteredGroup, calibrator, inputs, refData));
+      RatesCurveGroup initialGuessGroup = warmStart ? previous : null;
+      curveGroups[i] = buildGroup(filteredGroup, calibrator, inputs, refData, initialGuessGroup);
+      previous = curveGroups[i];
     }
-    ImmutableList<RatesCurveGroup> curveGroups = builder.build();
-    return MarketDataBox.ofScenarioValues(curveGroups);
   }
 
   private static List<RatesCurveInputs> inputsForScenario(List<MarketDataBox<RatesCurveInputs>> boxes, int scenarioIndex) {
@@ -208,7 +318,7 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
     RatesCurveGroupDefinition filteredGroup = configuredGroup.filtered(valuationDate, refData);
     List<RatesCurveInputs> inputs = inputBoxes.stream().map(MarketDataBox::getSingleValue).collect(toImmutableList());
     MarketData inputValues = inputsByKey(valuationDate, inputs, fixings);
-    RatesCurveGroup curveGroup = buildGroup(filteredGroup, calibrator, inputValues, refData);
+    RatesCurveGroup curveGroup = buildGroup(filteredGroup, calibrator, inputValues, refData, null);
     return MarketDataBox.ofSingleValue(curveGroup);
   }
 
@@ -249,17 +359,18 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
     return ImmutableMarketData.builder(valuationDate).values(marketDataMap).timeSeries(fixings).build();
   }
 
+  // calibrates a group, using the initial guess group if not null
   private RatesCurveGroup buildGroup(
       RatesCurveGroupDefinition groupDefn,
       RatesCurveCalibrator calibrator,
       MarketData marketData,
-      ReferenceData refData) {
+      ReferenceData refData,
+      RatesCurveGroup initialGuessGroup) {
 
     // perform the calibration
-    ImmutableRatesProvider calibratedProvider = calibrator.calibrate(
-        groupDefn,
-        marketData,
-        refData);
+    ImmutableRatesProvider calibratedProvider = initialGuessGroup != null ?
+        calibrator.calibrate(groupDefn, marketData, refData, initialGuessGroup) :
+        calibrator.calibrate(groupDefn, marketData, refData);
 
     return RatesCurveGroup.of(
         groupDefn.getName(),
@@ -12,6 +12,7 @@ import static java.util.stream.Collectors.toList;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
@@ -38,6 +39,7 @@ import com.opengamma.strata.market.curve.CurveId;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.param.CrossGammaParameterSensitivities;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesScenarioArray;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.measure.rate.RatesMarketData;
@@ -107,6 +109,21 @@ final class SwapMeasureCalculations {
         i -> presentValue(trade, marketData.scenario(i).ratesProvider()));
   }
 
+  // calculates present value of a batch of trades for all scenarios, pricing the trades together
+  List<MultiCurrencyScenarioArray> presentValue(
+      List<ResolvedSwapTrade> trades,
+      RatesScenarioMarketData marketData) {
+
+    List<ResolvedSwap> products = trades.stream().map(ResolvedSwapTrade::getProduct).collect(toImmutableList());
+    int scenarioCount = marketData.getScenarioCount();
+    List<List<MultiCurrencyAmount>> values = IntStream.range(0, scenarioCount)
+        .mapToObj(i -> tradePricer.getProductPricer().presentValue(products, marketData.scenario(i).ratesProvider()))
+        .collect(toImmutableList());
+    return IntStream.range(0, trades.size())
+        .mapToObj(t -> MultiCurrencyScenarioArray.of(scenarioCount, i -> values.get(i).get(t)))
+        .collect(toImmutableList());
+  }
+
   // present value for one scenario
   MultiCurrencyAmount presentValue(
       ResolvedSwapTrade trade,
@@ -160,7 +177,7 @@ final class SwapMeasureCalculations {
       ResolvedSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.ofCompatible(
         marketData.getScenarioCount(),
         i -> pv01CalibratedBucketed(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -201,7 +218,7 @@ final class SwapMeasureCalculations {
       ResolvedSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.ofCompatible(
         marketData.getScenarioCount(),
         i -> pv01MarketQuoteBucketed(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -222,7 +239,7 @@ final class SwapMeasureCalculations {
       ResolvedSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.ofCompatible(
         marketData.getScenarioCount(),
         i -> pv01SemiParallelGammaBucketed(trade, marketData.scenario(i)));
   }
@@ -283,7 +300,7 @@ final class SwapMeasureCalculations {
       ResolvedSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.ofCompatible(
         marketData.getScenarioCount(),
         i -> pv01SingleNodeGammaBucketed(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -5,19 +5,25 @@
  */
 package com.opengamma.strata.measure.swap;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.calc.Measure;
-import com.opengamma.strata.calc.runner.CalculationFunction;
+import com.opengamma.strata.calc.runner.BatchCalculationFunction;
 import com.opengamma.strata.calc.runner.CalculationParameters;
 import com.opengamma.strata.calc.runner.FunctionRequirements;
+import com.opengamma.strata.calc.runner.ResolvedTargetCache;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
@@ -55,10 +61,13 @@ import com.opengamma.strata.product.swap.SwapTrade;
  *   <li>{@linkplain AdvancedMeasures#PV01_SINGLE_NODE_GAMMA_BUCKETED PV01 single node gamma bucketed}
  * </ul>
  * <p>
+ * When calculated as a batch, the market data view is shared by all the trades in the batch,
+ * and the present value of the batch is priced together using struct-of-arrays data.
+ * <p>
  * The "natural" currency is the currency of the swaption, which is limited to be single-currency.
  */
 public class SwapTradeCalculationFunction
-    implements CalculationFunction<SwapTrade> {
+    implements BatchCalculationFunction<SwapTrade> {
 
   /**
    * The calculations by measure.
@@ -140,7 +149,7 @@ public class SwapTradeCalculationFunction
       ReferenceData refData) {
 
     // resolve the trade once for all measures and all scenarios
-    ResolvedSwapTrade resolved = trade.resolve(refData);
+    ResolvedSwapTrade resolved = ResolvedTargetCache.resolve(trade, parameters, refData, SwapTrade::resolve);
 
     // use lookup to query market data
     RatesMarketDataLookup ratesLookup = parameters.getParameter(RatesMarketDataLookup.class);
@@ -154,6 +163,57 @@ public class SwapTradeCalculationFunction
     return results;
   }
 
+  @Override
+  public List<Map<Measure, Result<?>>> calculateBatch(
+      List<? extends SwapTrade> trades,
+      Set<Measure> measures,
+      CalculationParameters parameters,
+      ScenarioMarketData scenarioMarketData,
+      ReferenceData refData) {
+
+    // resolve the trades once for all measures and all scenarios
+    List<ResolvedSwapTrade> resolved = trades.stream()
+        .map(trade -> ResolvedTargetCache.resolve(trade, parameters, refData, SwapTrade::resolve))
+        .collect(toImmutableList());
+
+    // use lookup to query market data, sharing the market data view between the trades
+    RatesMarketDataLookup ratesLookup = parameters.getParameter(RatesMarketDataLookup.class);
+    RatesScenarioMarketData marketData = ratesLookup.marketDataView(scenarioMarketData);
+
+    // price the present value of the batch together
+    List<Result<?>> presentValues = measures.contains(Measures.PRESENT_VALUE) ?
+        presentValues(resolved, marketData) :
+        ImmutableList.of();
+
+    // loop around trades and measures, calculating all scenarios for one measure
+    List<Map<Measure, Result<?>>> results = new ArrayList<>(resolved.size());
+    for (int i = 0; i < resolved.size(); i++) {
+      Map<Measure, Result<?>> tradeResults = new HashMap<>();
+      for (Measure measure : measures) {
+        Result<?> result = measure.equals(Measures.PRESENT_VALUE) ?
+            presentValues.get(i) :
+            calculate(measure, resolved.get(i), marketData);
+        tradeResults.put(measure, result);
+      }
+      results.add(tradeResults);
+    }
+    return results;
+  }
+
+  // calculate the present value of a batch of trades
+  // if the batch cannot be priced, each trade is priced separately
+  private List<Result<?>> presentValues(List<ResolvedSwapTrade> trades, RatesScenarioMarketData marketData) {
+    try {
+      return SwapMeasureCalculations.DEFAULT.presentValue(trades, marketData).stream()
+          .<Result<?>>map(Result::success)
+          .collect(toImmutableList());
+    } catch (RuntimeException ex) {
+      return trades.stream()
+          .map(trade -> calculate(Measures.PRESENT_VALUE, trade, marketData))
+          .collect(toImmutableList());
+    }
+  }
+
   // calculate one measure
   private Result<?> calculate(
       Measure measure,
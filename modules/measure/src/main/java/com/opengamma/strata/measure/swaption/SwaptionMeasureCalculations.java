@@ -17,6 +17,7 @@ import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesScenarioArray;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.measure.rate.RatesScenarioMarketData;
 import com.opengamma.strata.pricer.rate.RatesProvider;
@@ -130,7 +131,7 @@ final class SwaptionMeasureCalculations {
       SwaptionScenarioMarketData swaptionMarketData) {
 
     IborIndex index = trade.getProduct().getIndex();
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.ofCompatible(
         ratesMarketData.getScenarioCount(),
         i -> pv01RatesCalibratedBucketed(
             trade,
@@ -183,7 +184,7 @@ final class SwaptionMeasureCalculations {
       SwaptionScenarioMarketData swaptionMarketData) {
 
     IborIndex index = trade.getProduct().getIndex();
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.ofCompatible(
         ratesMarketData.getScenarioCount(),
         i -> pv01RatesMarketQuoteBucketed(
             trade,
@@ -223,7 +224,7 @@ final class SwaptionMeasureCalculations {
       SwaptionScenarioMarketData swaptionMarketData) {
 
     IborIndex index = trade.getProduct().getIndex();
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.ofCompatible(
         ratesMarketData.getScenarioCount(),
         i -> bachelierVega(
             trade,
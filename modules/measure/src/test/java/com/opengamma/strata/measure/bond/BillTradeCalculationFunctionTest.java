@@ -33,7 +33,6 @@ import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
-import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveId;
@@ -47,6 +46,7 @@ import com.opengamma.strata.market.curve.LegalEntityGroup;
 import com.opengamma.strata.market.curve.RepoGroup;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesScenarioArray;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.measure.Measures;
 import com.opengamma.strata.measure.curve.TestMarketDataMap;
@@ -164,7 +164,7 @@ public class BillTradeCalculationFunctionTest {
         .containsEntry(
             Measures.PV01_CALIBRATED_SUM, Result.success(MultiCurrencyScenarioArray.of(ImmutableList.of(expectedPv01Cal))))
         .containsEntry(
-            Measures.PV01_CALIBRATED_BUCKETED, Result.success(ScenarioArray.of(ImmutableList.of(expectedPv01CalBucketed))));
+            Measures.PV01_CALIBRATED_BUCKETED, Result.success(CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(expectedPv01CalBucketed))));
   }
 
   @Test
@@ -185,7 +185,7 @@ public class BillTradeCalculationFunctionTest {
         .containsEntry(
             Measures.PV01_MARKET_QUOTE_SUM, Result.success(MultiCurrencyScenarioArray.of(ImmutableList.of(expectedPv01Cal))))
         .containsEntry(
-            Measures.PV01_MARKET_QUOTE_BUCKETED, Result.success(ScenarioArray.of(ImmutableList.of(expectedPv01CalBucketed))));
+            Measures.PV01_MARKET_QUOTE_BUCKETED, Result.success(CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(expectedPv01CalBucketed))));
   }
 
   @Test
@@ -14,9 +14,9 @@ import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
-import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesScenarioArray;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.pricer.bond.DiscountingBillTradePricer;
 import com.opengamma.strata.pricer.bond.LegalEntityDiscountingProvider;
@@ -64,7 +64,7 @@ public class BillTradeCalculationsTest {
     assertThat(BillTradeCalculations.DEFAULT.pv01CalibratedSum(RTRADE, LOOKUP, md))
         .isEqualTo(MultiCurrencyScenarioArray.of(ImmutableList.of(expectedPv01Cal)));
     assertThat(BillTradeCalculations.DEFAULT.pv01CalibratedBucketed(RTRADE, LOOKUP, md))
-        .isEqualTo(ScenarioArray.of(ImmutableList.of(expectedPv01CalBucketed)));
+        .isEqualTo(CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(expectedPv01CalBucketed)));
     assertThat(BillTradeCalculations.DEFAULT.pv01CalibratedSum(RTRADE, provider)).isEqualTo(expectedPv01Cal);
     assertThat(BillTradeCalculations.DEFAULT.pv01CalibratedBucketed(RTRADE, provider)).isEqualTo(expectedPv01CalBucketed);
   }
@@ -81,7 +81,7 @@ public class BillTradeCalculationsTest {
     assertThat(BillTradeCalculations.DEFAULT.pv01MarketQuoteSum(RTRADE, LOOKUP, md))
         .isEqualTo(MultiCurrencyScenarioArray.of(ImmutableList.of(expectedPv01Cal)));
     assertThat(BillTradeCalculations.DEFAULT.pv01MarketQuoteBucketed(RTRADE, LOOKUP, md))
-        .isEqualTo(ScenarioArray.of(ImmutableList.of(expectedPv01CalBucketed)));
+        .isEqualTo(CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(expectedPv01CalBucketed)));
     assertThat(BillTradeCalculations.DEFAULT.pv01MarketQuoteSum(RTRADE, provider)).isEqualTo(expectedPv01Cal);
     assertThat(BillTradeCalculations.DEFAULT.pv01MarketQuoteBucketed(RTRADE, provider)).isEqualTo(expectedPv01CalBucketed);
   }
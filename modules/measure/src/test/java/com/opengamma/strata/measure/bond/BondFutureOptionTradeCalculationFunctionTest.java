@@ -36,7 +36,6 @@ import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.data.FieldName;
 import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
-import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 import com.opengamma.strata.market.ValueType;
 import com.opengamma.strata.market.curve.ConstantCurve;
@@ -48,6 +47,7 @@ import com.opengamma.strata.market.curve.RepoGroup;
 import com.opengamma.strata.market.observable.QuoteId;
 import com.opengamma.strata.market.option.LogMoneynessStrike;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesScenarioArray;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.market.surface.DefaultSurfaceMetadata;
 import com.opengamma.strata.market.surface.InterpolatedNodalSurface;
@@ -190,7 +190,7 @@ public class BondFutureOptionTradeCalculationFunctionTest {
         .containsEntry(
             Measures.PV01_CALIBRATED_SUM, Result.success(MultiCurrencyScenarioArray.of(ImmutableList.of(expectedPv01Cal))))
         .containsEntry(
-            Measures.PV01_CALIBRATED_BUCKETED, Result.success(ScenarioArray.of(ImmutableList.of(expectedPv01CalBucketed))));
+            Measures.PV01_CALIBRATED_BUCKETED, Result.success(CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(expectedPv01CalBucketed))));
   }
 
   //-------------------------------------------------------------------------
@@ -48,6 +48,7 @@ import com.opengamma.strata.market.curve.RepoGroup;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
 import com.opengamma.strata.market.observable.QuoteId;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesScenarioArray;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.measure.Measures;
 import com.opengamma.strata.measure.curve.TestMarketDataMap;
@@ -141,7 +142,7 @@ public class BondFutureTradeCalculationFunctionTest {
         .containsEntry(
             Measures.PV01_CALIBRATED_SUM, Result.success(MultiCurrencyScenarioArray.of(ImmutableList.of(expectedPv01Cal))))
         .containsEntry(
-            Measures.PV01_CALIBRATED_BUCKETED, Result.success(ScenarioArray.of(ImmutableList.of(expectedPv01CalBucketed))));
+            Measures.PV01_CALIBRATED_BUCKETED, Result.success(CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(expectedPv01CalBucketed))));
   }
 
   @Test
@@ -20,6 +20,7 @@ import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesScenarioArray;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.pricer.bond.DiscountingBondFutureTradePricer;
 import com.opengamma.strata.pricer.bond.LegalEntityDiscountingProvider;
@@ -64,7 +65,7 @@ public class BondFutureTradeCalculationsTest {
     assertThat(BondFutureTradeCalculations.DEFAULT.pv01CalibratedSum(RTRADE, LOOKUP, md))
         .isEqualTo(MultiCurrencyScenarioArray.of(ImmutableList.of(expectedPv01Cal)));
     assertThat(BondFutureTradeCalculations.DEFAULT.pv01CalibratedBucketed(RTRADE, LOOKUP, md))
-        .isEqualTo(ScenarioArray.of(ImmutableList.of(expectedPv01CalBucketed)));
+        .isEqualTo(CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(expectedPv01CalBucketed)));
   }
 
   @Test
@@ -6,9 +6,12 @@
 package com.opengamma.strata.measure.fra;
 
 import static com.opengamma.strata.basics.date.DayCounts.ACT_360;
+import static com.opengamma.strata.basics.index.IborIndices.GBP_LIBOR_6M;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -38,6 +41,7 @@ import com.opengamma.strata.market.curve.Curves;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.observable.IndexQuoteId;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesScenarioArray;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.measure.Measures;
 import com.opengamma.strata.measure.curve.TestMarketDataMap;
@@ -46,6 +50,7 @@ import com.opengamma.strata.pricer.fra.DiscountingFraProductPricer;
 import com.opengamma.strata.pricer.fra.DiscountingFraTradePricer;
 import com.opengamma.strata.pricer.fra.FraDummyData;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.product.TradeInfo;
 import com.opengamma.strata.product.fra.FraTrade;
 import com.opengamma.strata.product.fra.ResolvedFra;
 import com.opengamma.strata.product.fra.ResolvedFraTrade;
@@ -143,7 +148,35 @@ public class FraTradeCalculationFunctionTest {
         .containsEntry(
             Measures.PV01_CALIBRATED_SUM, Result.success(MultiCurrencyScenarioArray.of(ImmutableList.of(expectedPv01Cal))))
         .containsEntry(
-            Measures.PV01_CALIBRATED_BUCKETED, Result.success(ScenarioArray.of(ImmutableList.of(expectedPv01CalBucketed))));
+            Measures.PV01_CALIBRATED_BUCKETED, Result.success(CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(expectedPv01CalBucketed))));
+  }
+
+  @Test
+  public void test_calculateBatch() {
+    FraTradeCalculationFunction function = new FraTradeCalculationFunction();
+    Curve curve = ConstantCurve.of(Curves.zeroRates("Test", ACT_360), 0.02);
+    ScenarioMarketData md = new TestMarketDataMap(
+        VAL_DATE,
+        ImmutableMap.of(DISCOUNT_CURVE_ID, curve, FORWARD_CURVE_ID, curve),
+        ImmutableMap.of());
+    TradeInfo info = TRADE.getInfo();
+    List<FraTrade> trades = ImmutableList.of(
+        TRADE,
+        FraTrade.of(info, FraDummyData.FRA_AFMA),
+        FraTrade.of(info, FraDummyData.FRA_NONE),
+        // fails as there is no GBP-LIBOR-6M curve, thus the batch is priced separately
+        FraTrade.of(info, FraDummyData.FRA.toBuilder().indexInterpolated(GBP_LIBOR_6M).build()));
+    Set<Measure> measures = ImmutableSet.of(Measures.PRESENT_VALUE, Measures.PAR_RATE, Measures.RESOLVED_TARGET);
+
+    List<Map<Measure, Result<?>>> results = function.calculateBatch(trades, measures, PARAMS, md, REF_DATA);
+    assertThat(results).hasSize(trades.size());
+    for (int i = 0; i < 3; i++) {
+      assertThat(results.get(i)).isEqualTo(function.calculate(trades.get(i), measures, PARAMS, md, REF_DATA));
+    }
+    Result<?> expectedFailure =
+        function.calculate(trades.get(3), measures, PARAMS, md, REF_DATA).get(Measures.PRESENT_VALUE);
+    assertThat(results.get(3).get(Measures.PRESENT_VALUE).getFailure().getMessage())
+        .isEqualTo(expectedFailure.getFailure().getMessage());
   }
 
   //-------------------------------------------------------------------------
@@ -15,9 +15,9 @@ import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
-import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesScenarioArray;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
 import com.opengamma.strata.pricer.fxopt.BlackFxOptionVolatilities;
@@ -69,7 +69,7 @@ public class FxSingleBarrierOptionTradeCalculationsTest {
             .isEqualTo(MultiCurrencyScenarioArray.of(ImmutableList.of(expectedPv01Cal)));
     assertThat(FxSingleBarrierOptionTradeCalculations.DEFAULT.pv01RatesCalibratedBucketed(
         RTRADE, RATES_LOOKUP, FX_OPTION_LOOKUP, md, BLACK))
-            .isEqualTo(ScenarioArray.of(ImmutableList.of(expectedPv01CalBucketed)));
+            .isEqualTo(CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(expectedPv01CalBucketed)));
   }
 
 }
@@ -25,10 +25,10 @@ import com.opengamma.strata.basics.index.OvernightIndex;
 import com.opengamma.strata.basics.value.Rounding;
 import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
-import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 import com.opengamma.strata.market.curve.CurveId;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesScenarioArray;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
 import com.opengamma.strata.pricer.index.DiscountingOvernightFutureTradePricer;
@@ -127,7 +127,7 @@ public class OvernightFutureTradeCalculationsTest {
         .isEqualTo(MultiCurrencyScenarioArray.of(ImmutableList.of(expectedPv01Cal)));
     assertThat(CALC.pv01CalibratedSum(RESOLVED_TRADE, RATES_PROVIDER)).isEqualTo(expectedPv01Cal);
     assertThat(CALC.pv01CalibratedBucketed(RESOLVED_TRADE, RATES_LOOKUP, MARKET_DATA))
-        .isEqualTo(ScenarioArray.of(ImmutableList.of(expectedPv01CalBucketed)));
+        .isEqualTo(CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(expectedPv01CalBucketed)));
     assertThat(CALC.pv01CalibratedBucketed(RESOLVED_TRADE, RATES_PROVIDER)).isEqualTo(expectedPv01CalBucketed);
   }
 
@@ -141,7 +141,7 @@ public class OvernightFutureTradeCalculationsTest {
         .isEqualTo(MultiCurrencyScenarioArray.of(ImmutableList.of(expectedPv01Sum)));
     assertThat(CALC.pv01MarketQuoteSum(RESOLVED_TRADE, RATES_PROVIDER)).isEqualTo(expectedPv01Sum);
     assertThat(CALC.pv01MarketQuoteBucketed(RESOLVED_TRADE, RATES_LOOKUP, MARKET_DATA))
-        .isEqualTo(ScenarioArray.of(ImmutableList.of(expectedPv01Bucketed)));
+        .isEqualTo(CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(expectedPv01Bucketed)));
     assertThat(CALC.pv01MarketQuoteBucketed(RESOLVED_TRADE, RATES_PROVIDER))
         .isEqualTo(expectedPv01Bucketed);
   }
@@ -15,8 +15,11 @@ import static org.assertj.core.api.Assertions.offset;
 
 import java.time.LocalDate;
 import java.time.Period;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.Test;
 
@@ -62,7 +65,9 @@ import com.opengamma.strata.market.curve.node.FxSwapCurveNode;
 import com.opengamma.strata.market.observable.IndexQuoteId;
 import com.opengamma.strata.market.observable.QuoteId;
 import com.opengamma.strata.market.param.ParameterMetadata;
+import com.opengamma.strata.measure.curve.ScenarioCalibrationConfig;
 import com.opengamma.strata.measure.curve.TestMarketDataMap;
+import com.opengamma.strata.pricer.curve.CalibrationMeasures;
 import com.opengamma.strata.pricer.curve.RatesCurveCalibrator;
 import com.opengamma.strata.pricer.fra.DiscountingFraTradePricer;
 import com.opengamma.strata.pricer.rate.RatesProvider;
@@ -288,6 +293,65 @@ public class RatesCurveGroupMarketDataFunctionTest {
     assertThat(forwardMetadata).isEqualTo(expectedForwardMetadata);
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void multipleScenariosParallel() {
+    InterpolatedNodalCurveDefinition curveDefn = CurveTestUtils.fraCurveDefinition();
+    List<MarketDataId<?>> keys = curveDefn.getNodes().stream()
+        .map(casting(FraCurveNode.class))
+        .map(CurveTestUtils::key)
+        .collect(toImmutableList());
+    double[] rates = {0.003, 0.0033, 0.0037, 0.0054, 0.007, 0.0091, 0.0134};
+    CurveGroupName groupName = CurveGroupName.of("Curve Group");
+    CurveName curveName = curveDefn.getName();
+    List<RatesCurveInputs> scenarioInputs = new ArrayList<>();
+    for (int scenario = 0; scenario < 5; scenario++) {
+      ImmutableMap.Builder<MarketDataId<?>, Double> inputData = ImmutableMap.builder();
+      for (int i = 0; i < keys.size(); i++) {
+        inputData.put(keys.get(i), rates[i] + scenario * 0.0001);
+      }
+      scenarioInputs.add(RatesCurveInputs.of(inputData.build(), DefaultCurveMetadata.of(curveName)));
+    }
+    RatesCurveGroupDefinition groupDefn = RatesCurveGroupDefinition.builder()
+        .name(groupName)
+        .addCurve(curveDefn, Currency.USD, IborIndices.USD_LIBOR_3M)
+        .build();
+    ScenarioMarketData marketData = ImmutableScenarioMarketData.builder(date(2011, 3, 8))
+        .addBox(
+            RatesCurveInputsId.of(groupName, curveName, ObservableSource.NONE),
+            MarketDataBox.ofScenarioValues(scenarioInputs))
+        .build();
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      RatesCurveGroupMarketDataFunction function =
+          new RatesCurveGroupMarketDataFunction(CalibrationMeasures.PAR_SPREAD, executor);
+      MarketDataBox<RatesCurveGroup> sequential = function.buildCurveGroup(
+          groupDefn, CALIBRATOR, marketData, REF_DATA, ObservableSource.NONE);
+      MarketDataBox<RatesCurveGroup> parallel = function.buildCurveGroup(
+          groupDefn, CALIBRATOR, ScenarioCalibrationConfig.of(2, false), marketData, REF_DATA, ObservableSource.NONE);
+      MarketDataBox<RatesCurveGroup> warmStart = function.buildCurveGroup(
+          groupDefn, CALIBRATOR, ScenarioCalibrationConfig.of(2, true), marketData, REF_DATA, ObservableSource.NONE);
+      assertThat(parallel).isEqualTo(sequential);
+      assertThat(warmStart.getScenarioCount()).isEqualTo(5);
+      for (int scenario = 0; scenario < 5; scenario++) {
+        Curve expected = sequential.getValue(scenario).findDiscountCurve(Currency.USD).get();
+        Curve actual = warmStart.getValue(scenario).findDiscountCurve(Currency.USD).get();
+        for (int i = 0; i < expected.getParameterCount(); i++) {
+          assertThat(actual.getParameter(i)).isCloseTo(expected.getParameter(i), offset(1e-8));
+        }
+      }
+      // without an executor the same blocks are calibrated on the calling thread
+      RatesCurveGroupMarketDataFunction sequentialFunction =
+          new RatesCurveGroupMarketDataFunction(CalibrationMeasures.PAR_SPREAD);
+      MarketDataBox<RatesCurveGroup> warmStartSequential = sequentialFunction.buildCurveGroup(
+          groupDefn, CALIBRATOR, ScenarioCalibrationConfig.of(2, true), marketData, REF_DATA, ObservableSource.NONE);
+      assertThat(warmStartSequential).isEqualTo(warmStart);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void duplicateInputDataKeys() {
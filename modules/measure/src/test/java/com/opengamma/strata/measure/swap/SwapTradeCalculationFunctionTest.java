@@ -10,6 +10,8 @@ import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -25,6 +27,7 @@ import com.opengamma.strata.basics.index.IborIndex;
 import com.opengamma.strata.calc.Measure;
 import com.opengamma.strata.calc.runner.CalculationParameters;
 import com.opengamma.strata.calc.runner.FunctionRequirements;
+import com.opengamma.strata.calc.runner.ResolvedTargetCache;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.scenario.DoubleScenarioArray;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
@@ -38,6 +41,7 @@ import com.opengamma.strata.market.curve.Curves;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.observable.IndexQuoteId;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesScenarioArray;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.measure.Measures;
 import com.opengamma.strata.measure.curve.TestMarketDataMap;
@@ -48,6 +52,7 @@ import com.opengamma.strata.product.common.BuySell;
 import com.opengamma.strata.product.swap.ResolvedSwapTrade;
 import com.opengamma.strata.product.swap.SwapTrade;
 import com.opengamma.strata.product.swap.type.FixedIborSwapConventions;
+import com.opengamma.strata.product.swap.type.FixedOvernightSwapConventions;
 
 /**
  * Test {@link SwapTradeCalculationFunction}.
@@ -142,7 +147,49 @@ public class SwapTradeCalculationFunctionTest {
         .containsEntry(
             Measures.PV01_CALIBRATED_SUM, Result.success(MultiCurrencyScenarioArray.of(ImmutableList.of(expectedPv01))))
         .containsEntry(
-            Measures.PV01_CALIBRATED_BUCKETED, Result.success(ScenarioArray.of(ImmutableList.of(expectedBucketedPv01))));
+            Measures.PV01_CALIBRATED_BUCKETED, Result.success(CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(expectedBucketedPv01))));
+  }
+
+  @Test
+  public void test_calculateBatch() {
+    SwapTradeCalculationFunction function = new SwapTradeCalculationFunction();
+    Curve curve = ConstantCurve.of(Curves.zeroRates("Test", ACT_360), 0.02);
+    ScenarioMarketData md = new TestMarketDataMap(
+        VAL_DATE,
+        ImmutableMap.of(DISCOUNT_CURVE_ID, curve, FORWARD_CURVE_ID, curve),
+        ImmutableMap.of());
+    List<SwapTrade> trades = ImmutableList.of(
+        TRADE,
+        FixedIborSwapConventions.GBP_FIXED_6M_LIBOR_6M
+            .createTrade(date(2016, 6, 30), Tenor.TENOR_5Y, BuySell.SELL, 2_000_000, 0.02, REF_DATA),
+        // fails as there is no overnight curve, thus the batch is priced separately
+        FixedOvernightSwapConventions.GBP_FIXED_1Y_SONIA_OIS
+            .createTrade(date(2016, 6, 30), Tenor.TENOR_2Y, BuySell.BUY, 1_000_000, 0.01, REF_DATA));
+    Set<Measure> measures = ImmutableSet.of(Measures.PRESENT_VALUE, Measures.PAR_RATE, Measures.RESOLVED_TARGET);
+
+    List<Map<Measure, Result<?>>> results = function.calculateBatch(trades, measures, PARAMS, md, REF_DATA);
+    assertThat(results).hasSize(trades.size());
+    for (int i = 0; i < 2; i++) {
+      assertThat(results.get(i)).isEqualTo(function.calculate(trades.get(i), measures, PARAMS, md, REF_DATA));
+    }
+    Result<?> expectedFailure =
+        function.calculate(trades.get(2), measures, PARAMS, md, REF_DATA).get(Measures.PRESENT_VALUE);
+    assertThat(results.get(2).get(Measures.PRESENT_VALUE).getFailure().getMessage())
+        .isEqualTo(expectedFailure.getFailure().getMessage());
+  }
+
+  @Test
+  public void test_resolvedTargetCache() {
+    SwapTradeCalculationFunction function = new SwapTradeCalculationFunction();
+    ScenarioMarketData md = marketData();
+    ResolvedTargetCache cache = ResolvedTargetCache.of(100);
+    CalculationParameters params = PARAMS.with(cache);
+    Set<Measure> measures = ImmutableSet.of(Measures.PRESENT_VALUE, Measures.RESOLVED_TARGET);
+    Map<Measure, Result<?>> expected = function.calculate(TRADE, measures, PARAMS, md, REF_DATA);
+    assertThat(function.calculate(TRADE, measures, params, md, REF_DATA)).isEqualTo(expected);
+    assertThat(function.calculate(TRADE, measures, params, md, REF_DATA)).isEqualTo(expected);
+    assertThat(cache.getMissCount()).isEqualTo(1);
+    assertThat(cache.getHitCount()).isEqualTo(1);
   }
 
   //-------------------------------------------------------------------------
@@ -21,6 +21,7 @@ import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterPerturbation;
 import com.opengamma.strata.market.param.ParameterizedData;
@@ -121,6 +122,42 @@ public interface DiscountFactors
    */
   public abstract double discountFactor(double yearFraction);
 
+  /**
+   * Gets the discount factors for the specified dates.
+   * <p>
+   * This is equivalent to calling {@link #discountFactor(LocalDate)} for each date,
+   * storing the result in the matching element of the result array.
+   * Implementations may be more efficient when the dates are sorted, such as a schedule of payment dates.
+   * 
+   * @param dates  the dates to find the discount factors for
+   * @param result  the array to store the discount factors in, the same size as the dates
+   * @throws RuntimeException if a discount factor cannot be calculated
+   */
+  public default void discountFactors(LocalDate[] dates, double[] result) {
+    double[] yearFractions = new double[dates.length];
+    for (int i = 0; i < dates.length; i++) {
+      yearFractions[i] = relativeYearFraction(dates[i]);
+    }
+    discountFactors(yearFractions, result);
+  }
+
+  /**
+   * Gets the discount factors for the specified year fractions.
+   * <p>
+   * This is equivalent to calling {@link #discountFactor(double)} for each year fraction,
+   * storing the result in the matching element of the result array, which must be a different array.
+   * Implementations may be more efficient when the year fractions are sorted from low to high.
+   * 
+   * @param yearFractions  the year fractions, based on {@code #relativeYearFraction(LocalDate)}
+   * @param result  the array to store the discount factors in, the same size as the year fractions
+   * @throws RuntimeException if a discount factor cannot be calculated
+   */
+  public default void discountFactors(double[] yearFractions, double[] result) {
+    for (int i = 0; i < yearFractions.length; i++) {
+      result[i] = discountFactor(yearFractions[i]);
+    }
+  }
+
   /**
    * Returns the discount factor derivative with respect to the year fraction or time.
    * <p>
@@ -447,6 +484,24 @@ public interface DiscountFactors
    */
   public abstract CurrencyParameterSensitivities parameterSensitivity(ZeroRateSensitivity pointSensitivity);
 
+  /**
+   * Calculates the parameter sensitivity from the point sensitivity, adding it to the accumulator.
+   * <p>
+   * This is equivalent to adding the result of {@link #parameterSensitivity(ZeroRateSensitivity)} to the accumulator.
+   * It is used when converting a large number of point sensitivities, as implementations can add
+   * the sensitivity in place without creating an intermediate {@link CurrencyParameterSensitivities}.
+   * 
+   * @param pointSensitivity  the point sensitivity to convert
+   * @param accumulator  the accumulator to add the parameter sensitivity to
+   * @throws RuntimeException if the result cannot be calculated
+   */
+  public default void addParameterSensitivity(
+      ZeroRateSensitivity pointSensitivity,
+      CurrencyParameterSensitivitiesAccumulator accumulator) {
+
+    accumulator.add(parameterSensitivity(pointSensitivity));
+  }
+
   /**
    * Creates the parameter sensitivity when the sensitivity values are known.
    * <p>
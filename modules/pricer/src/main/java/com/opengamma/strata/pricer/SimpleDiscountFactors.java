@@ -37,6 +37,7 @@ import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.Curves;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.ParameterPerturbation;
@@ -175,6 +176,12 @@ public final class SimpleDiscountFactors
     return curve.yValue(yearFraction);
   }
 
+  @Override
+  public void discountFactors(double[] yearFractions, double[] result) {
+    // read discount factors directly off curve
+    curve.yValues(yearFractions, result);
+  }
+
   @Override
   public double discountFactorTimeDerivative(double yearFraction) {
     return curve.firstDerivative(yearFraction);
@@ -209,6 +216,20 @@ public final class SimpleDiscountFactors
     return CurrencyParameterSensitivities.of(curSens);
   }
 
+  @Override
+  public void addParameterSensitivity(
+      ZeroRateSensitivity pointSens,
+      CurrencyParameterSensitivitiesAccumulator accumulator) {
+
+    double yearFraction = pointSens.getYearFraction();
+    if (Math.abs(yearFraction) < EFFECTIVE_ZERO) {
+      return; // Discount factor in 0 is always 1, no sensitivity.
+    }
+    double discountFactor = discountFactor(yearFraction);
+    double amount = -1d / (yearFraction * discountFactor) * pointSens.getSensitivity();
+    curve.addYValueParameterSensitivity(yearFraction, pointSens.getCurrency(), amount, accumulator);
+  }
+
   @Override
   public CurrencyParameterSensitivities createParameterSensitivity(Currency currency, DoubleArray sensitivities) {
     return CurrencyParameterSensitivities.of(curve.createParameterSensitivity(currency, sensitivities));
@@ -37,6 +37,7 @@ import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.Curves;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.ParameterPerturbation;
@@ -171,6 +172,15 @@ public final class ZeroRateDiscountFactors
     return Math.exp(-yearFraction * curve.yValue(yearFraction));
   }
 
+  @Override
+  public void discountFactors(double[] yearFractions, double[] result) {
+    // look up the zero rates together, then convert to discount factors
+    curve.yValues(yearFractions, result);
+    for (int i = 0; i < yearFractions.length; i++) {
+      result[i] = Math.exp(-yearFractions[i] * result[i]);
+    }
+  }
+
   @Override
   public double discountFactorTimeDerivative(double yearFraction) {
     double zr = curve.yValue(yearFraction);
@@ -197,6 +207,15 @@ public final class ZeroRateDiscountFactors
     return CurrencyParameterSensitivities.of(curSens);
   }
 
+  @Override
+  public void addParameterSensitivity(
+      ZeroRateSensitivity pointSens,
+      CurrencyParameterSensitivitiesAccumulator accumulator) {
+
+    curve.addYValueParameterSensitivity(
+        pointSens.getYearFraction(), pointSens.getCurrency(), pointSens.getSensitivity(), accumulator);
+  }
+
   @Override
   public CurrencyParameterSensitivities createParameterSensitivity(Currency currency, DoubleArray sensitivities) {
     return CurrencyParameterSensitivities.of(curve.createParameterSensitivity(currency, sensitivities));
@@ -36,6 +36,7 @@ import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.ParameterPerturbation;
@@ -239,6 +240,19 @@ public final class ZeroRatePeriodicDiscountFactors
     return CurrencyParameterSensitivities.of(curSens);
   }
 
+  @Override
+  public void addParameterSensitivity(
+      ZeroRateSensitivity pointSens,
+      CurrencyParameterSensitivitiesAccumulator accumulator) {
+
+    double yearFraction = pointSens.getYearFraction();
+    double rp = curve.yValue(yearFraction);
+    double rcBar = 1.0;
+    double rpBar = 1.0 / (1 + rp / frequency) * rcBar;
+    curve.addYValueParameterSensitivity(
+        yearFraction, pointSens.getCurrency(), rpBar * pointSens.getSensitivity(), accumulator);
+  }
+
   @Override
   public CurrencyParameterSensitivities createParameterSensitivity(Currency currency, DoubleArray sensitivities) {
     return CurrencyParameterSensitivities.of(curve.createParameterSensitivity(currency, sensitivities));
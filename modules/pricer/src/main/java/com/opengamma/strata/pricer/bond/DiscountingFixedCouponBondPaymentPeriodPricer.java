@@ -60,6 +60,24 @@ public class DiscountingFixedCouponBondPaymentPeriodPricer {
     return period.getFixedRate() * period.getNotional() * period.getYearFraction() * df;
   }
 
+  /**
+   * Calculates the present value of a single fixed coupon payment period using a known discount factor.
+   * <p>
+   * The amount is expressed in the currency of the period.
+   * This returns the value of the period with discounting, where the discount factor
+   * from the valuation date to the payment date has already been obtained.
+   * <p>
+   * The payment date of the period should not be in the past.
+   * The result of this method for payment dates in the past is undefined.
+   * 
+   * @param period  the period to price
+   * @param discountFactor  the discount factor from the valuation date to the payment date of the period
+   * @return the present value of the period
+   */
+  public double presentValue(FixedCouponBondPaymentPeriod period, double discountFactor) {
+    return period.getFixedRate() * period.getNotional() * period.getYearFraction() * discountFactor;
+  }
+
   /**
    * Calculates the present value of a single fixed coupon payment period with z-spread.
    * <p>
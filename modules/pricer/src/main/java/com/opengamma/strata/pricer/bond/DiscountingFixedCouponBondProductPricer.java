@@ -12,6 +12,7 @@ import static com.opengamma.strata.product.bond.FixedCouponBondYieldConvention.J
 import static com.opengamma.strata.product.bond.FixedCouponBondYieldConvention.US_STREET;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.function.Function;
 
 import com.google.common.collect.ImmutableList;
@@ -828,15 +829,36 @@ public class DiscountingFixedCouponBondProductPricer {
       IssuerCurveDiscountFactors discountFactors,
       LocalDate referenceDate) {
 
+    ImmutableList<FixedCouponBondPaymentPeriod> periods = bond.getPeriodicPayments();
+    double[] dfs = couponDiscountFactors(periods, discountFactors);
+    LocalDate valuationDate = discountFactors.getValuationDate();
     double total = 0d;
-    for (FixedCouponBondPaymentPeriod period : bond.getPeriodicPayments()) {
-      if (period.getDetachmentDate().isAfter(referenceDate)) {
-        total += periodPricer.presentValue(period, discountFactors);
+    for (int i = 0; i < periods.size(); i++) {
+      FixedCouponBondPaymentPeriod period = periods.get(i);
+      if (period.getDetachmentDate().isAfter(referenceDate) && !period.getPaymentDate().isBefore(valuationDate)) {
+        total += periodPricer.presentValue(period, dfs[i]);
       }
     }
     return CurrencyAmount.of(bond.getCurrency(), total);
   }
 
+  // obtains the discount factors to the payment date of each coupon in a single batch
+  // periods paid before the valuation date have no value, and use the valuation date instead
+  private static double[] couponDiscountFactors(
+      List<FixedCouponBondPaymentPeriod> periods,
+      IssuerCurveDiscountFactors discountFactors) {
+
+    LocalDate valuationDate = discountFactors.getValuationDate();
+    LocalDate[] paymentDates = new LocalDate[periods.size()];
+    for (int i = 0; i < paymentDates.length; i++) {
+      LocalDate paymentDate = periods.get(i).getPaymentDate();
+      paymentDates[i] = paymentDate.isBefore(valuationDate) ? valuationDate : paymentDate;
+    }
+    double[] dfs = new double[paymentDates.length];
+    discountFactors.discountFactors(paymentDates, dfs);
+    return dfs;
+  }
+
   private CurrencyAmount presentValueCouponFromZSpread(
       ResolvedFixedCouponBond bond,
       IssuerCurveDiscountFactors discountFactors,
@@ -923,10 +945,15 @@ public class DiscountingFixedCouponBondProductPricer {
       LocalDate referenceDate1,
       LocalDate referenceDate2) {
 
+    ImmutableList<FixedCouponBondPaymentPeriod> periods = bond.getPeriodicPayments();
+    double[] dfs = couponDiscountFactors(periods, discountFactors);
+    LocalDate valuationDate = discountFactors.getValuationDate();
     double pvDiff = 0d;
-    for (FixedCouponBondPaymentPeriod period : bond.getPeriodicPayments()) {
-      if (period.getDetachmentDate().isAfter(referenceDate1) && !period.getDetachmentDate().isAfter(referenceDate2)) {
-        pvDiff += periodPricer.presentValue(period, discountFactors);
+    for (int i = 0; i < periods.size(); i++) {
+      FixedCouponBondPaymentPeriod period = periods.get(i);
+      if (period.getDetachmentDate().isAfter(referenceDate1) && !period.getDetachmentDate().isAfter(referenceDate2) &&
+          !period.getPaymentDate().isBefore(valuationDate)) {
+        pvDiff += periodPricer.presentValue(period, dfs[i]);
       }
     }
     return pvDiff;
@@ -106,6 +106,19 @@ public final class IssuerCurveDiscountFactors
     return discountFactors.discountFactor(date);
   }
 
+  /**
+   * Gets the discount factors for the specified dates.
+   * <p>
+   * This is equivalent to calling {@link #discountFactor(LocalDate)} for each date,
+   * storing the result in the matching element of the result array.
+   * 
+   * @param dates  the dates to discount to
+   * @param result  the array to store the discount factors in, the same size as the dates
+   */
+  public void discountFactors(LocalDate[] dates, double[] result) {
+    discountFactors.discountFactors(dates, result);
+  }
+
   /**
    * Calculates the zero rate point sensitivity at the specified date.
    * <p>
@@ -5,13 +5,23 @@
  */
 package com.opengamma.strata.pricer.curve;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
+import com.google.common.base.Throwables;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.market.curve.CurveParameterSize;
 import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.product.ResolvedTrade;
 
 /**
@@ -20,6 +30,11 @@ import com.opengamma.strata.product.ResolvedTrade;
  * This provides the value sensitivity from the specified {@link CalibrationMeasures}
  * instance in matrix form suitable for use in curve calibration root finding.
  * The value will typically be par spread or converted present value.
+ * <p>
+ * If an executor is specified, the row of each trade is calculated in parallel.
+ * The calling thread calculates rows as well, and only waits for rows that have been started by another thread.
+ * As such, the executor may be bounded and shared with the caller, such as the executor used
+ * to calibrate scenarios in parallel, without the risk of deadlock.
  */
 class CalibrationDerivative
     implements Function<DoubleArray, DoubleMatrix> {
@@ -41,6 +56,10 @@ class CalibrationDerivative
    * The expected number of parameters for each curve is also provided.
    */
   private final List<CurveParameterSize> curveOrder;
+  /**
+   * The executor used to calculate the rows, null to use the calling thread.
+   */
+  private final Executor executor;
 
   /**
    * Creates an instance.
@@ -56,10 +75,30 @@ class CalibrationDerivative
       RatesProviderGenerator providerGenerator,
       List<CurveParameterSize> curveOrder) {
 
+    this(trades, measures, providerGenerator, curveOrder, null);
+  }
+
+  /**
+   * Creates an instance that calculates the rows using an executor.
+   * 
+   * @param trades  the trades
+   * @param measures  the calibration measures
+   * @param providerGenerator  the provider generator, used to create child providers
+   * @param curveOrder  the curve order
+   * @param executor  the executor used to calculate the rows, null to use the calling thread
+   */
+  public CalibrationDerivative(
+      List<ResolvedTrade> trades,
+      CalibrationMeasures measures,
+      RatesProviderGenerator providerGenerator,
+      List<CurveParameterSize> curveOrder,
+      Executor executor) {
+
     this.measures = measures;
     this.trades = trades;
     this.providerGenerator = providerGenerator;
     this.curveOrder = curveOrder;
+    this.executor = executor;
   }
 
   //-------------------------------------------------------------------------
@@ -68,8 +107,54 @@ class CalibrationDerivative
     // create child provider from matrix
     ImmutableRatesProvider provider = providerGenerator.generate(x);
     // calculate derivative for each trade using the child provider
+    return derivatives(trades, measures, provider, curveOrder, executor);
+  }
+
+  // calculates the derivative of each trade, using the executor if available
+  // each row is independent, thus rows are claimed one at a time by the calling thread and the executor threads
+  // the calling thread never waits for a row that has not been started, thus a saturated executor cannot deadlock
+  static DoubleMatrix derivatives(
+      List<? extends ResolvedTrade> trades,
+      CalibrationMeasures measures,
+      RatesProvider provider,
+      List<CurveParameterSize> curveOrder,
+      Executor executor) {
+
+    if (executor == null || trades.size() < 2) {
+      return measures.derivatives(trades, provider, curveOrder);
+    }
     int size = trades.size();
-    return DoubleMatrix.ofArrayObjects(size, size, i -> measures.derivative(trades.get(i), provider, curveOrder));
+    List<CompletableFuture<DoubleArray>> rows = IntStream.range(0, size)
+        .mapToObj(i -> new CompletableFuture<DoubleArray>())
+        .collect(toImmutableList());
+    AtomicInteger next = new AtomicInteger();
+    Runnable worker = () -> {
+      for (int i = next.getAndIncrement(); i < size; i = next.getAndIncrement()) {
+        try {
+          rows.get(i).complete(measures.derivative(trades.get(i), provider, curveOrder));
+        } catch (RuntimeException | Error ex) {
+          rows.get(i).completeExceptionally(ex);
+        }
+      }
+    };
+    try {
+      for (int i = 1; i < size; i++) {
+        executor.execute(worker);
+      }
+    } catch (RejectedExecutionException ex) {
+      // the calling thread calculates the rows not claimed by a worker
+    }
+    worker.run();
+    double[][] result = new double[size][];
+    try {
+      for (int i = 0; i < size; i++) {
+        result[i] = rows.get(i).join().toArrayUnsafe();
+      }
+    } catch (CompletionException ex) {
+      Throwables.throwIfUnchecked(ex.getCause());
+      throw ex;
+    }
+    return DoubleMatrix.ofUnsafe(result);
   }
 
 }
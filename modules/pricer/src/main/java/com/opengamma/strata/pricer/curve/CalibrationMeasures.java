@@ -15,6 +15,7 @@ import com.google.common.collect.ImmutableSet;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.market.curve.CurveParameterSize;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
@@ -168,17 +169,91 @@ public final class CalibrationMeasures {
    * @return the sensitivity derivative
    */
   public DoubleArray derivative(ResolvedTrade trade, RatesProvider provider, List<CurveParameterSize> curveOrder) {
-    UnitParameterSensitivities unitSens = extractSensitivities(trade, provider);
+    double[] result = new double[totalParameterCount(curveOrder)];
+    populateDerivative(trade, provider, curveOrder, result);
+    return DoubleArray.ofUnsafe(result);
+  }
+
+  /**
+   * Calculates the sensitivity of each trade with respect to the rates provider.
+   * <p>
+   * Each row of the result matrix is the derivative of the trade at the same index,
+   * as returned by {@link #derivative(ResolvedTrade, RatesProvider, List)}.
+   * 
+   * @param trades  the trades
+   * @param provider  the rates provider
+   * @param curveOrder  the order of the curves
+   * @return the sensitivity derivatives, one row per trade
+   */
+  public DoubleMatrix derivatives(
+      List<? extends ResolvedTrade> trades,
+      RatesProvider provider,
+      List<CurveParameterSize> curveOrder) {
 
-    // expand to a concatenated array
-    DoubleArray result = DoubleArray.EMPTY;
+    double[][] result = new double[trades.size()][totalParameterCount(curveOrder)];
+    for (int i = 0; i < trades.size(); i++) {
+      populateDerivative(trades.get(i), provider, curveOrder, result[i]);
+    }
+    return DoubleMatrix.ofUnsafe(result);
+  }
+
+  /**
+   * Calculates the sensitivity of each trade with respect to the parameter at the same index.
+   * <p>
+   * This returns the diagonal of the matrix returned by {@link #derivatives(List, RatesProvider, List)}.
+   * Only the sensitivity to the curve containing the matching parameter is extracted for each trade.
+   * This is used when each trade is the calibration instrument for the parameter at the same index.
+   * 
+   * @param trades  the trades
+   * @param provider  the rates provider
+   * @param curveOrder  the order of the curves
+   * @return the sensitivity of each trade to the matching parameter
+   */
+  public DoubleArray derivativesDiagonal(
+      List<? extends ResolvedTrade> trades,
+      RatesProvider provider,
+      List<CurveParameterSize> curveOrder) {
+
+    ArgChecker.isTrue(
+        trades.size() <= totalParameterCount(curveOrder),
+        "Number of trades must not exceed the number of parameters: {}",
+        trades.size());
+    double[] result = new double[trades.size()];
+    int tradeIndex = 0;
+    for (CurveParameterSize curveParams : curveOrder) {
+      for (int i = 0; i < curveParams.getParameterCount() && tradeIndex < trades.size(); i++) {
+        UnitParameterSensitivities unitSens = extractSensitivities(trades.get(tradeIndex), provider);
+        int paramIndex = i;
+        result[tradeIndex] = unitSens.findSensitivity(curveParams.getName())
+            .map(s -> s.getSensitivity().get(paramIndex))
+            .orElse(0d);
+        tradeIndex++;
+      }
+    }
+    return DoubleArray.ofUnsafe(result);
+  }
+
+  // the total number of parameters in the curves
+  private static int totalParameterCount(List<CurveParameterSize> curveOrder) {
+    return curveOrder.stream().mapToInt(CurveParameterSize::getParameterCount).sum();
+  }
+
+  // populate the array with the concatenated curve sensitivities
+  private void populateDerivative(
+      ResolvedTrade trade,
+      RatesProvider provider,
+      List<CurveParameterSize> curveOrder,
+      double[] result) {
+
+    UnitParameterSensitivities unitSens = extractSensitivities(trade, provider);
+    int startIndex = 0;
     for (CurveParameterSize curveParams : curveOrder) {
-      DoubleArray sens = unitSens.findSensitivity(curveParams.getName())
-          .map(s -> s.getSensitivity())
-          .orElseGet(() -> DoubleArray.filled(curveParams.getParameterCount()));
-      result = result.concat(sens);
+      int paramCount = curveParams.getParameterCount();
+      int offset = startIndex;
+      unitSens.findSensitivity(curveParams.getName())
+          .ifPresent(s -> System.arraycopy(s.getSensitivity().toArrayUnsafe(), 0, result, offset, paramCount));
+      startIndex += paramCount;
     }
-    return result;
   }
 
   // determine the curve parameter sensitivities, removing the curency
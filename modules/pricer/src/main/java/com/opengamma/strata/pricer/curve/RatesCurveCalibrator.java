@@ -9,8 +9,12 @@ import static com.opengamma.strata.collect.Guavate.filtering;
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static com.opengamma.strata.collect.Guavate.toImmutableMap;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import com.google.common.collect.ImmutableList;
@@ -25,10 +29,15 @@ import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.MarketDataFxRateProvider;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.curve.CurveDefinition;
+import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.CurveName;
 import com.opengamma.strata.market.curve.CurveNode;
 import com.opengamma.strata.market.curve.CurveParameterSize;
 import com.opengamma.strata.market.curve.JacobianCalibrationMatrix;
+import com.opengamma.strata.market.curve.RatesCurveGroup;
 import com.opengamma.strata.market.curve.RatesCurveGroupDefinition;
 import com.opengamma.strata.market.observable.IndexQuoteId;
 import com.opengamma.strata.math.impl.matrix.CommonsMatrixAlgebra;
@@ -79,6 +88,10 @@ public final class RatesCurveCalibrator {
    * This is used to compute the present value sensitivity to market quotes stored in the metadata.
    */
   private final CalibrationMeasures pvMeasures;
+  /**
+   * The executor used to calculate the rows of the derivative matrices, null to use the calling thread.
+   */
+  private final Executor executor;
 
   //-------------------------------------------------------------------------
   /**
@@ -154,11 +167,14 @@ public final class RatesCurveCalibrator {
       CalibrationMeasures pvMeasures) {
 
     NewtonVectorRootFinder rootFinder = NewtonVectorRootFinder.broyden(toleranceAbs, toleranceRel, stepMaximum);
-    return new RatesCurveCalibrator(rootFinder, measures, pvMeasures);
+    return new RatesCurveCalibrator(rootFinder, measures, pvMeasures, null);
   }
 
   /**
    * Obtains an instance specifying the measures to use.
+   * <p>
+   * For large groups of curves, {@link NewtonVectorRootFinder#sparseBroyden(double, double, int)}
+   * preserves the sparsity of the sensitivity of each node to the curves between Jacobian recalculations.
    *
    * @param rootFinder  the root finder to use
    * @param measures  the calibration measures, used to compute the function for which the root is found
@@ -171,7 +187,7 @@ public final class RatesCurveCalibrator {
       CalibrationMeasures measures,
       CalibrationMeasures pvMeasures) {
 
-    return new RatesCurveCalibrator(rootFinder, measures, pvMeasures);
+    return new RatesCurveCalibrator(rootFinder, measures, pvMeasures, null);
   }
 
   //-------------------------------------------------------------------------
@@ -179,11 +195,34 @@ public final class RatesCurveCalibrator {
   private RatesCurveCalibrator(
       NewtonVectorRootFinder rootFinder,
       CalibrationMeasures measures,
-      CalibrationMeasures pvMeasures) {
+      CalibrationMeasures pvMeasures,
+      Executor executor) {
 
     this.rootFinder = ArgChecker.notNull(rootFinder, "rootFinder");
     this.measures = ArgChecker.notNull(measures, "measures");
     this.pvMeasures = ArgChecker.notNull(pvMeasures, "pvMeasures");
+    this.executor = executor;
+  }
+
+  /**
+   * Returns a copy of this calibrator that calculates the derivative matrices in parallel.
+   * <p>
+   * The derivative of each node trade with respect to the curve parameters is a row of the Jacobian
+   * used by the root finder. The returned calibrator submits the calculation of these rows to the
+   * specified executor, waiting for all of them to complete. The results are identical to this calibrator.
+   * <p>
+   * The calling thread also calculates rows, and only waits for rows already being calculated by another thread.
+   * Thus the executor may be bounded, and may be the same executor that runs the calibration,
+   * such as when calibrating scenarios in parallel, without the risk of deadlock.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param executor  the executor used to calculate the rows of the derivative matrices
+   * @return the calibrator using the executor
+   */
+  public RatesCurveCalibrator withExecutor(Executor executor) {
+    ArgChecker.notNull(executor, "executor");
+    return new RatesCurveCalibrator(rootFinder, measures, pvMeasures, executor);
   }
 
   //-------------------------------------------------------------------------
@@ -216,14 +255,48 @@ public final class RatesCurveCalibrator {
       MarketData marketData,
       ReferenceData refData) {
 
+    ImmutableRatesProvider knownData = knownData(marketData);
+    return calibrate(ImmutableList.of(curveGroupDefn), knownData, marketData, refData);
+  }
+
+  /**
+   * Calibrates a single curve group, using previously calibrated curves as the initial guess.
+   * <p>
+   * This is equivalent to {@link #calibrate(RatesCurveGroupDefinition, MarketData, ReferenceData)}
+   * except for the starting point of the root finder. The initial guess for each curve is taken from
+   * the parameters of the curve with the same name in the specified group, provided it has the same
+   * number of parameters as the curve definition. Otherwise the initial guess of the definition is used.
+   * <p>
+   * When the market data is close to that used to calibrate the initial guess group,
+   * such as in adjacent scenarios, this typically reduces the number of root finder iterations.
+   * The result matches that of calibrating without an initial guess group to within the tolerance of the root finder.
+   *
+   * @param curveGroupDefn  the curve group definition
+   * @param marketData  the market data required to build a trade for the instrument, including time-series
+   * @param refData  the reference data, used to resolve the trades
+   * @param initialGuessGroup  the previously calibrated curves, used as the initial guess
+   * @return the rates provider resulting from the calibration
+   */
+  public ImmutableRatesProvider calibrate(
+      RatesCurveGroupDefinition curveGroupDefn,
+      MarketData marketData,
+      ReferenceData refData,
+      RatesCurveGroup initialGuessGroup) {
+
+    ArgChecker.notNull(initialGuessGroup, "initialGuessGroup");
+    ImmutableRatesProvider knownData = knownData(marketData);
+    return calibrate(ImmutableList.of(curveGroupDefn), knownData, marketData, refData, initialGuessGroup::findCurve);
+  }
+
+  // the known data, containing the FX rates and time-series from the market data
+  private static ImmutableRatesProvider knownData(MarketData marketData) {
     Map<Index, LocalDateDoubleTimeSeries> timeSeries = marketData.getTimeSeriesIds().stream()
         .flatMap(filtering(IndexQuoteId.class))
         .collect(toImmutableMap(id -> id.getIndex(), id -> marketData.getTimeSeries(id)));
-    ImmutableRatesProvider knownData = ImmutableRatesProvider.builder(marketData.getValuationDate())
+    return ImmutableRatesProvider.builder(marketData.getValuationDate())
         .fxRateProvider(MarketDataFxRateProvider.of(marketData))
         .timeSeries(timeSeries)
         .build();
-    return calibrate(ImmutableList.of(curveGroupDefn), knownData, marketData, refData);
   }
 
   /**
@@ -246,6 +319,105 @@ public final class RatesCurveCalibrator {
       MarketData marketData,
       ReferenceData refData) {
 
+    return calibrate(allGroupDefns, knownData, marketData, refData, name -> Optional.empty());
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Recalibrates a single curve group following a change in market data.
+   * <p>
+   * This is intended for frequent refresh of curves, such as intraday, where only a few quotes change
+   * between calibrations. The result is equivalent to
+   * {@link #calibrate(RatesCurveGroupDefinition, MarketData, ReferenceData)}
+   * to within the tolerance of the root finder.
+   * <p>
+   * See {@link #recalibrate(List, ImmutableRatesProvider, MarketData, ReferenceData, ImmutableRatesProvider, Set)}
+   * for details of how the previous calibration is reused.
+   *
+   * @param curveGroupDefn  the curve group definition
+   * @param marketData  the market data required to build a trade for the instrument, including time-series
+   * @param refData  the reference data, used to resolve the trades
+   * @param previous  the rates provider resulting from the previous calibration of the same definition
+   * @param changedIds  the identifiers of the market data that has changed since the previous calibration
+   * @return the rates provider resulting from the calibration
+   */
+  public ImmutableRatesProvider recalibrate(
+      RatesCurveGroupDefinition curveGroupDefn,
+      MarketData marketData,
+      ReferenceData refData,
+      ImmutableRatesProvider previous,
+      Set<? extends MarketDataId<?>> changedIds) {
+
+    ImmutableRatesProvider knownData = knownData(marketData);
+    return recalibrate(ImmutableList.of(curveGroupDefn), knownData, marketData, refData, previous, changedIds);
+  }
+
+  /**
+   * Recalibrates a list of curve groups following a change in market data.
+   * <p>
+   * This is intended for frequent refresh of curves, such as intraday, where only a few quotes change
+   * between calibrations. The result is equivalent to
+   * {@link #calibrate(List, ImmutableRatesProvider, MarketData, ReferenceData)}
+   * to within the tolerance of the root finder.
+   * <p>
+   * The previous calibration is reused as follows.
+   * A group is not recalibrated if none of its nodes require any of the changed market data,
+   * no earlier group has been recalibrated, and the previous provider contains all of its curves
+   * with the expected number of parameters. The curves of such a group are rebuilt from the previous
+   * parameters, and the Jacobian and market quote sensitivity held in the previous curve metadata are reused,
+   * both for the group itself and to build the Jacobian of later groups.
+   * Every other group is recalibrated, using the previous curves as the initial guess.
+   * <p>
+   * The changed identifiers must include every item of market data that differs from that used in the
+   * previous calibration, including FX rates. Time-series are assumed not to have changed.
+   * If the valuation date has changed, all groups are recalibrated.
+   *
+   * @param allGroupDefns  the curve group definitions
+   * @param knownData  the starting data for the calibration
+   * @param marketData  the market data required to build a trade for the instrument
+   * @param refData  the reference data, used to resolve the trades
+   * @param previous  the rates provider resulting from the previous calibration of the same definitions
+   * @param changedIds  the identifiers of the market data that has changed since the previous calibration
+   * @return the rates provider resulting from the calibration
+   */
+  public ImmutableRatesProvider recalibrate(
+      List<RatesCurveGroupDefinition> allGroupDefns,
+      ImmutableRatesProvider knownData,
+      MarketData marketData,
+      ReferenceData refData,
+      ImmutableRatesProvider previous,
+      Set<? extends MarketDataId<?>> changedIds) {
+
+    ArgChecker.notNull(previous, "previous");
+    ArgChecker.notNull(changedIds, "changedIds");
+    Map<CurveName, Curve> previousCurves = previous.getCurves();
+    Function<CurveName, Optional<Curve>> previousCurveFn = name -> Optional.ofNullable(previousCurves.get(name));
+    boolean sameDate = previous.getValuationDate().equals(marketData.getValuationDate());
+    return calibrate(
+        allGroupDefns, knownData, marketData, refData, previousCurveFn, sameDate ? changedIds : null);
+  }
+
+  // calibrates the groups, obtaining the initial guess from previously calibrated curves where available
+  private ImmutableRatesProvider calibrate(
+      List<RatesCurveGroupDefinition> allGroupDefns,
+      ImmutableRatesProvider knownData,
+      MarketData marketData,
+      ReferenceData refData,
+      Function<CurveName, Optional<Curve>> initialGuessCurves) {
+
+    return calibrate(allGroupDefns, knownData, marketData, refData, initialGuessCurves, null);
+  }
+
+  // calibrates the groups, obtaining the initial guess from previously calibrated curves where available
+  // if the changed identifiers are non-null, groups unaffected by the change reuse the previously calibrated curves
+  private ImmutableRatesProvider calibrate(
+      List<RatesCurveGroupDefinition> allGroupDefns,
+      ImmutableRatesProvider knownData,
+      MarketData marketData,
+      ReferenceData refData,
+      Function<CurveName, Optional<Curve>> initialGuessCurves,
+      Set<? extends MarketDataId<?>> changedIds) {
+
     // this method effectively takes one CurveGroupDefinition
     // the list is a split of the definition, not multiple independent definitions
 
@@ -257,15 +429,31 @@ public final class RatesCurveCalibrator {
     ImmutableRatesProvider providerCombined = knownData;
     ImmutableList<CurveParameterSize> orderPrev = ImmutableList.of();
     ImmutableMap<CurveName, JacobianCalibrationMatrix> jacobians = ImmutableMap.of();
+    boolean reusable = changedIds != null;
     for (RatesCurveGroupDefinition groupDefn : allGroupDefns) {
       if (groupDefn.getEntries().isEmpty()) {
         continue;
       }
       RatesCurveGroupDefinition groupDefnBound =
           groupDefn.bindTimeSeries(knownData.getValuationDate(), knownData.getTimeSeries());
+      // reuse the previous calibration if neither this group nor any earlier group is affected by the change
+      reusable = reusable && isUnchanged(groupDefnBound, changedIds, initialGuessCurves);
+      if (reusable) {
+        ImmutableList<CurveParameterSize> orderGroup = toOrder(groupDefnBound);
+        RatesProviderGenerator providerGenerator =
+            ImmutableRatesProviderGenerator.of(providerCombined, groupDefnBound, refData);
+        DoubleArray previousGroupParams =
+            DoubleArray.copyOf(initialGuesses(groupDefnBound, marketData, initialGuessCurves));
+        jacobians = previousJacobians(groupDefnBound, initialGuessCurves, jacobians);
+        ImmutableMap<CurveName, DoubleArray> sensitivityToMarketQuote =
+            previousSensitivityToMarketQuote(groupDefnBound, initialGuessCurves);
+        orderPrev = ImmutableList.<CurveParameterSize>builder().addAll(orderPrev).addAll(orderGroup).build();
+        providerCombined = providerGenerator.generate(previousGroupParams, jacobians, sensitivityToMarketQuote);
+        continue;
+      }
       // combine all data in the group into flat lists
       ImmutableList<ResolvedTrade> trades = groupDefnBound.resolvedTrades(marketData, refData);
-      ImmutableList<Double> initialGuesses = groupDefnBound.initialGuesses(marketData);
+      ImmutableList<Double> initialGuesses = initialGuesses(groupDefnBound, marketData, initialGuessCurves);
       ImmutableList<CurveParameterSize> orderGroup = toOrder(groupDefnBound);
       ImmutableList<CurveParameterSize> orderPrevAndGroup = ImmutableList.<CurveParameterSize>builder()
           .addAll(orderPrev)
@@ -297,6 +485,81 @@ public final class RatesCurveCalibrator {
   }
 
   //-------------------------------------------------------------------------
+  // the initial guesses, using the parameters of a previously calibrated curve if it has the same size
+  private static ImmutableList<Double> initialGuesses(
+      RatesCurveGroupDefinition groupDefn,
+      MarketData marketData,
+      Function<CurveName, Optional<Curve>> initialGuessCurves) {
+
+    ImmutableList.Builder<Double> result = ImmutableList.builder();
+    for (CurveDefinition curveDefn : groupDefn.getCurveDefinitions()) {
+      Optional<Curve> guessCurve = initialGuessCurves.apply(curveDefn.getName())
+          .filter(curve -> curve.getParameterCount() == curveDefn.getParameterCount());
+      if (guessCurve.isPresent()) {
+        Curve curve = guessCurve.get();
+        for (int i = 0; i < curve.getParameterCount(); i++) {
+          result.add(curve.getParameter(i));
+        }
+      } else {
+        result.addAll(curveDefn.initialGuess(marketData));
+      }
+    }
+    return result.build();
+  }
+
+  // checks if the group is unaffected by the changed market data and was previously calibrated
+  private static boolean isUnchanged(
+      RatesCurveGroupDefinition groupDefn,
+      Set<? extends MarketDataId<?>> changedIds,
+      Function<CurveName, Optional<Curve>> previousCurves) {
+
+    for (CurveDefinition curveDefn : groupDefn.getCurveDefinitions()) {
+      boolean previouslyCalibrated = previousCurves.apply(curveDefn.getName())
+          .filter(curve -> curve.getParameterCount() == curveDefn.getParameterCount())
+          .isPresent();
+      if (!previouslyCalibrated) {
+        return false;
+      }
+      for (CurveNode node : curveDefn.getNodes()) {
+        for (MarketDataId<?> id : node.requirements()) {
+          if (changedIds.contains(id)) {
+            return false;
+          }
+        }
+      }
+    }
+    return true;
+  }
+
+  // adds the Jacobians of the previously calibrated curves in the group, where present
+  private static ImmutableMap<CurveName, JacobianCalibrationMatrix> previousJacobians(
+      RatesCurveGroupDefinition groupDefn,
+      Function<CurveName, Optional<Curve>> previousCurves,
+      ImmutableMap<CurveName, JacobianCalibrationMatrix> jacobians) {
+
+    Map<CurveName, JacobianCalibrationMatrix> result = new HashMap<>(jacobians);
+    for (CurveDefinition curveDefn : groupDefn.getCurveDefinitions()) {
+      previousCurves.apply(curveDefn.getName())
+          .flatMap(curve -> curve.getMetadata().findInfo(CurveInfoType.JACOBIAN))
+          .ifPresent(jacobian -> result.put(curveDefn.getName(), jacobian));
+    }
+    return ImmutableMap.copyOf(result);
+  }
+
+  // the market quote sensitivities of the previously calibrated curves in the group, where present
+  private static ImmutableMap<CurveName, DoubleArray> previousSensitivityToMarketQuote(
+      RatesCurveGroupDefinition groupDefn,
+      Function<CurveName, Optional<Curve>> previousCurves) {
+
+    ImmutableMap.Builder<CurveName, DoubleArray> result = ImmutableMap.builder();
+    for (CurveDefinition curveDefn : groupDefn.getCurveDefinitions()) {
+      previousCurves.apply(curveDefn.getName())
+          .flatMap(curve -> curve.getMetadata().findInfo(CurveInfoType.PV_SENSITIVITY_TO_MARKET_QUOTE))
+          .ifPresent(sensitivity -> result.put(curveDefn.getName(), sensitivity));
+    }
+    return result.build();
+  }
+
   // converts a definition to the curve order list
   private static ImmutableList<CurveParameterSize> toOrder(RatesCurveGroupDefinition groupDefn) {
     return groupDefn.getCurveDefinitions().stream().map(def -> def.toCurveParameterSize()).collect(toImmutableList());
@@ -313,7 +576,7 @@ public final class RatesCurveCalibrator {
     // setup for calibration
     Function<DoubleArray, DoubleArray> valueCalculator = new CalibrationValue(trades, measures, providerGenerator);
     Function<DoubleArray, DoubleMatrix> derivativeCalculator =
-        new CalibrationDerivative(trades, measures, providerGenerator, curveOrder);
+        new CalibrationDerivative(trades, measures, providerGenerator, curveOrder, executor);
 
     // calibrate
     DoubleArray initialGuess = DoubleArray.copyOf(initialGuesses);
@@ -333,7 +596,7 @@ public final class RatesCurveCalibrator {
 
     // sensitivity to all parameters in the stated order
     int totalParamsAll = orderAll.stream().mapToInt(e -> e.getParameterCount()).sum();
-    DoubleMatrix res = derivatives(trades, provider, orderAll, totalParamsAll);
+    DoubleMatrix res = derivatives(trades, provider, orderAll);
 
     // jacobian direct
     int nbTrades = trades.size();
@@ -376,17 +639,14 @@ public final class RatesCurveCalibrator {
       ImmutableList<ResolvedTrade> trades,
       ImmutableList<CurveParameterSize> orderGroup) {
 
+    // only the sensitivity of each node trade to its own market quote is required
+    DoubleArray mqsNodes = pvMeasures.derivativesDiagonal(trades, provider, orderGroup);
     Builder<CurveName, DoubleArray> mqsGroup = new Builder<>();
     int nodeIndex = 0;
     for (CurveParameterSize cps : orderGroup) {
       int nbParameters = cps.getParameterCount();
-      double[] mqsCurve = new double[nbParameters];
-      for (int looptrade = 0; looptrade < nbParameters; looptrade++) {
-        DoubleArray mqsNode = pvMeasures.derivative(trades.get(nodeIndex), provider, orderGroup);
-        mqsCurve[looptrade] = mqsNode.get(nodeIndex);
-        nodeIndex++;
-      }
-      mqsGroup.put(cps.getName(), DoubleArray.ofUnsafe(mqsCurve));
+      mqsGroup.put(cps.getName(), mqsNodes.subArray(nodeIndex, nodeIndex + nbParameters));
+      nodeIndex += nbParameters;
     }
     return mqsGroup.build();
   }
@@ -395,13 +655,9 @@ public final class RatesCurveCalibrator {
   private DoubleMatrix derivatives(
       ImmutableList<ResolvedTrade> trades,
       ImmutableRatesProvider provider,
-      ImmutableList<CurveParameterSize> orderAll,
-      int totalParamsAll) {
+      ImmutableList<CurveParameterSize> orderAll) {
 
-    return DoubleMatrix.ofArrayObjects(
-        trades.size(),
-        totalParamsAll,
-        i -> measures.derivative(trades.get(i), provider, orderAll));
+    return CalibrationDerivative.derivatives(trades, measures, provider, orderAll, executor);
   }
 
   // jacobian direct, for the current group
@@ -8,7 +8,13 @@ package com.opengamma.strata.pricer.fra;
 import static java.time.temporal.ChronoUnit.DAYS;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.collect.ArgChecker;
@@ -72,6 +78,39 @@ public class DiscountingFraProductPricer {
     return CurrencyAmount.of(fra.getCurrency(), pv);
   }
 
+  /**
+   * Calculates the present value of a batch of FRA products.
+   * <p>
+   * The result is the same as calling {@link #presentValue(ResolvedFra, RatesProvider)} for each FRA.
+   * The payment dates of all the FRAs in each currency are gathered into a single array,
+   * and the discount factors of each currency are obtained from {@link RatesProvider#discountFactors(Currency)}
+   * in a single call.
+   *
+   * @param fras  the products
+   * @param provider  the rates provider
+   * @return the present value of each product, in the order of the FRAs
+   */
+  public List<CurrencyAmount> presentValue(List<ResolvedFra> fras, RatesProvider provider) {
+    Map<Currency, List<Integer>> indicesByCurrency = new LinkedHashMap<>();
+    for (int i = 0; i < fras.size(); i++) {
+      indicesByCurrency.computeIfAbsent(fras.get(i).getCurrency(), ccy -> new ArrayList<>()).add(i);
+    }
+    CurrencyAmount[] result = new CurrencyAmount[fras.size()];
+    for (Entry<Currency, List<Integer>> entry : indicesByCurrency.entrySet()) {
+      List<Integer> indices = entry.getValue();
+      LocalDate[] paymentDates = indices.stream().map(i -> fras.get(i).getPaymentDate()).toArray(LocalDate[]::new);
+      double[] discountFactors = new double[paymentDates.length];
+      provider.discountFactors(entry.getKey()).discountFactors(paymentDates, discountFactors);
+      for (int j = 0; j < paymentDates.length; j++) {
+        // forecastValue * discountFactor
+        ResolvedFra fra = fras.get(indices.get(j));
+        double pv = forecastValue0(fra, provider) * discountFactors[j];
+        result[indices.get(j)] = CurrencyAmount.of(fra.getCurrency(), pv);
+      }
+    }
+    return ImmutableList.copyOf(result);
+  }
+
   /**
    * Calculates the present value sensitivity of the FRA product.
    * <p>
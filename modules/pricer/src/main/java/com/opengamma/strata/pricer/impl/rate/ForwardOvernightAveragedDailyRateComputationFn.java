@@ -5,13 +5,19 @@
  */
 package com.opengamma.strata.pricer.impl.rate;
 
+import static java.time.temporal.ChronoUnit.DAYS;
+
 import java.time.LocalDate;
+import java.util.Optional;
+import java.util.OptionalDouble;
 
+import com.opengamma.strata.basics.date.HolidayCalendar;
 import com.opengamma.strata.basics.index.OvernightIndex;
 import com.opengamma.strata.basics.index.OvernightIndexObservation;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.pricer.rate.OvernightCompoundedIndexSeries;
 import com.opengamma.strata.pricer.rate.OvernightIndexRates;
 import com.opengamma.strata.pricer.rate.RateComputationFn;
 import com.opengamma.strata.pricer.rate.RatesProvider;
@@ -52,6 +58,14 @@ public class ForwardOvernightAveragedDailyRateComputationFn
     double interestSum = 0d;
     int numberOfDays = 0;
     LocalDate currentFixingDate = computation.getStartDate();
+    // use the compounded index series, if available, to skip the days with a fixing known to be in the past
+    LocalDate pastEndDate = pastEndDate(computation, rates);
+    OptionalDouble pastRateSum = pastRateSum(computation, rates, pastEndDate);
+    if (pastRateSum.isPresent()) {
+      interestSum = pastRateSum.getAsDouble();
+      numberOfDays = Math.toIntExact(DAYS.between(currentFixingDate, pastEndDate));
+      currentFixingDate = pastEndDate;
+    }
     while (!currentFixingDate.isAfter(lastFixingDate)) {
       LocalDate referenceFixingDate = computation.getFixingCalendar().previousOrSame(currentFixingDate);
       OvernightIndexObservation indexObs = computation.observeOn(referenceFixingDate);
@@ -77,6 +91,12 @@ public class ForwardOvernightAveragedDailyRateComputationFn
     PointSensitivityBuilder pointSensitivityBuilder = PointSensitivityBuilder.none();
     int numberOfDays = 0;
     LocalDate currentFixingDate = computation.getStartDate();
+    // the days with a fixing known to be in the past have no sensitivity
+    LocalDate pastEndDate = pastEndDate(computation, rates);
+    if (pastRateSum(computation, rates, pastEndDate).isPresent()) {
+      numberOfDays = Math.toIntExact(DAYS.between(currentFixingDate, pastEndDate));
+      currentFixingDate = pastEndDate;
+    }
     while (!currentFixingDate.isAfter(lastFixingDate)) {
       LocalDate referenceFixingDate = computation.getFixingCalendar().previousOrSame(currentFixingDate);
       OvernightIndexObservation indexObs = computation.observeOn(referenceFixingDate);
@@ -89,6 +109,31 @@ public class ForwardOvernightAveragedDailyRateComputationFn
     return pointSensitivityBuilder.multipliedBy(1d / numberOfDays);
   }
 
+  // the day after the last day with a fixing published before the valuation date, within the period
+  private static LocalDate pastEndDate(OvernightAveragedDailyRateComputation computation, OvernightIndexRates rates) {
+    HolidayCalendar fixingCalendar = computation.getFixingCalendar();
+    LocalDate valuationDate = fixingCalendar.nextOrSame(rates.getValuationDate());
+    LocalDate firstNonPastFixing =
+        fixingCalendar.shift(valuationDate, -computation.getIndex().getPublicationDateOffset());
+    LocalDate endDate = computation.getEndDate().plusDays(1);
+    return firstNonPastFixing.isBefore(endDate) ? firstNonPastFixing : endDate;
+  }
+
+  // the sum of the rates of the days before the past end date, empty if not available
+  private static OptionalDouble pastRateSum(
+      OvernightAveragedDailyRateComputation computation,
+      OvernightIndexRates rates,
+      LocalDate pastEndDate) {
+
+    if (!pastEndDate.isAfter(computation.getStartDate())) {
+      return OptionalDouble.empty();
+    }
+    Optional<OvernightCompoundedIndexSeries> series = rates.findCompoundedIndexSeries(computation.getFixingCalendar());
+    return series.isPresent() ?
+        series.get().rateSum(computation.getStartDate(), pastEndDate) :
+        OptionalDouble.empty();
+  }
+
   @Override
   public double explainRate(
       OvernightAveragedDailyRateComputation computation,
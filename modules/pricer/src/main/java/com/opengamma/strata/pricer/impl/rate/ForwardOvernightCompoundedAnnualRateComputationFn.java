@@ -6,9 +6,11 @@
 package com.opengamma.strata.pricer.impl.rate;
 
 import java.time.LocalDate;
+import java.util.Optional;
 import java.util.OptionalDouble;
 
 import com.opengamma.strata.basics.date.DayCount;
+import com.opengamma.strata.basics.date.HolidayCalendar;
 import com.opengamma.strata.basics.index.OvernightIndex;
 import com.opengamma.strata.basics.index.OvernightIndexObservation;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
@@ -16,6 +18,7 @@ import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.PricingException;
+import com.opengamma.strata.pricer.rate.OvernightCompoundedIndexSeries;
 import com.opengamma.strata.pricer.rate.OvernightIndexRates;
 import com.opengamma.strata.pricer.rate.RateComputationFn;
 import com.opengamma.strata.pricer.rate.RatesProvider;
@@ -113,6 +116,19 @@ public class ForwardOvernightCompoundedAnnualRateComputationFn
     private double pastCompositionFactor() {
       double compositionFactor = 1.0d;
       LocalDate currentFixing = firstFixing;
+      // use the compounded index series, if available, to skip the fixings known to be in the past
+      LocalDate pastFixingEnd = earliest(firstNonPastFixing(), computation.getFixingCalendar().next(lastFixing));
+      if (pastFixingEnd.isAfter(currentFixing)) {
+        Optional<OvernightCompoundedIndexSeries> series =
+            rates.findCompoundedIndexSeries(computation.getFixingCalendar());
+        OptionalDouble pastFactor = series.isPresent() ?
+            series.get().annualCompositionFactor(currentFixing, pastFixingEnd) :
+            OptionalDouble.empty();
+        if (pastFactor.isPresent()) {
+          compositionFactor = pastFactor.getAsDouble();
+          currentFixing = pastFixingEnd;
+        }
+      }
       LocalDate currentPublication = computation.calculatePublicationFromFixing(currentFixing);
       while (!(currentFixing.isAfter(lastFixing)) && rates.getValuationDate().isAfter(currentPublication)) {
         LocalDate effectiveDate = computation.calculateEffectiveFromFixing(currentFixing);
@@ -127,6 +143,13 @@ public class ForwardOvernightCompoundedAnnualRateComputationFn
       return compositionFactor;
     }
 
+    // The first fixing date with a publication date on or after the valuation date
+    private LocalDate firstNonPastFixing() {
+      HolidayCalendar fixingCalendar = computation.getFixingCalendar();
+      LocalDate valuationDate = fixingCalendar.nextOrSame(rates.getValuationDate());
+      return fixingCalendar.shift(valuationDate, -computation.getIndex().getPublicationDateOffset());
+    }
+
     // Composition - publication on valuation date: Check if a fixing is available on current date
     private double valuationCompositionFactor() {
       LocalDate currentFixing = nextFixing;
@@ -157,6 +180,11 @@ public class ForwardOvernightCompoundedAnnualRateComputationFn
       return 1.0d;
     }
 
+    // The earliest of two dates
+    private static LocalDate earliest(LocalDate date1, LocalDate date2) {
+      return date1.isBefore(date2) ? date1 : date2;
+    }
+
     // Check that the fixing is present. Throws an exception if not and return the rate as double.
     private static double checkedFixing(
         LocalDate currentFixingTs,
@@ -67,6 +67,11 @@ public class DiscountingRatePaymentPeriodPricer
     return forecastValue(period, provider) * df;
   }
 
+  @Override
+  public double presentValue(RatePaymentPeriod period, double discountFactor, RatesProvider provider) {
+    return forecastValue(period, provider) * discountFactor;
+  }
+
   @Override
   public double forecastValue(RatePaymentPeriod period, RatesProvider provider) {
     // notional * fxRate
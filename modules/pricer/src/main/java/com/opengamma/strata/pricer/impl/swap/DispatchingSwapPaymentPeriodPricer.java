@@ -65,6 +65,19 @@ public class DispatchingSwapPaymentPeriodPricer
     }
   }
 
+  @Override
+  public double presentValue(SwapPaymentPeriod paymentPeriod, double discountFactor, RatesProvider provider) {
+    // dispatch by runtime type
+    if (paymentPeriod instanceof RatePaymentPeriod) {
+      return ratePaymentPeriodPricer.presentValue((RatePaymentPeriod) paymentPeriod, discountFactor, provider);
+    } else if (paymentPeriod instanceof KnownAmountSwapPaymentPeriod) {
+      return knownAmountPaymentPeriodPricer.presentValue(
+          (KnownAmountSwapPaymentPeriod) paymentPeriod, discountFactor, provider);
+    } else {
+      throw new IllegalArgumentException("Unknown PaymentPeriod type: " + paymentPeriod.getClass().getSimpleName());
+    }
+  }
+
   @Override
   public PointSensitivityBuilder presentValueSensitivity(SwapPaymentPeriod paymentPeriod, RatesProvider provider) {
     // dispatch by runtime type
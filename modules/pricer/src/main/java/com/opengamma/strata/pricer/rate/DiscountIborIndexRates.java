@@ -35,6 +35,7 @@ import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.data.MarketDataName;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.ParameterPerturbation;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
@@ -206,6 +207,16 @@ public final class DiscountIborIndexRates
   //-------------------------------------------------------------------------
   @Override
   public CurrencyParameterSensitivities parameterSensitivity(IborRateSensitivity pointSensitivity) {
+    CurrencyParameterSensitivitiesAccumulator accumulator = CurrencyParameterSensitivitiesAccumulator.create();
+    addParameterSensitivity(pointSensitivity, accumulator);
+    return accumulator.build();
+  }
+
+  @Override
+  public void addParameterSensitivity(
+      IborRateSensitivity pointSensitivity,
+      CurrencyParameterSensitivitiesAccumulator accumulator) {
+
     LocalDate fixingStartDate = pointSensitivity.getObservation().getEffectiveDate();
     LocalDate fixingEndDate = pointSensitivity.getObservation().getMaturityDate();
     double accrualFactor = pointSensitivity.getObservation().getYearFraction();
@@ -216,9 +227,8 @@ public final class DiscountIborIndexRates
     double dfEndBar = -forwardBar * dfForwardStart / (accrualFactor * dfForwardEnd * dfForwardEnd);
     ZeroRateSensitivity zrsStart = discountFactors.zeroRatePointSensitivity(fixingStartDate, pointSensitivity.getCurrency());
     ZeroRateSensitivity zrsEnd = discountFactors.zeroRatePointSensitivity(fixingEndDate, pointSensitivity.getCurrency());
-    CurrencyParameterSensitivities psStart = discountFactors.parameterSensitivity(zrsStart).multipliedBy(dfStartBar);
-    CurrencyParameterSensitivities psEnd = discountFactors.parameterSensitivity(zrsEnd).multipliedBy(dfEndBar);
-    return psStart.combinedWith(psEnd);
+    discountFactors.addParameterSensitivity(zrsStart.multipliedBy(dfStartBar), accumulator);
+    discountFactors.addParameterSensitivity(zrsEnd.multipliedBy(dfEndBar), accumulator);
   }
 
   @Override
@@ -28,6 +28,7 @@ import org.joda.beans.impl.direct.DirectMetaPropertyMap;
 import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
 
 import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.date.HolidayCalendar;
 import com.opengamma.strata.basics.index.OvernightIndex;
 import com.opengamma.strata.basics.index.OvernightIndexObservation;
 import com.opengamma.strata.collect.ArgChecker;
@@ -36,6 +37,7 @@ import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.data.MarketDataName;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.ParameterPerturbation;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
@@ -115,6 +117,14 @@ public final class DiscountOvernightIndexRates
     return discountFactors.getValuationDate();
   }
 
+  @Override
+  public Optional<OvernightCompoundedIndexSeries> findCompoundedIndexSeries(HolidayCalendar fixingCalendar) {
+    if (fixings.isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.of(OvernightCompoundedIndexSeries.of(index, fixingCalendar, fixings));
+  }
+
   @Override
   public <T> Optional<T> findData(MarketDataName<T> name) {
     return discountFactors.findData(name);
@@ -230,6 +240,16 @@ public final class DiscountOvernightIndexRates
   //-------------------------------------------------------------------------
   @Override
   public CurrencyParameterSensitivities parameterSensitivity(OvernightRateSensitivity pointSensitivity) {
+    CurrencyParameterSensitivitiesAccumulator accumulator = CurrencyParameterSensitivitiesAccumulator.create();
+    addParameterSensitivity(pointSensitivity, accumulator);
+    return accumulator.build();
+  }
+
+  @Override
+  public void addParameterSensitivity(
+      OvernightRateSensitivity pointSensitivity,
+      CurrencyParameterSensitivitiesAccumulator accumulator) {
+
     OvernightIndex index = pointSensitivity.getIndex();
     LocalDate startDate = pointSensitivity.getObservation().getEffectiveDate();
     LocalDate endDate = pointSensitivity.getEndDate();
@@ -241,9 +261,8 @@ public final class DiscountOvernightIndexRates
     double dfEndBar = -forwardBar * dfForwardStart / (accrualFactor * dfForwardEnd * dfForwardEnd);
     ZeroRateSensitivity zrsStart = discountFactors.zeroRatePointSensitivity(startDate, pointSensitivity.getCurrency());
     ZeroRateSensitivity zrsEnd = discountFactors.zeroRatePointSensitivity(endDate, pointSensitivity.getCurrency());
-    CurrencyParameterSensitivities psStart = discountFactors.parameterSensitivity(zrsStart).multipliedBy(dfStartBar);
-    CurrencyParameterSensitivities psEnd = discountFactors.parameterSensitivity(zrsEnd).multipliedBy(dfEndBar);
-    return psStart.combinedWith(psEnd);
+    discountFactors.addParameterSensitivity(zrsStart.multipliedBy(dfStartBar), accumulator);
+    discountFactors.addParameterSensitivity(zrsEnd.multipliedBy(dfEndBar), accumulator);
   }
 
   @Override
@@ -26,6 +26,7 @@ import org.joda.beans.impl.direct.DirectMetaPropertyMap;
 import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
 
 import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.date.HolidayCalendar;
 import com.opengamma.strata.basics.index.OvernightIndex;
 import com.opengamma.strata.basics.index.OvernightIndexObservation;
 import com.opengamma.strata.collect.Messages;
@@ -82,6 +83,14 @@ public final class HistoricOvernightIndexRates
   }
 
   //-------------------------------------------------------------------------
+  @Override
+  public Optional<OvernightCompoundedIndexSeries> findCompoundedIndexSeries(HolidayCalendar fixingCalendar) {
+    if (fixings.isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.of(OvernightCompoundedIndexSeries.of(index, fixingCalendar, fixings));
+  }
+
   @Override
   public <T> Optional<T> findData(MarketDataName<T> name) {
     return Optional.empty();
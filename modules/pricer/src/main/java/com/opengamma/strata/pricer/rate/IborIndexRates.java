@@ -20,6 +20,7 @@ import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterPerturbation;
 import com.opengamma.strata.market.param.ParameterizedData;
@@ -218,6 +219,24 @@ public interface IborIndexRates
    */
   public abstract CurrencyParameterSensitivities parameterSensitivity(IborRateSensitivity pointSensitivity);
 
+  /**
+   * Calculates the parameter sensitivity from the point sensitivity, adding it to the accumulator.
+   * <p>
+   * This is equivalent to adding the result of {@link #parameterSensitivity(IborRateSensitivity)} to the accumulator.
+   * It is used when converting a large number of point sensitivities, as implementations can add
+   * the sensitivity in place without creating an intermediate {@link CurrencyParameterSensitivities}.
+   * 
+   * @param pointSensitivity  the point sensitivity to convert
+   * @param accumulator  the accumulator to add the parameter sensitivity to
+   * @throws RuntimeException if the result cannot be calculated
+   */
+  public default void addParameterSensitivity(
+      IborRateSensitivity pointSensitivity,
+      CurrencyParameterSensitivitiesAccumulator accumulator) {
+
+    accumulator.add(parameterSensitivity(pointSensitivity));
+  }
+
   /**
    * Creates the parameter sensitivity when the sensitivity values are known.
    * <p>
@@ -345,6 +345,54 @@ public final class ImmutableRatesProvider
     return merged.build();
   }
 
+  /**
+   * Returns a copy of this provider with the discount curve of the currency replaced.
+   * <p>
+   * The discount curve is added if there is no curve for the currency.
+   * Unlike using the builder, the other curves, the time-series and the FX rates
+   * are shared with this provider rather than copied.
+   * This is intended for cases where a single curve is bumped many times.
+   * 
+   * @param currency  the currency of the curve
+   * @param discountCurve  the discount curve
+   * @return the provider with the curve replaced
+   */
+  public ImmutableRatesProvider withDiscountCurve(Currency currency, Curve discountCurve) {
+    ArgChecker.notNull(currency, "currency");
+    ArgChecker.notNull(discountCurve, "discountCurve");
+    return new ImmutableRatesProvider(
+        valuationDate, fxRateProvider, withCurve(discountCurves, currency, discountCurve), indexCurves, timeSeries);
+  }
+
+  /**
+   * Returns a copy of this provider with the forward curve of the index replaced.
+   * <p>
+   * The forward curve is added if there is no curve for the index.
+   * Unlike using the builder, the other curves, the time-series and the FX rates
+   * are shared with this provider rather than copied.
+   * This is intended for cases where a single curve is bumped many times.
+   * 
+   * @param index  the index of the curve
+   * @param forwardCurve  the forward curve
+   * @return the provider with the curve replaced
+   */
+  public ImmutableRatesProvider withIndexCurve(Index index, Curve forwardCurve) {
+    ArgChecker.notNull(index, "index");
+    ArgChecker.notNull(forwardCurve, "forwardCurve");
+    return new ImmutableRatesProvider(
+        valuationDate, fxRateProvider, discountCurves, withCurve(indexCurves, index, forwardCurve), timeSeries);
+  }
+
+  // copies the map with the curve of the key replaced, retaining the order
+  private static <K> ImmutableMap<K, Curve> withCurve(ImmutableMap<K, Curve> curves, K key, Curve curve) {
+    ImmutableMap.Builder<K, Curve> builder = ImmutableMap.builder();
+    curves.forEach((curveKey, existing) -> builder.put(curveKey, curveKey.equals(key) ? curve : existing));
+    if (!curves.containsKey(key)) {
+      builder.put(key, curve);
+    }
+    return builder.build();
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public ImmutableRatesProvider toImmutableRatesProvider() {
@@ -0,0 +1,287 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.rate;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.opengamma.strata.basics.date.DayCount;
+import com.opengamma.strata.basics.date.HolidayCalendar;
+import com.opengamma.strata.basics.index.OvernightIndex;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.tuple.Pair;
+
+/**
+ * Cumulative compounding indices derived from the time-series of fixings of an Overnight index.
+ * <p>
+ * The fixings of an Overnight index are used to compound or average the index over a period.
+ * Walking the fixings day by day is expensive when the same time-series is used for many periods.
+ * This class walks the fixings once, storing for each fixing date the product of the daily compounding
+ * factors, and the sum of the daily rates, from the first fixing date up to that date.
+ * The factor or sum over any period within the time-series is then obtained by two lookups and a division
+ * or subtraction.
+ * <p>
+ * The fixing dates are the business days of the fixing calendar between the first and last date of the
+ * time-series. Fixings on other dates are ignored. If a fixing is missing on a business day, then any
+ * period including that day is not covered, and the query methods return empty.
+ * <p>
+ * Instances are cached, such that each combination of index, fixing calendar and time-series is only
+ * processed once. The cache is keyed on the identity of the time-series, and holds it weakly.
+ */
+public final class OvernightCompoundedIndexSeries {
+
+  /**
+   * The cache of instances, keyed by time-series then by index and fixing calendar.
+   */
+  private static final Cache<
+      LocalDateDoubleTimeSeries,
+      Map<Pair<OvernightIndex, HolidayCalendar>, OvernightCompoundedIndexSeries>> CACHE =
+          CacheBuilder.newBuilder().weakKeys().build();
+
+  /**
+   * The index.
+   */
+  private final OvernightIndex index;
+  /**
+   * The epoch days of the fixing dates, with an additional date, the business day after the last fixing date.
+   */
+  private final int[] epochDays;
+  /**
+   * The fixing rates, NaN if the fixing is missing.
+   */
+  private final double[] rates;
+  /**
+   * The product of the simple compounding factors of the fixings before each date.
+   */
+  private final double[] compounded;
+  /**
+   * The product of the annual compounding factors of the fixings before each date.
+   */
+  private final double[] annualCompounded;
+  /**
+   * The sum of the fixings before each date, weighted by the number of calendar days each applies to.
+   */
+  private final double[] weightedSum;
+  /**
+   * The number of missing fixings before each date.
+   */
+  private final int[] missingCount;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from a time-series of fixings.
+   * <p>
+   * The result is cached, thus calling this method repeatedly with the same time-series instance is cheap.
+   *
+   * @param index  the index
+   * @param fixingCalendar  the calendar defining the fixing dates of the index
+   * @param fixings  the time-series of fixings
+   * @return the compounded index series
+   */
+  public static OvernightCompoundedIndexSeries of(
+      OvernightIndex index,
+      HolidayCalendar fixingCalendar,
+      LocalDateDoubleTimeSeries fixings) {
+
+    ArgChecker.notNull(index, "index");
+    ArgChecker.notNull(fixingCalendar, "fixingCalendar");
+    ArgChecker.notNull(fixings, "fixings");
+    return CACHE.asMap()
+        .computeIfAbsent(fixings, key -> new ConcurrentHashMap<>())
+        .computeIfAbsent(Pair.of(index, fixingCalendar), key -> build(index, fixingCalendar, fixings));
+  }
+
+  // walks the fixings, the result must not refer to the time-series as it is the weak key of the cache
+  private static OvernightCompoundedIndexSeries build(
+      OvernightIndex index,
+      HolidayCalendar fixingCalendar,
+      LocalDateDoubleTimeSeries fixings) {
+
+    if (fixings.isEmpty()) {
+      return new OvernightCompoundedIndexSeries(
+          index, new int[0], new double[0], new double[0], new double[0], new double[0], new int[0]);
+    }
+    LocalDate first = fixingCalendar.nextOrSame(fixings.getEarliestDate());
+    LocalDate last = fixings.getLatestDate();
+    int capacity = Math.max((int) (last.toEpochDay() - first.toEpochDay()) + 2, 1);
+    int[] epochDays = new int[capacity];
+    double[] rates = new double[capacity];
+    double[] compounded = new double[capacity];
+    double[] annualCompounded = new double[capacity];
+    double[] weightedSum = new double[capacity];
+    int[] missingCount = new int[capacity];
+    compounded[0] = 1d;
+    annualCompounded[0] = 1d;
+    DayCount dayCount = index.getDayCount();
+    int effectiveOffset = index.getEffectiveDateOffset();
+    int size = 0;
+    LocalDate fixingDate = first;
+    while (!fixingDate.isAfter(last)) {
+      LocalDate nextFixingDate = fixingCalendar.next(fixingDate);
+      LocalDate effectiveDate = fixingCalendar.shift(fixingDate, effectiveOffset);
+      LocalDate maturityDate = fixingCalendar.next(effectiveDate);
+      double accrualFactor = dayCount.yearFraction(effectiveDate, maturityDate);
+      OptionalDouble fixing = fixings.get(fixingDate);
+      epochDays[size] = (int) fixingDate.toEpochDay();
+      if (fixing.isPresent()) {
+        double rate = fixing.getAsDouble();
+        rates[size] = rate;
+        compounded[size + 1] = compounded[size] * (1d + accrualFactor * rate);
+        annualCompounded[size + 1] = annualCompounded[size] * Math.pow(1d + rate, accrualFactor);
+        weightedSum[size + 1] = weightedSum[size] + rate * (nextFixingDate.toEpochDay() - fixingDate.toEpochDay());
+        missingCount[size + 1] = missingCount[size];
+      } else {
+        rates[size] = Double.NaN;
+        compounded[size + 1] = compounded[size];
+        annualCompounded[size + 1] = annualCompounded[size];
+        weightedSum[size + 1] = weightedSum[size];
+        missingCount[size + 1] = missingCount[size] + 1;
+      }
+      size++;
+      fixingDate = nextFixingDate;
+    }
+    epochDays[size] = (int) fixingDate.toEpochDay();
+    return new OvernightCompoundedIndexSeries(
+        index,
+        Arrays.copyOf(epochDays, size + 1),
+        Arrays.copyOf(rates, size),
+        Arrays.copyOf(compounded, size + 1),
+        Arrays.copyOf(annualCompounded, size + 1),
+        Arrays.copyOf(weightedSum, size + 1),
+        Arrays.copyOf(missingCount, size + 1));
+  }
+
+  // restricted constructor
+  private OvernightCompoundedIndexSeries(
+      OvernightIndex index,
+      int[] epochDays,
+      double[] rates,
+      double[] compounded,
+      double[] annualCompounded,
+      double[] weightedSum,
+      int[] missingCount) {
+
+    this.index = index;
+    this.epochDays = epochDays;
+    this.rates = rates;
+    this.compounded = compounded;
+    this.annualCompounded = annualCompounded;
+    this.weightedSum = weightedSum;
+    this.missingCount = missingCount;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the index.
+   *
+   * @return the index
+   */
+  public OvernightIndex getIndex() {
+    return index;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the simple compounding factor over a range of fixing dates.
+   * <p>
+   * This is the product of {@code 1 + accrualFactor * rate} over the fixing dates from the start date
+   * inclusive to the end date exclusive. The accrual factor of each fixing is the year fraction of the
+   * underlying overnight deposit in the day count of the index.
+   * <p>
+   * The result is empty if either date is not a fixing date of the series, or if a fixing is missing.
+   *
+   * @param startFixingDate  the first fixing date, inclusive
+   * @param endFixingDate  the last fixing date, exclusive
+   * @return the compounding factor, empty if the range is not covered by the series
+   */
+  public OptionalDouble compositionFactor(LocalDate startFixingDate, LocalDate endFixingDate) {
+    return ratio(compounded, startFixingDate, endFixingDate);
+  }
+
+  /**
+   * Calculates the annual compounding factor over a range of fixing dates.
+   * <p>
+   * This is the product of {@code (1 + rate) ^ accrualFactor} over the fixing dates from the start date
+   * inclusive to the end date exclusive. The accrual factor of each fixing is the year fraction of the
+   * underlying overnight deposit in the day count of the index.
+   * <p>
+   * The result is empty if either date is not a fixing date of the series, or if a fixing is missing.
+   *
+   * @param startFixingDate  the first fixing date, inclusive
+   * @param endFixingDate  the last fixing date, exclusive
+   * @return the compounding factor, empty if the range is not covered by the series
+   */
+  public OptionalDouble annualCompositionFactor(LocalDate startFixingDate, LocalDate endFixingDate) {
+    return ratio(annualCompounded, startFixingDate, endFixingDate);
+  }
+
+  // the ratio of the cumulative values at the two fixing dates
+  private OptionalDouble ratio(double[] cumulative, LocalDate startFixingDate, LocalDate endFixingDate) {
+    if (!endFixingDate.isAfter(startFixingDate)) {
+      return OptionalDouble.of(1d);
+    }
+    int start = Arrays.binarySearch(epochDays, (int) startFixingDate.toEpochDay());
+    int end = Arrays.binarySearch(epochDays, (int) endFixingDate.toEpochDay());
+    if (start < 0 || end < 0 || missingCount[end] != missingCount[start]) {
+      return OptionalDouble.empty();
+    }
+    return OptionalDouble.of(cumulative[end] / cumulative[start]);
+  }
+
+  /**
+   * Calculates the sum of the daily rates over a range of calendar days.
+   * <p>
+   * Each calendar day from the start date inclusive to the end date exclusive contributes the fixing
+   * of the fixing date that is the same or previous business day.
+   * <p>
+   * The result is empty if a fixing that is required is not available in the series.
+   *
+   * @param startDate  the first calendar day, inclusive
+   * @param endDate  the last calendar day, exclusive
+   * @return the sum of the daily rates, empty if the range is not covered by the series
+   */
+  public OptionalDouble rateSum(LocalDate startDate, LocalDate endDate) {
+    if (!endDate.isAfter(startDate)) {
+      return OptionalDouble.of(0d);
+    }
+    int startDay = (int) startDate.toEpochDay();
+    int endDay = (int) endDate.toEpochDay();
+    int first = floorIndex(startDay);
+    int last = floorIndex(endDay - 1);
+    if (first < 0 || last >= rates.length || missingCount[last + 1] != missingCount[first]) {
+      return OptionalDouble.empty();
+    }
+    return OptionalDouble.of(cumulativeSum(endDay) - cumulativeSum(startDay));
+  }
+
+  // the sum of the daily rates of the calendar days before the specified day
+  private double cumulativeSum(int epochDay) {
+    int index = floorIndex(epochDay);
+    if (epochDay == epochDays[index]) {
+      return weightedSum[index];
+    }
+    return weightedSum[index] + rates[index] * (epochDay - epochDays[index]);
+  }
+
+  // the index of the last fixing date on or before the specified day, -1 if none
+  private int floorIndex(int epochDay) {
+    int index = Arrays.binarySearch(epochDays, epochDay);
+    return index >= 0 ? index : -index - 2;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "OvernightCompoundedIndexSeries[" + index + ", " + rates.length + " fixing dates]";
+  }
+
+}
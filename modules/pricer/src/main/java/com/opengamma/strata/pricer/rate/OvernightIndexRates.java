@@ -6,8 +6,10 @@
 package com.opengamma.strata.pricer.rate;
 
 import java.time.LocalDate;
+import java.util.Optional;
 
 import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.date.HolidayCalendar;
 import com.opengamma.strata.basics.index.OvernightIndex;
 import com.opengamma.strata.basics.index.OvernightIndexObservation;
 import com.opengamma.strata.collect.array.DoubleArray;
@@ -17,6 +19,7 @@ import com.opengamma.strata.market.ValueType;
 import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterPerturbation;
 import com.opengamma.strata.market.param.ParameterizedData;
@@ -96,6 +99,23 @@ public interface OvernightIndexRates
    */
   public abstract LocalDateDoubleTimeSeries getFixings();
 
+  /**
+   * Finds the cumulative compounding indices of the time-series of fixings.
+   * <p>
+   * This allows the historic part of a compounded or averaged period to be calculated
+   * without walking the fixings day by day. If present, the fixings of the series must match the result
+   * of {@link #rate(OvernightIndexObservation)}, and have no point sensitivity, for all fixing dates
+   * with a publication date before the valuation date.
+   * <p>
+   * The default implementation returns empty, in which case the fixings must be walked.
+   *
+   * @param fixingCalendar  the calendar defining the fixing dates of the index
+   * @return the compounded index series, empty if not available
+   */
+  public default Optional<OvernightCompoundedIndexSeries> findCompoundedIndexSeries(HolidayCalendar fixingCalendar) {
+    return Optional.empty();
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public abstract OvernightIndexRates withParameter(int parameterIndex, double newValue);
@@ -211,6 +231,24 @@ public interface OvernightIndexRates
    */
   public abstract CurrencyParameterSensitivities parameterSensitivity(OvernightRateSensitivity pointSensitivity);
 
+  /**
+   * Calculates the parameter sensitivity from the point sensitivity, adding it to the accumulator.
+   * <p>
+   * This is equivalent to adding the result of {@link #parameterSensitivity(OvernightRateSensitivity)} to the accumulator.
+   * It is used when converting a large number of point sensitivities, as implementations can add
+   * the sensitivity in place without creating an intermediate {@link CurrencyParameterSensitivities}.
+   * 
+   * @param pointSensitivity  the point sensitivity to convert
+   * @param accumulator  the accumulator to add the parameter sensitivity to
+   * @throws RuntimeException if the result cannot be calculated
+   */
+  public default void addParameterSensitivity(
+      OvernightRateSensitivity pointSensitivity,
+      CurrencyParameterSensitivitiesAccumulator accumulator) {
+
+    accumulator.add(parameterSensitivity(pointSensitivity));
+  }
+
   /**
    * Creates the parameter sensitivity when the sensitivity values are known.
    * <p>
@@ -18,6 +18,7 @@ import com.opengamma.strata.market.ValueType;
 import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.NodalCurve;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterPerturbation;
 import com.opengamma.strata.market.param.ParameterizedData;
@@ -130,6 +131,24 @@ public interface PriceIndexValues
    */
   public abstract CurrencyParameterSensitivities parameterSensitivity(InflationRateSensitivity pointSensitivity);
 
+  /**
+   * Calculates the parameter sensitivity from the point sensitivity, adding it to the accumulator.
+   * <p>
+   * This is equivalent to adding the result of {@link #parameterSensitivity(InflationRateSensitivity)} to the accumulator.
+   * It is used when converting a large number of point sensitivities, as implementations can add
+   * the sensitivity in place without creating an intermediate {@link CurrencyParameterSensitivities}.
+   * 
+   * @param pointSensitivity  the point sensitivity to convert
+   * @param accumulator  the accumulator to add the parameter sensitivity to
+   * @throws RuntimeException if the result cannot be calculated
+   */
+  public default void addParameterSensitivity(
+      InflationRateSensitivity pointSensitivity,
+      CurrencyParameterSensitivitiesAccumulator accumulator) {
+
+    accumulator.add(parameterSensitivity(pointSensitivity));
+  }
+
   /**
    * Creates the parameter sensitivity when the sensitivity values are known.
    * <p>
@@ -22,6 +22,7 @@ import com.opengamma.strata.data.MarketDataName;
 import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveName;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivity;
 import com.opengamma.strata.pricer.BaseProvider;
@@ -176,45 +177,48 @@ public interface RatesProvider
    * of each month in a year relative to a specific forward curve. This method converts to the point
    * sensitivities to be relative to each parameter on the underlying curve, such as the 1 day, 1 week,
    * 1 month, 3 month, 12 month and 5 year nodal points.
+   * <p>
+   * The parameter sensitivity of each point is summed in place using a
+   * {@link CurrencyParameterSensitivitiesAccumulator}, thus the cost is linear in the number of points.
    * 
    * @param pointSensitivities  the point sensitivities
    * @return the sensitivity to the curve parameters
    */
   public default CurrencyParameterSensitivities parameterSensitivity(PointSensitivities pointSensitivities) {
-    CurrencyParameterSensitivities sens = CurrencyParameterSensitivities.empty();
+    CurrencyParameterSensitivitiesAccumulator sens = CurrencyParameterSensitivitiesAccumulator.create();
     for (PointSensitivity point : pointSensitivities.getSensitivities()) {
       if (point instanceof ZeroRateSensitivity) {
         ZeroRateSensitivity pt = (ZeroRateSensitivity) point;
         DiscountFactors factors = discountFactors(pt.getCurveCurrency());
-        sens = sens.combinedWith(factors.parameterSensitivity(pt));
+        factors.addParameterSensitivity(pt, sens);
 
       } else if (point instanceof IborRateSensitivity) {
         IborRateSensitivity pt = (IborRateSensitivity) point;
         IborIndexRates rates = iborIndexRates(pt.getIndex());
-        sens = sens.combinedWith(rates.parameterSensitivity(pt));
+        rates.addParameterSensitivity(pt, sens);
 
       } else if (point instanceof OvernightRateSensitivity) {
         OvernightRateSensitivity pt = (OvernightRateSensitivity) point;
         OvernightIndexRates rates = overnightIndexRates(pt.getIndex());
-        sens = sens.combinedWith(rates.parameterSensitivity(pt));
+        rates.addParameterSensitivity(pt, sens);
 
       } else if (point instanceof FxIndexSensitivity) {
         FxIndexSensitivity pt = (FxIndexSensitivity) point;
         FxIndexRates rates = fxIndexRates(pt.getIndex());
-        sens = sens.combinedWith(rates.parameterSensitivity(pt));
+        sens.add(rates.parameterSensitivity(pt));
 
       } else if (point instanceof InflationRateSensitivity) {
         InflationRateSensitivity pt = (InflationRateSensitivity) point;
         PriceIndexValues rates = priceIndexValues(pt.getIndex());
-        sens = sens.combinedWith(rates.parameterSensitivity(pt));
+        rates.addParameterSensitivity(pt, sens);
 
       } else if (point instanceof FxForwardSensitivity) {
         FxForwardSensitivity pt = (FxForwardSensitivity) point;
         FxForwardRates rates = fxForwardRates(pt.getCurrencyPair());
-        sens = sens.combinedWith(rates.parameterSensitivity(pt));
+        sens.add(rates.parameterSensitivity(pt));
       }
     }
-    return sens;
+    return sens.build();
   }
 
   /**
@@ -42,6 +42,7 @@ import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.Curves;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.ParameterPerturbation;
@@ -255,6 +256,17 @@ public final class SimpleIborIndexRates
     return CurrencyParameterSensitivities.of(sensitivity);
   }
 
+  @Override
+  public void addParameterSensitivity(
+      IborRateSensitivity pointSensitivity,
+      CurrencyParameterSensitivitiesAccumulator accumulator) {
+
+    LocalDate maturityDate = pointSensitivity.getObservation().getMaturityDate();
+    double relativeYearFraction = relativeYearFraction(maturityDate);
+    curve.addYValueParameterSensitivity(
+        relativeYearFraction, pointSensitivity.getCurrency(), pointSensitivity.getSensitivity(), accumulator);
+  }
+
   @Override
   public CurrencyParameterSensitivities createParameterSensitivity(Currency currency, DoubleArray sensitivities) {
     return CurrencyParameterSensitivities.of(curve.createParameterSensitivity(currency, sensitivities));
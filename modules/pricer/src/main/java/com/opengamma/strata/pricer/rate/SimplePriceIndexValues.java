@@ -41,6 +41,7 @@ import com.opengamma.strata.market.ValueType;
 import com.opengamma.strata.market.curve.InflationNodalCurve;
 import com.opengamma.strata.market.curve.NodalCurve;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.ParameterPerturbation;
 import com.opengamma.strata.market.param.UnitParameterSensitivities;
@@ -215,6 +216,15 @@ public final class SimplePriceIndexValues
     return UnitParameterSensitivities.of(curve.yValueParameterSensitivity(nbMonth));
   }
 
+  @Override
+  public void addParameterSensitivity(
+      InflationRateSensitivity pointSensitivity,
+      CurrencyParameterSensitivitiesAccumulator accumulator) {
+
+    UnitParameterSensitivities sens = unitParameterSensitivity(pointSensitivity.getObservation().getFixingMonth());
+    accumulator.add(sens, pointSensitivity.getCurrency(), pointSensitivity.getSensitivity());
+  }
+
   @Override
   public CurrencyParameterSensitivities createParameterSensitivity(Currency currency, DoubleArray sensitivities) {
     return CurrencyParameterSensitivities.of(curve.createParameterSensitivity(currency, sensitivities));
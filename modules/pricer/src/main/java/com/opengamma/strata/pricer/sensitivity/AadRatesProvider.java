@@ -0,0 +1,382 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.sensitivity;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.index.IborIndexObservation;
+import com.opengamma.strata.basics.index.OvernightIndexObservation;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.curve.CurveInfoType;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
+import com.opengamma.strata.market.param.UnitParameterSensitivities;
+import com.opengamma.strata.market.param.UnitParameterSensitivity;
+import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.math.impl.differentiation.AadDouble;
+import com.opengamma.strata.math.impl.differentiation.AadTape;
+import com.opengamma.strata.pricer.DiscountFactors;
+import com.opengamma.strata.pricer.SimpleDiscountFactors;
+import com.opengamma.strata.pricer.ZeroRateDiscountFactors;
+import com.opengamma.strata.pricer.ZeroRatePeriodicDiscountFactors;
+import com.opengamma.strata.pricer.rate.DiscountIborIndexRates;
+import com.opengamma.strata.pricer.rate.DiscountOvernightIndexRates;
+import com.opengamma.strata.pricer.rate.IborIndexRates;
+import com.opengamma.strata.pricer.rate.OvernightIndexRates;
+import com.opengamma.strata.pricer.rate.RateComputationFn;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.rate.SimpleIborIndexRates;
+import com.opengamma.strata.product.rate.FixedRateComputation;
+import com.opengamma.strata.product.rate.IborRateComputation;
+import com.opengamma.strata.product.rate.RateComputation;
+
+/**
+ * A rates provider that records curve-dependent values on an AAD tape.
+ * <p>
+ * This provides the building blocks of pricing, such as discount factors, forward rates and
+ * rate computations, as {@link AadDouble} values recorded on an {@link AadTape}.
+ * A pricing formula expressed in terms of these values can then be differentiated with respect to
+ * every curve parameter using a single reverse sweep, see {@link #parameterSensitivity(AadDouble, Currency)}.
+ * <p>
+ * The parameters of each curve are recorded as tape inputs the first time the curve is used.
+ * Each interpolated curve value is recorded as a single node whose partial derivatives are the
+ * non-zero interpolation weights of the curve parameters, see {@link #curveValue(Curve, double)}.
+ * Discount factors and forward rates of the standard curve-based implementations, such as
+ * {@link ZeroRateDiscountFactors} and {@link DiscountIborIndexRates}, are then recorded as elementary
+ * operations on these curve values, thus no point sensitivity is needed to differentiate them.
+ * <p>
+ * Other implementations, and rate computations other than fixed and Ibor, are recorded as a single node
+ * using the analytic point sensitivity of the underlying provider,
+ * see {@link #record(double, PointSensitivityBuilder)}.
+ * This is slower, as the point sensitivity is converted to parameter sensitivity for each node.
+ * <p>
+ * This class provides the building blocks only. The standard pricers continue to calculate
+ * sensitivities using point sensitivities, and are not recorded on the tape.
+ * Pricing formulas must be expressed using this class to obtain their sensitivities by AAD,
+ * as is done by the sensitivity benchmarks.
+ * <p>
+ * An instance is intended to be used for a single calculation on a single thread.
+ * This class is mutable and not thread-safe.
+ */
+public final class AadRatesProvider {
+
+  /**
+   * The rate computation function.
+   */
+  private static final RateComputationFn<RateComputation> RATE_COMPUTATION_FN = RateComputationFn.standard();
+
+  /**
+   * The underlying provider.
+   */
+  private final RatesProvider provider;
+  /**
+   * The tape.
+   */
+  private final AadTape tape;
+  /**
+   * The curves that have been used, keyed by name.
+   */
+  private final Map<MarketDataName<?>, Curve> curves = new LinkedHashMap<>();
+  /**
+   * The inputs of the curves that have been used, keyed by name.
+   */
+  private final Map<MarketDataName<?>, AadDouble[]> inputs = new LinkedHashMap<>();
+  /**
+   * The array used to obtain the interpolation weights of each curve, keyed by name.
+   * Every element is zero between calls.
+   */
+  private final Map<MarketDataName<?>, double[]> weights = new HashMap<>();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance based on a rates provider, recording on a new tape.
+   *
+   * @param provider  the underlying rates provider
+   * @return the AAD rates provider
+   */
+  public static AadRatesProvider of(RatesProvider provider) {
+    return new AadRatesProvider(provider, AadTape.create());
+  }
+
+  // restricted constructor
+  private AadRatesProvider(RatesProvider provider, AadTape tape) {
+    this.provider = ArgChecker.notNull(provider, "provider");
+    this.tape = tape;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the underlying rates provider.
+   *
+   * @return the underlying rates provider
+   */
+  public RatesProvider getProvider() {
+    return provider;
+  }
+
+  /**
+   * Gets the tape.
+   *
+   * @return the tape
+   */
+  public AadTape getTape() {
+    return tape;
+  }
+
+  /**
+   * Gets the valuation date.
+   *
+   * @return the valuation date
+   */
+  public LocalDate getValuationDate() {
+    return provider.getValuationDate();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the discount factor of a currency at a date.
+   *
+   * @param currency  the currency to get the discount factor for
+   * @param date  the date to discount to
+   * @return the discount factor
+   */
+  public AadDouble discountFactor(Currency currency, LocalDate date) {
+    return discountFactor(provider.discountFactors(currency), date);
+  }
+
+  /**
+   * Gets the forward rate of an Ibor index.
+   * <p>
+   * If the fixing date is before the valuation date, the result is a constant from the time-series.
+   *
+   * @param observation  the rate observation
+   * @return the forward rate
+   */
+  public AadDouble iborIndexRate(IborIndexObservation observation) {
+    IborIndexRates rates = provider.iborIndexRates(observation.getIndex());
+    LocalDate fixingDate = observation.getFixingDate();
+    LocalDate valuationDate = provider.getValuationDate();
+    if (fixingDate.isBefore(valuationDate) ||
+        (fixingDate.equals(valuationDate) && rates.getFixings().containsDate(fixingDate))) {
+      return AadDouble.constant(rates.rate(observation));
+    }
+    if (rates instanceof DiscountIborIndexRates) {
+      DiscountFactors discountFactors = ((DiscountIborIndexRates) rates).getDiscountFactors();
+      return forwardRate(discountFactors, observation.getEffectiveDate(), observation.getMaturityDate(),
+          observation.getYearFraction());
+    }
+    if (rates instanceof SimpleIborIndexRates) {
+      Curve curve = ((SimpleIborIndexRates) rates).getCurve();
+      double yearFraction = curve.getMetadata().getInfo(CurveInfoType.DAY_COUNT)
+          .relativeYearFraction(valuationDate, observation.getMaturityDate());
+      return curveValue(curve, yearFraction);
+    }
+    return record(rates.rate(observation), rates.ratePointSensitivity(observation));
+  }
+
+  /**
+   * Gets the forward rate of an overnight index.
+   * <p>
+   * If the publication date is before the valuation date, the result is a constant from the time-series.
+   *
+   * @param observation  the rate observation
+   * @return the forward rate
+   */
+  public AadDouble overnightIndexRate(OvernightIndexObservation observation) {
+    OvernightIndexRates rates = provider.overnightIndexRates(observation.getIndex());
+    LocalDate publicationDate = observation.getPublicationDate();
+    LocalDate valuationDate = provider.getValuationDate();
+    if (publicationDate.isBefore(valuationDate) ||
+        (publicationDate.equals(valuationDate) && rates.getFixings().containsDate(observation.getFixingDate()))) {
+      return AadDouble.constant(rates.rate(observation));
+    }
+    if (rates instanceof DiscountOvernightIndexRates) {
+      DiscountFactors discountFactors = ((DiscountOvernightIndexRates) rates).getDiscountFactors();
+      return forwardRate(discountFactors, observation.getEffectiveDate(), observation.getMaturityDate(),
+          observation.getYearFraction());
+    }
+    return record(rates.rate(observation), rates.ratePointSensitivity(observation));
+  }
+
+  /**
+   * Gets the rate of a rate computation, such as a compounded overnight rate.
+   * <p>
+   * Fixed and Ibor rates are recorded using {@link #iborIndexRate(IborIndexObservation)}.
+   * Other rate computations are recorded as a single node using their analytic point sensitivity.
+   *
+   * @param computation  the computation definition
+   * @param startDate  the start date of the accrual period
+   * @param endDate  the end date of the accrual period
+   * @return the rate
+   */
+  public AadDouble rate(RateComputation computation, LocalDate startDate, LocalDate endDate) {
+    if (computation instanceof FixedRateComputation) {
+      return AadDouble.constant(((FixedRateComputation) computation).getRate());
+    }
+    if (computation instanceof IborRateComputation) {
+      return iborIndexRate(((IborRateComputation) computation).getObservation());
+    }
+    double rate = RATE_COMPUTATION_FN.rate(computation, startDate, endDate, provider);
+    return record(rate, RATE_COMPUTATION_FN.rateSensitivity(computation, startDate, endDate, provider));
+  }
+
+  /**
+   * Gets the y-value of a curve of the underlying provider.
+   * <p>
+   * The curve must be one of the curves of the underlying provider, as the parameters are shared
+   * with the other values recorded by this provider.
+   * <p>
+   * The value is recorded as a single node, depending only on the parameters with a non-zero
+   * sensitivity, such as the nodes either side of the x-value of an interpolated curve.
+   * The sensitivity is obtained using {@link Curve#addYValueParameterSensitivity(double, double, double[])},
+   * thus interpolated curves do not create a dense sensitivity for each value.
+   *
+   * @param curve  the curve
+   * @param x  the x-value
+   * @return the y-value
+   */
+  public AadDouble curveValue(Curve curve, double x) {
+    AadDouble[] curveInputs = inputs(curve.getName(), curve);
+    // only the non-zero weights are added, and the array is cleared again as they are recorded
+    double[] sensitivity = weights.computeIfAbsent(curve.getName(), name -> new double[curveInputs.length]);
+    curve.addYValueParameterSensitivity(x, 1d, sensitivity);
+    int count = 0;
+    for (double partial : sensitivity) {
+      if (partial != 0d) {
+        count++;
+      }
+    }
+    AadDouble[] operands = new AadDouble[count];
+    double[] partials = new double[count];
+    for (int i = 0, j = 0; i < sensitivity.length; i++) {
+      if (sensitivity[i] != 0d) {
+        operands[j] = curveInputs[i];
+        partials[j++] = sensitivity[i];
+        sensitivity[i] = 0d;
+      }
+    }
+    return tape.record(curve.yValue(x), operands, partials);
+  }
+
+  /**
+   * Records a value with known point sensitivity as a single node on the tape.
+   * <p>
+   * This allows any value with an analytic point sensitivity, such as the present value of a
+   * payment period, to be combined with other values recorded on the tape.
+   * The point sensitivity is converted to parameter sensitivity by the underlying provider,
+   * thus this is much slower than recording the value in terms of curve values.
+   *
+   * @param value  the value
+   * @param pointSensitivity  the point sensitivity of the value
+   * @return the active value
+   */
+  public AadDouble record(double value, PointSensitivityBuilder pointSensitivity) {
+    CurrencyParameterSensitivities paramSens = provider.parameterSensitivity(pointSensitivity.build());
+    UnitParameterSensitivities unitSens = UnitParameterSensitivities.empty();
+    for (CurrencyParameterSensitivity ccySens : paramSens.getSensitivities()) {
+      unitSens = unitSens.combinedWith(ccySens.toUnitParameterSensitivity());
+    }
+    List<AadDouble> operands = new ArrayList<>();
+    DoubleArray partials = DoubleArray.EMPTY;
+    for (UnitParameterSensitivity sens : unitSens.getSensitivities()) {
+      operands.addAll(Arrays.asList(inputs(sens.getMarketDataName())));
+      partials = partials.concat(sens.getSensitivity());
+    }
+    return tape.record(value, operands.toArray(new AadDouble[0]), partials.toArrayUnsafe());
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the parameter sensitivity of a value by a reverse sweep of the tape.
+   * <p>
+   * The result contains the sensitivity to every curve used when calculating the value.
+   *
+   * @param value  the value, recorded on the tape of this provider
+   * @param currency  the currency of the value
+   * @return the parameter sensitivity
+   */
+  public CurrencyParameterSensitivities parameterSensitivity(AadDouble value, Currency currency) {
+    double[] adjoints = tape.adjoints(value);
+    CurrencyParameterSensitivities result = CurrencyParameterSensitivities.empty();
+    for (Entry<MarketDataName<?>, AadDouble[]> entry : inputs.entrySet()) {
+      AadDouble[] curveInputs = entry.getValue();
+      DoubleArray sensitivity = DoubleArray.of(curveInputs.length, i -> adjoints[curveInputs[i].getIndex()]);
+      Curve curve = curves.get(entry.getKey());
+      result = result.combinedWith(curve.createParameterSensitivity(currency, sensitivity));
+    }
+    return result;
+  }
+
+  //-------------------------------------------------------------------------
+  // the discount factor, recorded in terms of the curve value where the implementation is known
+  private AadDouble discountFactor(DiscountFactors discountFactors, LocalDate date) {
+    double yearFraction = discountFactors.relativeYearFraction(date);
+    if (discountFactors instanceof ZeroRateDiscountFactors) {
+      Curve curve = ((ZeroRateDiscountFactors) discountFactors).getCurve();
+      return curveValue(curve, yearFraction).multipliedBy(-yearFraction).exp();
+    }
+    if (discountFactors instanceof SimpleDiscountFactors) {
+      return curveValue(((SimpleDiscountFactors) discountFactors).getCurve(), yearFraction);
+    }
+    if (discountFactors instanceof ZeroRatePeriodicDiscountFactors) {
+      Curve curve = ((ZeroRatePeriodicDiscountFactors) discountFactors).getCurve();
+      int frequency = curve.getMetadata().getInfo(CurveInfoType.COMPOUNDING_PER_YEAR);
+      return curveValue(curve, yearFraction).dividedBy(frequency).plus(1d).pow(-yearFraction * frequency);
+    }
+    return record(discountFactors.discountFactor(date), discountFactors.zeroRatePointSensitivity(date));
+  }
+
+  // the simply compounded forward rate between two dates
+  private AadDouble forwardRate(
+      DiscountFactors discountFactors,
+      LocalDate startDate,
+      LocalDate endDate,
+      double accrualFactor) {
+
+    AadDouble dfStart = discountFactor(discountFactors, startDate);
+    AadDouble dfEnd = discountFactor(discountFactors, endDate);
+    return dfStart.dividedBy(dfEnd).minus(1d).dividedBy(accrualFactor);
+  }
+
+  // the inputs of the named curve, recording them if necessary
+  private AadDouble[] inputs(MarketDataName<?> name) {
+    AadDouble[] curveInputs = inputs.get(name);
+    if (curveInputs != null) {
+      return curveInputs;
+    }
+    Curve curve = provider.findData(name)
+        .filter(Curve.class::isInstance)
+        .map(Curve.class::cast)
+        .orElseThrow(() -> new IllegalArgumentException("AAD requires curve: " + name));
+    return inputs(name, curve);
+  }
+
+  // the inputs of the curve, recording them if necessary
+  private AadDouble[] inputs(MarketDataName<?> name, Curve curve) {
+    return inputs.computeIfAbsent(name, n -> {
+      curves.put(n, curve);
+      return tape.inputs(DoubleArray.of(curve.getParameterCount(), curve::getParameter));
+    });
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "AadRatesProvider[" + provider.getValuationDate() + ", " + tape + "]";
+  }
+
+}
@@ -13,21 +13,26 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.IntStream;
 
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
 import com.google.common.primitives.Doubles;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.index.Index;
 import com.opengamma.strata.basics.index.PriceIndex;
 import com.opengamma.strata.basics.index.RateIndex;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.data.MarketDataName;
 import com.opengamma.strata.market.curve.Curve;
-import com.opengamma.strata.market.curve.CurveName;
 import com.opengamma.strata.market.curve.LegalEntityGroup;
 import com.opengamma.strata.market.curve.ParallelShiftedCurve;
 import com.opengamma.strata.market.curve.RepoGroup;
@@ -62,10 +67,22 @@ public final class CurveGammaCalculator {
    */
   public static final CurveGammaCalculator DEFAULT = new CurveGammaCalculator(FiniteDifferenceType.FORWARD, 1e-4);
 
+  /**
+   * The finite difference type.
+   */
+  private final FiniteDifferenceType fdType;
+  /**
+   * The shift to be applied to the curves.
+   */
+  private final double shift;
   /**
    * The first order finite difference calculator.
    */
   private final VectorFieldFirstOrderDifferentiator fd;
+  /**
+   * The executor used to evaluate the bumped sensitivities, null to evaluate them on the calling thread.
+   */
+  private final Executor executor;
 
   //-------------------------------------------------------------------------
   /**
@@ -106,7 +123,31 @@ public final class CurveGammaCalculator {
    * @param shift  the shift to be applied to the curves
    */
   private CurveGammaCalculator(FiniteDifferenceType fdType, double shift) {
+    this(fdType, shift, null);
+  }
+
+  // restricted constructor
+  private CurveGammaCalculator(FiniteDifferenceType fdType, double shift, Executor executor) {
+    this.fdType = fdType;
+    this.shift = shift;
     this.fd = new VectorFieldFirstOrderDifferentiator(fdType, shift);
+    this.executor = executor;
+  }
+
+  /**
+   * Returns a copy of this calculator that evaluates the bumped sensitivities in parallel.
+   * <p>
+   * Cross gamma requires the sensitivities to be evaluated once for each bumped curve parameter.
+   * The returned calculator submits these evaluations to the specified executor, waiting for all of them to complete.
+   * The sensitivity function must therefore be safe to call from multiple threads.
+   * The results are identical to those of this calculator.
+   * 
+   * @param executor  the executor used to evaluate the bumped sensitivities
+   * @return the calculator
+   */
+  public CurveGammaCalculator withExecutor(Executor executor) {
+    ArgChecker.notNull(executor, "executor");
+    return new CurveGammaCalculator(fdType, shift, executor);
   }
 
   //-------------------------------------------------------------------------
@@ -129,61 +170,7 @@ public final class CurveGammaCalculator {
 
     ImmutableRatesProvider immProv = ratesProvider.toImmutableRatesProvider();
     CurrencyParameterSensitivities baseDelta = sensitivitiesFn.apply(immProv); // used to check target sensitivity exits
-    CrossGammaParameterSensitivities result = CrossGammaParameterSensitivities.empty();
-    // discount curve
-    for (Entry<Currency, Curve> entry : immProv.getDiscountCurves().entrySet()) {
-      Currency currency = entry.getKey();
-      Curve curve = entry.getValue();
-      if (baseDelta.findSensitivity(curve.getName(), currency).isPresent()) {
-        CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-            curve, currency, c -> immProv.toBuilder().discountCurve(currency, c).build(), sensitivitiesFn);
-        result = result.combinedWith(gammaSingle);
-      } else if (curve.split().size() > 1) {
-        ImmutableList<Curve> curves = curve.split();
-        int nCurves = curves.size();
-        for (int i = 0; i < nCurves; ++i) {
-          int currentIndex = i;
-          Curve underlyingCurve = curves.get(currentIndex);
-          if (baseDelta.findSensitivity(underlyingCurve.getName(), currency).isPresent()) {
-            CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-                underlyingCurve,
-                currency,
-                c -> immProv.toBuilder().discountCurve(currency, curve.withUnderlyingCurve(currentIndex, c)).build(),
-                sensitivitiesFn);
-            result = result.combinedWith(gammaSingle);
-          }
-        }
-      }
-    }
-    // forward curve
-    for (Entry<Index, Curve> entry : immProv.getIndexCurves().entrySet()) {
-      Index index = entry.getKey();
-      if (index instanceof RateIndex || index instanceof PriceIndex) {
-        Currency currency = getCurrency(index);
-        Curve curve = entry.getValue();
-        if (baseDelta.findSensitivity(curve.getName(), currency).isPresent()) {
-          CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-              curve, currency, c -> immProv.toBuilder().indexCurve(index, c).build(), sensitivitiesFn);
-          result = result.combinedWith(gammaSingle);
-        } else if (curve.split().size() > 1) {
-          ImmutableList<Curve> curves = curve.split();
-          int nCurves = curves.size();
-          for (int i = 0; i < nCurves; ++i) {
-            int currentIndex = i;
-            Curve underlyingCurve = curves.get(currentIndex);
-            if (baseDelta.findSensitivity(underlyingCurve.getName(), currency).isPresent()) {
-              CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-                  underlyingCurve,
-                  currency,
-                  c -> immProv.toBuilder().indexCurve(index, curve.withUnderlyingCurve(currentIndex, c)).build(),
-                  sensitivitiesFn);
-              result = result.combinedWith(gammaSingle);
-            }
-          }
-        }
-      }
-    }
-    return result;
+    return intraCurveGamma(curveTargets(immProv, baseDelta), baseDelta, sensitivitiesFn);
   }
 
   //-------------------------------------------------------------------------
@@ -206,80 +193,30 @@ public final class CurveGammaCalculator {
     LocalDate valuationDate = ratesProvider.getValuationDate();
     ImmutableLegalEntityDiscountingProvider immProv = ratesProvider.toImmutableLegalEntityDiscountingProvider();
     CurrencyParameterSensitivities baseDelta = sensitivitiesFn.apply(immProv); // used to check target sensitivity exits
-    CrossGammaParameterSensitivities result = CrossGammaParameterSensitivities.empty();
+    List<CurveTarget<ImmutableLegalEntityDiscountingProvider>> targets = new ArrayList<>();
     // issuer curve
     for (Entry<Pair<LegalEntityGroup, Currency>, DiscountFactors> entry : immProv.getIssuerCurves().entrySet()) {
       Pair<LegalEntityGroup, Currency> legCcy = entry.getKey();
       Currency currency = legCcy.getSecond();
-      Curve curve = getCurve(entry.getValue());
-      CurveName curveName = curve.getName();
-      if (baseDelta.findSensitivity(curveName, currency).isPresent()) {
-        CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-            curveName,
-            curve,
-            currency,
-            c -> replaceIssuerCurve(immProv, legCcy, DiscountFactors.of(currency, valuationDate, c)),
-            sensitivitiesFn);
-        result = result.combinedWith(gammaSingle);
-      } else {
-        ImmutableList<Curve> curves = curve.split();
-        int nCurves = curves.size();
-        if (nCurves > 1) {
-          for (int i = 0; i < nCurves; ++i) {
-            int currentIndex = i;
-            Curve underlyingCurve = curves.get(currentIndex);
-            CurveName underlyingCurveName = underlyingCurve.getName();
-            if (baseDelta.findSensitivity(underlyingCurveName, currency).isPresent()) {
-              CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-                  underlyingCurveName,
-                  underlyingCurve,
-                  currency,
-                  c -> replaceIssuerCurve(
-                      immProv, legCcy, DiscountFactors.of(currency, valuationDate, curve.withUnderlyingCurve(currentIndex, c))),
-                  sensitivitiesFn);
-              result = result.combinedWith(gammaSingle);
-            }
-          }
-        }
-      }
+      addCurveTargets(
+          targets,
+          getCurve(entry.getValue()),
+          currency,
+          c -> replaceIssuerCurve(immProv, legCcy, DiscountFactors.of(currency, valuationDate, c)),
+          baseDelta);
     }
     // repo curve
     for (Entry<Pair<RepoGroup, Currency>, DiscountFactors> entry : immProv.getRepoCurves().entrySet()) {
       Pair<RepoGroup, Currency> rgCcy = entry.getKey();
       Currency currency = rgCcy.getSecond();
-      Curve curve = getCurve(entry.getValue());
-      CurveName curveName = curve.getName();
-      if (baseDelta.findSensitivity(curveName, currency).isPresent()) {
-        CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-            curveName,
-            curve,
-            currency,
-            c -> replaceRepoCurve(immProv, rgCcy, DiscountFactors.of(currency, valuationDate, c)),
-            sensitivitiesFn);
-        result = result.combinedWith(gammaSingle);
-      } else {
-        ImmutableList<Curve> curves = curve.split();
-        int nCurves = curves.size();
-        if (nCurves > 1) {
-          for (int i = 0; i < nCurves; ++i) {
-            int currentIndex = i;
-            Curve underlyingCurve = curves.get(currentIndex);
-            CurveName underlyingCurveName = underlyingCurve.getName();
-            if (baseDelta.findSensitivity(underlyingCurveName, rgCcy.getSecond()).isPresent()) {
-              CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-                  underlyingCurveName,
-                  underlyingCurve,
-                  currency,
-                  c -> replaceRepoCurve(
-                      immProv, rgCcy, DiscountFactors.of(currency, valuationDate, curve.withUnderlyingCurve(currentIndex, c))),
-                  sensitivitiesFn);
-              result = result.combinedWith(gammaSingle);
-            }
-          }
-        }
-      }
+      addCurveTargets(
+          targets,
+          getCurve(entry.getValue()),
+          currency,
+          c -> replaceRepoCurve(immProv, rgCcy, DiscountFactors.of(currency, valuationDate, c)),
+          baseDelta);
     }
-    return result;
+    return intraCurveGamma(targets, baseDelta, sensitivitiesFn);
   }
 
   //-------------------------------------------------------------------------
@@ -302,61 +239,22 @@ public final class CurveGammaCalculator {
 
     ImmutableRatesProvider immProv = ratesProvider.toImmutableRatesProvider();
     CurrencyParameterSensitivities baseDelta = sensitivitiesFn.apply(immProv); // used to check target sensitivity exits.
+    // the bumped sensitivities of each curve are shared by the gamma of all the base sensitivities
+    List<CurveTarget<ImmutableRatesProvider>> targets = curveTargets(immProv, baseDelta);
+    List<BumpedSensitivities> bumped = bump(targets, sensitivitiesFn);
     CrossGammaParameterSensitivities result = CrossGammaParameterSensitivities.empty();
     for (CurrencyParameterSensitivity baseDeltaSingle : baseDelta.getSensitivities()) {
       CrossGammaParameterSensitivities resultInner = CrossGammaParameterSensitivities.empty();
-      // discount curve
-      for (Entry<Currency, Curve> entry : immProv.getDiscountCurves().entrySet()) {
-        Currency currency = entry.getKey();
-        Curve curve = entry.getValue();
-        if (baseDelta.findSensitivity(curve.getName(), currency).isPresent()) {
-          CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-              baseDeltaSingle, curve, c -> immProv.toBuilder().discountCurve(currency, c).build(), sensitivitiesFn);
-          resultInner = resultInner.combinedWith(gammaSingle);
-        } else if (curve.split().size() > 1) {
-          ImmutableList<Curve> curves = curve.split();
-          int nCurves = curves.size();
-          for (int i = 0; i < nCurves; ++i) {
-            int currentIndex = i;
-            Curve underlyingCurve = curves.get(currentIndex);
-            if (baseDelta.findSensitivity(underlyingCurve.getName(), currency).isPresent()) {
-              CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-                  baseDeltaSingle,
-                  underlyingCurve,
-                  c -> immProv.toBuilder().discountCurve(currency, curve.withUnderlyingCurve(currentIndex, c)).build(),
-                  sensitivitiesFn);
-              resultInner = resultInner.combinedWith(gammaSingle);
-            }
-          }
-        }
-      }
-      // forward curve
-      for (Entry<Index, Curve> entry : immProv.getIndexCurves().entrySet()) {
-        Index index = entry.getKey();
-        if (index instanceof RateIndex || index instanceof PriceIndex) {
-          Currency currency = getCurrency(index);
-          Curve curve = entry.getValue();
-          if (baseDelta.findSensitivity(curve.getName(), currency).isPresent()) {
-            CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-                baseDeltaSingle, curve, c -> immProv.toBuilder().indexCurve(index, c).build(), sensitivitiesFn);
-            resultInner = resultInner.combinedWith(gammaSingle);
-          } else if (curve.split().size() > 1) {
-            ImmutableList<Curve> curves = curve.split();
-            int nCurves = curves.size();
-            for (int i = 0; i < nCurves; ++i) {
-              int currentIndex = i;
-              Curve underlyingCurve = curves.get(currentIndex);
-              if (baseDelta.findSensitivity(underlyingCurve.getName(), currency).isPresent()) {
-                CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-                    baseDeltaSingle,
-                    underlyingCurve,
-                    c -> immProv.toBuilder().indexCurve(index, curve.withUnderlyingCurve(currentIndex, c)).build(),
-                    sensitivitiesFn);
-                resultInner = resultInner.combinedWith(gammaSingle);
-              }
-            }
-          }
-        }
+      for (int i = 0; i < targets.size(); i++) {
+        Curve curve = targets.get(i).getCurve();
+        CrossGammaParameterSensitivity gammaSingle = CrossGammaParameterSensitivity.of(
+            baseDeltaSingle.getMarketDataName(),
+            baseDeltaSingle.getParameterMetadata(),
+            curve.getName(),
+            parameterMetadata(curve),
+            baseDeltaSingle.getCurrency(),
+            bumped.get(i).gamma(baseDeltaSingle));
+        resultInner = resultInner.combinedWith(gammaSingle);
       }
       result = result.combinedWith(combineSensitivities(baseDeltaSingle, resultInner));
     }
@@ -364,67 +262,144 @@ public final class CurveGammaCalculator {
   }
 
   //-------------------------------------------------------------------------
-  private Currency getCurrency(Index index) {
-    if (index instanceof RateIndex) {
-      return ((RateIndex) index).getCurrency();
-    } else if (index instanceof PriceIndex) {
-      return ((PriceIndex) index).getCurrency();
+  // the curves of the provider that the base sensitivities refer to, in a fixed order
+  // each bumped provider shares everything with the base provider except the map holding the bumped curve
+  private List<CurveTarget<ImmutableRatesProvider>> curveTargets(
+      ImmutableRatesProvider immProv,
+      CurrencyParameterSensitivities baseDelta) {
+
+    List<CurveTarget<ImmutableRatesProvider>> targets = new ArrayList<>();
+    // discount curve
+    for (Entry<Currency, Curve> entry : immProv.getDiscountCurves().entrySet()) {
+      Currency currency = entry.getKey();
+      addCurveTargets(targets, entry.getValue(), currency, c -> immProv.withDiscountCurve(currency, c), baseDelta);
     }
-    throw new IllegalArgumentException("unsupported index");
+    // forward curve
+    for (Entry<Index, Curve> entry : immProv.getIndexCurves().entrySet()) {
+      Index index = entry.getKey();
+      if (index instanceof RateIndex || index instanceof PriceIndex) {
+        addCurveTargets(
+            targets,
+            entry.getValue(),
+            getCurrency(index),
+            c -> immProv.withIndexCurve(index, c),
+            baseDelta);
+      }
+    }
+    return targets;
   }
 
-  // compute the second order sensitivity to Curve
-  CrossGammaParameterSensitivity computeGammaForCurve(
+  // adds the curve if the base sensitivities refer to it, otherwise adds the underlying curves that they refer to
+  private static <P> void addCurveTargets(
+      List<CurveTarget<P>> targets,
       Curve curve,
-      Currency sensitivityCurrency,
-      Function<Curve, ImmutableRatesProvider> ratesProviderFn,
-      Function<ImmutableRatesProvider, CurrencyParameterSensitivities> sensitivitiesFn) {
-
-    Function<DoubleArray, DoubleArray> function = new Function<DoubleArray, DoubleArray>() {
-      @Override
-      public DoubleArray apply(DoubleArray t) {
-        Curve newCurve = replaceParameters(curve, t);
-        ImmutableRatesProvider newRates = ratesProviderFn.apply(newCurve);
-        CurrencyParameterSensitivities sensiMulti = sensitivitiesFn.apply(newRates);
-        return sensiMulti.getSensitivity(newCurve.getName(), sensitivityCurrency).getSensitivity();
+      Currency currency,
+      Function<Curve, P> providerFn,
+      CurrencyParameterSensitivities baseDelta) {
+
+    if (baseDelta.findSensitivity(curve.getName(), currency).isPresent()) {
+      targets.add(new CurveTarget<>(curve, currency, providerFn));
+    } else if (curve.split().size() > 1) {
+      ImmutableList<Curve> curves = curve.split();
+      int nCurves = curves.size();
+      for (int i = 0; i < nCurves; ++i) {
+        int currentIndex = i;
+        Curve underlyingCurve = curves.get(currentIndex);
+        if (baseDelta.findSensitivity(underlyingCurve.getName(), currency).isPresent()) {
+          targets.add(new CurveTarget<>(
+              underlyingCurve, currency, c -> providerFn.apply(curve.withUnderlyingCurve(currentIndex, c))));
+        }
       }
-    };
-    int nParams = curve.getParameterCount();
-    DoubleMatrix sensi = fd.differentiate(function).apply(DoubleArray.of(nParams, n -> curve.getParameter(n)));
-    List<ParameterMetadata> metadata = IntStream.range(0, nParams)
-        .mapToObj(i -> curve.getParameterMetadata(i))
-        .collect(toImmutableList());
-    return CrossGammaParameterSensitivity.of(curve.getName(), metadata, sensitivityCurrency, sensi);
+    }
   }
 
-  // computes the sensitivity of baseDeltaSingle to Curve
-  CrossGammaParameterSensitivity computeGammaForCurve(
-      CurrencyParameterSensitivity baseDeltaSingle,
-      Curve curve,
-      Function<Curve, ImmutableRatesProvider> ratesProviderFn,
-      Function<ImmutableRatesProvider, CurrencyParameterSensitivities> sensitivitiesFn) {
+  // computes the second order sensitivity of each curve to itself
+  private <P> CrossGammaParameterSensitivities intraCurveGamma(
+      List<CurveTarget<P>> targets,
+      CurrencyParameterSensitivities baseDelta,
+      Function<P, CurrencyParameterSensitivities> sensitivitiesFn) {
 
-    Function<DoubleArray, DoubleArray> function = new Function<DoubleArray, DoubleArray>() {
-      @Override
-      public DoubleArray apply(DoubleArray t) {
-        Curve newCurve = replaceParameters(curve, t);
-        ImmutableRatesProvider newRates = ratesProviderFn.apply(newCurve);
-        CurrencyParameterSensitivities sensiMulti = sensitivitiesFn.apply(newRates);
-        return sensiMulti.getSensitivity(baseDeltaSingle.getMarketDataName(), baseDeltaSingle.getCurrency()).getSensitivity();
+    List<BumpedSensitivities> bumped = bump(targets, sensitivitiesFn);
+    CrossGammaParameterSensitivities result = CrossGammaParameterSensitivities.empty();
+    for (int i = 0; i < targets.size(); i++) {
+      Curve curve = targets.get(i).getCurve();
+      Currency currency = targets.get(i).getCurrency();
+      DoubleMatrix gamma = bumped.get(i).gamma(baseDelta.getSensitivity(curve.getName(), currency));
+      result = result.combinedWith(CrossGammaParameterSensitivity.of(
+          curve.getName(), parameterMetadata(curve), currency, gamma));
+    }
+    return result;
+  }
+
+  // evaluates the sensitivities with each parameter of each curve bumped
+  // all evaluations are submitted together, allowing them to run in parallel
+  private <P> List<BumpedSensitivities> bump(
+      List<CurveTarget<P>> targets,
+      Function<P, CurrencyParameterSensitivities> sensitivitiesFn) {
+
+    List<Supplier<CurrencyParameterSensitivities>> tasks = new ArrayList<>();
+    for (CurveTarget<P> target : targets) {
+      Curve curve = target.getCurve();
+      for (int j = 0; j < curve.getParameterCount(); j++) {
+        if (fdType != FiniteDifferenceType.BACKWARD) {
+          tasks.add(target.bumpedSensitivities(j, shift, sensitivitiesFn));
+        }
+        if (fdType != FiniteDifferenceType.FORWARD) {
+          tasks.add(target.bumpedSensitivities(j, -shift, sensitivitiesFn));
+        }
+      }
+    }
+    List<CurrencyParameterSensitivities> evaluated = evaluate(tasks);
+    List<BumpedSensitivities> result = new ArrayList<>();
+    int taskIndex = 0;
+    for (CurveTarget<P> target : targets) {
+      int nParams = target.getCurve().getParameterCount();
+      List<CurrencyParameterSensitivities> up = new ArrayList<>();
+      List<CurrencyParameterSensitivities> down = new ArrayList<>();
+      for (int j = 0; j < nParams; j++) {
+        if (fdType != FiniteDifferenceType.BACKWARD) {
+          up.add(evaluated.get(taskIndex++));
+        }
+        if (fdType != FiniteDifferenceType.FORWARD) {
+          down.add(evaluated.get(taskIndex++));
+        }
       }
-    };
-    int nParams = curve.getParameterCount();
-    DoubleMatrix sensi = fd.differentiate(function).apply(DoubleArray.of(nParams, n -> curve.getParameter(n)));
-    List<ParameterMetadata> metadata = IntStream.range(0, nParams)
+      result.add(new BumpedSensitivities(nParams, up, down));
+    }
+    return result;
+  }
+
+  // evaluates the tasks, using the executor if available
+  private List<CurrencyParameterSensitivities> evaluate(List<Supplier<CurrencyParameterSensitivities>> tasks) {
+    if (executor == null) {
+      return tasks.stream().map(Supplier::get).collect(toImmutableList());
+    }
+    List<CompletableFuture<CurrencyParameterSensitivities>> futures = tasks.stream()
+        .map(task -> CompletableFuture.supplyAsync(task, executor))
+        .collect(toImmutableList());
+    try {
+      return futures.stream().map(CompletableFuture::join).collect(toImmutableList());
+    } catch (CompletionException ex) {
+      Throwables.throwIfUnchecked(ex.getCause());
+      throw ex;
+    }
+  }
+
+  // the metadata of the curve parameters
+  private static List<ParameterMetadata> parameterMetadata(Curve curve) {
+    return IntStream.range(0, curve.getParameterCount())
         .mapToObj(i -> curve.getParameterMetadata(i))
         .collect(toImmutableList());
-    return CrossGammaParameterSensitivity.of(
-        baseDeltaSingle.getMarketDataName(),
-        baseDeltaSingle.getParameterMetadata(),
-        curve.getName(),
-        metadata,
-        baseDeltaSingle.getCurrency(),
-        sensi);
+  }
+
+  //-------------------------------------------------------------------------
+  private Currency getCurrency(Index index) {
+    if (index instanceof RateIndex) {
+      return ((RateIndex) index).getCurrency();
+    } else if (index instanceof PriceIndex) {
+      return ((PriceIndex) index).getCurrency();
+    }
+    throw new IllegalArgumentException("unsupported index");
   }
 
   private CrossGammaParameterSensitivity combineSensitivities(
@@ -475,11 +450,6 @@ public final class CurveGammaCalculator {
     return curve.createParameterSensitivity(curveCurrency, gamma);
   }
 
-  //-------------------------------------------------------------------------
-  private Curve replaceParameters(Curve curve, DoubleArray newParameters) {
-    return curve.withPerturbation((i, v, m) -> newParameters.get(i));
-  }
-
   //-------------------------------------------------------------------------
   /**
    * Inner class to compute the delta for a given parallel shift of the curve.
@@ -516,30 +486,6 @@ public final class CurveGammaCalculator {
     throw new IllegalArgumentException("Unsupported DiscountFactors type");
   }
 
-  private CrossGammaParameterSensitivity computeGammaForCurve(
-      CurveName curveName,
-      Curve curve,
-      Currency sensitivityCurrency,
-      Function<Curve, ImmutableLegalEntityDiscountingProvider> ratesProviderFn,
-      Function<ImmutableLegalEntityDiscountingProvider, CurrencyParameterSensitivities> sensitivitiesFn) {
-
-    Function<DoubleArray, DoubleArray> function = new Function<DoubleArray, DoubleArray>() {
-      @Override
-      public DoubleArray apply(DoubleArray t) {
-        Curve newCurve = curve.withPerturbation((i, v, m) -> t.get(i));
-        ImmutableLegalEntityDiscountingProvider newRates = ratesProviderFn.apply(newCurve);
-        CurrencyParameterSensitivities sensiMulti = sensitivitiesFn.apply(newRates);
-        return sensiMulti.getSensitivity(curveName, sensitivityCurrency).getSensitivity();
-      }
-    };
-    int nParams = curve.getParameterCount();
-    DoubleMatrix sensi = fd.differentiate(function).apply(DoubleArray.of(nParams, n -> curve.getParameter(n)));
-    List<ParameterMetadata> metadata = IntStream.range(0, nParams)
-        .mapToObj(i -> curve.getParameterMetadata(i))
-        .collect(toImmutableList());
-    return CrossGammaParameterSensitivity.of(curveName, metadata, sensitivityCurrency, sensi);
-  }
-
   private ImmutableLegalEntityDiscountingProvider replaceIssuerCurve(
       ImmutableLegalEntityDiscountingProvider ratesProvider,
       Pair<LegalEntityGroup, Currency> legCcy,
@@ -568,4 +514,100 @@ public final class CurveGammaCalculator {
         .build();
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * A curve to be bumped, with the function that creates a provider containing the bumped curve.
+   */
+  private static final class CurveTarget<P> {
+    private final Curve curve;
+    private final Currency currency;
+    private final Function<Curve, P> providerFn;
+
+    CurveTarget(Curve curve, Currency currency, Function<Curve, P> providerFn) {
+      this.curve = curve;
+      this.currency = currency;
+      this.providerFn = providerFn;
+    }
+
+    Curve getCurve() {
+      return curve;
+    }
+
+    Currency getCurrency() {
+      return currency;
+    }
+
+    // the task to evaluate the sensitivities with a single parameter bumped from the base curve
+    Supplier<CurrencyParameterSensitivities> bumpedSensitivities(
+        int parameterIndex,
+        double parameterShift,
+        Function<P, CurrencyParameterSensitivities> sensitivitiesFn) {
+
+      // the curve is rebuilt, rather than adding the parameter sensitivity times the shift,
+      // as the interpolator is not necessarily linear in the parameters
+      return () -> {
+        Curve bumpedCurve = curve.withParameter(parameterIndex, curve.getParameter(parameterIndex) + parameterShift);
+        return sensitivitiesFn.apply(providerFn.apply(bumpedCurve));
+      };
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The sensitivities evaluated with each parameter of a curve bumped up and/or down.
+   */
+  private final class BumpedSensitivities {
+    private final int nParams;
+    private final List<CurrencyParameterSensitivities> up;
+    private final List<CurrencyParameterSensitivities> down;
+
+    BumpedSensitivities(
+        int nParams,
+        List<CurrencyParameterSensitivities> up,
+        List<CurrencyParameterSensitivities> down) {
+
+      this.nParams = nParams;
+      this.up = up;
+      this.down = down;
+    }
+
+    // the finite difference of the base sensitivity with respect to the curve parameters
+    DoubleMatrix gamma(CurrencyParameterSensitivity base) {
+      MarketDataName<?> name = base.getMarketDataName();
+      Currency currency = base.getCurrency();
+      DoubleArray y = base.getSensitivity();
+      int m = y.size();
+      double[][] res = new double[m][nParams];
+      for (int j = 0; j < nParams; j++) {
+        switch (fdType) {
+          case FORWARD: {
+            DoubleArray yUp = up.get(j).getSensitivity(name, currency).getSensitivity();
+            for (int i = 0; i < m; i++) {
+              res[i][j] = (yUp.get(i) - y.get(i)) / shift;
+            }
+            break;
+          }
+          case CENTRAL: {
+            DoubleArray yUp = up.get(j).getSensitivity(name, currency).getSensitivity();
+            DoubleArray yDown = down.get(j).getSensitivity(name, currency).getSensitivity();
+            for (int i = 0; i < m; i++) {
+              res[i][j] = (yUp.get(i) - yDown.get(i)) / (2 * shift);
+            }
+            break;
+          }
+          case BACKWARD: {
+            DoubleArray yDown = down.get(j).getSensitivity(name, currency).getSensitivity();
+            for (int i = 0; i < m; i++) {
+              res[i][j] = (y.get(i) - yDown.get(i)) / shift;
+            }
+            break;
+          }
+          default:
+            throw new IllegalArgumentException("Can only handle forward, backward and central differencing");
+        }
+      }
+      return DoubleMatrix.ofUnsafe(res);
+    }
+  }
+
 }
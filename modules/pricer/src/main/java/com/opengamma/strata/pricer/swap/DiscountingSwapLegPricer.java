@@ -5,7 +5,15 @@
  */
 package com.opengamma.strata.pricer.swap;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.function.BiFunction;
 
@@ -22,6 +30,7 @@ import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.pricer.impl.swap.DispatchingSwapPaymentPeriodPricer;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.product.swap.KnownAmountSwapPaymentPeriod;
 import com.opengamma.strata.product.swap.RatePaymentPeriod;
@@ -121,6 +130,62 @@ public class DiscountingSwapLegPricer {
     return CurrencyAmount.of(leg.getCurrency(), presentValueInternal(leg, provider));
   }
 
+  /**
+   * Calculates the present value of a batch of swap legs.
+   * <p>
+   * The result is the same as calling {@link #presentValue(ResolvedSwapLeg, RatesProvider)} for each leg.
+   * The payment dates of the periods of all the legs in each currency are gathered into a single array,
+   * and the discount factors of each currency are obtained from {@link RatesProvider#discountFactors(Currency)}
+   * in a single call. Each period is then priced using its discount factor.
+   * This matches {@link RatesProvider#discountFactor(Currency, LocalDate)}, which the standard pricers
+   * use when pricing a single leg, and which is defined in terms of the same discount factors.
+   * If the period pricer is not the standard pricer, each leg is priced separately.
+   *
+   * @param legs  the legs
+   * @param provider  the rates provider
+   * @return the present value of each swap leg, in the order of the legs
+   */
+  public List<CurrencyAmount> presentValue(List<ResolvedSwapLeg> legs, RatesProvider provider) {
+    if (!(paymentPeriodPricer instanceof DispatchingSwapPaymentPeriodPricer)) {
+      return legs.stream().map(leg -> presentValue(leg, provider)).collect(toImmutableList());
+    }
+    Map<Currency, List<ResolvedSwapLeg>> legsByCurrency = new LinkedHashMap<>();
+    for (ResolvedSwapLeg leg : legs) {
+      legsByCurrency.computeIfAbsent(leg.getCurrency(), ccy -> new ArrayList<>()).add(leg);
+    }
+    LocalDate valuationDate = provider.getValuationDate();
+    Map<ResolvedSwapLeg, Double> legValues = new IdentityHashMap<>();
+    for (Entry<Currency, List<ResolvedSwapLeg>> entry : legsByCurrency.entrySet()) {
+      List<ResolvedSwapLeg> currencyLegs = entry.getValue();
+      int size = currencyLegs.stream().mapToInt(leg -> leg.getPaymentPeriods().size()).sum();
+      LocalDate[] paymentDates = new LocalDate[size];
+      int index = 0;
+      for (ResolvedSwapLeg leg : currencyLegs) {
+        for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
+          // periods paid before the valuation date are not priced, but must have a valid date
+          LocalDate paymentDate = period.getPaymentDate();
+          paymentDates[index++] = paymentDate.isBefore(valuationDate) ? valuationDate : paymentDate;
+        }
+      }
+      double[] discountFactors = new double[size];
+      provider.discountFactors(entry.getKey()).discountFactors(paymentDates, discountFactors);
+      index = 0;
+      for (ResolvedSwapLeg leg : currencyLegs) {
+        double total = 0d;
+        for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
+          if (!period.getPaymentDate().isBefore(valuationDate)) {
+            total += paymentPeriodPricer.presentValue(period, discountFactors[index], provider);
+          }
+          index++;
+        }
+        legValues.put(leg, total + presentValueEventsInternal(leg, provider));
+      }
+    }
+    return legs.stream()
+        .map(leg -> CurrencyAmount.of(leg.getCurrency(), legValues.get(leg)))
+        .collect(toImmutableList());
+  }
+
   // calculates the present value in the currency of the swap leg
   double presentValueInternal(ResolvedSwapLeg leg, RatesProvider provider) {
     return presentValuePeriodsInternal(leg, provider) + presentValueEventsInternal(leg, provider);
@@ -525,6 +590,11 @@ public class DiscountingSwapLegPricer {
 
   // calculates the present value of the periods composing the leg in the currency of the swap leg
   double presentValuePeriodsInternal(ResolvedSwapLeg leg, RatesProvider provider) {
+    // the discount factors are only known to be used by the standard dispatching pricer
+    // other pricers may discount in a different way, thus each period is priced separately
+    if (paymentPeriodPricer instanceof DispatchingSwapPaymentPeriodPricer) {
+      return presentValuePeriodsBatched(leg, provider);
+    }
     double total = 0d;
     for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
       if (!period.getPaymentDate().isBefore(provider.getValuationDate())) {
@@ -534,6 +604,31 @@ public class DiscountingSwapLegPricer {
     return total;
   }
 
+  // calculates the present value of the periods, obtaining the discount factors in a single batch
+  // the standard period pricers discount using RatesProvider.discountFactor(Currency, LocalDate),
+  // which is defined as discountFactors(Currency).discountFactor(LocalDate), thus the batch is equivalent
+  private double presentValuePeriodsBatched(ResolvedSwapLeg leg, RatesProvider provider) {
+    LocalDate valuationDate = provider.getValuationDate();
+    ImmutableList<SwapPaymentPeriod> periods = leg.getPaymentPeriods();
+    int size = periods.size();
+    LocalDate[] paymentDates = new LocalDate[size];
+    for (int i = 0; i < size; i++) {
+      // periods paid before the valuation date are not priced, but must have a valid date
+      LocalDate paymentDate = periods.get(i).getPaymentDate();
+      paymentDates[i] = paymentDate.isBefore(valuationDate) ? valuationDate : paymentDate;
+    }
+    double[] discountFactors = new double[size];
+    provider.discountFactors(leg.getCurrency()).discountFactors(paymentDates, discountFactors);
+    double total = 0d;
+    for (int i = 0; i < size; i++) {
+      SwapPaymentPeriod period = periods.get(i);
+      if (!period.getPaymentDate().isBefore(valuationDate)) {
+        total += paymentPeriodPricer.presentValue(period, discountFactors[i], provider);
+      }
+    }
+    return total;
+  }
+
   // calculates the present value curve sensitivity of the events composing the leg in the currency of the swap leg
   PointSensitivityBuilder presentValueSensitivityEventsInternal(ResolvedSwapLeg leg, RatesProvider provider) {
     PointSensitivityBuilder builder = PointSensitivityBuilder.none();
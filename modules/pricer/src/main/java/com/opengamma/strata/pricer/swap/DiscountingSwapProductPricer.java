@@ -6,8 +6,10 @@
 package com.opengamma.strata.pricer.swap;
 
 import static com.opengamma.strata.basics.currency.MultiCurrencyAmount.toMultiCurrencyAmount;
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.BiFunction;
@@ -111,6 +113,30 @@ public class DiscountingSwapProductPricer {
     return swapValue(provider, swap, legPricer::presentValueInternal);
   }
 
+  /**
+   * Calculates the present value of a batch of swap products.
+   * <p>
+   * The result is the same as calling {@link #presentValue(ResolvedSwap, RatesProvider)} for each swap.
+   * The legs of all the swaps are priced together using
+   * {@link DiscountingSwapLegPricer#presentValue(List, RatesProvider)}.
+   *
+   * @param swaps  the products
+   * @param provider  the rates provider
+   * @return the present value of each swap product, in the order of the swaps
+   */
+  public List<MultiCurrencyAmount> presentValue(List<ResolvedSwap> swaps, RatesProvider provider) {
+    List<ResolvedSwapLeg> legs = swaps.stream()
+        .flatMap(swap -> swap.getLegs().stream())
+        .collect(toImmutableList());
+    // the leg values are in the order of the legs, which is the order in which each swap combines them
+    Iterator<CurrencyAmount> legValues = legPricer.presentValue(legs, provider).iterator();
+    ImmutableList.Builder<MultiCurrencyAmount> builder = ImmutableList.builder();
+    for (ResolvedSwap swap : swaps) {
+      builder.add(swapValue(provider, swap, (leg, p) -> legValues.next().getAmount()));
+    }
+    return builder.build();
+  }
+
   /**
    * Calculates the forecast value of the swap product.
    * <p>
@@ -50,6 +50,29 @@ public interface SwapPaymentPeriodPricer<T extends SwapPaymentPeriod> {
    */
   public abstract double presentValue(T period, RatesProvider provider);
 
+  /**
+   * Calculates the present value of a single payment period using a known discount factor.
+   * <p>
+   * The amount is expressed in the currency of the period.
+   * This returns the value of the period with discounting, where the discount factor
+   * from the valuation date to the payment date has already been obtained.
+   * This allows the discount factors of many periods to be obtained in a single batch
+   * using {@code DiscountFactors}.
+   * <p>
+   * The default implementation ignores the discount factor, returning {@link #presentValue(Object, RatesProvider)}.
+   * <p>
+   * The payment date of the period should not be in the past.
+   * The result of this method for payment dates in the past is undefined.
+   * 
+   * @param period  the period
+   * @param discountFactor  the discount factor from the valuation date to the payment date of the period
+   * @param provider  the rates provider
+   * @return the present value of the period
+   */
+  public default double presentValue(T period, double discountFactor, RatesProvider provider) {
+    return presentValue(period, provider);
+  }
+
   /**
    * Calculates the present value sensitivity of a single payment period.
    * <p>
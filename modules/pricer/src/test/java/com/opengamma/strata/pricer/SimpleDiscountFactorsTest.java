@@ -100,6 +100,17 @@ public class SimpleDiscountFactorsTest {
     double expected = CURVE.yValue(relativeYearFraction);
     assertThat(test.discountFactor(DATE_AFTER)).isEqualTo(expected);
   }
+
+  @Test
+  public void test_discountFactors() {
+    SimpleDiscountFactors test = SimpleDiscountFactors.of(GBP, DATE_VAL, CURVE);
+    LocalDate[] dates = {DATE_AFTER, DATE_VAL, DATE_VAL.plusYears(12), DATE_VAL.plusYears(3)};
+    double[] computed = new double[dates.length];
+    test.discountFactors(dates, computed);
+    for (int i = 0; i < dates.length; i++) {
+      assertThat(computed[i]).isEqualTo(test.discountFactor(dates[i]));
+    }
+  }
   
   @Test
   public void test_discountFactorTimeDerivative() {
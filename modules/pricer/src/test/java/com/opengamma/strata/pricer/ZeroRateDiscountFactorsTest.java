@@ -32,6 +32,7 @@ import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 
 /**
  * Test {@link ZeroRateDiscountFactors}.
@@ -100,6 +101,17 @@ public class ZeroRateDiscountFactorsTest {
     double expected = Math.exp(-relativeYearFraction * CURVE.yValue(relativeYearFraction));
     assertThat(test.discountFactor(DATE_AFTER)).isEqualTo(expected);
   }
+
+  @Test
+  public void test_discountFactors() {
+    ZeroRateDiscountFactors test = ZeroRateDiscountFactors.of(GBP, DATE_VAL, CURVE);
+    LocalDate[] dates = {DATE_AFTER, DATE_VAL, DATE_VAL.plusYears(12), DATE_VAL.plusYears(3)};
+    double[] computed = new double[dates.length];
+    test.discountFactors(dates, computed);
+    for (int i = 0; i < dates.length; i++) {
+      assertThat(computed[i]).isEqualTo(test.discountFactor(dates[i]));
+    }
+  }
   
   @Test
   public void test_discountFactorTimeDerivative() {
@@ -264,6 +276,18 @@ public class ZeroRateDiscountFactorsTest {
     assertThat(test.parameterSensitivity(point).size()).isEqualTo(1);
   }
 
+  @Test
+  public void test_addParameterSensitivity() {
+    ZeroRateDiscountFactors test = ZeroRateDiscountFactors.of(GBP, DATE_VAL, CURVE);
+    ZeroRateSensitivity point1 = ZeroRateSensitivity.of(GBP, 1d, 1d);
+    ZeroRateSensitivity point2 = ZeroRateSensitivity.of(GBP, 3d, 2d);
+    CurrencyParameterSensitivitiesAccumulator accumulator = CurrencyParameterSensitivitiesAccumulator.create();
+    test.addParameterSensitivity(point1, accumulator);
+    test.addParameterSensitivity(point2, accumulator);
+    assertThat(accumulator.build())
+        .isEqualTo(test.parameterSensitivity(point1).combinedWith(test.parameterSensitivity(point2)));
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_createParameterSensitivity() {
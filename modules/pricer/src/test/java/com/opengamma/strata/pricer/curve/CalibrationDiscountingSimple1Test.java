@@ -36,12 +36,14 @@ import com.opengamma.strata.data.ImmutableMarketData;
 import com.opengamma.strata.data.ImmutableMarketDataBuilder;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.market.ValueType;
+import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveGroupName;
 import com.opengamma.strata.market.curve.CurveMetadata;
 import com.opengamma.strata.market.curve.CurveName;
 import com.opengamma.strata.market.curve.CurveNode;
 import com.opengamma.strata.market.curve.DefaultCurveMetadata;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurveDefinition;
+import com.opengamma.strata.market.curve.RatesCurveGroup;
 import com.opengamma.strata.market.curve.RatesCurveGroupDefinition;
 import com.opengamma.strata.market.curve.interpolator.CurveExtrapolator;
 import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
@@ -53,6 +55,7 @@ import com.opengamma.strata.market.curve.node.IborFixingDepositCurveNode;
 import com.opengamma.strata.market.observable.QuoteId;
 import com.opengamma.strata.pricer.deposit.DiscountingIborFixingDepositProductPricer;
 import com.opengamma.strata.pricer.fra.DiscountingFraTradePricer;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.pricer.swap.DiscountingSwapProductPricer;
 import com.opengamma.strata.product.ResolvedTrade;
@@ -211,6 +214,19 @@ public class CalibrationDiscountingSimple1Test {
     }
   }
 
+  @Test
+  public void calibration_initial_guess_group() {
+    ImmutableRatesProvider expected = CALIBRATOR.calibrate(CURVE_GROUP_DEFN, ALL_QUOTES, REF_DATA);
+    RatesCurveGroup guessGroup =
+        RatesCurveGroup.of(CURVE_GROUP_NAME, expected.getDiscountCurves(), expected.getIndexCurves());
+    ImmutableRatesProvider result = CALIBRATOR.calibrate(CURVE_GROUP_DEFN, ALL_QUOTES, REF_DATA, guessGroup);
+    Curve expectedCurve = expected.getDiscountCurves().get(USD);
+    Curve resultCurve = result.getDiscountCurves().get(USD);
+    for (int i = 0; i < expectedCurve.getParameterCount(); i++) {
+      assertThat(resultCurve.getParameter(i)).isCloseTo(expectedCurve.getParameter(i), offset(1e-10));
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Disabled
   void performance() {
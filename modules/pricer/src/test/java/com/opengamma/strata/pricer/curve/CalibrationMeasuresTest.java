@@ -5,13 +5,28 @@
  */
 package com.opengamma.strata.pricer.curve;
 
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.index.IborIndices.EUR_EURIBOR_6M;
+import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.index.IborIndexObservation;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.market.curve.CurveName;
+import com.opengamma.strata.market.curve.CurveParameterSize;
+import com.opengamma.strata.pricer.ZeroRateSensitivity;
 import com.opengamma.strata.pricer.datasets.ImmutableRatesProviderSimpleData;
+import com.opengamma.strata.pricer.rate.IborRateSensitivity;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
 import com.opengamma.strata.pricer.swap.SwapDummyData;
 import com.opengamma.strata.product.deposit.ResolvedIborFixingDepositTrade;
 import com.opengamma.strata.product.deposit.ResolvedTermDepositTrade;
@@ -25,6 +40,9 @@ import com.opengamma.strata.product.swap.ResolvedSwapTrade;
  */
 public class CalibrationMeasuresTest {
 
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final LocalDate DATE = date(2014, 7, 15);
+
   //-------------------------------------------------------------------------
   @Test
   public void test_PAR_SPREAD() {
@@ -81,6 +99,31 @@ public class CalibrationMeasuresTest {
             "Test", ImmutableList.of(TradeCalibrationMeasure.FRA_PAR_SPREAD, TradeCalibrationMeasure.FRA_PAR_SPREAD)));
   }
 
+  @Test
+  public void test_derivatives() {
+    ImmutableRatesProvider provider = ImmutableRatesProviderSimpleData.IMM_PROV_EUR_FIX;
+    List<CurveParameterSize> order = ImmutableList.of(
+        CurveParameterSize.of(CurveName.of("EUR-Discount"), 7),
+        CurveParameterSize.of(CurveName.of("EUR-EURIBOR6M"), 4));
+    List<ResolvedSwapTrade> trades = ImmutableList.of(SwapDummyData.SWAP_TRADE, SwapDummyData.SWAP_TRADE);
+    CalibrationMeasures test = CalibrationMeasures.of(
+        "Test",
+        TradeCalibrationMeasure.of(
+            "Test",
+            ResolvedSwapTrade.class,
+            (trade, prov) -> 0d,
+            (trade, prov) -> ZeroRateSensitivity.of(EUR, 0.6d, 1d).combinedWith(
+                IborRateSensitivity.of(IborIndexObservation.of(EUR_EURIBOR_6M, DATE, REF_DATA), 2d)).build()));
+    DoubleArray expected = test.derivative(SwapDummyData.SWAP_TRADE, provider, order);
+    assertThat(expected.size()).isEqualTo(11);
+    DoubleMatrix derivatives = test.derivatives(trades, provider, order);
+    assertThat(derivatives.rowCount()).isEqualTo(2);
+    assertThat(derivatives.row(0)).isEqualTo(expected);
+    assertThat(derivatives.row(1)).isEqualTo(expected);
+    DoubleArray diagonal = test.derivativesDiagonal(trades, provider, order);
+    assertThat(diagonal).isEqualTo(DoubleArray.of(expected.get(0), expected.get(1)));
+  }
+
   @Test
   public void test_measureNotKnown() {
     CalibrationMeasures test = CalibrationMeasures.of("Test", TradeCalibrationMeasure.FRA_PAR_SPREAD);
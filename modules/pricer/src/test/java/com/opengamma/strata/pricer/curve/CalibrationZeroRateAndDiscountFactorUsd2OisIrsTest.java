@@ -22,12 +22,16 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.StandardId;
 import com.opengamma.strata.basics.currency.Currency;
@@ -36,13 +40,17 @@ import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.basics.date.DayCount;
 import com.opengamma.strata.basics.date.Tenor;
 import com.opengamma.strata.basics.index.Index;
+import com.opengamma.strata.collect.DoubleArrayMath;
+import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.data.ImmutableMarketData;
 import com.opengamma.strata.data.ImmutableMarketDataBuilder;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.MarketDataId;
 import com.opengamma.strata.market.ValueType;
+import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveGroupName;
+import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.CurveMetadata;
 import com.opengamma.strata.market.curve.CurveName;
 import com.opengamma.strata.market.curve.CurveNode;
@@ -61,6 +69,7 @@ import com.opengamma.strata.market.observable.IndexQuoteId;
 import com.opengamma.strata.market.observable.QuoteId;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.math.rootfind.NewtonVectorRootFinder;
 import com.opengamma.strata.pricer.deposit.DiscountingIborFixingDepositProductPricer;
 import com.opengamma.strata.pricer.fra.DiscountingFraTradePricer;
 import com.opengamma.strata.pricer.rate.IborIndexRates;
@@ -253,6 +262,8 @@ public class CalibrationZeroRateAndDiscountFactorUsd2OisIrsTest {
   // Constants
   private static final double TOLERANCE_PV = 1.0E-6;
   private static final double TOLERANCE_PV_DELTA = 1.0E+2;
+  private static final double TOLERANCE_PARAMS = 1.0E-8;
+  private static final double TOLERANCE_JACOBIAN = 1.0E-6;
 
   private static final CurveGroupName CURVE_GROUP_NAME = CurveGroupName.of("USD-DSCON-LIBOR3M");
   private static final InterpolatedNodalCurveDefinition DSC_CURVE_DEFN =
@@ -322,6 +333,89 @@ public class CalibrationZeroRateAndDiscountFactorUsd2OisIrsTest {
     assertResult(result, ALL_QUOTES_BD);
   }
 
+  @Test
+  public void calibration_executor() {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      ImmutableRatesProvider expected = CALIBRATOR.calibrate(CURVE_GROUP_CONFIG, ALL_QUOTES_BD, REF_DATA);
+      ImmutableRatesProvider result =
+          CALIBRATOR.withExecutor(executor).calibrate(CURVE_GROUP_CONFIG, ALL_QUOTES_BD, REF_DATA);
+      assertThat(result.getCurves()).isEqualTo(expected.getCurves());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void calibration_executorSaturated() throws Exception {
+    // calibrating on the only thread of the executor used for the rows must not deadlock
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      ImmutableRatesProvider expected = CALIBRATOR.calibrate(CURVE_GROUP_CONFIG, ALL_QUOTES_BD, REF_DATA);
+      RatesCurveCalibrator calibrator = CALIBRATOR.withExecutor(executor);
+      ImmutableRatesProvider result = executor
+          .submit(() -> calibrator.calibrate(CURVE_GROUP_CONFIG, ALL_QUOTES_BD, REF_DATA))
+          .get(1, TimeUnit.MINUTES);
+      assertThat(result.getCurves()).isEqualTo(expected.getCurves());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void calibration_sparseBroyden() {
+    RatesCurveCalibrator calibrator = RatesCurveCalibrator.of(
+        NewtonVectorRootFinder.sparseBroyden(1e-9, 1e-9, 100),
+        CalibrationMeasures.PAR_SPREAD,
+        CalibrationMeasures.PRESENT_VALUE);
+    ImmutableRatesProvider result = calibrator.calibrate(CURVE_GROUP_CONFIG, ALL_QUOTES_BD, REF_DATA);
+    assertResult(result, ALL_QUOTES_BD);
+    assertRecalibrated(result, CALIBRATOR.calibrate(CURVE_GROUP_CONFIG, ALL_QUOTES_BD, REF_DATA));
+  }
+
+  @Test
+  public void recalibration_twoGroups() {
+    List<RatesCurveGroupDefinition> groups = ImmutableList.of(GROUP_1, GROUP_2);
+    ImmutableRatesProvider previous = CALIBRATOR.calibrate(groups, KNOWN_DATA, ALL_QUOTES_BD, REF_DATA);
+    // no change, all curves are reused
+    ImmutableRatesProvider unchanged =
+        CALIBRATOR.recalibrate(groups, KNOWN_DATA, ALL_QUOTES_BD, REF_DATA, previous, ImmutableSet.of());
+    assertThat(unchanged.getCurves()).isEqualTo(previous.getCurves());
+    // change to the second group, the first group is reused
+    QuoteId fwdId = QuoteId.of(StandardId.of(SCHEME, FWD3_ID_VALUE[5]));
+    ImmutableMarketData fwdQuotes = ALL_QUOTES_BD.toBuilder().addValue(fwdId, FWD3_MARKET_QUOTES[5] + 1e-4).build();
+    ImmutableRatesProvider fwdExpected = CALIBRATOR.calibrate(groups, KNOWN_DATA, fwdQuotes, REF_DATA);
+    ImmutableRatesProvider fwdResult =
+        CALIBRATOR.recalibrate(groups, KNOWN_DATA, fwdQuotes, REF_DATA, previous, ImmutableSet.of(fwdId));
+    assertThat(fwdResult.getCurves().get(DSCON_CURVE_NAME)).isEqualTo(previous.getCurves().get(DSCON_CURVE_NAME));
+    assertRecalibrated(fwdResult, fwdExpected);
+    assertResult(fwdResult, fwdQuotes);
+    // change to the first group, both groups are recalibrated
+    QuoteId dscId = QuoteId.of(StandardId.of(SCHEME, DSC_ID_VALUE[5]));
+    ImmutableMarketData dscQuotes = ALL_QUOTES_BD.toBuilder().addValue(dscId, DSC_MARKET_QUOTES[5] + 1e-4).build();
+    ImmutableRatesProvider dscExpected = CALIBRATOR.calibrate(groups, KNOWN_DATA, dscQuotes, REF_DATA);
+    ImmutableRatesProvider dscResult =
+        CALIBRATOR.recalibrate(groups, KNOWN_DATA, dscQuotes, REF_DATA, previous, ImmutableSet.of(dscId));
+    assertRecalibrated(dscResult, dscExpected);
+    assertResult(dscResult, dscQuotes);
+  }
+
+  private void assertRecalibrated(ImmutableRatesProvider result, ImmutableRatesProvider expected) {
+    for (CurveName name : ImmutableList.of(DSCON_CURVE_NAME, FWD3_CURVE_NAME)) {
+      Curve resultCurve = result.getCurves().get(name);
+      Curve expectedCurve = expected.getCurves().get(name);
+      for (int i = 0; i < expectedCurve.getParameterCount(); i++) {
+        assertThat(resultCurve.getParameter(i)).isCloseTo(expectedCurve.getParameter(i), offset(TOLERANCE_PARAMS));
+      }
+      DoubleMatrix resultJacobian = resultCurve.getMetadata().getInfo(CurveInfoType.JACOBIAN).getJacobianMatrix();
+      DoubleMatrix expectedJacobian = expectedCurve.getMetadata().getInfo(CurveInfoType.JACOBIAN).getJacobianMatrix();
+      for (int i = 0; i < expectedJacobian.rowCount(); i++) {
+        assertThat(DoubleArrayMath.fuzzyEquals(
+            resultJacobian.row(i).toArray(), expectedJacobian.row(i).toArray(), TOLERANCE_JACOBIAN)).isTrue();
+      }
+    }
+  }
+
   private void assertResult(RatesProvider result, ImmutableMarketData allQuotes) {
     // Test PV Dsc
     CurveNode[] dscNodes = CURVES_NODES.get(0).get(0);
@@ -19,6 +19,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -202,6 +203,22 @@ public class DiscountingFraProductPricerTest {
     assertThat(computed.getAmount()).isCloseTo(0d, offset(TOLERANCE));
   }
 
+  /**
+   * Test present value of a batch of FRAs.
+   */
+  @Test
+  public void test_presentValue_batch() {
+    List<ResolvedFra> fras = ImmutableList.of(RFRA, RFRA_NONE, FRA_PAID.resolve(REF_DATA), RFRA_AFMA);
+    DiscountingFraProductPricer test = DiscountingFraProductPricer.DEFAULT;
+    List<CurrencyAmount> computed = test.presentValue(fras, IMM_PROV);
+    assertThat(computed).hasSize(fras.size());
+    for (int i = 0; i < fras.size(); i++) {
+      CurrencyAmount expected = test.presentValue(fras.get(i), IMM_PROV);
+      assertThat(computed.get(i).getCurrency()).isEqualTo(expected.getCurrency());
+      assertThat(computed.get(i).getAmount()).isCloseTo(expected.getAmount(), offset(RFRA.getNotional() * TOLERANCE));
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Test forecast value sensitivity for ISDA FRA discounting method.
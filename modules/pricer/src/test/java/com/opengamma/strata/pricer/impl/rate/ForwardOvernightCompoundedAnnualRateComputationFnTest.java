@@ -14,6 +14,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -36,6 +37,7 @@ import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.PricingException;
 import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.rate.OvernightCompoundedIndexSeries;
 import com.opengamma.strata.pricer.rate.OvernightIndexRates;
 import com.opengamma.strata.pricer.rate.OvernightRateSensitivity;
 import com.opengamma.strata.pricer.rate.SimpleRatesProvider;
@@ -364,4 +366,30 @@ public class ForwardOvernightCompoundedAnnualRateComputationFnTest {
     }
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_rateCompoundedIndexSeries() {
+    LocalDate[] valuationDate = {date(2015, 1, 9), date(2015, 1, 13), date(2015, 1, 15), date(2015, 1, 16)};
+    OvernightCompoundedAnnualRateComputation ro =
+        OvernightCompoundedAnnualRateComputation.of(BRL_CDI, FIXING_START_DATE, FIXING_END_DATE, REF_DATA);
+    OvernightCompoundedIndexSeries series =
+        OvernightCompoundedIndexSeries.of(BRL_CDI, ro.getFixingCalendar(), TIME_SERIES);
+    for (int loopvaldate = 0; loopvaldate < valuationDate.length; loopvaldate++) {
+      OvernightIndexRates mockRates = mock(OvernightIndexRates.class);
+      when(mockRates.getIndex()).thenReturn(BRL_CDI);
+      when(mockRates.getValuationDate()).thenReturn(valuationDate[loopvaldate]);
+      when(mockRates.getFixings()).thenReturn(TIME_SERIES);
+      OvernightIndexRates mockRatesSeries = mock(OvernightIndexRates.class);
+      when(mockRatesSeries.getIndex()).thenReturn(BRL_CDI);
+      when(mockRatesSeries.getValuationDate()).thenReturn(valuationDate[loopvaldate]);
+      when(mockRatesSeries.getFixings()).thenReturn(TIME_SERIES);
+      when(mockRatesSeries.findCompoundedIndexSeries(ro.getFixingCalendar())).thenReturn(Optional.of(series));
+      double rateExpected = OBS_BRL_FWD_ONCMP.rate(
+          ro, DUMMY_ACCRUAL_START_DATE, DUMMY_ACCRUAL_END_DATE, new SimpleRatesProvider(mockRates));
+      double rateComputed = OBS_BRL_FWD_ONCMP.rate(
+          ro, DUMMY_ACCRUAL_START_DATE, DUMMY_ACCRUAL_END_DATE, new SimpleRatesProvider(mockRatesSeries));
+      assertThat(rateComputed).isCloseTo(rateExpected, offset(TOLERANCE_RATE));
+    }
+  }
+
 }
@@ -17,6 +17,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -38,6 +39,7 @@ import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.PricingException;
 import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.rate.OvernightCompoundedIndexSeries;
 import com.opengamma.strata.pricer.rate.OvernightIndexRates;
 import com.opengamma.strata.pricer.rate.OvernightRateSensitivity;
 import com.opengamma.strata.pricer.rate.SimpleRatesProvider;
@@ -1102,4 +1104,34 @@ public class ForwardOvernightCompoundedRateComputationFnTest {
     }
   }
 
+  //-------------------------------------------------------------------------
+  /** Past fixings compounded using the compounded index series, compared to walking the fixings. */
+  @Test
+  public void rateCompoundedIndexSeries() {
+    LocalDate[] valuationDate =
+        {date(2015, 1, 9), date(2015, 1, 12), date(2015, 1, 13), date(2015, 1, 14), date(2015, 1, 16)};
+    for (int cutoff : new int[] {0, 2}) {
+      OvernightCompoundedRateComputation ro =
+          OvernightCompoundedRateComputation.of(USD_FED_FUND, FIXING_START_DATE, FIXING_END_DATE, cutoff, REF_DATA);
+      OvernightCompoundedIndexSeries series =
+          OvernightCompoundedIndexSeries.of(USD_FED_FUND, ro.getFixingCalendar(), TIME_SERIES);
+      for (int loopvaldate = 0; loopvaldate < valuationDate.length; loopvaldate++) {
+        OvernightIndexRates mockRates = mock(OvernightIndexRates.class);
+        when(mockRates.getIndex()).thenReturn(USD_FED_FUND);
+        when(mockRates.getValuationDate()).thenReturn(valuationDate[loopvaldate]);
+        when(mockRates.getFixings()).thenReturn(TIME_SERIES);
+        OvernightIndexRates mockRatesSeries = mock(OvernightIndexRates.class);
+        when(mockRatesSeries.getIndex()).thenReturn(USD_FED_FUND);
+        when(mockRatesSeries.getValuationDate()).thenReturn(valuationDate[loopvaldate]);
+        when(mockRatesSeries.getFixings()).thenReturn(TIME_SERIES);
+        when(mockRatesSeries.findCompoundedIndexSeries(ro.getFixingCalendar())).thenReturn(Optional.of(series));
+        double rateExpected = OBS_FWD_ONCMP.rate(
+            ro, DUMMY_ACCRUAL_START_DATE, DUMMY_ACCRUAL_END_DATE, new SimpleRatesProvider(mockRates));
+        double rateComputed = OBS_FWD_ONCMP.rate(
+            ro, DUMMY_ACCRUAL_START_DATE, DUMMY_ACCRUAL_END_DATE, new SimpleRatesProvider(mockRatesSeries));
+        assertThat(rateComputed).isCloseTo(rateExpected, offset(TOLERANCE_RATE));
+      }
+    }
+  }
+
 }
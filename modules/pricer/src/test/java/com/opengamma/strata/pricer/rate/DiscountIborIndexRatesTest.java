@@ -34,6 +34,7 @@ import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.ZeroRateDiscountFactors;
 
@@ -209,6 +210,26 @@ public class DiscountIborIndexRatesTest {
     DiscountIborIndexRates test = DiscountIborIndexRates.of(GBP_LIBOR_3M, DFCURVE, SERIES);
     IborRateSensitivity point = IborRateSensitivity.of(GBP_LIBOR_3M_AFTER, GBP, 1d);
     assertThat(test.parameterSensitivity(point).size()).isEqualTo(1);
+    // forward = (dfStart / dfEnd - 1) / accrualFactor
+    LocalDate startDate = GBP_LIBOR_3M_AFTER.getEffectiveDate();
+    LocalDate endDate = GBP_LIBOR_3M_AFTER.getMaturityDate();
+    double accrualFactor = GBP_LIBOR_3M_AFTER.getYearFraction();
+    double dfStart = DFCURVE.discountFactor(startDate);
+    double dfEnd = DFCURVE.discountFactor(endDate);
+    CurrencyParameterSensitivities expected = DFCURVE.parameterSensitivity(DFCURVE.zeroRatePointSensitivity(startDate))
+        .multipliedBy(1d / (accrualFactor * dfEnd))
+        .combinedWith(DFCURVE.parameterSensitivity(DFCURVE.zeroRatePointSensitivity(endDate))
+            .multipliedBy(-dfStart / (accrualFactor * dfEnd * dfEnd)));
+    assertThat(test.parameterSensitivity(point).equalWithTolerance(expected, 1e-12)).isTrue();
+  }
+
+  @Test
+  public void test_addParameterSensitivity() {
+    DiscountIborIndexRates test = DiscountIborIndexRates.of(GBP_LIBOR_3M, DFCURVE, SERIES);
+    IborRateSensitivity point = IborRateSensitivity.of(GBP_LIBOR_3M_AFTER, GBP, 2d);
+    CurrencyParameterSensitivitiesAccumulator accumulator = CurrencyParameterSensitivitiesAccumulator.create();
+    test.addParameterSensitivity(point, accumulator);
+    assertThat(accumulator.build().equalWithTolerance(test.parameterSensitivity(point), 1e-12)).isTrue();
   }
 
   //-------------------------------------------------------------------------
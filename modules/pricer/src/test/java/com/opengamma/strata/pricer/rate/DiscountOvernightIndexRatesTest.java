@@ -23,6 +23,7 @@ import java.util.Optional;
 import org.junit.jupiter.api.Test;
 
 import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.date.HolidayCalendar;
 import com.opengamma.strata.basics.index.OvernightIndexObservation;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
@@ -106,6 +107,16 @@ public class DiscountOvernightIndexRatesTest {
     assertThat(test.getDiscountFactors()).isEqualTo(DFCURVE);
   }
 
+  @Test
+  public void test_findCompoundedIndexSeries() {
+    HolidayCalendar calendar = EUR_EONIA.getFixingCalendar().resolve(REF_DATA);
+    DiscountOvernightIndexRates test = DiscountOvernightIndexRates.of(EUR_EONIA, DFCURVE, SERIES);
+    assertThat(test.findCompoundedIndexSeries(calendar))
+        .hasValue(OvernightCompoundedIndexSeries.of(EUR_EONIA, calendar, SERIES));
+    DiscountOvernightIndexRates testEmpty = DiscountOvernightIndexRates.of(EUR_EONIA, DFCURVE);
+    assertThat(testEmpty.findCompoundedIndexSeries(calendar)).isEmpty();
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_withDiscountFactors() {
@@ -22,6 +22,7 @@ import java.util.Optional;
 import org.junit.jupiter.api.Test;
 
 import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.date.HolidayCalendar;
 import com.opengamma.strata.basics.index.OvernightIndexObservation;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
@@ -70,6 +71,16 @@ public class HistoricOvernightIndexRatesTest {
     assertThat(test.findData(CurveName.of("Rubbish"))).isEqualTo(Optional.empty());
   }
 
+  @Test
+  public void test_findCompoundedIndexSeries() {
+    HolidayCalendar calendar = GBP_SONIA.getFixingCalendar().resolve(REF_DATA);
+    HistoricOvernightIndexRates test = HistoricOvernightIndexRates.of(GBP_SONIA, DATE_VAL, SERIES);
+    assertThat(test.findCompoundedIndexSeries(calendar))
+        .hasValue(OvernightCompoundedIndexSeries.of(GBP_SONIA, calendar, SERIES));
+    HistoricOvernightIndexRates testEmpty = HistoricOvernightIndexRates.of(GBP_SONIA, DATE_VAL, SERIES_EMPTY);
+    assertThat(testEmpty.findCompoundedIndexSeries(calendar)).isEmpty();
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_rate_beforeValuation_fixing() {
@@ -297,6 +297,39 @@ public class ImmutableRatesProviderTest {
     assertThatIllegalArgumentException().isThrownBy(() -> test.priceIndexValues(inactiveIndex));
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_withDiscountCurve() {
+    LocalDateDoubleTimeSeries ts = LocalDateDoubleTimeSeries.of(PREV_DATE, 0.62d);
+    ImmutableRatesProvider base = ImmutableRatesProvider.builder(VAL_DATE)
+        .fxRateProvider(FX_MATRIX)
+        .discountCurve(GBP, DISCOUNT_CURVE_GBP)
+        .indexCurve(USD_LIBOR_3M, USD_LIBOR_CURVE, ts)
+        .build();
+    ImmutableRatesProvider test = base.withDiscountCurve(GBP, DISCOUNT_CURVE_USD);
+    assertThat(test).isEqualTo(base.toBuilder().discountCurve(GBP, DISCOUNT_CURVE_USD).build());
+    assertThat(test.getIndexCurves()).isSameAs(base.getIndexCurves());
+    assertThat(test.getTimeSeries()).isSameAs(base.getTimeSeries());
+    assertThat(base.withDiscountCurve(USD, DISCOUNT_CURVE_USD))
+        .isEqualTo(base.toBuilder().discountCurve(USD, DISCOUNT_CURVE_USD).build());
+  }
+
+  @Test
+  public void test_withIndexCurve() {
+    LocalDateDoubleTimeSeries ts = LocalDateDoubleTimeSeries.of(PREV_DATE, 0.62d);
+    ImmutableRatesProvider base = ImmutableRatesProvider.builder(VAL_DATE)
+        .fxRateProvider(FX_MATRIX)
+        .discountCurve(GBP, DISCOUNT_CURVE_GBP)
+        .indexCurve(USD_LIBOR_3M, USD_LIBOR_CURVE, ts)
+        .build();
+    ImmutableRatesProvider test = base.withIndexCurve(USD_LIBOR_3M, FED_FUND_CURVE);
+    assertThat(test).isEqualTo(base.toBuilder().indexCurve(USD_LIBOR_3M, FED_FUND_CURVE).build());
+    assertThat(test.getDiscountCurves()).isSameAs(base.getDiscountCurves());
+    assertThat(test.getTimeSeries()).isSameAs(base.getTimeSeries());
+    assertThat(base.withIndexCurve(USD_FED_FUND, FED_FUND_CURVE))
+        .isEqualTo(base.toBuilder().indexCurve(USD_FED_FUND, FED_FUND_CURVE).build());
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_getCurves() {
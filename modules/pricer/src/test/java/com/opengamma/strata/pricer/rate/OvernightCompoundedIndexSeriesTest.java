@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.rate;
+
+import static com.opengamma.strata.basics.index.OvernightIndices.GBP_SONIA;
+import static com.opengamma.strata.basics.index.OvernightIndices.USD_FED_FUND;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Offset.offset;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.date.HolidayCalendar;
+import com.opengamma.strata.basics.index.OvernightIndexObservation;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeriesBuilder;
+
+/**
+ * Test {@link OvernightCompoundedIndexSeries}.
+ */
+public class OvernightCompoundedIndexSeriesTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final HolidayCalendar USNY = USD_FED_FUND.getFixingCalendar().resolve(REF_DATA);
+  private static final LocalDate START = date(2015, 1, 2);
+  private static final LocalDate END = date(2015, 3, 2);
+  private static final LocalDate MISSING = date(2015, 2, 10);
+  private static final LocalDateDoubleTimeSeries FIXINGS;
+  private static final LocalDateDoubleTimeSeries FIXINGS_MISSING;
+  static {
+    LocalDateDoubleTimeSeriesBuilder builder = LocalDateDoubleTimeSeries.builder();
+    LocalDate date = START;
+    int i = 0;
+    while (!date.isAfter(END)) {
+      builder.put(date, 0.0010 + 0.0001 * i++);
+      date = USNY.next(date);
+    }
+    FIXINGS = builder.build();
+    FIXINGS_MISSING = FIXINGS.filter((d, v) -> !d.equals(MISSING));
+  }
+  private static final double TOLERANCE = 1e-14;
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of() {
+    OvernightCompoundedIndexSeries test = OvernightCompoundedIndexSeries.of(USD_FED_FUND, USNY, FIXINGS);
+    assertThat(test.getIndex()).isEqualTo(USD_FED_FUND);
+    assertThat(OvernightCompoundedIndexSeries.of(USD_FED_FUND, USNY, FIXINGS)).isSameAs(test);
+    assertThat(OvernightCompoundedIndexSeries.of(GBP_SONIA, USNY, FIXINGS)).isNotSameAs(test);
+    assertThat(test.toString()).contains(USD_FED_FUND.getName());
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_compositionFactor() {
+    OvernightCompoundedIndexSeries test = OvernightCompoundedIndexSeries.of(USD_FED_FUND, USNY, FIXINGS);
+    LocalDate[] startDates = {START, date(2015, 1, 16), date(2015, 1, 20), date(2015, 2, 27)};
+    LocalDate[] endDates = {date(2015, 1, 5), date(2015, 1, 20), date(2015, 2, 27), USNY.next(END)};
+    for (LocalDate startDate : startDates) {
+      for (LocalDate endDate : endDates) {
+        double expected = 1d;
+        double expectedAnnual = 1d;
+        for (LocalDate date = startDate; date.isBefore(endDate); date = USNY.next(date)) {
+          double yearFraction = OvernightIndexObservation.of(USD_FED_FUND, date, REF_DATA).getYearFraction();
+          double rate = FIXINGS.get(date).getAsDouble();
+          expected *= 1d + yearFraction * rate;
+          expectedAnnual *= Math.pow(1d + rate, yearFraction);
+        }
+        assertThat(test.compositionFactor(startDate, endDate).getAsDouble()).isCloseTo(expected, offset(TOLERANCE));
+        assertThat(test.annualCompositionFactor(startDate, endDate).getAsDouble())
+            .isCloseTo(expectedAnnual, offset(TOLERANCE));
+      }
+    }
+  }
+
+  @Test
+  public void test_compositionFactor_notCovered() {
+    OvernightCompoundedIndexSeries test = OvernightCompoundedIndexSeries.of(USD_FED_FUND, USNY, FIXINGS);
+    // before the first fixing, after the last fixing, not a fixing date
+    assertThat(test.compositionFactor(date(2014, 12, 31), date(2015, 1, 5))).isEmpty();
+    assertThat(test.compositionFactor(START, USNY.next(USNY.next(END)))).isEmpty();
+    assertThat(test.compositionFactor(START, date(2015, 1, 19))).isEmpty();
+    // missing fixing
+    OvernightCompoundedIndexSeries testMissing =
+        OvernightCompoundedIndexSeries.of(USD_FED_FUND, USNY, FIXINGS_MISSING);
+    assertThat(testMissing.compositionFactor(START, END)).isEmpty();
+    assertThat(testMissing.annualCompositionFactor(START, END)).isEmpty();
+    assertThat(testMissing.compositionFactor(START, MISSING)).isPresent();
+    assertThat(testMissing.compositionFactor(USNY.next(MISSING), END)).isPresent();
+    // empty
+    OvernightCompoundedIndexSeries testEmpty =
+        OvernightCompoundedIndexSeries.of(USD_FED_FUND, USNY, LocalDateDoubleTimeSeries.empty());
+    assertThat(testEmpty.compositionFactor(START, END)).isEmpty();
+    assertThat(testEmpty.compositionFactor(START, START)).hasValue(1d);
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_rateSum() {
+    OvernightCompoundedIndexSeries test = OvernightCompoundedIndexSeries.of(USD_FED_FUND, USNY, FIXINGS);
+    LocalDate[] startDates = {START, date(2015, 1, 17), date(2015, 1, 19), date(2015, 2, 28)};
+    LocalDate[] endDates = {date(2015, 1, 3), date(2015, 1, 20), date(2015, 2, 28), date(2015, 3, 3)};
+    for (LocalDate startDate : startDates) {
+      for (LocalDate endDate : endDates) {
+        double expected = 0d;
+        for (LocalDate date = startDate; date.isBefore(endDate); date = date.plusDays(1)) {
+          expected += FIXINGS.get(USNY.previousOrSame(date)).getAsDouble();
+        }
+        assertThat(test.rateSum(startDate, endDate).getAsDouble()).isCloseTo(expected, offset(TOLERANCE));
+      }
+    }
+  }
+
+  @Test
+  public void test_rateSum_notCovered() {
+    OvernightCompoundedIndexSeries test = OvernightCompoundedIndexSeries.of(USD_FED_FUND, USNY, FIXINGS);
+    assertThat(test.rateSum(START.minusDays(1), END)).isEmpty();
+    assertThat(test.rateSum(START, USNY.next(END).plusDays(1))).isEmpty();
+    OvernightCompoundedIndexSeries testMissing =
+        OvernightCompoundedIndexSeries.of(USD_FED_FUND, USNY, FIXINGS_MISSING);
+    assertThat(testMissing.rateSum(START, END)).isEmpty();
+    assertThat(testMissing.rateSum(START, MISSING)).isPresent();
+    assertThat(testMissing.rateSum(MISSING.plusDays(1), END)).isPresent();
+  }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2020 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.sensitivity;
+
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_3M;
+import static com.opengamma.strata.basics.index.OvernightIndices.USD_FED_FUND;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.index.IborIndexObservation;
+import com.opengamma.strata.basics.index.OvernightIndexObservation;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.math.impl.differentiation.AadDouble;
+import com.opengamma.strata.pricer.datasets.RatesProviderDataSets;
+import com.opengamma.strata.pricer.fra.DiscountingFraProductPricer;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.fra.Fra;
+import com.opengamma.strata.product.fra.ResolvedFra;
+
+/**
+ * Test {@link AadRatesProvider}.
+ */
+public class AadRatesProviderTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final ImmutableRatesProvider PROVIDER = RatesProviderDataSets.MULTI_USD;
+  private static final ResolvedFra FRA = Fra.builder()
+      .buySell(BuySell.BUY)
+      .notional(1_000_000d)
+      .startDate(LocalDate.of(2014, 9, 12))
+      .endDate(LocalDate.of(2014, 12, 12))
+      .index(USD_LIBOR_3M)
+      .fixedRate(0.0125d)
+      .build()
+      .resolve(REF_DATA);
+  private static final double TOLERANCE = 1e-8;
+  private static final RatesFiniteDifferenceSensitivityCalculator FD_CALC =
+      new RatesFiniteDifferenceSensitivityCalculator(1e-7);
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_fra_presentValue() {
+    AadRatesProvider test = AadRatesProvider.of(PROVIDER);
+    AadDouble pv = fraPresentValue(FRA, test);
+    CurrencyAmount expectedPv = DiscountingFraProductPricer.DEFAULT.presentValue(FRA, PROVIDER);
+    assertThat(pv.getValue()).isCloseTo(expectedPv.getAmount(), offset(TOLERANCE));
+
+    PointSensitivities pts = DiscountingFraProductPricer.DEFAULT.presentValueSensitivity(FRA, PROVIDER);
+    CurrencyParameterSensitivities expected = PROVIDER.parameterSensitivity(pts);
+    CurrencyParameterSensitivities computed = test.parameterSensitivity(pv, USD);
+    assertThat(computed.equalWithTolerance(expected, TOLERANCE)).isTrue();
+  }
+
+  @Test
+  public void test_iborIndexRate() {
+    IborIndexObservation obs = IborIndexObservation.of(USD_LIBOR_3M, LocalDate.of(2015, 3, 10), REF_DATA);
+    AadRatesProvider test = AadRatesProvider.of(PROVIDER);
+    AadDouble rate = test.iborIndexRate(obs);
+    AadDouble df = test.discountFactor(USD, obs.getMaturityDate());
+    AadDouble value = rate.multipliedBy(df).multipliedBy(1_000_000d);
+    CurrencyParameterSensitivities expected = FD_CALC.sensitivity(
+        PROVIDER,
+        p -> CurrencyAmount.of(USD, 1_000_000d * p.iborIndexRates(USD_LIBOR_3M).rate(obs) *
+            p.discountFactor(USD, obs.getMaturityDate())));
+    assertThat(test.parameterSensitivity(value, USD).equalWithTolerance(expected, 1e-1)).isTrue();
+  }
+
+  @Test
+  public void test_discountFactor() {
+    LocalDate date = LocalDate.of(2016, 7, 21);
+    AadRatesProvider test = AadRatesProvider.of(PROVIDER);
+    AadDouble df = test.discountFactor(USD, date);
+    assertThat(df.getValue()).isCloseTo(PROVIDER.discountFactor(USD, date), offset(TOLERANCE));
+    CurrencyParameterSensitivities expected =
+        PROVIDER.parameterSensitivity(PROVIDER.discountFactors(USD).zeroRatePointSensitivity(date).build());
+    assertThat(test.parameterSensitivity(df, USD).equalWithTolerance(expected, TOLERANCE)).isTrue();
+  }
+
+  @Test
+  public void test_overnightIndexRate() {
+    OvernightIndexObservation obs = OvernightIndexObservation.of(USD_FED_FUND, LocalDate.of(2015, 3, 10), REF_DATA);
+    AadRatesProvider test = AadRatesProvider.of(PROVIDER);
+    AadDouble rate = test.overnightIndexRate(obs);
+    assertThat(rate.getValue()).isCloseTo(PROVIDER.overnightIndexRates(USD_FED_FUND).rate(obs), offset(TOLERANCE));
+    CurrencyParameterSensitivities expected =
+        PROVIDER.parameterSensitivity(PROVIDER.overnightIndexRates(USD_FED_FUND).ratePointSensitivity(obs).build());
+    assertThat(test.parameterSensitivity(rate, USD).equalWithTolerance(expected, TOLERANCE)).isTrue();
+  }
+
+  @Test
+  public void test_iborIndexRate_fixed() {
+    IborIndexObservation obs = IborIndexObservation.of(USD_LIBOR_3M, LocalDate.of(2014, 1, 10), REF_DATA);
+    ImmutableRatesProvider provider = PROVIDER.toBuilder()
+        .timeSeries(USD_LIBOR_3M, LocalDateDoubleTimeSeries.of(obs.getFixingDate(), 0.02d))
+        .build();
+    AadDouble rate = AadRatesProvider.of(provider).iborIndexRate(obs);
+    assertThat(rate.isActive()).isFalse();
+    assertThat(rate.getValue()).isEqualTo(0.02d);
+  }
+
+  @Test
+  public void test_curveValue() {
+    Curve curve = PROVIDER.getDiscountCurves().get(USD);
+    AadRatesProvider test = AadRatesProvider.of(PROVIDER);
+    AadDouble value = test.curveValue(curve, 1.5d).multipliedBy(2d);
+    assertThat(value.getValue()).isCloseTo(2d * curve.yValue(1.5d), offset(TOLERANCE));
+    DoubleArray sensitivity = curve.yValueParameterSensitivity(1.5d).getSensitivity().multipliedBy(2d);
+    CurrencyParameterSensitivities expected =
+        CurrencyParameterSensitivities.of(curve.createParameterSensitivity(USD, sensitivity));
+    assertThat(test.parameterSensitivity(value, USD).equalWithTolerance(expected, TOLERANCE)).isTrue();
+  }
+
+  @Test
+  public void test_curveValue_notCurve() {
+    AadRatesProvider test = AadRatesProvider.of(ImmutableRatesProvider.builder(PROVIDER.getValuationDate()).build());
+    assertThatIllegalArgumentException().isThrownBy(() -> test.discountFactor(USD, FRA.getPaymentDate()));
+  }
+
+  // the present value of a FRA with ISDA discounting
+  private static AadDouble fraPresentValue(ResolvedFra fra, AadRatesProvider provider) {
+    AadDouble rate = provider.rate(fra.getFloatingRate(), fra.getStartDate(), fra.getEndDate());
+    AadDouble df = provider.discountFactor(fra.getCurrency(), fra.getPaymentDate());
+    double yearFraction = fra.getYearFraction();
+    return rate.minus(fra.getFixedRate())
+        .dividedBy(rate.multipliedBy(yearFraction).plus(1d))
+        .multipliedBy(df)
+        .multipliedBy(fra.getNotional() * yearFraction);
+  }
+
+}
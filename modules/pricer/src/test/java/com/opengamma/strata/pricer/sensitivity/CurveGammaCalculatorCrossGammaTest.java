@@ -14,6 +14,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -401,6 +402,23 @@ public class CurveGammaCalculatorCrossGammaTest {
     }
   }
 
+  @Test
+  public void sensitivity_parallel() {
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      CurveGammaCalculator parallel = CENTRAL.withExecutor(pool);
+      assertThat(parallel.calculateCrossGammaIntraCurve(RatesProviderDataSets.MULTI_CPI_USD, this::sensiFn))
+          .isEqualTo(CENTRAL.calculateCrossGammaIntraCurve(RatesProviderDataSets.MULTI_CPI_USD, this::sensiFn));
+      assertThat(parallel.calculateCrossGammaCrossCurve(RatesProviderDataSets.MULTI_CPI_USD, this::sensiFn))
+          .isEqualTo(CENTRAL.calculateCrossGammaCrossCurve(RatesProviderDataSets.MULTI_CPI_USD, this::sensiFn));
+      ImmutableLegalEntityDiscountingProvider bondProvider = RatesProviderDataSets.MULTI_BOND_COMBINED;
+      assertThat(parallel.calculateCrossGammaIntraCurve(bondProvider, this::sensiCombinedFnBond))
+          .isEqualTo(CENTRAL.calculateCrossGammaIntraCurve(bondProvider, this::sensiCombinedFnBond));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
   @Test
   public void sensitivity_multi_combined_bond_curve() {
     CrossGammaParameterSensitivities sensiComputed =
@@ -8,6 +8,7 @@ package com.opengamma.strata.pricer.swap;
 import static com.opengamma.strata.basics.currency.Currency.GBP;
 import static com.opengamma.strata.basics.currency.Currency.USD;
 import static com.opengamma.strata.basics.date.BusinessDayConventions.FOLLOWING;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
 import static com.opengamma.strata.basics.date.DayCounts.ONE_ONE;
 import static com.opengamma.strata.basics.date.HolidayCalendarIds.GBLO;
 import static com.opengamma.strata.basics.date.Tenor.TENOR_10Y;
@@ -48,6 +49,7 @@ import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.time.Period;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
@@ -67,6 +69,7 @@ import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.market.amount.CashFlow;
 import com.opengamma.strata.market.amount.CashFlows;
+import com.opengamma.strata.market.curve.ConstantCurve;
 import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.Curves;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
@@ -76,6 +79,7 @@ import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.ZeroRateSensitivity;
 import com.opengamma.strata.pricer.datasets.RatesProviderDataSets;
 import com.opengamma.strata.pricer.impl.MockRatesProvider;
@@ -146,17 +150,25 @@ public class DiscountingSwapLegPricerTest {
         .paymentPeriods(FIXED_RATE_PAYMENT_PERIOD_PAY_USD, FIXED_RATE_PAYMENT_PERIOD_PAY_USD_2)
         .build();
     RatesProvider mockProv = mock(RatesProvider.class);
-    double df1 = 0.99d;
-    when(mockProv.discountFactor(USD, FIXED_RATE_PAYMENT_PERIOD_PAY_USD.getPaymentDate()))
-        .thenReturn(df1);
-    double df2 = 0.98d;
-    when(mockProv.discountFactor(USD, FIXED_RATE_PAYMENT_PERIOD_PAY_USD_2.getPaymentDate()))
-        .thenReturn(df2);
+    LocalDate date1 = FIXED_RATE_PAYMENT_PERIOD_PAY_USD.getPaymentDate();
+    LocalDate date2 = FIXED_RATE_PAYMENT_PERIOD_PAY_USD_2.getPaymentDate();
+    DiscountFactors dfs = nodalDiscountFactors(USD, new LocalDate[] {date1, date2}, 0.99d, 0.98d);
+    double df1 = dfs.discountFactor(date1);
+    double df2 = dfs.discountFactor(date2);
+    assertThat(df1).isCloseTo(0.99d, offset(TOLERANCE));
+    assertThat(df2).isCloseTo(0.98d, offset(TOLERANCE));
+    when(mockProv.discountFactor(USD, date1)).thenReturn(df1);
+    when(mockProv.discountFactor(USD, date2)).thenReturn(df2);
     when(mockProv.getValuationDate()).thenReturn(RatesProviderDataSets.VAL_DATE_2014_01_22);
+    when(mockProv.discountFactors(USD)).thenReturn(dfs);
     double pvbp = PRICER_LEG.pvbp(leg, mockProv);
     double ceExpected = PRICER_LEG.presentValuePeriodsInternal(leg, mockProv) / pvbp;
     double ceComputed = PRICER_LEG.couponEquivalent(leg, mockProv, pvbp);
     assertThat(ceComputed).isCloseTo(ceExpected, offset(TOLERANCE));
+    SwapPaymentPeriodPricer<SwapPaymentPeriod> periodPricer = SwapPaymentPeriodPricer.standard();
+    double pvExpected = periodPricer.presentValue(FIXED_RATE_PAYMENT_PERIOD_PAY_USD, df1, mockProv) +
+        periodPricer.presentValue(FIXED_RATE_PAYMENT_PERIOD_PAY_USD_2, df2, mockProv);
+    assertThat(PRICER_LEG.presentValuePeriodsInternal(leg, mockProv)).isCloseTo(pvExpected, offset(TOLERANCE));
   }
 
   //-------------------------------------------------------------------------
@@ -203,6 +215,7 @@ public class DiscountingSwapLegPricerTest {
     double df1 = 0.99d;
     when(mockProv.discountFactor(GBP, p.getPaymentDate()))
         .thenReturn(df1);
+    when(mockProv.discountFactors(GBP)).thenReturn(constantDiscountFactors(GBP, df1));
     double spread = 1.0E-6;
     RateAccrualPeriod ap1 = FIXED_RATE_ACCRUAL_PERIOD.toBuilder().spread(spread).build();
     RateAccrualPeriod ap2 = FIXED_RATE_ACCRUAL_PERIOD_2.toBuilder().spread(spread).build();
@@ -284,6 +297,32 @@ public class DiscountingSwapLegPricerTest {
     assertThat(test.presentValue(IBOR_SWAP_LEG_REC_GBP, MOCK_PROV)).isEqualTo(expected);
   }
 
+  @Test
+  public void test_presentValue_batch() {
+    List<ResolvedSwapLeg> legs = ImmutableList.of(
+        IBOR_SWAP_LEG_REC_GBP, FIXED_SWAP_LEG_PAY_USD, IBOR_SWAP_LEG_REC_GBP_MULTI, FIXED_CMP_NONE_SWAP_LEG_PAY_GBP);
+    List<CurrencyAmount> computed = PRICER_LEG.presentValue(legs, RATES_GBP_USD);
+    assertThat(computed).hasSize(legs.size());
+    for (int i = 0; i < legs.size(); i++) {
+      CurrencyAmount expected = PRICER_LEG.presentValue(legs.get(i), RATES_GBP_USD);
+      assertThat(computed.get(i).getCurrency()).isEqualTo(expected.getCurrency());
+      assertThat(computed.get(i).getAmount()).isCloseTo(expected.getAmount(), offset(1e-6));
+    }
+  }
+
+  @Test
+  public void test_presentValue_batch_otherPricer() {
+    SwapPaymentPeriodPricer<SwapPaymentPeriod> mockPeriod = mock(SwapPaymentPeriodPricer.class);
+    when(mockPeriod.presentValue(IBOR_RATE_PAYMENT_PERIOD_REC_GBP, MOCK_PROV))
+        .thenReturn(500d);
+    SwapPaymentEventPricer<SwapPaymentEvent> mockEvent = mock(SwapPaymentEventPricer.class);
+    when(mockEvent.presentValue(NOTIONAL_EXCHANGE_REC_GBP, MOCK_PROV))
+        .thenReturn(1000d);
+    DiscountingSwapLegPricer test = new DiscountingSwapLegPricer(mockPeriod, mockEvent);
+    assertThat(test.presentValue(ImmutableList.of(IBOR_SWAP_LEG_REC_GBP), MOCK_PROV))
+        .containsExactly(CurrencyAmount.of(GBP, 1500d));
+  }
+
   @Test
   public void test_presentValue_past() {
     SwapPaymentPeriodPricer<SwapPaymentPeriod> mockPeriod = mock(SwapPaymentPeriodPricer.class);
@@ -943,4 +982,23 @@ public class DiscountingSwapLegPricerTest {
     }
   }
 
+  //-------------------------------------------------------------------------
+  // discount factors that are the same for all dates
+  private static DiscountFactors constantDiscountFactors(Currency currency, double df) {
+    Curve curve = ConstantCurve.of(Curves.discountFactors("Constant", ACT_365F), df);
+    return DiscountFactors.of(currency, RatesProviderDataSets.VAL_DATE_2014_01_22, curve);
+  }
+
+  // discount factors interpolated between the values at the specified dates
+  private static DiscountFactors nodalDiscountFactors(Currency currency, LocalDate[] dates, double... dfs) {
+    LocalDate valuationDate = RatesProviderDataSets.VAL_DATE_2014_01_22;
+    double[] times = new double[dates.length];
+    for (int i = 0; i < dates.length; i++) {
+      times[i] = ACT_365F.relativeYearFraction(valuationDate, dates[i]);
+    }
+    Curve curve = InterpolatedNodalCurve.of(
+        Curves.discountFactors("Nodal", ACT_365F), DoubleArray.ofUnsafe(times), DoubleArray.ofUnsafe(dfs), INTERPOLATOR);
+    return DiscountFactors.of(currency, valuationDate, curve);
+  }
+
 }
@@ -36,6 +36,7 @@ import static com.opengamma.strata.pricer.swap.SwapDummyData.NOTIONAL;
 import static com.opengamma.strata.pricer.swap.SwapDummyData.NOTIONAL_EXCHANGE_PAY_GBP;
 import static com.opengamma.strata.pricer.swap.SwapDummyData.NOTIONAL_EXCHANGE_PAY_USD;
 import static com.opengamma.strata.pricer.swap.SwapDummyData.NOTIONAL_EXCHANGE_REC_GBP;
+import static com.opengamma.strata.pricer.swap.SwapDummyData.OIS;
 import static com.opengamma.strata.pricer.swap.SwapDummyData.SWAP;
 import static com.opengamma.strata.pricer.swap.SwapDummyData.SWAP_CROSS_CURRENCY;
 import static com.opengamma.strata.pricer.swap.SwapDummyData.SWAP_INFLATION;
@@ -56,6 +57,7 @@ import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.time.Period;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -539,6 +541,21 @@ public class DiscountingSwapProductPricerTest {
     assertThat(pricerTrade.presentValue(SWAP_TRADE_CROSS_CURRENCY, USD, MOCK_PROV)).isEqualTo(pricerSwap.presentValue(SWAP_CROSS_CURRENCY, USD, MOCK_PROV));
   }
 
+  @Test
+  public void test_presentValue_batch() {
+    List<ResolvedSwap> swaps = ImmutableList.of(SWAP, SWAP_CROSS_CURRENCY, OIS, SWAP);
+    List<MultiCurrencyAmount> computed = DiscountingSwapProductPricer.DEFAULT.presentValue(swaps, RATES_GBP_USD);
+    assertThat(computed).hasSize(swaps.size());
+    for (int i = 0; i < swaps.size(); i++) {
+      MultiCurrencyAmount expected = DiscountingSwapProductPricer.DEFAULT.presentValue(swaps.get(i), RATES_GBP_USD);
+      assertThat(computed.get(i).getCurrencies()).isEqualTo(expected.getCurrencies());
+      for (CurrencyAmount amount : expected.getAmounts()) {
+        assertThat(computed.get(i).getAmount(amount.getCurrency()).getAmount())
+            .isCloseTo(amount.getAmount(), offset(NOTIONAL * TOLERANCE_RATE));
+      }
+    }
+  }
+
   @Test
   public void test_presentValue_inflation() {
     DiscountingSwapLegPricer pricerLeg = DiscountingSwapLegPricer.DEFAULT;
@@ -5,11 +5,17 @@
  */
 package com.opengamma.strata.report.framework.expression;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.joda.beans.Bean;
+import org.joda.beans.DynamicBean;
+import org.joda.beans.MetaProperty;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
@@ -41,6 +47,12 @@ import com.opengamma.strata.market.amount.LegAmounts;
  */
 public class BeanTokenEvaluator extends TokenEvaluator<Bean> {
 
+  /**
+   * The meta-properties of each type of bean, keyed by lower-case property name.
+   * This avoids searching the property names each time a token is evaluated.
+   */
+  private static final Map<Class<?>, Map<String, MetaProperty<?>>> META_PROPERTIES = new ConcurrentHashMap<>();
+
   @Override
   public Class<Bean> getTargetType() {
     return Bean.class;
@@ -69,12 +81,10 @@ public class BeanTokenEvaluator extends TokenEvaluator<Bean> {
       String firstToken,
       List<String> remainingTokens) {
 
-    Optional<String> propertyName = bean.propertyNames().stream()
-        .filter(p -> p.equalsIgnoreCase(firstToken))
-        .findFirst();
+    Optional<MetaProperty<?>> metaProperty = findMetaProperty(bean, firstToken);
 
-    if (propertyName.isPresent()) {
-      Object propertyValue = bean.property(propertyName.get()).get();
+    if (metaProperty.isPresent()) {
+      Object propertyValue = metaProperty.get().get(bean);
 
       return propertyValue != null ?
           EvaluationResult.success(propertyValue, remainingTokens) :
@@ -95,4 +105,27 @@ public class BeanTokenEvaluator extends TokenEvaluator<Bean> {
     return invalidTokenFailure(bean, firstToken);
   }
 
+  // finds the property matching the token, ignoring case
+  private static Optional<MetaProperty<?>> findMetaProperty(Bean bean, String token) {
+    // the properties of a dynamic bean vary by instance, so cannot be cached
+    if (bean instanceof DynamicBean) {
+      return bean.propertyNames().stream()
+          .filter(p -> p.equalsIgnoreCase(token))
+          .findFirst()
+          .map(p -> bean.property(p).metaProperty());
+    }
+    Map<String, MetaProperty<?>> metaProperties =
+        META_PROPERTIES.computeIfAbsent(bean.getClass(), type -> buildMetaProperties(bean));
+    return Optional.ofNullable(metaProperties.get(token.toLowerCase(Locale.ENGLISH)));
+  }
+
+  // builds the map of meta-properties, where names that only differ by case match the first property
+  private static Map<String, MetaProperty<?>> buildMetaProperties(Bean bean) {
+    Map<String, MetaProperty<?>> metaProperties = new HashMap<>();
+    for (MetaProperty<?> metaProperty : bean.metaBean().metaPropertyIterable()) {
+      metaProperties.putIfAbsent(metaProperty.name().toLowerCase(Locale.ENGLISH), metaProperty);
+    }
+    return metaProperties;
+  }
+
 }
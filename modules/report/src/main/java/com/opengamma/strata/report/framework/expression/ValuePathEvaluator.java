@@ -9,8 +9,10 @@ import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.IntStream;
 
 import com.google.common.base.Joiner;
@@ -52,6 +54,14 @@ public final class ValuePathEvaluator {
       new SecurityTokenEvaluator(),
       new BeanTokenEvaluator(),
       new IterableTokenEvaluator());
+  /**
+   * The evaluator for each type of value, avoiding a search of the evaluators for each value.
+   */
+  private static final Map<Class<?>, Optional<TokenEvaluator<Object>>> EVALUATOR_CACHE = new ConcurrentHashMap<>();
+  /**
+   * The minimum number of rows for the rows to be evaluated in parallel.
+   */
+  private static final int PARALLEL_ROW_COUNT = 1000;
 
   //-------------------------------------------------------------------------
   /**
@@ -92,7 +102,9 @@ public final class ValuePathEvaluator {
     }
     CalculationFunctions functions = results.getCalculationFunctions();
     int rowCount = results.getCalculationResults().getRowCount();
-    return IntStream.range(0, rowCount)
+    // the evaluators are stateless, thus large reports can evaluate the rows in parallel
+    IntStream rowIndices = IntStream.range(0, rowCount);
+    return (rowCount >= PARALLEL_ROW_COUNT ? rowIndices.parallel() : rowIndices)
         .mapToObj(rowIndex -> evaluate(functions, tokens, RootEvaluator.INSTANCE, new ResultsRow(results, rowIndex)))
         .collect(toImmutableList());
   }
@@ -143,8 +155,13 @@ public final class ValuePathEvaluator {
     return ImmutableList.copyOf(tokens);
   }
 
-  @SuppressWarnings("unchecked")
+  // finds the evaluator for the type, caching the result
   private static Optional<TokenEvaluator<Object>> getEvaluator(Class<?> targetClass) {
+    return EVALUATOR_CACHE.computeIfAbsent(targetClass, ValuePathEvaluator::findEvaluator);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Optional<TokenEvaluator<Object>> findEvaluator(Class<?> targetClass) {
     return EVALUATORS.stream()
         .filter(e -> e.getTargetType().isAssignableFrom(targetClass))
         .map(e -> (TokenEvaluator<Object>) e)
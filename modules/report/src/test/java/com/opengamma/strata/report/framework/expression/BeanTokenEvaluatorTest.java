@@ -14,6 +14,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.Set;
 
 import org.joda.beans.Bean;
+import org.joda.beans.impl.flexi.FlexiBean;
 import org.junit.jupiter.api.Test;
 
 import com.google.common.collect.ImmutableList;
@@ -45,6 +46,20 @@ public class BeanTokenEvaluatorTest {
     assertThat(notional2.getResult()).hasValue(1_000_000d);
   }
 
+  @Test
+  public void evaluate_dynamicBean() {
+    FlexiBean bean = new FlexiBean();
+    bean.put("foo", "bar");
+    BeanTokenEvaluator evaluator = new BeanTokenEvaluator();
+
+    EvaluationResult foo = evaluator.evaluate(bean, FUNCTIONS, "FOO", ImmutableList.of());
+    assertThat(foo.getResult()).hasValue("bar");
+
+    bean.put("notional", 2d);
+    EvaluationResult notional = evaluator.evaluate(bean, FUNCTIONS, "notional", ImmutableList.of());
+    assertThat(notional.getResult()).hasValue(2d);
+  }
+
   @Test
   public void tokens() {
     Bean bean = bean();
@@ -6,6 +6,7 @@
 package com.opengamma.strata.report.framework.expression;
 
 import static com.opengamma.strata.basics.index.IborIndices.GBP_LIBOR_3M;
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static com.opengamma.strata.product.common.BuySell.BUY;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -13,6 +14,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -128,6 +130,28 @@ public class ValuePathEvaluatorTest {
     assertThat(counterpartyResults).isEqualTo(expectedCounterparties);
   }
 
+  @Test
+  public void tradePath_manyRows() {
+    // enough rows to be evaluated in parallel
+    int rowCount = 2000;
+    Column column = Column.of(Measure.of("PresentValue"));
+    List<Result<?>> resultValues = IntStream.range(0, rowCount)
+        .mapToObj(i -> Result.success(CurrencyAmount.of(Currency.GBP, i)))
+        .collect(toImmutableList());
+    List<Trade> trades = IntStream.range(0, rowCount)
+        .mapToObj(i -> trade("cpty" + i, i))
+        .collect(toImmutableList());
+    Results results = Results.of(ImmutableList.of(column.toHeader()), resultValues);
+    ReportCalculationResults reportResults =
+        ReportCalculationResults.of(LocalDate.now(ZoneOffset.UTC), trades, ImmutableList.of(column), results);
+
+    List<Result<?>> notionalResults = ValuePathEvaluator.evaluate("Trade.PRODUCT.notional", reportResults);
+    List<Result<?>> expectedNotionals = IntStream.range(0, rowCount)
+        .mapToObj(i -> Result.success((double) i))
+        .collect(toImmutableList());
+    assertThat(notionalResults).isEqualTo(expectedNotionals);
+  }
+
   //--------------------------------------------------------------------------------------------------
 
   private static ReportCalculationResults reportResults() {